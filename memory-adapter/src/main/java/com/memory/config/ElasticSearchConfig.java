@@ -1,11 +1,35 @@
 package com.memory.config;
 
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.rest_client.RestClientOptions;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+import com.memory.search.repository.memory.SearchResponseStatusRecorder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.elasticsearch.client.RestClient;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchConfiguration;
 import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
 
+import java.time.Duration;
+
+/**
+ * Elasticsearch 클라이언트 설정 (search.client.*)
+ * <ul>
+ *     <li>커넥션 풀 - route(노드)별/전체 최대 연결 수, 풀은 빈으로 노출해 모니터링에서 사용</li>
+ *     <li>connect/socket timeout - socket timeout 은 검색 마감 시간(search.deadline-ms)보다 길게 둔다</li>
+ *     <li>keep-alive - 유휴 연결을 재사용하는 최대 시간, 중간 로드밸런서의 idle timeout 보다 짧게 둔다</li>
+ *     <li>compression - 요청 본문 gzip 압축 + 응답 gzip 요청(Accept-Encoding)</li>
+ *     <li>instrumentation - 검색 응답의 timed_out / _shards.failed 기록</li>
+ * </ul>
+ */
 @Configuration
 @EnableElasticsearchRepositories
 public class ElasticSearchConfig extends ElasticsearchConfiguration {
@@ -19,8 +43,29 @@ public class ElasticSearchConfig extends ElasticsearchConfiguration {
     @Value("${spring.elasticsearch.password:}")
     private String password;
 
+    @Value("${search.client.max-connections-per-route:30}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${search.client.max-connections-total:60}")
+    private int maxConnectionsTotal;
+
+    @Value("${search.client.connect-timeout-ms:1000}")
+    private long connectTimeoutMs;
+
+    @Value("${search.client.socket-timeout-ms:5000}")
+    private long socketTimeoutMs;
+
+    @Value("${search.client.keep-alive-seconds:60}")
+    private long keepAliveSeconds;
+
+    @Value("${search.client.compression:true}")
+    private boolean compression;
+
     @Override
     public ClientConfiguration clientConfiguration() {
+        PoolingNHttpClientConnectionManager connectionManager = elasticsearchConnectionManager();
+        long keepAliveMs = Duration.ofSeconds(keepAliveSeconds).toMillis();
+
         ClientConfiguration.MaybeSecureClientConfigurationBuilder builder = ClientConfiguration.builder()
                 .connectedTo(elasticsearchUri.replace("http://", ""));
 
@@ -28,6 +73,52 @@ public class ElasticSearchConfig extends ElasticsearchConfiguration {
             builder.withBasicAuth(username, password);
         }
 
-        return builder.build();
+        return builder
+                .withConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .withSocketTimeout(Duration.ofMillis(socketTimeoutMs))
+                .withClientConfigurer(ElasticsearchClients.ElasticsearchHttpClientConfigurationCallback.from(httpClientBuilder -> httpClientBuilder
+                        .setConnectionManager(connectionManager)
+                        .setKeepAliveStrategy((response, context) -> keepAliveMs)))
+                .withClientConfigurer(ElasticsearchClients.ElasticsearchRestClientConfigurationCallback.from(restClientBuilder -> restClientBuilder
+                        .setCompressionEnabled(compression)))
+                .build();
+    }
+
+    /**
+     * 검색 응답의 timed_out / _shards.failed 를 읽을 수 있도록 instrumentation 을 붙인 transport
+     */
+    @Override
+    @Bean
+    public ElasticsearchTransport elasticsearchTransport(RestClient restClient, JsonpMapper jsonpMapper) {
+        return new RestClientTransport(restClient, jsonpMapper, RestClientOptions.of(transportOptions()), searchResponseStatusRecorder());
+    }
+
+    @Bean
+    public SearchResponseStatusRecorder searchResponseStatusRecorder() {
+        return new SearchResponseStatusRecorder();
+    }
+
+    /**
+     * 클라이언트가 사용하는 커넥션 풀
+     * 풀을 직접 만들면 클라이언트 빌더의 IO reactor 설정이 적용되지 않으므로 timeout 을 여기서도 지정한다.
+     * (http 연결만 사용하므로 SSL 설정은 두지 않음)
+     */
+    @Bean
+    public PoolingNHttpClientConnectionManager elasticsearchConnectionManager() {
+        IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+                .setConnectTimeout((int) connectTimeoutMs)
+                .setSoTimeout((int) socketTimeoutMs)
+                .setSoKeepAlive(true)
+                .build();
+
+        try {
+            PoolingNHttpClientConnectionManager connectionManager =
+                    new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(ioReactorConfig));
+            connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+            connectionManager.setMaxTotal(maxConnectionsTotal);
+            return connectionManager;
+        } catch (IOReactorException e) {
+            throw new IllegalStateException("Elasticsearch 커넥션 풀을 만들 수 없습니다.", e);
+        }
     }
-}
\ No newline at end of file
+}
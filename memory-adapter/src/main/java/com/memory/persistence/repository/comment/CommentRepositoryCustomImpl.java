@@ -1,9 +1,16 @@
 package com.memory.persistence.repository.comment;
 
 import com.memory.domain.comment.Comment;
+import com.memory.domain.comment.QComment;
+import com.memory.domain.comment.repository.CommentCursor;
 import com.memory.domain.comment.repository.CommentRepositoryCustom;
 import com.memory.domain.member.Member;
 import com.memory.domain.memory.Memory;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -38,7 +45,23 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
     }
 
     @Override
-    public List<Comment> findTopLevelCommentsByMemory(Memory memory, int page, int size) {
+    public List<Comment> findTopLevelCommentsByMemory(Memory memory, CommentCursor cursor, int limit) {
+        return queryFactory
+                .selectFrom(comment)
+                .leftJoin(comment.member, member).fetchJoin()
+                .where(
+                        comment.memory.eq(memory)
+                                .and(comment.depth.eq(0))
+                                .and(comment.deleteDate.isNull()),
+                        beforeCursor(cursor)
+                )
+                .orderBy(comment.createDate.desc(), comment.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Comment> findTopLevelCommentsByMemory(Memory memory, long offset, int limit) {
         return queryFactory
                 .selectFrom(comment)
                 .leftJoin(comment.member, member).fetchJoin()
@@ -47,9 +70,9 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
                                 .and(comment.depth.eq(0))
                                 .and(comment.deleteDate.isNull())
                 )
-                .orderBy(comment.createDate.desc())
-                .offset((long) page * size)
-                .limit(size)
+                .orderBy(comment.createDate.desc(), comment.id.desc())
+                .offset(offset)
+                .limit(limit)
                 .fetch();
     }
 
@@ -67,21 +90,87 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
     }
 
     @Override
-    public long countActiveCommentsByMemory(Memory memory) {
-        Long count = queryFactory
-                .select(comment.count())
+    public List<Comment> findRepliesByParentComment(Comment parentComment, CommentCursor cursor, int limit) {
+        return queryFactory
+                .selectFrom(comment)
+                .leftJoin(comment.member, member).fetchJoin()
+                .where(
+                        comment.parent.eq(parentComment)
+                                .and(comment.deleteDate.isNull()),
+                        afterCursor(cursor)
+                )
+                .orderBy(comment.createDate.asc(), comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public void increaseReplyCount(Long commentId) {
+        queryFactory
+                .update(comment)
+                .set(comment.replyCount, comment.replyCount.add(1L))
+                .where(comment.id.eq(commentId))
+                .execute();
+    }
+
+    @Override
+    public void decreaseReplyCount(Long commentId) {
+        // 보정 전 어긋난 값 때문에 음수가 되지 않도록 0 에서 멈춤
+        queryFactory
+                .update(comment)
+                .set(comment.replyCount, new CaseBuilder()
+                        .when(comment.replyCount.gt(0L)).then(comment.replyCount.subtract(1L))
+                        .otherwise(0L))
+                .where(comment.id.eq(commentId))
+                .execute();
+    }
+
+    @Override
+    public long reconcileReplyCounts(Long fromCommentId, Long toCommentId) {
+        QComment reply = new QComment("reply");
+        JPQLQuery<Long> activeReplyCount = JPAExpressions
+                .select(reply.count())
+                .from(reply)
+                .where(
+                        reply.parent.id.eq(comment.id)
+                                .and(reply.deleteDate.isNull())
+                );
+
+        return queryFactory
+                .update(comment)
+                .set(comment.replyCount, activeReplyCount)
+                .where(
+                        comment.id.between(fromCommentId, toCommentId)
+                                .and(comment.replyCount.ne(activeReplyCount))
+                )
+                .execute();
+    }
+
+    @Override
+    public Optional<Long> findLastCommentId() {
+        return Optional.ofNullable(queryFactory
+                .select(comment.id.max())
                 .from(comment)
+                .fetchOne());
+    }
+
+    @Override
+    public List<Comment> findCommentsByMember(Member member, CommentCursor cursor, int limit) {
+        return queryFactory
+                .selectFrom(comment)
+                .leftJoin(comment.memory).fetchJoin()
                 .where(
-                        comment.memory.eq(memory)
-                                .and(comment.deleteDate.isNull())
+                        comment.member.eq(member)
+                                .and(comment.deleteDate.isNull()),
+                        beforeCursor(cursor)
                 )
-                .fetchOne();
-        
-        return count != null ? count : 0L;
+                .orderBy(comment.createDate.desc(), comment.id.desc())
+                .limit(limit)
+                .fetch();
     }
 
     @Override
-    public List<Comment> findCommentsByMember(Member member, int page, int size) {
+    public List<Comment> findCommentsByMember(Member member, long offset, int limit) {
         return queryFactory
                 .selectFrom(comment)
                 .leftJoin(comment.memory).fetchJoin()
@@ -89,9 +178,9 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
                         comment.member.eq(member)
                                 .and(comment.deleteDate.isNull())
                 )
-                .orderBy(comment.createDate.desc())
-                .offset((long) page * size)
-                .limit(size)
+                .orderBy(comment.createDate.desc(), comment.id.desc())
+                .offset(offset)
+                .limit(limit)
                 .fetch();
     }
 
@@ -107,13 +196,16 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
     }
 
     @Override
-    public List<Comment> findRecentComments(int limit) {
+    public List<Comment> findRecentComments(CommentCursor cursor, int limit) {
         return queryFactory
                 .selectFrom(comment)
                 .leftJoin(comment.member, member).fetchJoin()
                 .leftJoin(comment.memory).fetchJoin()
-                .where(comment.deleteDate.isNull())
-                .orderBy(comment.createDate.desc())
+                .where(
+                        comment.deleteDate.isNull(),
+                        beforeCursor(cursor)
+                )
+                .orderBy(comment.createDate.desc(), comment.id.desc())
                 .limit(limit)
                 .fetch();
     }
@@ -126,4 +218,23 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
                 .where(comment.id.eq(commentId))
                 .fetchOne());
     }
+
+    /**
+     * (create_date, id) < (cursor.createDate, cursor.id) - 복합 인덱스 범위 조회로 풀리도록 row 비교를 사용
+     */
+    private BooleanExpression beforeCursor(CommentCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return Expressions.booleanTemplate("({0}, {1}) < ({2}, {3})",
+                comment.createDate, comment.id, cursor.createDate(), cursor.id());
+    }
+
+    private BooleanExpression afterCursor(CommentCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return Expressions.booleanTemplate("({0}, {1}) > ({2}, {3})",
+                comment.createDate, comment.id, cursor.createDate(), cursor.id());
+    }
 }
@@ -17,15 +17,6 @@ public class HashTagRepositoryCustomImpl implements HashTagRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
 
-    @Override
-    public List<HashTag> findPopularHashTags(int limit) {
-        return queryFactory.selectFrom(hashTag)
-                .where(hashTag.deleteDate.isNull())
-                .orderBy(hashTag.useCount.desc(), hashTag.createDate.desc())
-                .limit(limit)
-                .fetch();
-    }
-
     @Override
     public List<HashTag> findHashTagsByNameContaining(String keyword, int limit) {
         return queryFactory.selectFrom(hashTag)
@@ -49,4 +40,14 @@ public class HashTagRepositoryCustomImpl implements HashTagRepositoryCustom {
         
         return Optional.ofNullable(result);
     }
+
+    @Override
+    public List<HashTag> findByNames(List<String> names) {
+        return queryFactory.selectFrom(hashTag)
+                .where(
+                        hashTag.deleteDate.isNull(),
+                        hashTag.name.in(names)
+                )
+                .fetch();
+    }
 }
\ No newline at end of file
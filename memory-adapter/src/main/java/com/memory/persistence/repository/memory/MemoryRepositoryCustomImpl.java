@@ -1,11 +1,23 @@
 package com.memory.persistence.repository.memory;
 
+import com.memory.domain.file.QFile;
+import com.memory.domain.map.QMap;
 import com.memory.domain.memory.Memory;
 import com.memory.domain.member.Member;
+import com.memory.domain.member.QMember;
 import com.memory.domain.memory.MemoryType;
+import com.memory.domain.memory.repository.MemoryFeedRow;
 import com.memory.domain.memory.repository.MemoryRepositoryCustom;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -14,29 +26,38 @@ import java.util.List;
 import java.util.Optional;
 
 import static com.memory.domain.memory.QMemory.memory;
+import static com.memory.domain.comment.QComment.comment;
 import static com.memory.domain.file.QFile.file;
+import static com.memory.domain.hashtag.QHashTag.hashTag;
+import static com.memory.domain.hashtag.QMemoryHashTag.memoryHashTag;
 
 @Repository
 @RequiredArgsConstructor
 public class MemoryRepositoryCustomImpl implements MemoryRepositoryCustom {
 
+    // 피드 조회에서 같은 엔티티를 두 번 join 하므로 alias 를 구분
+    private static final QMember FEED_MEMBER = new QMember("feedMember");
+    private static final QFile FEED_MEMBER_PROFILE = new QFile("feedMemberProfile");
+    private static final QMap FEED_MAP = new QMap("feedMap");
+    private static final QMember FEED_MAP_MEMBER = new QMember("feedMapMember");
+    private static final QFile FEED_MAP_MEMBER_PROFILE = new QFile("feedMapMemberProfile");
+
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public List<Memory> findByMemberAndMemoryType(Member member, List<Long> relatedMemberIds, MemoryType memoryType, int size) {
-        return queryFactory.selectFrom(memory)
+    public Optional<Memory> findMemoryByIdAndMemberId(Long memoryId, Long memberId) {
+        return Optional.ofNullable(queryFactory.selectFrom(memory)
                 .where(
-                        getMemoryAccessCondition(member, relatedMemberIds, memoryType),
+                        memory.id.eq(memoryId),
+                        memory.member.id.eq(memberId),
                         memory.deleteDate.isNull()
                 )
-                .orderBy(memory.id.desc())
-                .limit(size)
-                .fetch();
+                .fetchOne());
     }
 
     @Override
-    public List<Memory> findByMemberAndMemoryType(Member member, List<Long> relatedMemberIds, MemoryType memoryType, Long lastMemoryId, int size) {
-        return queryFactory.selectFrom(memory)
+    public List<MemoryFeedRow> findFeedByMember(Member member, List<Long> relatedMemberIds, MemoryType memoryType, Long lastMemoryId, int size) {
+        return selectFeedRows()
                 .where(
                         getMemoryAccessCondition(member, relatedMemberIds, memoryType),
                         memory.deleteDate.isNull(),
@@ -48,38 +69,51 @@ public class MemoryRepositoryCustomImpl implements MemoryRepositoryCustom {
     }
 
     @Override
-    public Optional<Memory> findMemoryByIdAndMemberId(Long memoryId, Long memberId) {
-        return Optional.ofNullable(queryFactory.selectFrom(memory)
+    public List<MemoryFeedRow> findFeedByMemoryType(MemoryType memoryType, Long lastMemoryId, int size) {
+        return selectFeedRows()
                 .where(
-                        memory.id.eq(memoryId),
-                        memory.member.id.eq(memberId),
-                        memory.deleteDate.isNull()
+                        getMemoryType(memoryType),
+                        memory.deleteDate.isNull(),
+                        ltMemoryId(lastMemoryId)
                 )
-                .fetchOne());
+                .orderBy(memory.id.desc())
+                .limit(size)
+                .fetch();
     }
 
     @Override
-    public List<Memory> findByMemoryType(MemoryType memoryType, int size) {
-        return queryFactory.selectFrom(memory)
+    public List<MemoryFeedRow.FileRow> findFeedFiles(List<Long> memoryIds) {
+        if (memoryIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory.select(fileRow(file))
+                .from(file)
                 .where(
-                        memory.memoryType.eq(memoryType),
-                        memory.deleteDate.isNull()
+                        file.memory.id.in(memoryIds),
+                        file.deleteDate.isNull()
                 )
-                .orderBy(memory.id.desc())
-                .limit(size)
+                .orderBy(file.id.asc())
                 .fetch();
     }
 
     @Override
-    public List<Memory> findByMemoryType(MemoryType memoryType, Long lastMemoryId, int size) {
-        return queryFactory.selectFrom(memory)
+    public List<MemoryFeedRow.HashTagRow> findFeedHashTags(List<Long> memoryIds) {
+        if (memoryIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory.select(Projections.constructor(MemoryFeedRow.HashTagRow.class,
+                        memoryHashTag.memory.id,
+                        hashTag.name
+                ))
+                .from(memoryHashTag)
+                .join(memoryHashTag.hashTag, hashTag)
                 .where(
-                        getMemoryType(memoryType),
-                        memory.deleteDate.isNull(),
-                        ltMemoryId(lastMemoryId)
+                        memoryHashTag.memory.id.in(memoryIds),
+                        memoryHashTag.deleteDate.isNull()
                 )
-                .orderBy(memory.id.desc())
-                .limit(size)
+                .orderBy(memoryHashTag.id.asc())
                 .fetch();
     }
 
@@ -120,10 +154,154 @@ public class MemoryRepositoryCustomImpl implements MemoryRepositoryCustom {
                 .fetchOne());
     }
 
+    @Override
+    public List<Memory> findMemoriesForIndexing(Long lastMemoryId, int size) {
+        return queryFactory.selectFrom(memory)
+                .join(memory.member).fetchJoin()
+                .leftJoin(memory.map).fetchJoin()
+                .where(
+                        memory.deleteDate.isNull(),
+                        gtMemoryId(lastMemoryId)
+                )
+                .orderBy(memory.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public long countMemoriesForIndexing() {
+        Long count = queryFactory.select(memory.count())
+                .from(memory)
+                .where(memory.deleteDate.isNull())
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public void increaseCommentsCount(Long memoryId, boolean topLevel) {
+        queryFactory.update(memory)
+                .set(memory.commentsCount, memory.commentsCount.add(1L))
+                .set(memory.topLevelCommentsCount, memory.topLevelCommentsCount.add(topLevel ? 1L : 0L))
+                .where(memory.id.eq(memoryId))
+                .execute();
+    }
+
+    @Override
+    public void decreaseCommentsCount(Long memoryId, boolean topLevel) {
+        queryFactory.update(memory)
+                .set(memory.commentsCount, decrease(memory.commentsCount, 1L))
+                .set(memory.topLevelCommentsCount, decrease(memory.topLevelCommentsCount, topLevel ? 1L : 0L))
+                .where(memory.id.eq(memoryId))
+                .execute();
+    }
+
+    @Override
+    public long reconcileCommentsCounts(Long fromMemoryId, Long toMemoryId) {
+        JPQLQuery<Long> activeCommentsCount = JPAExpressions.select(comment.count())
+                .from(comment)
+                .where(
+                        comment.memory.id.eq(memory.id),
+                        comment.deleteDate.isNull()
+                );
+        JPQLQuery<Long> activeTopLevelCommentsCount = JPAExpressions.select(comment.count())
+                .from(comment)
+                .where(
+                        comment.memory.id.eq(memory.id),
+                        comment.depth.eq(0),
+                        comment.deleteDate.isNull()
+                );
+
+        return queryFactory.update(memory)
+                .set(memory.commentsCount, activeCommentsCount)
+                .set(memory.topLevelCommentsCount, activeTopLevelCommentsCount)
+                .where(
+                        memory.id.between(fromMemoryId, toMemoryId),
+                        memory.commentsCount.ne(activeCommentsCount)
+                                .or(memory.topLevelCommentsCount.ne(activeTopLevelCommentsCount))
+                )
+                .execute();
+    }
+
+    @Override
+    public Optional<Long> findLastMemoryId() {
+        return Optional.ofNullable(queryFactory.select(memory.id.max())
+                .from(memory)
+                .fetchOne());
+    }
+
+    // 보정 전 어긋난 값 때문에 음수가 되지 않도록 0 에서 멈춤
+    private NumberExpression<Long> decrease(NumberPath<Long> count, long amount) {
+        return new CaseBuilder()
+                .when(count.gt(amount)).then(count.subtract(amount))
+                .otherwise(0L);
+    }
+
+    /**
+     * 피드 한 행 = 메모리 + 작성자(프로필) + 지도 + 지도 소유자(프로필)
+     * 엔티티를 만들지 않으므로 Member 의 역방향 OneToOne(프로필/관계)이 행마다 추가 조회되지 않는다.
+     */
+    private JPAQuery<MemoryFeedRow> selectFeedRows() {
+        return queryFactory.select(Projections.constructor(MemoryFeedRow.class,
+                        memory.id,
+                        memory.title,
+                        memory.content,
+                        memory.locationName,
+                        memory.memorableDate,
+                        memory.memoryType,
+                        memory.createDate,
+                        memory.commentsCount,
+                        memberRow(FEED_MEMBER, FEED_MEMBER_PROFILE),
+                        Projections.constructor(MemoryFeedRow.MapRow.class,
+                                FEED_MAP.id,
+                                FEED_MAP.name,
+                                FEED_MAP.description,
+                                FEED_MAP.address,
+                                FEED_MAP.location,
+                                FEED_MAP.mapType,
+                                memberRow(FEED_MAP_MEMBER, FEED_MAP_MEMBER_PROFILE)
+                        )
+                ))
+                .from(memory)
+                .join(memory.member, FEED_MEMBER)
+                .leftJoin(FEED_MEMBER.file, FEED_MEMBER_PROFILE)
+                .leftJoin(memory.map, FEED_MAP)
+                .leftJoin(FEED_MAP.member, FEED_MAP_MEMBER)
+                .leftJoin(FEED_MAP_MEMBER.file, FEED_MAP_MEMBER_PROFILE);
+    }
+
+    private ConstructorExpression<MemoryFeedRow.MemberRow> memberRow(QMember member, QFile profile) {
+        return Projections.constructor(MemoryFeedRow.MemberRow.class,
+                member.id,
+                member.email,
+                member.name,
+                member.nickname,
+                member.memberType,
+                fileRow(profile)
+        );
+    }
+
+    private ConstructorExpression<MemoryFeedRow.FileRow> fileRow(QFile file) {
+        return Projections.constructor(MemoryFeedRow.FileRow.class,
+                file.id,
+                file.originalFileName,
+                file.fileName,
+                file.fileUrl,
+                file.fileType,
+                file.fileSize,
+                file.memory.id,
+                file.member.id,
+                file.createDate
+        );
+    }
+
     private BooleanExpression ltMemoryId(Long memoryId) {
         return memoryId != null ? memory.id.lt(memoryId) : null;
     }
 
+    private BooleanExpression gtMemoryId(Long memoryId) {
+        return memoryId != null ? memory.id.gt(memoryId) : null;
+    }
+
     private Predicate getMemoryType(MemoryType memoryType) {
         if (MemoryType.RELATIONSHIP.equals(memoryType)) {
             return memory.memoryType.eq(MemoryType.RELATIONSHIP).or(memory.memoryType.eq(MemoryType.PUBLIC));
@@ -0,0 +1,79 @@
+package com.memory.persistence.repository.outbox;
+
+import com.memory.domain.outbox.MemoryIndexOutbox;
+import com.memory.domain.outbox.MemoryIndexOutboxStatus;
+import com.memory.domain.outbox.repository.MemoryIndexOutboxRepositoryCustom;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.LockOptions;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.memory.domain.outbox.QMemoryIndexOutbox.memoryIndexOutbox;
+
+@Repository
+@RequiredArgsConstructor
+public class MemoryIndexOutboxRepositoryCustomImpl implements MemoryIndexOutboxRepositoryCustom {
+
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<MemoryIndexOutbox> findProcessableEventsForUpdate(LocalDateTime now, LocalDateTime leaseExpiredBefore, int limit) {
+        return queryFactory.selectFrom(memoryIndexOutbox)
+                .where(
+                        memoryIndexOutbox.status.eq(MemoryIndexOutboxStatus.PENDING)
+                                .and(memoryIndexOutbox.nextAttemptAt.loe(now))
+                                .or(memoryIndexOutbox.status.eq(MemoryIndexOutboxStatus.PROCESSING)
+                                        .and(memoryIndexOutbox.claimedAt.lt(leaseExpiredBefore))),
+                        memoryIndexOutbox.deleteDate.isNull()
+                )
+                .orderBy(memoryIndexOutbox.id.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                // FOR UPDATE SKIP LOCKED - 여러 인스턴스가 같은 이벤트를 중복 처리하지 않도록
+                .setHint(LOCK_TIMEOUT_HINT, LockOptions.SKIP_LOCKED)
+                .fetch();
+    }
+
+    @Override
+    public long requeueFailedEvents() {
+        return queryFactory.update(memoryIndexOutbox)
+                .set(memoryIndexOutbox.status, MemoryIndexOutboxStatus.PENDING)
+                .set(memoryIndexOutbox.retryCount, 0)
+                .set(memoryIndexOutbox.nextAttemptAt, LocalDateTime.now())
+                .where(
+                        memoryIndexOutbox.status.eq(MemoryIndexOutboxStatus.FAILED),
+                        memoryIndexOutbox.deleteDate.isNull()
+                )
+                .execute();
+    }
+
+    @Override
+    public long deleteCompletedEventsBefore(LocalDateTime before) {
+        return queryFactory.delete(memoryIndexOutbox)
+                .where(
+                        memoryIndexOutbox.status.eq(MemoryIndexOutboxStatus.COMPLETED),
+                        memoryIndexOutbox.processedAt.lt(before)
+                )
+                .execute();
+    }
+
+    @Override
+    public long countFailedEvents() {
+        Long count = queryFactory
+                .select(memoryIndexOutbox.count())
+                .from(memoryIndexOutbox)
+                .where(
+                        memoryIndexOutbox.status.eq(MemoryIndexOutboxStatus.FAILED),
+                        memoryIndexOutbox.deleteDate.isNull()
+                )
+                .fetchOne();
+
+        return count != null ? count : 0L;
+    }
+}
@@ -39,6 +39,35 @@ public class RelationshipRepositoryCustomImpl implements RelationshipRepositoryC
                 .fetch();
     }
 
+    @Override
+    public List<Relationship> findByMemberIdsAndRelationshipStatus(List<Long> memberIds, RelationshipStatus status) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory.selectFrom(relationship)
+                .join(relationship.relatedMember).fetchJoin()
+                .where(
+                    relationship.member.id.in(memberIds),
+                    relationship.relationshipStatus.eq(status),
+                    relationship.deleteDate.isNull()
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findRelatedMemberIds(Long memberId, RelationshipStatus status) {
+        return queryFactory.select(relationship.relatedMember.id)
+                .from(relationship)
+                .where(
+                    relationship.member.id.eq(memberId),
+                    relationship.relationshipStatus.eq(status),
+                    relationship.deleteDate.isNull()
+                )
+                .distinct()
+                .fetch();
+    }
+
     @Override
     public List<Relationship> findByMemberIdAndRelatedMemberId(Long memberId, Long relatedMemberId) {
         return queryFactory.selectFrom(relationship)
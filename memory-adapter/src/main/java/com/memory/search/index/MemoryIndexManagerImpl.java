@@ -0,0 +1,364 @@
+package com.memory.search.index;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.get_alias.IndexAliases;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import com.memory.document.memory.MemoryDocument;
+import com.memory.document.memory.MemoryIndexManager;
+import com.memory.document.memory.MemoryIndexState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemoryIndexManagerImpl implements MemoryIndexManager {
+
+    private static final String INDEX_PREFIX = "memory_v";
+    private static final String INDEX_PATTERN = "memory*";
+    // 별칭 도입 전에 사용하던 단일 인덱스 이름 (읽기 별칭과 이름이 같아 롤백 인덱스로 남길 수 없음)
+    private static final String LEGACY_INDEX = READ_ALIAS;
+    private static final DateTimeFormatter INDEX_SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final String ANALYZER_SETTING_PREFIX = "analysis.analyzer.";
+    private static final Set<String> ANALYZER_KEYS = Set.of("analyzer", "search_analyzer", "search_quote_analyzer");
+    private static final Set<String> BUILT_IN_ANALYZERS = Set.of("standard", "simple", "whitespace", "stop", "keyword", "pattern", "fingerprint");
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    // 색인 배치마다 _alias 조회를 보내지 않도록 별칭 상태를 캐시 (다른 인스턴스의 별칭 변경은 TTL 이 지나면 반영)
+    @Value("${search.index.state-cache-ttl-ms:5000}")
+    private long stateCacheTtlMs;
+
+    private volatile CachedState cachedState;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            ensureIndex();
+        } catch (Exception e) {
+            log.error("Failed to initialize memory index aliases", e);
+        }
+    }
+
+    @Override
+    public synchronized void ensureIndex() {
+        MemoryIndexState state = readState();
+        if (state.liveIndex() == null) {
+            String indexName = createIndex();
+            updateAliases(List.of(
+                    addAlias(indexName, READ_ALIAS, null),
+                    addAlias(indexName, WRITE_ALIAS, true)
+            ));
+            invalidateState();
+            log.info("Created memory index: {}", indexName);
+            return;
+        }
+
+        if (!findAliases().getOrDefault(state.liveIndex(), Set.of()).contains(WRITE_ALIAS)) {
+            updateAliases(List.of(addAlias(state.liveIndex(), WRITE_ALIAS, true)));
+            invalidateState();
+        }
+        putMappingIfCompatible(state.liveIndex());
+    }
+
+    @Override
+    public MemoryIndexState getState() {
+        CachedState cached = cachedState;
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.state();
+        }
+
+        MemoryIndexState state = readState();
+        if (state.liveIndex() == null) {
+            ensureIndex();
+            state = readState();
+        }
+        cachedState = new CachedState(state, System.currentTimeMillis() + stateCacheTtlMs);
+        return state;
+    }
+
+    @Override
+    public synchronized String createShadowIndex() {
+        MemoryIndexState state = reloadState();
+        if (state.hasShadowIndex()) {
+            throw new IllegalStateException("Shadow index already exists: " + state.shadowIndex());
+        }
+        if (state.hasRollbackIndex()) {
+            deleteIndex(state.rollbackIndex());
+        }
+
+        String indexName = createIndex();
+        updateAliases(List.of(addAlias(indexName, WRITE_ALIAS, false)));
+        invalidateState();
+        log.info("Created shadow memory index: {}, live: {}", indexName, state.liveIndex());
+        return indexName;
+    }
+
+    @Override
+    public synchronized void dropShadowIndex(String indexName) {
+        MemoryIndexState state = reloadState();
+        if (indexName.equals(state.liveIndex()) || indexName.equals(state.rollbackIndex())) {
+            throw new IllegalStateException("Not a shadow index: " + indexName);
+        }
+        deleteIndex(indexName);
+        invalidateState();
+        log.info("Dropped shadow memory index: {}", indexName);
+    }
+
+    @Override
+    public synchronized void promote(String indexName) {
+        MemoryIndexState state = reloadState();
+        if (!indexName.equals(state.shadowIndex())) {
+            throw new IllegalStateException("Not a shadow index: " + indexName);
+        }
+        switchLiveIndex(state.liveIndex(), indexName, false);
+        invalidateState();
+        log.info("Promoted memory index: {} -> {}", state.liveIndex(), indexName);
+    }
+
+    @Override
+    public synchronized void rollback() {
+        MemoryIndexState state = reloadState();
+        if (!state.hasRollbackIndex()) {
+            throw new IllegalStateException("No rollback index");
+        }
+        if (state.rollbackStale()) {
+            throw new IllegalStateException("Rollback index is stale: " + state.rollbackIndex());
+        }
+        switchLiveIndex(state.liveIndex(), state.rollbackIndex(), true);
+        invalidateState();
+        log.info("Rolled back memory index: {} -> {}", state.liveIndex(), state.rollbackIndex());
+    }
+
+    @Override
+    public synchronized void markRollbackStale(String indexName) {
+        MemoryIndexState state = reloadState();
+        if (!indexName.equals(state.rollbackIndex()) || state.rollbackStale()) {
+            return;
+        }
+        updateAliases(List.of(addAlias(indexName, STALE_ROLLBACK_ALIAS, null)));
+        invalidateState();
+        log.warn("Marked memory rollback index as stale, rollback disabled until next rebuild. index: {}", indexName);
+    }
+
+    @Override
+    public void refresh(String indexName) {
+        execute(() -> elasticsearchClient.indices().refresh(r -> r.index(indexName)));
+    }
+
+    @Override
+    public long countDocuments(String indexName) {
+        return execute(() -> elasticsearchClient.count(c -> c.index(indexName)).count());
+    }
+
+    /**
+     * 읽기/쓰기 별칭을 한 번의 _aliases 요청으로 교체 (원자적)
+     * 기존 live 인덱스는 쓰기 별칭에 남겨 이중 쓰기를 유지하고 롤백 별칭을 붙인다.
+     */
+    private void switchLiveIndex(String currentLive, String newLive, boolean fromRollback) {
+        List<Action> actions = new ArrayList<>();
+        actions.add(addAlias(newLive, READ_ALIAS, null));
+        actions.add(addAlias(newLive, WRITE_ALIAS, true));
+        if (fromRollback) {
+            actions.add(removeAlias(newLive, ROLLBACK_ALIAS));
+        }
+
+        if (LEGACY_INDEX.equals(currentLive)) {
+            actions.add(Action.of(a -> a.removeIndex(r -> r.index(LEGACY_INDEX))));
+        } else {
+            actions.add(removeAlias(currentLive, READ_ALIAS));
+            actions.add(addAlias(currentLive, WRITE_ALIAS, false));
+            actions.add(addAlias(currentLive, ROLLBACK_ALIAS, null));
+        }
+        updateAliases(actions);
+    }
+
+    /**
+     * 별칭을 바꾸는 작업은 캐시가 아닌 현재 별칭 상태를 기준으로 한다
+     */
+    private MemoryIndexState reloadState() {
+        invalidateState();
+        return getState();
+    }
+
+    private void invalidateState() {
+        cachedState = null;
+    }
+
+    private MemoryIndexState readState() {
+        String liveIndex = null;
+        String shadowIndex = null;
+        String rollbackIndex = null;
+        boolean rollbackStale = false;
+
+        Map<String, Set<String>> aliasesByIndex = findAliases();
+        for (Map.Entry<String, Set<String>> entry : aliasesByIndex.entrySet()) {
+            Set<String> aliases = entry.getValue();
+            if (aliases.contains(READ_ALIAS)) {
+                liveIndex = entry.getKey();
+            } else if (aliases.contains(ROLLBACK_ALIAS)) {
+                rollbackIndex = entry.getKey();
+                rollbackStale = aliases.contains(STALE_ROLLBACK_ALIAS);
+            } else if (aliases.contains(WRITE_ALIAS) && !LEGACY_INDEX.equals(entry.getKey())) {
+                shadowIndex = entry.getKey();
+            }
+        }
+
+        if (liveIndex == null && aliasesByIndex.containsKey(LEGACY_INDEX)) {
+            liveIndex = LEGACY_INDEX;
+        }
+        return new MemoryIndexState(liveIndex, shadowIndex, rollbackIndex, rollbackStale);
+    }
+
+    private Map<String, Set<String>> findAliases() {
+        Map<String, IndexAliases> result = execute(() -> elasticsearchClient.indices()
+                .getAlias(g -> g.index(INDEX_PATTERN))
+                .result());
+
+        return result.entrySet().stream()
+                .filter(entry -> entry.getKey().equals(LEGACY_INDEX) || entry.getKey().startsWith(INDEX_PREFIX))
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> entry.getValue().aliases().keySet()
+                ));
+    }
+
+    private String createIndex() {
+        String indexName = INDEX_PREFIX + LocalDateTime.now().format(INDEX_SUFFIX_FORMAT);
+        IndexOperations indexOps = elasticsearchOperations.indexOps(IndexCoordinates.of(indexName));
+        indexOps.create(indexOps.createSettings(MemoryDocument.class), indexOps.createMapping(MemoryDocument.class));
+        return indexName;
+    }
+
+    /**
+     * 문서에 새로 추가된 필드(예: location geo_point)를 기존 인덱스 매핑에도 추가
+     * 재구축 전에 색인된 값이 dynamic mapping 으로 다른 타입이 되는 것을 막는다.
+     * 기존 인덱스에 없는 필드만 추가하며, 기존 필드 정의가 바뀐 경우(예: ngram 하위 필드)는 재구축이 필요하다.
+     * 인덱스에 없는 분석기(예: nori_edge_ngram)를 쓰는 필드는 추가할 수 없으므로, 해당 값이 dynamic mapping 으로
+     * 잘못된 타입이 되지 않도록 dynamic 을 false 로 바꿔 재구축 전까지 _source 에만 저장한다.
+     */
+    private void putMappingIfCompatible(String indexName) {
+        try {
+            IndexOperations indexOps = elasticsearchOperations.indexOps(IndexCoordinates.of(indexName));
+            Map<String, Object> currentProperties = properties(indexOps.getMapping());
+            Set<String> analyzers = analyzers(indexOps.getSettings());
+
+            Map<String, Object> missingProperties = new LinkedHashMap<>();
+            List<String> unsupportedFields = new ArrayList<>();
+            properties(indexOps.createMapping(MemoryDocument.class)).forEach((field, definition) -> {
+                if (currentProperties.containsKey(field)) {
+                    return;
+                }
+                if (analyzers.containsAll(referencedAnalyzers(definition))) {
+                    missingProperties.put(field, definition);
+                } else {
+                    unsupportedFields.add(field);
+                }
+            });
+
+            if (missingProperties.isEmpty() && unsupportedFields.isEmpty()) {
+                return;
+            }
+            Document mapping = Document.create();
+            mapping.put("properties", missingProperties);
+            if (!unsupportedFields.isEmpty()) {
+                mapping.put("dynamic", false);
+                log.warn("Memory index is missing analyzers for fields, rebuild required. index: {}, fields: {}", indexName, unsupportedFields);
+            }
+            indexOps.putMapping(mapping);
+            log.info("Added memory index mapping. index: {}, fields: {}", indexName, missingProperties.keySet());
+        } catch (Exception e) {
+            log.warn("Memory index mapping is not compatible, rebuild required. index: {}, reason: {}", indexName, e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> properties(Map<String, Object> mapping) {
+        Object properties = mapping.get("properties");
+        return properties instanceof Map ? (Map<String, Object>) properties : Map.of();
+    }
+
+    /**
+     * 인덱스 설정에 정의된 사용자 분석기 + 기본 분석기
+     */
+    private Set<String> analyzers(Settings settings) {
+        Set<String> analyzers = new HashSet<>(BUILT_IN_ANALYZERS);
+        for (String key : settings.flatten().keySet()) {
+            String name = key.startsWith("index.") ? key.substring("index.".length()) : key;
+            if (name.startsWith(ANALYZER_SETTING_PREFIX)) {
+                analyzers.add(name.substring(ANALYZER_SETTING_PREFIX.length()).split("\\.")[0]);
+            }
+        }
+        return analyzers;
+    }
+
+    /**
+     * 필드 정의(하위 필드 포함)가 사용하는 분석기
+     */
+    private Set<String> referencedAnalyzers(Object definition) {
+        Set<String> analyzers = new HashSet<>();
+        if (definition instanceof Map<?, ?> map) {
+            map.forEach((key, value) -> {
+                if (ANALYZER_KEYS.contains(key) && value instanceof String analyzer) {
+                    analyzers.add(analyzer);
+                } else {
+                    analyzers.addAll(referencedAnalyzers(value));
+                }
+            });
+        }
+        return analyzers;
+    }
+
+    private void deleteIndex(String indexName) {
+        execute(() -> elasticsearchClient.indices().delete(d -> d.index(indexName)));
+    }
+
+    private void updateAliases(List<Action> actions) {
+        execute(() -> elasticsearchClient.indices().updateAliases(u -> u.actions(actions)));
+    }
+
+    private Action addAlias(String indexName, String alias, Boolean writeIndex) {
+        return Action.of(a -> a.add(add -> add.index(indexName).alias(alias).isWriteIndex(writeIndex)));
+    }
+
+    private Action removeAlias(String indexName, String alias) {
+        return Action.of(a -> a.remove(remove -> remove.index(indexName).alias(alias)));
+    }
+
+    private <T> T execute(ElasticsearchCall<T> call) {
+        try {
+            return call.execute();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to execute index request to Elasticsearch", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ElasticsearchCall<T> {
+        T execute() throws IOException;
+    }
+
+    private record CachedState(MemoryIndexState state, long expiresAt) {
+    }
+}
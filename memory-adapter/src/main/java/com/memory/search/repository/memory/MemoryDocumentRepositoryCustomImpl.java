@@ -1,355 +1,917 @@
 package com.memory.search.repository.memory;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.DistanceUnit;
 import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.GeoBounds;
+import co.elastic.clients.elasticsearch._types.GeoLocation;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.CalendarInterval;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
-import co.elastic.clients.elasticsearch._types.query_dsl.MultiMatchQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.TermQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.TermsQuery;
-import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.search.CompletionContext;
+import co.elastic.clients.elasticsearch.core.search.Suggestion;
+import com.memory.document.memory.MemoryBulkIndexResult;
 import com.memory.document.memory.MemoryDocument;
 import com.memory.document.memory.MemoryDocumentRepositoryCustom;
+import com.memory.document.memory.MemoryGeoAreaResult;
+import com.memory.document.memory.MemoryGeoBounds;
+import com.memory.document.memory.MemorySearchCriteria;
+import com.memory.document.memory.MemorySearchCursor;
+import com.memory.document.memory.MemorySearchListener;
+import com.memory.document.memory.MemorySearchOptions;
+import com.memory.document.memory.MemorySearchResult;
+import com.memory.document.memory.MemoryIndexManager;
+import com.memory.document.memory.MemoryIndexOperation;
+import com.memory.document.memory.MemoryIndexState;
+import com.memory.document.memory.MemoryVisibility;
 import com.memory.dto.search.AutocompleteSuggestion;
+import com.memory.dto.search.GeoCluster;
+import com.memory.dto.search.HashtagFacet;
+import com.memory.dto.search.TimelineBucket;
+import com.memory.dto.search.TimelineInterval;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitSupport;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchPage;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
-import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightFieldParameters;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightParameters;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class MemoryDocumentRepositoryCustomImpl implements MemoryDocumentRepositoryCustom {
 
     private final ElasticsearchOperations elasticsearchOperations;
-    private static final String INDEX_NAME = "memory";
+    private final ElasticsearchClient elasticsearchClient;
+    private final MemoryIndexManager memoryIndexManager;
+    private final ObjectProvider<MemorySearchListener> memorySearchListeners;
+    private final SearchResponseStatusRecorder searchResponseStatusRecorder;
+    private static final String INDEX_NAME = MemoryIndexManager.READ_ALIAS;
+    private static final String VERSION_CONFLICT = "version_conflict_engine_exception";
+    private static final String CONTENT_FIELD = "content";
+    private static final String HIGHLIGHT_PRE_TAG = "<em>";
+    private static final String HIGHLIGHT_POST_TAG = "</em>";
+    private static final String MEMORABLE_DATE_FIELD = "memorableDate";
+    private static final String TITLE_SUGGEST_FIELD = "titleSuggest";
+    private static final String HASHTAG_SUGGEST_FIELD = "hashTagSuggest";
+    private static final String TIMELINE_AGGREGATION = "timeline";
+    private static final String LOCATION_FIELD = "location";
+    private static final String HASHTAGS_FIELD = "hashTags";
+    private static final String CREATED_AT_FIELD = "createdAt";
+    private static final String HASHTAG_FACET_AGGREGATION = "hashtagFacets";
+    private static final String HASHTAG_TREND_AGGREGATION = "hashtagTrend";
+    // 검색 결과와 함께 내려주는 해시태그 facet 수
+    private static final int HASHTAG_FACET_SIZE = 20;
+    // 급상승 해시태그로 인정하는 기간 내 최소 사용 수 (한두 건의 우연한 사용 제외)
+    private static final long HASHTAG_TREND_MIN_DOC_COUNT = 3L;
+    private static final String GEO_CLUSTER_AGGREGATION = "clusters";
+    private static final String GEO_CENTROID_AGGREGATION = "centroid";
+    // 한 화면에 내려주는 최대 클러스터 수 (격자가 더 많으면 메모리가 많은 격자부터)
+    private static final int MAX_GEO_CLUSTERS = 1000;
+    private static final SortOptions RELEVANCE_SORT = SortOptions.of(s -> s.score(sc -> sc.order(SortOrder.Desc)));
+    private static final SortOptions TIMELINE_SORT = SortOptions.of(s -> s.field(f -> f.field(MEMORABLE_DATE_FIELD).order(SortOrder.Desc)));
+    // 정렬 값이 같을 때 순서를 고정하는 tiebreaker (search_after 커서가 결과를 건너뛰거나 중복하지 않도록)
+    private static final SortOptions MEMORY_ID_TIEBREAKER = SortOptions.of(s -> s.field(f -> f.field("memoryId").order(SortOrder.Desc)));
+    // 목록(결과 카드) 조회 시 _source 에서 가져오는 필드
+    private static final String[] LIST_VIEW_FIELDS = {
+            "memoryId", "title", "locationName", "memorableDate", "memorableDateText", "memoryType", "hashTags",
+            "memberId", "memberNickname", "memberFileUrl", "location"
+    };
+
+    // point-in-time 을 열 때의 유지 시간, 첫 페이지 검색이 바로 이어지므로 짧게 둔다
+    @Value("${search.cursor.open-keep-alive-seconds:30}")
+    private long openKeepAliveSeconds;
+
+    // 커서 검색 시 다음 페이지 요청까지 point-in-time 을 유지하는 시간 (페이지 요청마다 연장)
+    @Value("${search.cursor.keep-alive-seconds:60}")
+    private long keepAliveSeconds;
 
     // ===== PUBLIC 메모리 전용 검색 메서드들 =====
 
     @Override
-    public Page<SearchHit<MemoryDocument>> searchPublicByAllFields(String query, Pageable pageable) {
-        Query boolQuery = BoolQuery.of(b -> b
-                .must(createPublicMemoryFilter())
-                .must(MultiMatchQuery.of(m -> m
-                        .query(query)
-                        .fields("title^2", "title.ngram^1.5", "content^1.5", "content.ngram^1", "hashTags^3",
-                                "locationName^1", "locationName.ngram^0.8", "memorableDateText",
-                                "memberName^1", "memberName.ngram^0.8", "memberNickname^1", "memberNickname.ngram^0.8",
-                                "relationshipMemberName^1", "relationshipMemberName.ngram^0.8", "relationshipMemberNickname^1", "relationshipMemberNickname.ngram^0.8")
-                        .type(TextQueryType.BestFields)
-                )._toQuery())
-        )._toQuery();
-
-        return executeSearchWithHighlight(boolQuery, pageable, "title", "content", "hashTags");
+    public MemorySearchResult searchPublicByAllFields(String query, Pageable pageable, MemorySearchOptions searchOptions) {
+        Query boolQuery = createScoredQuery(MemorySearchFieldProfile.ALL.toQuery(query), MemoryVisibilityFilter.publicOnly());
+        return executeSearch(boolQuery, pageable, searchOptions, "title", "content", "hashTags", "locationName");
     }
 
     @Override
-    public Page<SearchHit<MemoryDocument>> searchPublicByTitle(String query, Pageable pageable) {
-        Query boolQuery = BoolQuery.of(b -> b
-                .must(createPublicMemoryFilter())
-                .must(MultiMatchQuery.of(m -> m
-                        .query(query)
-                        .fields("title^2", "title.ngram^1.5")
-                        .type(TextQueryType.BestFields)
-                )._toQuery())
-        )._toQuery();
-
-        return executeSearchWithHighlight(boolQuery, pageable, "title");
+    public MemorySearchResult searchPublicByTitle(String query, Pageable pageable, MemorySearchOptions searchOptions) {
+        Query boolQuery = createScoredQuery(MemorySearchFieldProfile.TITLE.toQuery(query), MemoryVisibilityFilter.publicOnly());
+        return executeSearch(boolQuery, pageable, searchOptions, "title");
     }
 
     @Override
-    public Page<SearchHit<MemoryDocument>> searchPublicByContent(String query, Pageable pageable) {
-        Query boolQuery = BoolQuery.of(b -> b
-                .must(createPublicMemoryFilter())
-                .must(MultiMatchQuery.of(m -> m
-                        .query(query)
-                        .fields("content^1.5", "content.ngram^1")
-                        .type(TextQueryType.BestFields)
-                )._toQuery())
-        )._toQuery();
-
-        return executeSearchWithHighlight(boolQuery, pageable, "content");
+    public MemorySearchResult searchPublicByContent(String query, Pageable pageable, MemorySearchOptions searchOptions) {
+        Query boolQuery = createScoredQuery(MemorySearchFieldProfile.CONTENT.toQuery(query), MemoryVisibilityFilter.publicOnly());
+        return executeSearch(boolQuery, pageable, searchOptions, "content");
     }
 
     @Override
-    public Page<SearchHit<MemoryDocument>> searchPublicByHashtags(List<String> hashtags, Pageable pageable) {
-        Query boolQuery = BoolQuery.of(b -> b
-                .must(createPublicMemoryFilter())
-                .must(TermsQuery.of(t -> t
-                        .field("hashTags")
-                        .terms(terms -> terms.value(hashtags.stream()
-                                .map(FieldValue::of)
-                                .toList()))
-                )._toQuery())
-        )._toQuery();
-
-        return executeSearchWithHighlight(boolQuery, pageable, "hashTags");
+    public MemorySearchResult searchPublicByHashtags(List<String> hashtags, Pageable pageable, MemorySearchOptions searchOptions) {
+        Query boolQuery = createFilterQuery(MemoryVisibilityFilter.publicOnly(), createHashtagsFilter(hashtags));
+        return executeSearch(boolQuery, pageable, searchOptions, "hashTags");
     }
 
     @Override
-    public Page<SearchHit<MemoryDocument>> searchPublicByLocation(String query, Pageable pageable) {
-        Query boolQuery = BoolQuery.of(b -> b
-                .must(createPublicMemoryFilter())
-                .must(MultiMatchQuery.of(m -> m
-                        .query(query)
-                        .fields("locationName^1", "locationName.ngram^0.8")
-                        .type(TextQueryType.BestFields)
-                )._toQuery())
-        )._toQuery();
-
-        return executeSearchWithHighlight(boolQuery, pageable, "locationName");
+    public MemorySearchResult searchPublicByLocation(String query, Pageable pageable, MemorySearchOptions searchOptions) {
+        Query boolQuery = createScoredQuery(MemorySearchFieldProfile.LOCATION.toQuery(query), MemoryVisibilityFilter.publicOnly());
+        return executeSearch(boolQuery, pageable, searchOptions, "locationName");
     }
 
     @Override
-    public Page<SearchHit<MemoryDocument>> searchPublicByDateRange(LocalDate fromDate, LocalDate toDate, Pageable pageable) {
-        // TODO: Range query 구현 필요
-        Query boolQuery = createPublicMemoryFilter();
-        return executeSearch(boolQuery, pageable);
+    public MemorySearchResult searchPublicByDateRange(LocalDate fromDate, LocalDate toDate, TimelineInterval timelineInterval,
+                                                      Pageable pageable, MemorySearchOptions searchOptions) {
+        Query boolQuery = createFilterQuery(MemoryVisibilityFilter.publicOnly(), createMemorableDateRangeFilter(fromDate, toDate));
+        return executeDateRangeSearch(boolQuery, timelineInterval, pageable, searchOptions);
     }
 
     // ===== 인증된 사용자 검색 메서드들 (본인 메모리 + PUBLIC) =====
 
     @Override
-    public Page<SearchHit<MemoryDocument>> searchByMemberAndAllFields(Long memberId, String query, Pageable pageable) {
-        Query boolQuery = BoolQuery.of(b -> b
-                .must(MultiMatchQuery.of(m -> m
-                        .query(query)
-                        .fields("title^2", "title.ngram^1.5", "content^1.5", "content.ngram^1", "hashTags^3",
-                                "locationName^1", "locationName.ngram^0.8", "memorableDateText",
-                                "memberName^1", "memberName.ngram^0.8", "memberNickname^1", "memberNickname.ngram^0.8",
-                                "relationshipMemberName^1", "relationshipMemberName.ngram^0.8", "relationshipMemberNickname^1", "relationshipMemberNickname.ngram^0.8")
-                        .type(TextQueryType.BestFields)
-                )._toQuery())
-                .must(createMemberOrPublicFilter(memberId))
-        )._toQuery();
+    public MemorySearchResult searchByMemberAndAllFields(MemoryVisibility visibility, String query, Pageable pageable, MemorySearchOptions searchOptions) {
+        Query boolQuery = createScoredQuery(MemorySearchFieldProfile.ALL.toQuery(query), MemoryVisibilityFilter.memberOrPublic(visibility));
+        return executeSearch(boolQuery, pageable, searchOptions, "title", "content", "hashTags", "locationName");
+    }
 
-        return executeSearchWithHighlight(boolQuery, pageable, "title", "content", "hashTags");
+    @Override
+    public MemorySearchResult searchByMemberAndTitle(MemoryVisibility visibility, String query, Pageable pageable, MemorySearchOptions searchOptions) {
+        Query boolQuery = createScoredQuery(MemorySearchFieldProfile.TITLE.toQuery(query), MemoryVisibilityFilter.memberOrPublic(visibility));
+        return executeSearch(boolQuery, pageable, searchOptions, "title");
     }
 
     @Override
-    public Page<SearchHit<MemoryDocument>> searchByMemberAndTitle(Long memberId, String query, Pageable pageable) {
-        Query boolQuery = BoolQuery.of(b -> b
-                .must(MultiMatchQuery.of(m -> m
-                        .query(query)
-                        .fields("title^2", "title.ngram^1.5")
-                        .type(TextQueryType.BestFields)
-                )._toQuery())
-                .must(createMemberOrPublicFilter(memberId))
-        )._toQuery();
+    public MemorySearchResult searchByMemberAndContent(MemoryVisibility visibility, String query, Pageable pageable, MemorySearchOptions searchOptions) {
+        Query boolQuery = createScoredQuery(MemorySearchFieldProfile.CONTENT.toQuery(query), MemoryVisibilityFilter.memberOrPublic(visibility));
+        return executeSearch(boolQuery, pageable, searchOptions, "content");
+    }
 
-        return executeSearchWithHighlight(boolQuery, pageable, "title");
+    @Override
+    public MemorySearchResult searchByMemberAndHashtags(MemoryVisibility visibility, List<String> hashtags, Pageable pageable, MemorySearchOptions searchOptions) {
+        Query boolQuery = createFilterQuery(MemoryVisibilityFilter.memberOrPublic(visibility), createHashtagsFilter(hashtags));
+        return executeSearch(boolQuery, pageable, searchOptions, "hashTags");
     }
 
     @Override
-    public Page<SearchHit<MemoryDocument>> searchByMemberAndContent(Long memberId, String query, Pageable pageable) {
-        Query boolQuery = BoolQuery.of(b -> b
-                .must(MultiMatchQuery.of(m -> m
-                        .query(query)
-                        .fields("content^1.5", "content.ngram^1")
-                        .type(TextQueryType.BestFields)
-                )._toQuery())
-                .must(createMemberOrPublicFilter(memberId))
-        )._toQuery();
+    public MemorySearchResult searchByMemberAndLocation(MemoryVisibility visibility, String query, Pageable pageable, MemorySearchOptions searchOptions) {
+        Query boolQuery = createScoredQuery(MemorySearchFieldProfile.LOCATION.toQuery(query), MemoryVisibilityFilter.memberOrPublic(visibility));
+        return executeSearch(boolQuery, pageable, searchOptions, "locationName");
+    }
+
+    @Override
+    public MemorySearchResult searchByMemberAndDateRange(MemoryVisibility visibility, LocalDate fromDate, LocalDate toDate, TimelineInterval timelineInterval,
+                                                         Pageable pageable, MemorySearchOptions searchOptions) {
+        Query boolQuery = createFilterQuery(MemoryVisibilityFilter.memberOrPublic(visibility), createMemorableDateRangeFilter(fromDate, toDate));
+        return executeDateRangeSearch(boolQuery, timelineInterval, pageable, searchOptions);
+    }
 
-        return executeSearchWithHighlight(boolQuery, pageable, "content");
+    // ===== 해시태그 집계 메서드들 =====
+
+    /**
+     * 문서는 가져오지 않고(size 0) 집계만 실행
+     * significant_terms 의 비교 대상(background)은 인덱스 전체가 아니라 같은 조회 범위로 제한한다.
+     */
+    @Override
+    public List<HashtagFacet> aggregateHashtags(MemoryVisibility visibility, Instant since, boolean significant, int limit) {
+        Query visibilityFilter = MemoryVisibilityFilter.of(visibility);
+        // since 가 null 이면 전체 기간
+        Query createdAtFilter = since != null
+                ? Query.of(q -> q
+                        .range(r -> r
+                                .date(d -> d
+                                        .field(CREATED_AT_FIELD)
+                                        .gte(since.toString())
+                                )
+                        )
+                )
+                : null;
+        Aggregation aggregation = significant
+                ? Aggregation.of(a -> a.significantTerms(st -> st
+                        .field(HASHTAGS_FIELD)
+                        .size(limit)
+                        .minDocCount(HASHTAG_TREND_MIN_DOC_COUNT)
+                        .backgroundFilter(visibilityFilter)))
+                : Aggregation.of(a -> a.terms(t -> t
+                        .field(HASHTAGS_FIELD)
+                        .size(limit)));
+
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                .withQuery(createdAtFilter != null
+                        ? createFilterQuery(visibilityFilter, createdAtFilter)
+                        : createFilterQuery(visibilityFilter))
+                .withMaxResults(0)
+                .withAggregation(HASHTAG_TREND_AGGREGATION, aggregation);
+
+        SearchHits<MemoryDocument> searchHits = search(queryBuilder);
+        if (!hasAggregation(searchHits, HASHTAG_TREND_AGGREGATION)) {
+            return List.of();
+        }
+
+        Aggregate aggregate = ((ElasticsearchAggregations) searchHits.getAggregations())
+                .get(HASHTAG_TREND_AGGREGATION).aggregation().getAggregate();
+        if (significant) {
+            return aggregate.sigsterms().buckets().array().stream()
+                    .map(bucket -> HashtagFacet.builder()
+                            .name(bucket.key())
+                            .count(bucket.docCount())
+                            .score(bucket.score())
+                            .build())
+                    .toList();
+        }
+        return toHashtagFacets(aggregate);
     }
 
+    // ===== 위치 검색 메서드들 =====
+
     @Override
-    public Page<SearchHit<MemoryDocument>> searchByMemberAndHashtags(Long memberId, List<String> hashtags, Pageable pageable) {
-        Query boolQuery = BoolQuery.of(b -> b
-                .must(TermsQuery.of(t -> t
-                        .field("hashTags")
-                        .terms(terms -> terms.value(hashtags.stream()
-                                .map(FieldValue::of)
-                                .toList()))
-                )._toQuery())
-                .must(createMemberOrPublicFilter(memberId))
-        )._toQuery();
+    public SearchPage<MemoryDocument> searchByGeoDistance(MemoryVisibility visibility, double latitude, double longitude, double distanceKm,
+                                                          Pageable pageable, MemorySearchOptions searchOptions) {
+        GeoLocation center = GeoLocation.of(l -> l.latlon(ll -> ll.lat(latitude).lon(longitude)));
+        Query geoDistanceFilter = Query.of(q -> q
+                .geoDistance(g -> g
+                        .field(LOCATION_FIELD)
+                        .location(center)
+                        .distance(distanceKm + "km")
+                )
+        );
+        SortOptions distanceSort = SortOptions.of(s -> s
+                .geoDistance(g -> g
+                        .field(LOCATION_FIELD)
+                        .location(center)
+                        .unit(DistanceUnit.Meters)
+                        .order(SortOrder.Asc)
+                )
+        );
 
-        return executeSearchWithHighlight(boolQuery, pageable, "hashTags");
+        Query boolQuery = createFilterQuery(MemoryVisibilityFilter.of(visibility), geoDistanceFilter);
+        NativeQueryBuilder queryBuilder = createSearchQuery(boolQuery, distanceSort, pageable, searchOptions);
+        return SearchHitSupport.searchPageFor(search(queryBuilder), resolvePageable(pageable, searchOptions));
     }
 
+    /**
+     * 영역 필터와 같은 범위로 geohash_grid 를 집계하고, 격자마다 geo_centroid 로 마커 위치를 구한다
+     */
     @Override
-    public Page<SearchHit<MemoryDocument>> searchByMemberAndLocation(Long memberId, String query, Pageable pageable) {
-        Query boolQuery = BoolQuery.of(b -> b
-                .must(MultiMatchQuery.of(m -> m
-                        .query(query)
-                        .fields("locationName^1", "locationName.ngram^0.8")
-                        .type(TextQueryType.BestFields)
-                )._toQuery())
-                .must(createMemberOrPublicFilter(memberId))
-        )._toQuery();
+    public MemoryGeoAreaResult searchByGeoBoundingBox(MemoryVisibility visibility, MemoryGeoBounds bounds, int geohashPrecision,
+                                                      Pageable pageable, MemorySearchOptions searchOptions) {
+        GeoBounds geoBounds = GeoBounds.of(b -> b
+                .tlbr(t -> t
+                        .topLeft(l -> l.latlon(ll -> ll.lat(bounds.top()).lon(bounds.left())))
+                        .bottomRight(l -> l.latlon(ll -> ll.lat(bounds.bottom()).lon(bounds.right())))
+                )
+        );
+        Query boundingBoxFilter = Query.of(q -> q
+                .geoBoundingBox(g -> g
+                        .field(LOCATION_FIELD)
+                        .boundingBox(geoBounds)
+                )
+        );
+        Aggregation clusterAggregation = Aggregation.of(a -> a
+                .geohashGrid(g -> g
+                        .field(LOCATION_FIELD)
+                        .precision(p -> p.geohashLength(geohashPrecision))
+                        .bounds(geoBounds)
+                        .size(MAX_GEO_CLUSTERS)
+                )
+                .aggregations(GEO_CENTROID_AGGREGATION, Aggregation.of(c -> c
+                        .geoCentroid(gc -> gc.field(LOCATION_FIELD))
+                ))
+        );
+
+        Query boolQuery = createFilterQuery(MemoryVisibilityFilter.of(visibility), boundingBoxFilter);
+        NativeQueryBuilder queryBuilder = createSearchQuery(boolQuery, TIMELINE_SORT, pageable, searchOptions)
+                .withAggregation(GEO_CLUSTER_AGGREGATION, clusterAggregation);
 
-        return executeSearchWithHighlight(boolQuery, pageable, "locationName");
+        SearchHits<MemoryDocument> searchHits = search(queryBuilder);
+        SearchPage<MemoryDocument> page = SearchHitSupport.searchPageFor(searchHits, resolvePageable(pageable, searchOptions));
+        return new MemoryGeoAreaResult(page, extractGeoClusters(searchHits));
     }
 
+    // ===== 묶음 검색 메서드들 =====
+
+    /**
+     * 검색마다 개별 메서드와 같은 쿼리를 만들어 _msearch 한 번으로 실행
+     */
     @Override
-    public Page<SearchHit<MemoryDocument>> searchByMemberAndDateRange(Long memberId, LocalDate fromDate, LocalDate toDate, Pageable pageable) {
-        // TODO: Range query 구현 필요
-        Query boolQuery = createMemberOrPublicFilter(memberId);
-        return executeSearch(boolQuery, pageable);
+    public List<MemorySearchResult> multiSearch(List<MemorySearchCriteria> criteria) {
+        if (criteria.isEmpty()) {
+            return List.of();
+        }
+
+        List<NativeQuery> queries = criteria.stream()
+                .map(this::createSearchQuery)
+                .map(NativeQueryBuilder::build)
+                .toList();
+        List<SearchHits<MemoryDocument>> responses = elasticsearchOperations.multiSearch(
+                queries, MemoryDocument.class, IndexCoordinates.of(INDEX_NAME));
+        List<Boolean> partial = searchResponseStatusRecorder.takePartial();
+
+        List<MemorySearchResult> results = new ArrayList<>(criteria.size());
+        for (int i = 0; i < criteria.size(); i++) {
+            MemorySearchCriteria searchCriteria = criteria.get(i);
+            SearchHits<MemoryDocument> searchHits = responses.get(i);
+            notifySearchExecuted(queries.get(i), searchHits);
+
+            results.add(toSearchResult(searchHits, searchCriteria.pageable(), searchCriteria.searchOptions(), isPartial(partial, i)));
+        }
+        return results;
+    }
+
+    private NativeQueryBuilder createSearchQuery(MemorySearchCriteria criteria) {
+        Query visibilityFilter = MemoryVisibilityFilter.of(criteria.visibility());
+        Pageable pageable = criteria.pageable();
+        MemorySearchOptions searchOptions = criteria.searchOptions();
+
+        return switch (criteria.type()) {
+            case ALL -> createSearchQuery(createScoredQuery(MemorySearchFieldProfile.ALL.toQuery(criteria.query()), visibilityFilter),
+                    RELEVANCE_SORT, pageable, searchOptions, "title", "content", "hashTags", "locationName");
+            case TITLE -> createSearchQuery(createScoredQuery(MemorySearchFieldProfile.TITLE.toQuery(criteria.query()), visibilityFilter),
+                    RELEVANCE_SORT, pageable, searchOptions, "title");
+            case CONTENT -> createSearchQuery(createScoredQuery(MemorySearchFieldProfile.CONTENT.toQuery(criteria.query()), visibilityFilter),
+                    RELEVANCE_SORT, pageable, searchOptions, "content");
+            case HASHTAGS -> createSearchQuery(createFilterQuery(visibilityFilter, createHashtagsFilter(criteria.hashtags())),
+                    RELEVANCE_SORT, pageable, searchOptions, "hashTags");
+            case LOCATION -> createSearchQuery(createScoredQuery(MemorySearchFieldProfile.LOCATION.toQuery(criteria.query()), visibilityFilter),
+                    RELEVANCE_SORT, pageable, searchOptions, "locationName");
+            case DATE -> {
+                NativeQueryBuilder queryBuilder = createSearchQuery(
+                        createFilterQuery(visibilityFilter, createMemorableDateRangeFilter(criteria.fromDate(), criteria.toDate())),
+                        TIMELINE_SORT, pageable, searchOptions);
+                if (criteria.timelineInterval() != null) {
+                    queryBuilder.withAggregation(TIMELINE_AGGREGATION, createTimelineAggregation(criteria.timelineInterval()));
+                }
+                yield queryBuilder;
+            }
+        };
     }
 
     // ===== 헬퍼 메서드들 =====
 
     /**
-     * PUBLIC 메모리만 필터링하는 쿼리 생성
+     * 점수 계산은 본문 매칭(must)만, 공개 범위 조건은 점수 없이 캐시 가능한 filter 로 실행
      */
-    private Query createPublicMemoryFilter() {
-        return TermQuery.of(t -> t
-                .field("memoryType")
-                .value("PUBLIC")
+    private Query createScoredQuery(Query matchQuery, Query visibilityFilter) {
+        return BoolQuery.of(b -> b
+                .must(matchQuery)
+                .filter(visibilityFilter)
         )._toQuery();
     }
 
     /**
-     * 사용자의 메모리, 관계된 사용자의 메모리 또는 PUBLIC 메모리를 필터링하는 쿼리 생성
+     * 점수가 필요 없는 조건만으로 구성된 검색 (해시태그, 날짜 범위)
      */
-    private Query createMemberOrPublicFilter(Long memberId) {
+    private Query createFilterQuery(Query... filters) {
         return BoolQuery.of(b -> b
-                .should(TermQuery.of(t -> t
-                        .field("memberId")
-                        .value(memberId)
-                )._toQuery())
-                .should(TermsQuery.of(t -> t
-                        .field("relationshipMemberId")
-                        .terms(terms -> terms.value(List.of(FieldValue.of(memberId))))
-                )._toQuery())
-                .should(TermQuery.of(t -> t
-                        .field("memoryType")
-                        .value("PUBLIC")
-                )._toQuery())
-                .minimumShouldMatch("1")
+                .filter(List.of(filters))
+        )._toQuery();
+    }
+
+    private Query createHashtagsFilter(List<String> hashtags) {
+        return TermsQuery.of(t -> t
+                .field("hashTags")
+                .terms(terms -> terms.value(hashtags.stream()
+                        .map(FieldValue::of)
+                        .toList()))
         )._toQuery();
     }
 
     /**
-     * 하이라이팅 없이 검색 실행
+     * memorableDate 가 [fromDate, toDate] 에 포함되는 메모리 필터 (양 끝 포함)
      */
-    private Page<SearchHit<MemoryDocument>> executeSearch(Query query, Pageable pageable) {
-        NativeQuery searchQuery = NativeQuery.builder()
+    private Query createMemorableDateRangeFilter(LocalDate fromDate, LocalDate toDate) {
+        return Query.of(q -> q
+                .range(r -> r
+                        .date(d -> d
+                                .field(MEMORABLE_DATE_FIELD)
+                                .gte(fromDate.toString())
+                                .lte(toDate.toString())
+                        )
+                )
+        );
+    }
+
+    /**
+     * 검색 실행 (관련도순)
+     */
+    private MemorySearchResult executeSearch(Query query, Pageable pageable,
+                                             MemorySearchOptions searchOptions, String... highlightFields) {
+        NativeQueryBuilder queryBuilder = createSearchQuery(query, RELEVANCE_SORT, pageable, searchOptions, highlightFields);
+        SearchHits<MemoryDocument> searchHits = search(queryBuilder);
+        return toSearchResult(searchHits, pageable, searchOptions, isPartial(searchResponseStatusRecorder.takePartial(), 0));
+    }
+
+    /**
+     * 날짜 범위 검색 실행
+     * 점수가 필요 없는 filter 만으로 구성되므로 추억 날짜 최신순으로 정렬하고, 요청 시 같은 요청에서 date_histogram 집계
+     */
+    private MemorySearchResult executeDateRangeSearch(Query query, TimelineInterval timelineInterval,
+                                                      Pageable pageable, MemorySearchOptions searchOptions) {
+        NativeQueryBuilder queryBuilder = createSearchQuery(query, TIMELINE_SORT, pageable, searchOptions);
+        if (timelineInterval != null) {
+            queryBuilder.withAggregation(TIMELINE_AGGREGATION, createTimelineAggregation(timelineInterval));
+        }
+
+        SearchHits<MemoryDocument> searchHits = search(queryBuilder);
+        return toSearchResult(searchHits, pageable, searchOptions, isPartial(searchResponseStatusRecorder.takePartial(), 0));
+    }
+
+    /**
+     * 검색 결과 페이지 + 요청에 포함된 집계(타임라인, 해시태그 facet) 결과
+     */
+    private MemorySearchResult toSearchResult(SearchHits<MemoryDocument> searchHits, Pageable pageable, MemorySearchOptions searchOptions,
+                                              boolean partial) {
+        SearchPage<MemoryDocument> page = SearchHitSupport.searchPageFor(searchHits, resolvePageable(pageable, searchOptions));
+        List<TimelineBucket> timeline = hasAggregation(searchHits, TIMELINE_AGGREGATION) ? extractTimelineBuckets(searchHits) : null;
+        List<HashtagFacet> hashtagFacets = searchOptions.hashtagFacets() ? extractHashtagFacets(searchHits) : null;
+        return new MemorySearchResult(page, timeline, hashtagFacets, partial);
+    }
+
+    /**
+     * 클라이언트가 기록한 응답의 timed_out / _shards.failed 기준 (기록이 없으면 전체 결과로 본다)
+     */
+    private boolean isPartial(List<Boolean> partial, int index) {
+        return index < partial.size() && partial.get(index);
+    }
+
+    /**
+     * 검색 요청 생성
+     * 하이라이팅은 unified highlighter 를 사용하고, content 조각이 필요하면 매칭이 없어도 앞부분을 돌려준다(no_match_size).
+     * 커서가 있으면 from/size 대신 point-in-time + search_after 로 조회하여 깊은 페이지도 일정한 비용으로 가져온다.
+     * 정렬 마지막에는 memoryId 를 두어 같은 값끼리도 순서가 고정되게 한다.
+     * 서비스가 정한 마감 시간은 검색 요청의 timeout 으로 넘겨 샤드가 시간 안에 찾은 결과까지만 돌려주게 한다.
+     */
+    private NativeQueryBuilder createSearchQuery(Query query, SortOptions primarySort, Pageable pageable,
+                                                 MemorySearchOptions searchOptions, String... highlightFields) {
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
                 .withQuery(query)
-                .withPageable(pageable)
-                .build();
+                .withSort(primarySort, MEMORY_ID_TIEBREAKER)
+                .withPageable(resolvePageable(pageable, searchOptions));
 
-        SearchHits<MemoryDocument> searchHits = elasticsearchOperations.search(
-                searchQuery, MemoryDocument.class, IndexCoordinates.of(INDEX_NAME));
+        if (searchOptions.isCursorPaging()) {
+            applyCursor(queryBuilder, searchOptions.cursor());
+        }
 
-        return PageableExecutionUtils.getPage(
-                searchHits.getSearchHits(),
-                pageable,
-                searchHits::getTotalHits
+        queryBuilder.withSourceFilter(createSourceFilter(searchOptions));
+
+        HighlightQuery highlightQuery = createHighlightQuery(searchOptions, highlightFields);
+        if (highlightQuery != null) {
+            queryBuilder.withHighlightQuery(highlightQuery);
+        }
+
+        if (searchOptions.timeout() != null) {
+            queryBuilder.withTimeout(searchOptions.timeout());
+        }
+
+        if (searchOptions.hashtagFacets()) {
+            queryBuilder.withAggregation(HASHTAG_FACET_AGGREGATION, Aggregation.of(a -> a
+                    .terms(t -> t.field(HASHTAGS_FIELD).size(HASHTAG_FACET_SIZE))));
+        }
+
+        return queryBuilder;
+    }
+
+    private SearchHits<MemoryDocument> search(NativeQueryBuilder queryBuilder) {
+        NativeQuery nativeQuery = queryBuilder.build();
+        SearchHits<MemoryDocument> searchHits = elasticsearchOperations.search(nativeQuery, MemoryDocument.class, IndexCoordinates.of(INDEX_NAME));
+
+        notifySearchExecuted(nativeQuery, searchHits);
+        return searchHits;
+    }
+
+    private void notifySearchExecuted(NativeQuery nativeQuery, SearchHits<MemoryDocument> searchHits) {
+        memorySearchListeners.orderedStream()
+                .forEach(listener -> listener.onSearchExecuted(String.valueOf(nativeQuery.getQuery()), searchHits.getExecutionDuration()));
+    }
+
+    /**
+     * search_after 는 from 을 사용하지 않으므로 커서 검색은 항상 첫 페이지 기준
+     */
+    private Pageable resolvePageable(Pageable pageable, MemorySearchOptions searchOptions) {
+        return searchOptions.isCursorPaging() ? PageRequest.of(0, pageable.getPageSize()) : pageable;
+    }
+
+    /**
+     * point-in-time 검색은 인덱스를 지정하지 않으며, 첫 페이지가 아니면 직전 마지막 결과의 정렬 값 이후부터 조회
+     */
+    private void applyCursor(NativeQueryBuilder queryBuilder, MemorySearchCursor cursor) {
+        queryBuilder
+                .withPointInTime(new org.springframework.data.elasticsearch.core.query.Query.PointInTime(
+                        cursor.pointInTimeId(), Duration.ofSeconds(keepAliveSeconds)))
+                .withTrackTotalHits(true);
+
+        if (!cursor.isFirstPage()) {
+            queryBuilder.withSearchAfter(cursor.searchAfter());
+        }
+    }
+
+    private Aggregation createTimelineAggregation(TimelineInterval timelineInterval) {
+        CalendarInterval calendarInterval = timelineInterval == TimelineInterval.YEAR ? CalendarInterval.Year : CalendarInterval.Month;
+        String format = timelineInterval == TimelineInterval.YEAR ? "yyyy" : "yyyy-MM";
+
+        return Aggregation.of(a -> a
+                .dateHistogram(h -> h
+                        .field(MEMORABLE_DATE_FIELD)
+                        .calendarInterval(calendarInterval)
+                        .format(format)
+                        .minDocCount(1)
+                )
         );
     }
 
+    private boolean hasAggregation(SearchHits<MemoryDocument> searchHits, String name) {
+        return searchHits.getAggregations() instanceof ElasticsearchAggregations aggregations
+                && aggregations.get(name) != null;
+    }
+
+    private List<HashtagFacet> extractHashtagFacets(SearchHits<MemoryDocument> searchHits) {
+        if (!hasAggregation(searchHits, HASHTAG_FACET_AGGREGATION)) {
+            return List.of();
+        }
+        return toHashtagFacets(((ElasticsearchAggregations) searchHits.getAggregations())
+                .get(HASHTAG_FACET_AGGREGATION).aggregation().getAggregate());
+    }
+
+    private List<HashtagFacet> toHashtagFacets(Aggregate termsAggregate) {
+        return termsAggregate.sterms().buckets().array().stream()
+                .map(bucket -> HashtagFacet.builder()
+                        .name(bucket.key().stringValue())
+                        .count(bucket.docCount())
+                        .build())
+                .toList();
+    }
+
+    private List<TimelineBucket> extractTimelineBuckets(SearchHits<MemoryDocument> searchHits) {
+        if (!(searchHits.getAggregations() instanceof ElasticsearchAggregations aggregations)
+                || aggregations.get(TIMELINE_AGGREGATION) == null) {
+            return List.of();
+        }
+
+        return aggregations.get(TIMELINE_AGGREGATION).aggregation().getAggregate()
+                .dateHistogram().buckets().array().stream()
+                .map(bucket -> TimelineBucket.builder()
+                        .key(bucket.keyAsString())
+                        .startDate(Instant.ofEpochMilli(bucket.key()).atZone(ZoneOffset.UTC).toLocalDate())
+                        .count(bucket.docCount())
+                        .build())
+                .toList();
+    }
+
     /**
-     * 하이라이팅과 함께 검색 실행 (하이라이팅은 추후 구현)
+     * geohash 격자별 문서 수와 중심 좌표를 지도 클러스터로 변환
      */
-    private Page<SearchHit<MemoryDocument>> executeSearchWithHighlight(Query query, Pageable pageable, String... fields) {
-        return executeSearch(query, pageable);
+    private List<GeoCluster> extractGeoClusters(SearchHits<MemoryDocument> searchHits) {
+        if (!(searchHits.getAggregations() instanceof ElasticsearchAggregations aggregations)
+                || aggregations.get(GEO_CLUSTER_AGGREGATION) == null) {
+            return List.of();
+        }
+
+        return aggregations.get(GEO_CLUSTER_AGGREGATION).aggregation().getAggregate()
+                .geohashGrid().buckets().array().stream()
+                .map(bucket -> {
+                    GeoLocation centroid = bucket.aggregations().get(GEO_CENTROID_AGGREGATION).geoCentroid().location();
+                    return GeoCluster.builder()
+                            .geohash(bucket.key())
+                            .count(bucket.docCount())
+                            .latitude(centroid.latlon().lat())
+                            .longitude(centroid.latlon().lon())
+                            .build();
+                })
+                .toList();
     }
 
-    // ===== 자동완성 메서드 구현 =====
+    /**
+     * 목록 조회는 결과 카드에 필요한 필드만, 그 외에는 자동완성 전용 필드를 제외하고 fragmentsOnly 이면 content 도 제외
+     */
+    private FetchSourceFilter createSourceFilter(MemorySearchOptions searchOptions) {
+        if (searchOptions.isListView()) {
+            return new FetchSourceFilter(true, LIST_VIEW_FIELDS, null);
+        }
+        if (searchOptions.fragmentsOnly()) {
+            return new FetchSourceFilter(true, null, new String[]{CONTENT_FIELD, TITLE_SUGGEST_FIELD, HASHTAG_SUGGEST_FIELD});
+        }
+        return new FetchSourceFilter(true, null, new String[]{TITLE_SUGGEST_FIELD, HASHTAG_SUGGEST_FIELD});
+    }
+
+    private HighlightQuery createHighlightQuery(MemorySearchOptions searchOptions, String... fields) {
+        List<HighlightField> highlightFields = new ArrayList<>();
+        boolean highlightContent = searchOptions.needsContentFragments();
+
+        if (searchOptions.highlight()) {
+            for (String field : fields) {
+                if (CONTENT_FIELD.equals(field)) {
+                    highlightContent = true;
+                } else {
+                    highlightFields.add(new HighlightField(field));
+                }
+            }
+        }
+
+        if (highlightContent) {
+            HighlightFieldParameters.HighlightFieldParametersBuilder contentParameters = HighlightFieldParameters.builder();
+            if (searchOptions.needsContentFragments()) {
+                contentParameters.withNoMatchSize(searchOptions.fragmentSize());
+            }
+            highlightFields.add(new HighlightField(CONTENT_FIELD, contentParameters.build()));
+        }
+
+        if (highlightFields.isEmpty()) {
+            return null;
+        }
+
+        HighlightParameters parameters = HighlightParameters.builder()
+                .withType("unified")
+                .withPreTags(HIGHLIGHT_PRE_TAG)
+                .withPostTags(HIGHLIGHT_POST_TAG)
+                .withFragmentSize(searchOptions.fragmentSize())
+                .withNumberOfFragments(searchOptions.numberOfFragments())
+                .build();
+
+        return new HighlightQuery(new Highlight(parameters, highlightFields), MemoryDocument.class);
+    }
+
+    // ===== 커서 검색 메서드 구현 =====
 
     @Override
-    public List<AutocompleteSuggestion> getPublicTitleSuggestions(String query, int limit) {
-        return getTitleSuggestions(createPublicMemoryFilter(), query, limit);
+    public String openPointInTime() {
+        return elasticsearchOperations.openPointInTime(
+                IndexCoordinates.of(INDEX_NAME), Duration.ofSeconds(openKeepAliveSeconds), true);
     }
 
     @Override
-    public List<AutocompleteSuggestion> getPublicHashtagSuggestions(String query, int limit) {
-        return getHashtagSuggestions(createPublicMemoryFilter(), query, limit);
+    public void closePointInTime(String pointInTimeId) {
+        try {
+            elasticsearchOperations.closePointInTime(pointInTimeId);
+        } catch (Exception e) {
+            // 이미 만료된 point-in-time 은 keep-alive 이후 자동 정리되므로 실패해도 무시
+            log.warn("Failed to close point in time: {}", e.getMessage());
+        }
     }
 
+    // ===== 상세 조회 메서드 구현 =====
+
     @Override
-    public List<AutocompleteSuggestion> getAuthenticatedTitleSuggestions(Long memberId, String query, int limit) {
-        return getTitleSuggestions(createMemberOrPublicFilter(memberId), query, limit);
+    public Optional<MemoryDocument> findPublicDocument(Long memoryId) {
+        return findDocument(memoryId, MemoryVisibilityFilter.publicOnly());
     }
 
     @Override
-    public List<AutocompleteSuggestion> getAuthenticatedHashtagSuggestions(Long memberId, String query, int limit) {
-        return getHashtagSuggestions(createMemberOrPublicFilter(memberId), query, limit);
+    public Optional<MemoryDocument> findVisibleDocument(MemoryVisibility visibility, Long memoryId) {
+        return findDocument(memoryId, MemoryVisibilityFilter.memberOrPublic(visibility));
     }
 
-    /**
-     * 제목 자동완성 검색 실행 (Prefix Query 사용)
-     */
-    private List<AutocompleteSuggestion> getTitleSuggestions(Query filter, String query, int limit) {
+    private Optional<MemoryDocument> findDocument(Long memoryId, Query visibilityFilter) {
         Query boolQuery = BoolQuery.of(b -> b
-                .must(filter)
-                .must(MultiMatchQuery.of(m -> m
-                        .query(query)
-                        .fields("title.ngram^2", "title^1.5")
-                        .type(TextQueryType.BestFields)
+                .filter(TermQuery.of(t -> t
+                        .field("memoryId")
+                        .value(memoryId)
                 )._toQuery())
+                .filter(visibilityFilter)
         )._toQuery();
 
         NativeQuery searchQuery = NativeQuery.builder()
                 .withQuery(boolQuery)
-                .withMaxResults(limit * 2) // 중복 제거를 위해 더 많이 가져옴
-                .withSourceFilter(new FetchSourceFilter(
-                        true, new String[]{"title"}, null))
+                .withMaxResults(1)
+                .withSourceFilter(new FetchSourceFilter(true, null, new String[]{TITLE_SUGGEST_FIELD, HASHTAG_SUGGEST_FIELD}))
                 .build();
 
         SearchHits<MemoryDocument> searchHits = elasticsearchOperations.search(
                 searchQuery, MemoryDocument.class, IndexCoordinates.of(INDEX_NAME));
 
         return searchHits.getSearchHits().stream()
-                .map(hit -> AutocompleteSuggestion.builder()
-                        .text(hit.getContent().getTitle())
-                        .type(AutocompleteSuggestion.SuggestionType.TITLE)
-                        .score(hit.getScore())
+                .findFirst()
+                .map(SearchHit::getContent);
+    }
+
+    // ===== 자동완성 메서드 구현 =====
+
+    @Override
+    public List<AutocompleteSuggestion> getPublicTitleSuggestions(String query, int limit) {
+        return getSuggestions(TITLE_SUGGEST_FIELD, AutocompleteSuggestion.SuggestionType.TITLE,
+                publicSuggestContexts(), query, limit);
+    }
+
+    @Override
+    public List<AutocompleteSuggestion> getPublicHashtagSuggestions(String query, int limit) {
+        return getSuggestions(HASHTAG_SUGGEST_FIELD, AutocompleteSuggestion.SuggestionType.HASHTAG,
+                publicSuggestContexts(), query, limit);
+    }
+
+    @Override
+    public List<AutocompleteSuggestion> getAuthenticatedTitleSuggestions(MemoryVisibility visibility, String query, int limit) {
+        return getSuggestions(TITLE_SUGGEST_FIELD, AutocompleteSuggestion.SuggestionType.TITLE,
+                memberOrPublicSuggestContexts(visibility), query, limit);
+    }
+
+    @Override
+    public List<AutocompleteSuggestion> getAuthenticatedHashtagSuggestions(MemoryVisibility visibility, String query, int limit) {
+        return getSuggestions(HASHTAG_SUGGEST_FIELD, AutocompleteSuggestion.SuggestionType.HASHTAG,
+                memberOrPublicSuggestContexts(visibility), query, limit);
+    }
+
+    private List<CompletionContext> publicSuggestContexts() {
+        return List.of(CompletionContext.of(c -> c
+                .context(ctx -> ctx.category(MemoryDocument.publicSuggestContext()))));
+    }
+
+    /**
+     * 검색의 본인 + 관계된 사용자(PRIVATE 제외) + PUBLIC 조건과 같은 범위 (category context 는 OR 로 매칭)
+     */
+    private List<CompletionContext> memberOrPublicSuggestContexts(MemoryVisibility visibility) {
+        List<CompletionContext> contexts = new ArrayList<>();
+        contexts.add(CompletionContext.of(c -> c.context(ctx -> ctx.category(MemoryDocument.publicSuggestContext()))));
+        contexts.add(CompletionContext.of(c -> c.context(ctx -> ctx.category(MemoryDocument.memberSuggestContext(visibility.memberId())))));
+        for (Long relatedMemberId : visibility.relatedMemberIds()) {
+            contexts.add(CompletionContext.of(c -> c.context(ctx -> ctx.category(MemoryDocument.sharedSuggestContext(relatedMemberId)))));
+        }
+        return contexts;
+    }
+
+    /**
+     * completion suggester(FST) 로 접두어 자동완성 실행
+     * 문서 본문은 필요 없으므로 _source 를 가져오지 않고, 같은 문구는 skip_duplicates 로 한 번만 반환
+     */
+    private List<AutocompleteSuggestion> getSuggestions(String field, AutocompleteSuggestion.SuggestionType type,
+                                                        List<CompletionContext> contexts, String query, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        SearchResponse<Void> response;
+        try {
+            response = elasticsearchClient.search(s -> s
+                    .index(INDEX_NAME)
+                    .size(0)
+                    .source(src -> src.fetch(false))
+                    .suggest(suggest -> suggest
+                            .suggesters(field, fs -> fs
+                                    .prefix(query)
+                                    .completion(c -> c
+                                            .field(field)
+                                            .size(limit)
+                                            .skipDuplicates(true)
+                                            .contexts(MemoryDocument.SUGGEST_VISIBILITY_CONTEXT, contexts)
+                                    )
+                            )
+                    ), Void.class);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to execute suggest request to Elasticsearch", e);
+        }
+
+        return response.suggest().getOrDefault(field, List.of()).stream()
+                .filter(Suggestion::isCompletion)
+                .flatMap(suggestion -> suggestion.completion().options().stream())
+                .map(option -> AutocompleteSuggestion.builder()
+                        .text(option.text())
+                        .type(type)
                         .matchCount(1L)
+                        .score(option.score() != null ? option.score().floatValue() : 1.0f)
                         .build())
-                .distinct() // 중복 제거
-                .limit(limit)
                 .toList();
     }
 
-    /**
-     * 해시태그 자동완성 검색 실행 (Wildcard + Aggregation 사용)
-     */
-    private List<AutocompleteSuggestion> getHashtagSuggestions(Query filter, String query, int limit) {
-        Query boolQuery = BoolQuery.of(b -> b
-                .must(filter)
-                .must(Query.of(q -> q
-                        .wildcard(w -> w
-                                .field("hashTags")
-                                .value(query.toLowerCase() + "*")
-                        )
-                ))
-        )._toQuery();
+    // ===== 인덱싱 메서드 구현 =====
 
-        NativeQuery searchQuery = NativeQuery.builder()
-                .withQuery(boolQuery)
-                .withMaxResults(limit)
-                .withSourceFilter(new FetchSourceFilter(
-                        true, new String[]{"hashTags"}, null))
-                .build();
+    @Override
+    public MemoryBulkIndexResult bulkApply(List<MemoryIndexOperation> operations) {
+        if (operations.isEmpty()) {
+            return MemoryBulkIndexResult.empty();
+        }
+
+        // 재색인 중이거나 롤백 대기 중이면 쓰기 별칭에 연결된 모든 인덱스에 이중 쓰기
+        MemoryIndexState state = memoryIndexManager.getState();
+        return executeBulk(operations, state.writeIndices(), state::isRequired);
+    }
 
-        SearchHits<MemoryDocument> searchHits = elasticsearchOperations.search(
-                searchQuery, MemoryDocument.class, IndexCoordinates.of(INDEX_NAME));
+    @Override
+    public MemoryBulkIndexResult bulkApply(String indexName, List<MemoryIndexOperation> operations) {
+        if (operations.isEmpty()) {
+            return MemoryBulkIndexResult.empty();
+        }
 
-        // 검색 결과에서 해시태그들을 추출하고 중복 제거
-        return searchHits.getSearchHits().stream()
-                .flatMap(hit -> hit.getContent().getHashTags().stream())
-                .filter(hashtag -> hashtag.toLowerCase().startsWith(query.toLowerCase()))
-                .distinct()
-                .map(hashtag -> AutocompleteSuggestion.builder()
-                        .text(hashtag)
-                        .type(AutocompleteSuggestion.SuggestionType.HASHTAG)
-                        .matchCount(1L)
-                        .score(1.0f)
-                        .build())
-                .limit(limit)
+        return executeBulk(operations, List.of(indexName), target -> true);
+    }
+
+    private MemoryBulkIndexResult executeBulk(List<MemoryIndexOperation> operations, List<String> targetIndices,
+                                              Predicate<String> isRequired) {
+        List<BulkOperation> bulkOperations = targetIndices.stream()
+                .flatMap(targetIndex -> operations.stream()
+                        .map(operation -> toBulkOperation(operation, targetIndex)))
                 .toList();
+
+        BulkResponse response;
+        try {
+            response = elasticsearchClient.bulk(b -> b.operations(bulkOperations));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to execute bulk request to Elasticsearch", e);
+        }
+
+        Map<Long, MemoryIndexOperation.Type> operationTypes = operations.stream()
+                .collect(Collectors.toMap(MemoryIndexOperation::memoryId, MemoryIndexOperation::type,
+                        (current, candidate) -> candidate));
+        Map<Long, String> failures = new HashMap<>();
+        Set<Long> versionConflicts = new HashSet<>();
+        Set<String> staleIndices = new HashSet<>();
+        for (BulkResponseItem item : response.items()) {
+            if (item.error() == null) {
+                continue;
+            }
+
+            Long memoryId = Long.valueOf(item.id());
+            if (VERSION_CONFLICT.equals(item.error().type())) {
+                // 재색인 문서가 더 높은 버전의 이벤트에 밀린 경우만 성공으로 간주하고,
+                // 이벤트가 밀린 경우는 재색인 버전보다 먼저 발급되었지만 늦게 커밋된 변경일 수 있어 호출한 쪽에서 다시 반영한다
+                if (operationTypes.get(memoryId) != MemoryIndexOperation.Type.REINDEX && isRequired.test(item.index())) {
+                    versionConflicts.add(memoryId);
+                }
+                continue;
+            }
+
+            String reason = item.error().type() + ": " + item.error().reason();
+            if (isRequired.test(item.index())) {
+                failures.put(memoryId, reason);
+            } else {
+                log.warn("Failed to apply memory document to index: {}, id: {}, reason: {}", item.index(), item.id(), reason);
+                staleIndices.add(item.index());
+            }
+        }
+        versionConflicts.removeAll(failures.keySet());
+        // 재시도하지 않는 인덱스(롤백 인덱스)는 변경이 누락되었으므로 롤백하지 못하도록 표시
+        staleIndices.forEach(memoryIndexManager::markRollbackStale);
+
+        return new MemoryBulkIndexResult(operations.size() - failures.size() - versionConflicts.size(),
+                failures, versionConflicts);
+    }
+
+    /**
+     * 문서 ID 는 memoryId 로 고정하고 external version 을 지정하여 재처리되어도 결과가 같도록 한다
+     */
+    private BulkOperation toBulkOperation(MemoryIndexOperation operation, String targetIndex) {
+        String documentId = String.valueOf(operation.memoryId());
+        return switch (operation.type()) {
+            case INDEX -> BulkOperation.of(op -> op
+                    .index(idx -> idx
+                            .index(targetIndex)
+                            .id(documentId)
+                            .version(operation.version())
+                            .versionType(VersionType.External)
+                            .document(elasticsearchOperations.getElasticsearchConverter().mapObject(operation.document()))
+                    ));
+            case REINDEX -> BulkOperation.of(op -> op
+                    .index(idx -> idx
+                            .index(targetIndex)
+                            .id(documentId)
+                            .version(operation.version())
+                            .versionType(VersionType.ExternalGte)
+                            .document(elasticsearchOperations.getElasticsearchConverter().mapObject(operation.document()))
+                    ));
+            case DELETE -> BulkOperation.of(op -> op
+                    .delete(del -> del
+                            .index(targetIndex)
+                            .id(documentId)
+                            .version(operation.version())
+                            .versionType(VersionType.External)
+                    ));
+        };
     }
-}
\ No newline at end of file
+}
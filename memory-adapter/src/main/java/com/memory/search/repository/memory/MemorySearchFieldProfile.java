@@ -0,0 +1,43 @@
+package com.memory.search.repository.memory;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.MultiMatchQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+
+import java.util.List;
+
+/**
+ * 검색 타입별 multi_match 대상 필드와 가중치
+ * 점수에 영향을 주는 본문 매칭에만 사용하고, 공개 범위 같은 조건은 filter 로 분리한다.
+ */
+public enum MemorySearchFieldProfile {
+
+    ALL(List.of(
+            "title^2", "title.ngram^1.5", "content^1.5", "content.ngram^1", "hashTags^3",
+            "locationName^1", "locationName.ngram^0.8", "memorableDateText",
+            "memberName^1", "memberName.ngram^0.8", "memberNickname^1", "memberNickname.ngram^0.8",
+            "relationshipMemberName^1", "relationshipMemberName.ngram^0.8",
+            "relationshipMemberNickname^1", "relationshipMemberNickname.ngram^0.8"
+    )),
+    TITLE(List.of("title^2", "title.ngram^1.5")),
+    CONTENT(List.of("content^1.5", "content.ngram^1")),
+    LOCATION(List.of("locationName^1", "locationName.ngram^0.8"));
+
+    private final List<String> fields;
+
+    MemorySearchFieldProfile(List<String> fields) {
+        this.fields = fields;
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    public Query toQuery(String query) {
+        return MultiMatchQuery.of(m -> m
+                .query(query)
+                .fields(fields)
+                .type(TextQueryType.BestFields)
+        )._toQuery();
+    }
+}
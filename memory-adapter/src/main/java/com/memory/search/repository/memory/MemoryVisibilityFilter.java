@@ -0,0 +1,71 @@
+package com.memory.search.repository.memory;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.TermQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.TermsQuery;
+import com.memory.document.memory.MemoryVisibility;
+
+import java.util.List;
+
+/**
+ * 검색/집계/조회에 공통으로 붙는 공개 범위 filter
+ * 점수에 영향을 주지 않도록 항상 filter context 에 둔다.
+ */
+public final class MemoryVisibilityFilter {
+
+    private MemoryVisibilityFilter() {
+    }
+
+    /**
+     * 조회 범위가 없으면(게스트) PUBLIC 메모리만
+     */
+    public static Query of(MemoryVisibility visibility) {
+        return visibility == null ? publicOnly() : memberOrPublic(visibility);
+    }
+
+    /**
+     * PUBLIC 메모리만 필터링하는 쿼리 생성
+     */
+    public static Query publicOnly() {
+        return TermQuery.of(t -> t
+                .field("memoryType")
+                .value("PUBLIC")
+        )._toQuery();
+    }
+
+    /**
+     * 사용자의 메모리, 관계된 사용자의 PRIVATE 가 아닌 메모리 또는 PUBLIC 메모리를 필터링하는 쿼리 생성
+     * 관계된 멤버 목록은 캐시된 조회 범위에서 받으므로 같은 사용자의 요청은 같은 filter 가 되어 query cache 를 탄다.
+     */
+    public static Query memberOrPublic(MemoryVisibility visibility) {
+        BoolQuery.Builder builder = new BoolQuery.Builder()
+                .should(TermQuery.of(t -> t
+                        .field("memberId")
+                        .value(visibility.memberId())
+                )._toQuery())
+                .should(TermQuery.of(t -> t
+                        .field("memoryType")
+                        .value("PUBLIC")
+                )._toQuery())
+                .minimumShouldMatch("1");
+
+        if (!visibility.relatedMemberIds().isEmpty()) {
+            List<FieldValue> relatedMemberIds = visibility.relatedMemberIds().stream()
+                    .map(id -> FieldValue.of(id.longValue()))
+                    .toList();
+            builder.should(BoolQuery.of(b -> b
+                    .filter(TermsQuery.of(t -> t
+                            .field("memberId")
+                            .terms(v -> v.value(relatedMemberIds))
+                    )._toQuery())
+                    .mustNot(TermQuery.of(t -> t
+                            .field("memoryType")
+                            .value("PRIVATE")
+                    )._toQuery())
+            )._toQuery());
+        }
+        return builder.build()._toQuery();
+    }
+}
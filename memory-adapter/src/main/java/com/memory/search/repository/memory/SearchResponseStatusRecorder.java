@@ -0,0 +1,80 @@
+package com.memory.search.repository.memory;
+
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
+import co.elastic.clients.elasticsearch.core.search.ResponseBody;
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.http.TransportHttpClient;
+import co.elastic.clients.transport.instrumentation.Instrumentation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 응답의 timed_out / _shards.failed 를 요청한 스레드에 기록하는 Elasticsearch 클라이언트 instrumentation
+ * <p>
+ * Spring Data 의 SearchHits 는 두 값을 담지 않으므로, 클라이언트가 응답을 읽은 직후(같은 스레드) 검색마다 일부 샤드의 결과만
+ * 포함되었는지(partial)를 남기고 검색을 실행한 쪽에서 {@link #takePartial()} 로 꺼낸다.
+ * _msearch 는 검색 순서대로 하나씩 기록한다.
+ */
+public class SearchResponseStatusRecorder implements Instrumentation {
+
+    private static final ThreadLocal<List<Boolean>> PARTIAL_RESULTS = new ThreadLocal<>();
+
+    private final Context context = new RecordingContext();
+
+    @Override
+    public <TRequest> Context newContext(TRequest request, Endpoint<TRequest, ?, ?> endpoint) {
+        return context;
+    }
+
+    /**
+     * 이 스레드에서 마지막으로 기록한 검색 결과의 partial 여부를 꺼낸다 (_msearch 는 검색 순서대로)
+     */
+    public List<Boolean> takePartial() {
+        List<Boolean> partial = PARTIAL_RESULTS.get();
+        PARTIAL_RESULTS.remove();
+        return partial != null ? partial : List.of();
+    }
+
+    private static boolean isPartial(ResponseBody<?> response) {
+        return response.timedOut() || (response.shards() != null && response.shards().failed().intValue() > 0);
+    }
+
+    private static class RecordingContext implements Context {
+
+        @Override
+        public ThreadScope makeCurrent() {
+            return () -> {
+            };
+        }
+
+        @Override
+        public void beforeSendingHttpRequest(TransportHttpClient.Request httpRequest, TransportOptions options) {
+        }
+
+        @Override
+        public void afterReceivingHttpResponse(TransportHttpClient.Response httpResponse) {
+        }
+
+        @Override
+        public <TResponse> void afterDecodingApiResponse(TResponse apiResponse) {
+            if (apiResponse instanceof ResponseBody<?> response) {
+                PARTIAL_RESULTS.set(List.of(isPartial(response)));
+            } else if (apiResponse instanceof MsearchResponse<?> response) {
+                // 실패한 검색은 Spring Data 가 예외로 던지므로 partial 여부는 성공한 검색만 의미가 있다
+                List<Boolean> partial = new ArrayList<>(response.responses().size());
+                response.responses().forEach(item -> partial.add(item.isResult() && isPartial(item.result())));
+                PARTIAL_RESULTS.set(partial);
+            }
+        }
+
+        @Override
+        public void recordException(Throwable thr) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.memory.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Elasticsearch 클라이언트 커넥션 풀 상태
+ * <ul>
+ *     <li>elasticsearch.client.connections{state=leased|available|pending} - 사용 중/유휴/연결 대기 요청 수</li>
+ *     <li>elasticsearch.client.connections.max - 풀 전체 최대 연결 수</li>
+ * </ul>
+ * pending 이 계속 0 보다 크면 풀이 부족한 것이므로 search.client.max-connections-* 를 늘린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ElasticsearchClientMetrics implements MeterBinder {
+
+    private final PoolingNHttpClientConnectionManager elasticsearchConnectionManager;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registerConnections(registry, "leased", PoolStats::getLeased);
+        registerConnections(registry, "available", PoolStats::getAvailable);
+        registerConnections(registry, "pending", PoolStats::getPending);
+
+        Gauge.builder("elasticsearch.client.connections.max", elasticsearchConnectionManager,
+                        connectionManager -> connectionManager.getTotalStats().getMax())
+                .description("Maximum number of connections in the Elasticsearch client pool")
+                .register(registry);
+    }
+
+    private void registerConnections(MeterRegistry registry, String state, ToIntFunction<PoolStats> value) {
+        Gauge.builder("elasticsearch.client.connections", elasticsearchConnectionManager,
+                        connectionManager -> value.applyAsInt(connectionManager.getTotalStats()))
+                .description("Connections of the Elasticsearch client pool by state")
+                .tag("state", state)
+                .register(registry);
+    }
+}
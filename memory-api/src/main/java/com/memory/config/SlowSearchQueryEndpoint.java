@@ -0,0 +1,38 @@
+package com.memory.config;
+
+import com.memory.dto.search.SlowSearchQuery;
+import com.memory.service.search.MemorySearchMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 느린 검색 조회 actuator 엔드포인트 (/actuator/slowsearches)
+ * 임계값을 넘긴 검색 중 가장 느린 검색을 느린 순서로 반환한다 (최근 순서가 아님, limit 은 1 ~ search.slow-query.capacity).
+ * 검색어와 query DSL 이 그대로 담기므로 기본 web exposure 에는 포함하지 않는다.
+ * 운영에서는 관리자 API(/api/v1/admin/memory-documents/slow-searches) 또는 JMX 로 조회한다.
+ */
+@Component
+@Endpoint(id = "slowsearches")
+@RequiredArgsConstructor
+public class SlowSearchQueryEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final MemorySearchMetrics memorySearchMetrics;
+
+    @ReadOperation
+    public List<SlowSearchQuery> slowSearches(@Nullable Integer limit) {
+        return memorySearchMetrics.getSlowQueries(limit != null ? limit : DEFAULT_LIMIT);
+    }
+
+    @DeleteOperation
+    public void clear() {
+        memorySearchMetrics.clearSlowQueries();
+    }
+}
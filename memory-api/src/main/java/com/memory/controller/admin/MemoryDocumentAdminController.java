@@ -2,13 +2,19 @@ package com.memory.controller.admin;
 
 import com.memory.annotation.Admin;
 import com.memory.annotation.swagger.ApiOperations;
+import com.memory.dto.search.IndexRebuildStatusResponse;
 import com.memory.dto.search.MigrationResponse;
+import com.memory.dto.search.SlowSearchQuery;
 import com.memory.response.ServerResponse;
 import com.memory.service.admin.MemoryDocumentAdminService;
+import com.memory.service.admin.MemoryIndexRebuildService;
+import com.memory.service.search.MemorySearchMetrics;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 서비스와는 상관없이 메모리 문서 관리 API를 제공하는 컨트롤러입니다.
  */
@@ -19,16 +25,20 @@ import org.springframework.web.bind.annotation.*;
 public class MemoryDocumentAdminController {
 
     private final MemoryDocumentAdminService memoryDocumentAdminService;
+    private final MemoryIndexRebuildService memoryIndexRebuildService;
+    private final MemorySearchMetrics memorySearchMetrics;
 
     @PostMapping("/migrate-all")
     @Admin
     @ApiOperations.BasicApi(
         summary = "전체 메모리 마이그레이션",
-        description = "데이터베이스의 모든 메모리를 Elasticsearch 인덱스로 마이그레이션합니다.",
+        description = "데이터베이스의 모든 메모리를 Elasticsearch 인덱스로 마이그레이션합니다. batchSize(벌크 요청당 문서 수)와 concurrency(동시 벌크 요청 수)를 지정하지 않으면 설정값을 사용합니다.",
         response = MigrationResponse.class
     )
-    public ServerResponse<MigrationResponse> migrateAllMemories() {
-        MigrationResponse response = memoryDocumentAdminService.migrateAllMemories();
+    public ServerResponse<MigrationResponse> migrateAllMemories(
+            @RequestParam(value = "batchSize", required = false) Integer batchSize,
+            @RequestParam(value = "concurrency", required = false) Integer concurrency) {
+        MigrationResponse response = memoryDocumentAdminService.migrateAllMemories(batchSize, concurrency);
         return ServerResponse.success(response);
     }
 
@@ -44,6 +54,80 @@ public class MemoryDocumentAdminController {
         return ServerResponse.success(response);
     }
 
+    @PostMapping("/outbox/retry-failed")
+    @Admin
+    @ApiOperations.BasicApi(
+        summary = "실패한 인덱싱 이벤트 재처리",
+        description = "최대 재시도 횟수를 넘겨 실패 상태로 남은 인덱싱 아웃박스 이벤트를 다시 처리 대기 상태로 변경합니다.",
+        response = MigrationResponse.class
+    )
+    public ServerResponse<MigrationResponse> retryFailedIndexEvents() {
+        MigrationResponse response = memoryDocumentAdminService.retryFailedIndexEvents();
+        return ServerResponse.success(response);
+    }
+
+    @PostMapping("/rebuild")
+    @Admin
+    @ApiOperations.BasicApi(
+        summary = "무중단 인덱스 재구축 시작",
+        description = "새 인덱스에 전체 메모리를 재색인한 뒤 읽기/쓰기 별칭을 교체합니다. 재구축 중에도 검색은 기존 인덱스로 계속 제공됩니다.",
+        response = IndexRebuildStatusResponse.class
+    )
+    public ServerResponse<IndexRebuildStatusResponse> startRebuild(
+            @RequestParam(value = "batchSize", required = false) Integer batchSize,
+            @RequestParam(value = "concurrency", required = false) Integer concurrency) {
+        IndexRebuildStatusResponse response = memoryIndexRebuildService.startRebuild(batchSize, concurrency);
+        return ServerResponse.success(response);
+    }
+
+    @GetMapping("/rebuild/status")
+    @Admin
+    @ApiOperations.BasicApi(
+        summary = "인덱스 재구축 진행 상황",
+        description = "현재 live/shadow/롤백 인덱스와 재구축 진행률을 조회합니다.",
+        response = IndexRebuildStatusResponse.class
+    )
+    public ServerResponse<IndexRebuildStatusResponse> getRebuildStatus() {
+        IndexRebuildStatusResponse response = memoryIndexRebuildService.getStatus();
+        return ServerResponse.success(response);
+    }
+
+    @PostMapping("/rebuild/rollback")
+    @Admin
+    @ApiOperations.BasicApi(
+        summary = "인덱스 재구축 롤백",
+        description = "재구축 중이면 중단하고 shadow 인덱스를 삭제하며, 별칭 교체 후라면 이전 인덱스로 되돌립니다. 이전 인덱스에 반영하지 못한 변경이 있으면(rollbackStale) 409 를 반환합니다.",
+        response = IndexRebuildStatusResponse.class
+    )
+    public ServerResponse<IndexRebuildStatusResponse> rollbackRebuild() {
+        IndexRebuildStatusResponse response = memoryIndexRebuildService.rollback();
+        return ServerResponse.success(response);
+    }
+
+    @GetMapping("/slow-searches")
+    @Admin
+    @ApiOperations.BasicApi(
+        summary = "느린 검색 조회",
+        description = "임계값(search.slow-query.threshold-ms)을 넘긴 검색 중 가장 느린 검색(최대 search.slow-query.capacity 건)을 소요 시간이 긴 순서로 조회합니다. 최근 순서가 아니며 오래된 기록도 초기화 전까지 남습니다. 실행한 query DSL 과 Elasticsearch took 을 함께 반환합니다. (limit: 1 ~ capacity)",
+        response = SlowSearchQuery.class
+    )
+    public ServerResponse<List<SlowSearchQuery>> getSlowSearches(
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ServerResponse.success(memorySearchMetrics.getSlowQueries(limit));
+    }
+
+    @DeleteMapping("/slow-searches")
+    @Admin
+    @ApiOperations.BasicApi(
+        summary = "느린 검색 기록 초기화",
+        description = "보관 중인 느린 검색 기록을 모두 삭제합니다.",
+        response = String.class
+    )
+    public ServerResponse<String> clearSlowSearches() {
+        memorySearchMetrics.clearSlowQueries();
+        return ServerResponse.OK;
+    }
+
     @DeleteMapping("/delete-all")
     @Admin
     @ApiOperations.BasicApi(
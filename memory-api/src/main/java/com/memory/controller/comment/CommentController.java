@@ -6,7 +6,9 @@ import com.memory.annotation.swagger.ApiOperations;
 import com.memory.dto.comment.CommentCreateRequest;
 import com.memory.dto.comment.CommentListResponse;
 import com.memory.dto.comment.CommentResponse;
+import com.memory.dto.comment.CommentThreadListResponse;
 import com.memory.dto.comment.CommentUpdateRequest;
+import com.memory.exception.customException.ValidationException;
 import com.memory.response.ServerResponse;
 import com.memory.service.comment.CommentService;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -36,44 +38,87 @@ public class CommentController {
     }
 
     @ApiOperations.SecuredApi(
-        summary = "메모리의 최상위 댓글 목록 조회 (페이징)",
-        description = "메모리의 최상위 댓글만 페이징으로 조회합니다.",
+        summary = "메모리의 최상위 댓글 목록 조회 (커서 페이징)",
+        description = "메모리의 최상위 댓글만 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다. page 는 이전 클라이언트 호환용 offset 페이징이며 (깊은 페이지일수록 느림), cursor 와 함께 전달할 수 없습니다.",
         response = CommentListResponse.class
     )
     @Auth
     @GetMapping("api/v1/comments/memory/{memoryId}/top-level")
     public ServerResponse<CommentListResponse> getTopLevelCommentsByMemory(
             @PathVariable Long memoryId,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer page,
             @RequestParam(defaultValue = "10") int size,
             @Parameter(hidden = true) @MemberId Long memberId) {
-        return ServerResponse.success(commentService.getTopLevelCommentsByMemory(memoryId, page, size, memberId));
+        if (isOffsetPaging(page, cursor)) {
+            return ServerResponse.success(commentService.getTopLevelCommentsByMemory(memoryId, page.intValue(), size, memberId));
+        }
+        return ServerResponse.success(commentService.getTopLevelCommentsByMemory(memoryId, cursor, size, memberId));
     }
 
     @ApiOperations.SecuredApi(
-            summary = "로그인 안되어 있을 경우 메모리의 최상위 댓글 목록 조회 (페이징)",
-            description = "메모리의 최상위 댓글만 페이징으로 조회합니다.",
+            summary = "로그인 안되어 있을 경우 메모리의 최상위 댓글 목록 조회 (커서 페이징)",
+            description = "메모리의 최상위 댓글만 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다. page 는 이전 클라이언트 호환용 offset 페이징이며 (깊은 페이지일수록 느림), cursor 와 함께 전달할 수 없습니다.",
             response = CommentListResponse.class
     )
     @GetMapping("api/v1/comments/memory/public/{memoryId}/top-level")
     public ServerResponse<CommentListResponse> getTopLevelCommentsByPublicMemory(
             @PathVariable Long memoryId,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer page,
             @RequestParam(defaultValue = "10") int size) {
-        return ServerResponse.success(commentService.getTopLevelCommentsByPublicMemory(memoryId, page, size));
+        if (isOffsetPaging(page, cursor)) {
+            return ServerResponse.success(commentService.getTopLevelCommentsByPublicMemory(memoryId, page.intValue(), size));
+        }
+        return ServerResponse.success(commentService.getTopLevelCommentsByPublicMemory(memoryId, cursor, size));
+    }
+
+    @ApiOperations.SecuredApi(
+        summary = "메모리의 댓글 스레드 조회 (커서 페이징)",
+        description = "최상위 댓글을 최신순으로 조회하면서 각 댓글의 첫 대댓글 replySize 개를 함께 조회합니다. 나머지 대댓글은 repliesNextCursor 로 대댓글 목록을 조회합니다.",
+        response = CommentThreadListResponse.class
+    )
+    @Auth
+    @GetMapping("api/v1/comments/memory/{memoryId}/threads")
+    public ServerResponse<CommentThreadListResponse> getCommentThreadsByMemory(
+            @PathVariable Long memoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "3") int replySize,
+            @Parameter(hidden = true) @MemberId Long memberId) {
+        return ServerResponse.success(commentService.getCommentThreadsByMemory(memoryId, cursor, size, replySize, memberId));
+    }
+
+    @ApiOperations.SecuredApi(
+            summary = "로그인 안되어 있을 경우 메모리의 댓글 스레드 조회 (커서 페이징)",
+            description = "최상위 댓글을 최신순으로 조회하면서 각 댓글의 첫 대댓글 replySize 개를 함께 조회합니다.",
+            response = CommentThreadListResponse.class
+    )
+    @GetMapping("api/v1/comments/memory/public/{memoryId}/threads")
+    public ServerResponse<CommentThreadListResponse> getCommentThreadsByPublicMemory(
+            @PathVariable Long memoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "3") int replySize) {
+        return ServerResponse.success(commentService.getCommentThreadsByPublicMemory(memoryId, cursor, size, replySize));
     }
 
     @ApiOperations.SecuredApi(
         summary = "특정 댓글의 대댓글 목록 조회",
-        description = "특정 댓글에 달린 대댓글 목록을 조회합니다.",
+        description = "특정 댓글에 달린 대댓글 목록을 조회합니다. size 나 cursor 를 전달하면 오래된 순으로 나눠 조회합니다 (대댓글 더보기).",
         response = CommentListResponse.class
     )
     @Auth
     @GetMapping("api/v1/comments/{commentId}/replies")
     public ServerResponse<CommentListResponse> getRepliesByComment(
             @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             @Parameter(hidden = true) @MemberId Long memberId) {
-        return ServerResponse.success(commentService.getRepliesByComment(commentId, memberId));
+        if (cursor == null && size == null) {
+            return ServerResponse.success(commentService.getRepliesByComment(commentId, memberId));
+        }
+        return ServerResponse.success(commentService.getRepliesByComment(commentId, cursor, size != null ? size : 10, memberId));
     }
 
     @ApiOperations.SecuredApi(
@@ -118,29 +163,47 @@ public class CommentController {
 
     @ApiOperations.SecuredApi(
         summary = "멤버의 댓글 목록 조회",
-        description = "특정 멤버가 작성한 댓글 목록을 조회합니다.",
+        description = "특정 멤버가 작성한 댓글 목록을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다. page 는 이전 클라이언트 호환용 offset 페이징이며 (깊은 페이지일수록 느림), cursor 와 함께 전달할 수 없습니다.",
         response = CommentListResponse.class
     )
     @Auth
     @GetMapping("api/v1/comments/member/{memberId}")
     public ServerResponse<CommentListResponse> getCommentsByMember(
             @PathVariable Long memberId,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer page,
             @RequestParam(defaultValue = "10") int size,
             @Parameter(hidden = true) @MemberId Long currentMemberId) {
-        return ServerResponse.success(commentService.getCommentsByMember(memberId, page, size, currentMemberId));
+        if (isOffsetPaging(page, cursor)) {
+            return ServerResponse.success(commentService.getCommentsByMember(memberId, page.intValue(), size, currentMemberId));
+        }
+        return ServerResponse.success(commentService.getCommentsByMember(memberId, cursor, size, currentMemberId));
     }
 
     @ApiOperations.SecuredApi(
         summary = "최근 댓글 조회",
-        description = "전체 메모리의 최근 댓글을 조회합니다.",
+        description = "전체 메모리의 최근 댓글을 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.",
         response = CommentListResponse.class
     )
     @Auth
     @GetMapping("api/v1/comments/recent")
     public ServerResponse<CommentListResponse> getRecentComments(
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int limit,
             @Parameter(hidden = true) @MemberId Long memberId) {
-        return ServerResponse.success(commentService.getRecentComments(limit, memberId));
+        return ServerResponse.success(commentService.getRecentComments(cursor, limit, memberId));
+    }
+
+    /**
+     * page 파라미터를 보내는 이전 클라이언트는 offset 페이징으로 응답 (currentPage 포함, nextCursor 없음)
+     */
+    private boolean isOffsetPaging(Integer page, String cursor) {
+        if (page == null) {
+            return false;
+        }
+        if (cursor != null) {
+            throw new ValidationException("page 와 cursor 는 함께 사용할 수 없습니다.");
+        }
+        return true;
     }
 }
@@ -35,16 +35,13 @@ public class HashTagController {
 
     @ApiOperations.BasicApi(
             summary = "인기 해시태그 조회",
-            description = "사용 횟수가 많은 인기 해시태그를 조회합니다.",
+            description = "공개(PUBLIC) 메모리에 많이 달린 인기 해시태그를 조회합니다. useCount 는 해시태그가 달린 공개 메모리 수입니다. (limit: 1 ~ 50)",
             response = HashTagResponse.class
     )
     @GetMapping("/api/hashtag/popular")
     public ServerResponse<List<HashTagResponse>> getPopularHashTags(
             @RequestParam(defaultValue = "10") int limit
     ) {
-        List<HashTagResponse> response = hashTagService.getPopularHashTags(limit).stream()
-                .map(HashTagResponse::from)
-                .toList();
-        return ServerResponse.success(response);
+        return ServerResponse.success(hashTagService.getPopularHashTags(limit));
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.memory.annotation.MemberId;
 import com.memory.annotation.swagger.ApiOperations;
 import com.memory.dto.search.*;
 import com.memory.response.ServerResponse;
+import com.memory.service.search.HashtagTrendService;
 import com.memory.service.search.MemorySearchService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class MemorySearchController {
 
     private final MemorySearchService memorySearchService;
+    private final HashtagTrendService hashtagTrendService;
 
     @PostMapping("/search")
     @Auth
@@ -46,6 +48,114 @@ public class MemorySearchController {
         return ServerResponse.success(response);
     }
 
+    @PostMapping("/search/batch")
+    @Auth
+    @ApiOperations.SecuredApi(
+        summary = "내 메모리 묶음 검색",
+        description = "홈 화면처럼 여러 섹션의 검색을 한 번에 요청합니다. 최대 10개의 검색을 Elasticsearch _msearch 한 번으로 실행하고 요청 순서대로 결과를 반환합니다. 커서 검색은 지원하지 않습니다.",
+        response = MultiSearchResultResponse.class
+    )
+    public ServerResponse<MultiSearchResultResponse> searchMyMemoriesBatch(
+            @Valid @RequestBody MultiSearchRequest request,
+            @MemberId Long memberId) {
+
+        MultiSearchResultResponse response = memorySearchService.searchAuthenticatedBatch(request, memberId);
+        return ServerResponse.success(response);
+    }
+
+    @PostMapping("/public/search/batch")
+    @ApiOperations.BasicApi(
+        summary = "공개 메모리 묶음 검색",
+        description = "로그인 없이 여러 PUBLIC 메모리 검색을 한 번에 요청합니다. 최대 10개의 검색을 Elasticsearch _msearch 한 번으로 실행하고 요청 순서대로 결과를 반환합니다. 커서 검색은 지원하지 않습니다.",
+        response = MultiSearchResultResponse.class
+    )
+    public ServerResponse<MultiSearchResultResponse> searchPublicMemoriesBatch(@Valid @RequestBody MultiSearchRequest request) {
+
+        MultiSearchResultResponse response = memorySearchService.searchPublicBatch(request);
+        return ServerResponse.success(response);
+    }
+
+    @PostMapping("/search/nearby")
+    @Auth
+    @ApiOperations.SecuredApi(
+        summary = "내 주변 메모리 검색",
+        description = "중심 좌표에서 distanceKm 이내의 메모리를 가까운 순으로 검색합니다. 본인 + 관계된 사용자 + PUBLIC 메모리가 대상이며 각 결과에 거리(distanceMeters)가 포함됩니다.",
+        response = SearchResultResponse.class
+    )
+    public ServerResponse<SearchResultResponse> searchMyMemoriesNearby(
+            @Valid @RequestBody GeoDistanceSearchRequest request,
+            @MemberId Long memberId) {
+
+        SearchResultResponse response = memorySearchService.searchNearby(request, memberId);
+        return ServerResponse.success(response);
+    }
+
+    @PostMapping("/public/search/nearby")
+    @ApiOperations.BasicApi(
+        summary = "공개 메모리 주변 검색",
+        description = "로그인 없이 중심 좌표에서 distanceKm 이내의 PUBLIC 메모리를 가까운 순으로 검색합니다.",
+        response = SearchResultResponse.class
+    )
+    public ServerResponse<SearchResultResponse> searchPublicMemoriesNearby(@Valid @RequestBody GeoDistanceSearchRequest request) {
+
+        SearchResultResponse response = memorySearchService.searchNearby(request, null);
+        return ServerResponse.success(response);
+    }
+
+    @PostMapping("/search/area")
+    @Auth
+    @ApiOperations.SecuredApi(
+        summary = "지도 영역 메모리 검색",
+        description = "지도 화면 영역 안의 메모리를 geohash 격자별 마커 클러스터(개수 + 중심 좌표)와 메모리 목록으로 한 번에 조회합니다. 본인 + 관계된 사용자 + PUBLIC 메모리가 대상입니다.",
+        response = GeoAreaSearchResponse.class
+    )
+    public ServerResponse<GeoAreaSearchResponse> searchMyMemoriesInArea(
+            @Valid @RequestBody GeoAreaSearchRequest request,
+            @MemberId Long memberId) {
+
+        GeoAreaSearchResponse response = memorySearchService.searchArea(request, memberId);
+        return ServerResponse.success(response);
+    }
+
+    @PostMapping("/public/search/area")
+    @ApiOperations.BasicApi(
+        summary = "공개 메모리 지도 영역 검색",
+        description = "로그인 없이 지도 화면 영역 안의 PUBLIC 메모리를 마커 클러스터와 메모리 목록으로 한 번에 조회합니다.",
+        response = GeoAreaSearchResponse.class
+    )
+    public ServerResponse<GeoAreaSearchResponse> searchPublicMemoriesInArea(@Valid @RequestBody GeoAreaSearchRequest request) {
+
+        GeoAreaSearchResponse response = memorySearchService.searchArea(request, null);
+        return ServerResponse.success(response);
+    }
+
+    @GetMapping("/search/{memoryId}")
+    @Auth
+    @ApiOperations.SecuredApi(
+        summary = "검색 결과 상세",
+        description = "LIST 형태로 검색한 결과의 전체 필드를 조회합니다. 본인 + 관계된 사용자 + PUBLIC 메모리만 조회할 수 있습니다.",
+        response = MemorySearchResponse.class
+    )
+    public ServerResponse<MemorySearchResponse> getSearchDetail(
+            @PathVariable Long memoryId,
+            @MemberId Long memberId) {
+
+        MemorySearchResponse response = memorySearchService.getAuthenticatedDetail(memoryId, memberId);
+        return ServerResponse.success(response);
+    }
+
+    @GetMapping("/public/search/{memoryId}")
+    @ApiOperations.BasicApi(
+        summary = "공개 검색 결과 상세",
+        description = "LIST 형태로 검색한 PUBLIC 메모리의 전체 필드를 조회합니다.",
+        response = MemorySearchResponse.class
+    )
+    public ServerResponse<MemorySearchResponse> getPublicSearchDetail(@PathVariable Long memoryId) {
+
+        MemorySearchResponse response = memorySearchService.getPublicDetail(memoryId);
+        return ServerResponse.success(response);
+    }
+
     // ===== 자동완성 API =====
 
     @GetMapping("/autocomplete")
@@ -77,4 +187,38 @@ public class MemorySearchController {
         AutocompleteResponse response = memorySearchService.getPublicAutocomplete(query, limit);
         return ServerResponse.success(response);
     }
-}
\ No newline at end of file
+
+    // ===== 해시태그 트렌드 API =====
+
+    @GetMapping("/hashtags/trend")
+    @Auth
+    @ApiOperations.SecuredApi(
+        summary = "해시태그 트렌드",
+        description = "기간(DAY: 24시간, WEEK: 7일, MONTH: 30일) 동안 작성된 메모리의 해시태그를 집계합니다. trending 이면 평소 대비 유독 많이 쓰인 급상승 해시태그를, 아니면 사용 수가 많은 순으로 반환합니다. 본인 + 관계된 사용자 + PUBLIC 메모리가 대상입니다.",
+        response = HashtagTrendResponse.class
+    )
+    public ServerResponse<HashtagTrendResponse> getHashtagTrend(
+            @RequestParam(defaultValue = "WEEK") HashtagTrendWindow window,
+            @RequestParam(defaultValue = "false") boolean trending,
+            @RequestParam(defaultValue = "10") int limit,
+            @MemberId Long memberId) {
+
+        HashtagTrendResponse response = hashtagTrendService.getAuthenticatedTrend(memberId, window, trending, limit);
+        return ServerResponse.success(response);
+    }
+
+    @GetMapping("/public/hashtags/trend")
+    @ApiOperations.BasicApi(
+        summary = "공개 해시태그 트렌드",
+        description = "로그인 없이 기간 동안 작성된 PUBLIC 메모리의 인기/급상승 해시태그를 조회합니다.",
+        response = HashtagTrendResponse.class
+    )
+    public ServerResponse<HashtagTrendResponse> getPublicHashtagTrend(
+            @RequestParam(defaultValue = "WEEK") HashtagTrendWindow window,
+            @RequestParam(defaultValue = "false") boolean trending,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        HashtagTrendResponse response = hashtagTrendService.getPublicTrend(window, trending, limit);
+        return ServerResponse.success(response);
+    }
+}
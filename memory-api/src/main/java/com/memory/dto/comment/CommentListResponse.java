@@ -18,6 +18,8 @@ public class CommentListResponse {
     private Integer currentPage;
     private Integer pageSize;
     private Boolean hasNext;
+    // 다음 페이지 조회 시 전달할 커서 (커서 페이징 목록에서만, 마지막 페이지면 null)
+    private String nextCursor;
 
     public static CommentListResponse of(List<CommentResponse> comments, Long totalCount, Long topLevelCount, 
                                        Integer currentPage, Integer pageSize, Boolean hasNext) {
@@ -30,4 +32,16 @@ public class CommentListResponse {
                 .hasNext(hasNext)
                 .build();
     }
+
+    public static CommentListResponse ofCursor(List<CommentResponse> comments, Long totalCount, Long topLevelCount,
+                                               Integer pageSize, Boolean hasNext, String nextCursor) {
+        return CommentListResponse.builder()
+                .comments(comments)
+                .totalCount(totalCount)
+                .topLevelCount(topLevelCount)
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
 }
@@ -50,7 +50,7 @@ public class CommentResponse {
                 memberResponse,
                 parentCommentId,
                 childrenResponses,
-                (long) (childrenResponses != null ? childrenResponses.size() : 0),
+                childrenResponses != null ? (long) childrenResponses.size() : comment.getReplyCount(),
                 comment.getCreateDate(),
                 comment.getUpdateDate(),
                 comment.isDeleted(),
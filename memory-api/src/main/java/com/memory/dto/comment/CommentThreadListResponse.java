@@ -0,0 +1,34 @@
+package com.memory.dto.comment;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentThreadListResponse {
+
+    private List<CommentThreadResponse> threads;
+    private Long totalCount;
+    private Long topLevelCount;
+    private Integer pageSize;
+    private Boolean hasNext;
+    // 다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)
+    private String nextCursor;
+
+    public static CommentThreadListResponse of(List<CommentThreadResponse> threads, Long totalCount, Long topLevelCount,
+                                               Integer pageSize, Boolean hasNext, String nextCursor) {
+        return CommentThreadListResponse.builder()
+                .threads(threads)
+                .totalCount(totalCount)
+                .topLevelCount(topLevelCount)
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.memory.dto.comment;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 최상위 댓글 + 오래된 순 첫 대댓글 몇 개
+ * 나머지 대댓글은 repliesNextCursor 로 대댓글 목록 API 를 이어서 조회한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentThreadResponse {
+
+    private CommentResponse comment;
+    private List<CommentResponse> replies;
+    private Boolean hasMoreReplies;
+    // 대댓글 더보기 커서 (더 없으면 null)
+    private String repliesNextCursor;
+
+    public static CommentThreadResponse of(CommentResponse comment, List<CommentResponse> replies,
+                                           Boolean hasMoreReplies, String repliesNextCursor) {
+        return CommentThreadResponse.builder()
+                .comment(comment)
+                .replies(replies)
+                .hasMoreReplies(hasMoreReplies)
+                .repliesNextCursor(repliesNextCursor)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.memory.dto.file.response;
 
 import com.memory.domain.file.File;
 import com.memory.domain.file.FileType;
+import com.memory.domain.memory.repository.MemoryFeedRow;
 
 import java.time.LocalDateTime;
 
@@ -30,4 +31,18 @@ public record FileResponse(
                 file.getCreateDate()
         );
     }
-}
\ No newline at end of file
+
+    public static FileResponse from(MemoryFeedRow.FileRow file) {
+        return new FileResponse(
+                file.id(),
+                file.originalFileName(),
+                file.fileName(),
+                file.fileUrl(),
+                file.fileType(),
+                file.fileSize(),
+                file.memoryId(),
+                file.memberId(),
+                file.createDate()
+        );
+    }
+}
@@ -15,4 +15,12 @@ public record HashTagResponse(
                 hashTag.getUseCount()
         );
     }
+
+    public static HashTagResponse of(HashTag hashTag, long useCount) {
+        return new HashTagResponse(
+                hashTag.getId(),
+                hashTag.getName(),
+                useCount
+        );
+    }
 }
\ No newline at end of file
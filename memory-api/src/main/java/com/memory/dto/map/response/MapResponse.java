@@ -2,6 +2,7 @@ package com.memory.dto.map.response;
 
 import com.memory.domain.map.Map;
 import com.memory.domain.map.MapType;
+import com.memory.domain.memory.repository.MemoryFeedRow;
 import com.memory.dto.member.response.MemberResponse;
 
 public record MapResponse(
@@ -27,4 +28,17 @@ public record MapResponse(
                 MemberResponse.from(map.getMember())
         );
     }
-}
\ No newline at end of file
+
+    public static MapResponse from(MemoryFeedRow.MapRow map) {
+        return new MapResponse(
+                map.id(),
+                map.name(),
+                map.description(),
+                map.address(),
+                map.latitude(),
+                map.longitude(),
+                map.mapType(),
+                MemberResponse.from(map.member())
+        );
+    }
+}
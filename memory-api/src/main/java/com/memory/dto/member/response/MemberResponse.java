@@ -2,6 +2,7 @@ package com.memory.dto.member.response;
 
 import com.memory.domain.member.Member;
 import com.memory.domain.member.MemberType;
+import com.memory.domain.memory.repository.MemoryFeedRow;
 import com.memory.dto.file.response.FileResponse;
 
 public record MemberResponse(
@@ -23,4 +24,15 @@ public record MemberResponse(
                 member.getFile() != null ? FileResponse.from(member.getFile()) : null
         );
     }
+
+    public static MemberResponse from(MemoryFeedRow.MemberRow member) {
+        return new MemberResponse(
+                member.id(),
+                member.email(),
+                member.name(),
+                member.nickname(),
+                member.memberType(),
+                member.profile() != null && member.profile().exists() ? FileResponse.from(member.profile()) : null
+        );
+    }
 }
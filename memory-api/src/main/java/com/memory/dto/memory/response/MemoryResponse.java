@@ -2,6 +2,7 @@ package com.memory.dto.memory.response;
 
 import com.memory.domain.memory.Memory;
 import com.memory.domain.memory.MemoryType;
+import com.memory.domain.memory.repository.MemoryFeedRow;
 import com.memory.dto.file.response.FileResponse;
 import com.memory.dto.map.response.MapResponse;
 import com.memory.dto.member.response.MemberResponse;
@@ -47,4 +48,24 @@ public record MemoryResponse(
                 memory.getCommentsCount()
         );
     }
+
+    /**
+     * 피드 조회 결과로 생성 (파일/해시태그는 페이지 단위로 따로 조회한 값)
+     */
+    public static MemoryResponse of(MemoryFeedRow memory, List<FileResponse> files, List<String> hashTagNames) {
+        return new MemoryResponse(
+                memory.id(),
+                memory.title(),
+                memory.content(),
+                memory.locationName(),
+                memory.memorableDate(),
+                MemberResponse.from(memory.member()),
+                memory.map() != null && memory.map().exists() ? MapResponse.from(memory.map()) : null,
+                memory.memoryType(),
+                files,
+                hashTagNames,
+                memory.createDate(),
+                memory.commentsCount()
+        );
+    }
 }
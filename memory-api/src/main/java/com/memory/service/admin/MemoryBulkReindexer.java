@@ -0,0 +1,88 @@
+package com.memory.service.admin;
+
+import com.memory.document.memory.MemoryBulkIndexResult;
+import com.memory.document.memory.MemoryDocumentRepository;
+import com.memory.document.memory.MemoryIndexOperation;
+import com.memory.service.document.MemoryIndexOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 전체 메모리 재색인 파이프라인
+ * id 기준 keyset 페이징으로 읽고, 페이지 단위 _bulk 요청을 최대 concurrency 개까지 동시에 보낸다.
+ * 문서 버전은 시작 시점에 발급받은 아웃박스 시퀀스를 사용하므로 재색인 중 들어온 변경이 덮어써지지 않는다.
+ * 시작 전에 발급되었지만 재색인이 읽은 뒤에 커밋된 이벤트는 version conflict 로 거절되며,
+ * 아웃박스 워커가 이를 더 큰 버전의 이벤트로 다시 기록해 반영한다. ({@link MemoryIndexOutboxService#completeEvents})
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemoryBulkReindexer {
+
+    private final MemoryDocumentRepository memoryDocumentRepository;
+    private final MemoryReindexReader memoryReindexReader;
+    private final MemoryIndexOutboxService memoryIndexOutboxService;
+
+    /**
+     * @param targetIndex null 이면 쓰기 별칭에 연결된 인덱스, 아니면 해당 물리 인덱스에만 반영
+     */
+    public void reindex(String targetIndex, int batchSize, int concurrency, MemoryReindexProgress progress)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        Semaphore inFlight = new Semaphore(concurrency);
+        List<CompletableFuture<Void>> bulkRequests = new ArrayList<>();
+
+        try {
+            long version = memoryIndexOutboxService.nextIndexVersion();
+            Long lastMemoryId = null;
+            MemoryReindexReader.ReindexPage page;
+
+            do {
+                page = memoryReindexReader.readPage(lastMemoryId, batchSize);
+                progress.addProcessed(page.fetchedCount());
+                progress.addError(page.buildFailures().size());
+
+                if (!page.documents().isEmpty()) {
+                    List<MemoryIndexOperation> operations = page.documents().stream()
+                            .map(document -> MemoryIndexOperation.reindex(document, version))
+                            .toList();
+
+                    inFlight.acquire();
+                    bulkRequests.add(CompletableFuture
+                            .runAsync(() -> applyBulk(targetIndex, operations, progress), executor)
+                            .whenComplete((result, throwable) -> inFlight.release()));
+                }
+
+                lastMemoryId = page.lastMemoryId();
+            } while (page.fetchedCount() >= batchSize && !progress.isCancelled());
+
+            CompletableFuture.allOf(bulkRequests.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void applyBulk(String targetIndex, List<MemoryIndexOperation> operations, MemoryReindexProgress progress) {
+        try {
+            MemoryBulkIndexResult result = targetIndex == null
+                    ? memoryDocumentRepository.bulkApply(operations)
+                    : memoryDocumentRepository.bulkApply(targetIndex, operations);
+            progress.addSuccess(result.successCount());
+            progress.addError(result.failureCount());
+            if (result.failureCount() > 0) {
+                log.error("Failed to migrate memories: {}", result.failures());
+            }
+        } catch (Exception e) {
+            log.error("Failed to bulk migrate {} memories, Error: {}", operations.size(), e.getMessage());
+            progress.addError(operations.size());
+        }
+    }
+}
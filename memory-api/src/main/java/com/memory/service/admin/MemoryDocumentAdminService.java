@@ -1,23 +1,16 @@
 package com.memory.service.admin;
 
+import com.memory.document.memory.MemoryBulkIndexResult;
 import com.memory.document.memory.MemoryDocument;
 import com.memory.document.memory.MemoryDocumentRepository;
-import com.memory.document.memory.RelationshipInfo;
-import com.memory.domain.memory.Memory;
-import com.memory.domain.memory.repository.MemoryRepository;
-import com.memory.domain.relationship.Relationship;
-import com.memory.domain.relationship.RelationshipStatus;
-import com.memory.domain.relationship.repository.RelationshipRepository;
-import com.memory.dto.relationship.response.RelationshipListResponse;
+import com.memory.document.memory.MemoryIndexOperation;
 import com.memory.dto.search.MigrationResponse;
 import com.memory.exception.customException.NotFoundException;
+import com.memory.service.document.MemoryIndexOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -26,74 +19,76 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MemoryDocumentAdminService {
 
-    private final MemoryRepository memoryRepository;
     private final MemoryDocumentRepository memoryDocumentRepository;
-    private final RelationshipRepository relationshipRepository;
+    private final MemoryReindexReader memoryReindexReader;
+    private final MemoryBulkReindexer memoryBulkReindexer;
+    private final MemoryIndexOutboxService memoryIndexOutboxService;
 
-    private static final int BATCH_SIZE = 100;
+    @Value("${search.reindex.batch-size:500}")
+    private int defaultBatchSize;
+
+    @Value("${search.reindex.concurrency:4}")
+    private int defaultConcurrency;
+
+    /**
+     * 현재 쓰기 별칭에 연결된 인덱스로 전체 메모리 재색인 (매핑 변경 시에는 {@link MemoryIndexRebuildService} 사용)
+     */
+    public MigrationResponse migrateAllMemories(Integer batchSize, Integer concurrency) {
+        int pageSize = batchSize != null && batchSize > 0 ? batchSize : defaultBatchSize;
+        int parallelism = concurrency != null && concurrency > 0 ? concurrency : defaultConcurrency;
 
-    @Transactional(readOnly = true)
-    public MigrationResponse migrateAllMemories() {
         long startTime = System.currentTimeMillis();
-        long processedCount = 0;
-        long successCount = 0;
-        long errorCount = 0;
+        MemoryReindexProgress progress = new MemoryReindexProgress();
 
         try {
-            int pageNumber = 0;
-            Page<Memory> memoryPage;
-
-            do {
-                Pageable pageable = PageRequest.of(pageNumber, BATCH_SIZE);
-                memoryPage = memoryRepository.findAll(pageable);
-
-                for (Memory memory : memoryPage.getContent()) {
-                    processedCount++;
-                    try {
-                        if (migrateIndividualMemory(memory)) {
-                            successCount++;
-                        } else {
-                            errorCount++;
-                        }
-                    } catch (Exception e) {
-                        log.error("Failed to migrate memory ID: {}, Error: {}", memory.getId(), e.getMessage());
-                        errorCount++;
-                    }
-                }
-
-                pageNumber++;
-            } while (memoryPage.hasNext());
-
+            memoryBulkReindexer.reindex(null, pageSize, parallelism, progress);
             long elapsedTime = System.currentTimeMillis() - startTime;
-            
-            String message = String.format("마이그레이션 완료: 처리 %d건, 성공 %d건, 실패 %d건", 
-                                          processedCount, successCount, errorCount);
 
-            return MigrationResponse.success(message, processedCount, successCount, errorCount, elapsedTime);
+            // 일부라도 반영되지 않은 문서가 있으면 실패로 응답 (성공/실패 건수로 부분 실패 여부를 확인)
+            if (progress.getErrorCount() > 0) {
+                String message = String.format("마이그레이션 부분 실패: 처리 %d건, 성공 %d건, 실패 %d건",
+                                              progress.getProcessedCount(), progress.getSuccessCount(), progress.getErrorCount());
+                log.error("Migration finished with errors. processed: {}, success: {}, error: {}",
+                        progress.getProcessedCount(), progress.getSuccessCount(), progress.getErrorCount());
+
+                return MigrationResponse.failure(message, progress.getProcessedCount(), progress.getSuccessCount(),
+                                                progress.getErrorCount(), elapsedTime);
+            }
+
+            String message = String.format("마이그레이션 완료: 처리 %d건, 성공 %d건, 실패 %d건",
+                                          progress.getProcessedCount(), progress.getSuccessCount(), progress.getErrorCount());
+
+            return MigrationResponse.success(message, progress.getProcessedCount(), progress.getSuccessCount(),
+                                            progress.getErrorCount(), elapsedTime);
 
         } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
             long elapsedTime = System.currentTimeMillis() - startTime;
             log.error("Migration failed: {}", e.getMessage());
-            
-            return MigrationResponse.failure("마이그레이션 실패: " + e.getMessage(), 
-                                            processedCount, successCount, errorCount, elapsedTime);
+
+            return MigrationResponse.failure("마이그레이션 실패: " + e.getMessage(),
+                                            progress.getProcessedCount(), progress.getSuccessCount(),
+                                            progress.getErrorCount(), elapsedTime);
         }
     }
 
-    @Transactional(readOnly = true)
     public MigrationResponse migrateMemory(Long memoryId) {
         long startTime = System.currentTimeMillis();
 
         try {
-            Memory memory = memoryRepository.findById(memoryId)
+            MemoryDocument document = memoryReindexReader.readMemory(memoryId)
                     .orElseThrow(() -> new NotFoundException("메모리를 찾을 수 없습니다: " + memoryId));
 
-            boolean success = migrateIndividualMemory(memory);
+            MemoryBulkIndexResult result = memoryDocumentRepository.bulkApply(
+                    List.of(MemoryIndexOperation.reindex(document, memoryIndexOutboxService.nextIndexVersion())));
             long elapsedTime = System.currentTimeMillis() - startTime;
 
-            if (success) {
+            if (!result.isFailed(memoryId)) {
                 return MigrationResponse.success("메모리 마이그레이션 성공", 1, 1, 0, elapsedTime);
             } else {
+                log.error("Failed to migrate memory ID: {}, Error: {}", memoryId, result.getFailureReason(memoryId));
                 return MigrationResponse.failure("메모리 마이그레이션 실패", 1, 0, 1, elapsedTime);
             }
 
@@ -124,45 +119,22 @@ public class MemoryDocumentAdminService {
         }
     }
 
-    private boolean migrateIndividualMemory(Memory memory) {
+    public MigrationResponse retryFailedIndexEvents() {
+        long startTime = System.currentTimeMillis();
+
         try {
-            List<Relationship> relationships = relationshipRepository.findByMemberAndRelationshipStatus(memory.getMember(),
-                    RelationshipStatus.ACCEPTED);
-            RelationshipListResponse relationshipListResponse = RelationshipListResponse.fromEntities(relationships);
-            
-            MemoryDocument existingDocument = memoryDocumentRepository.findByMemoryId(memory.getId());
-            
-            if (existingDocument != null) {
-                existingDocument.updateFromMemory(memory, convertToRelationshipInfo(relationshipListResponse));
-                memoryDocumentRepository.save(existingDocument);
-            } else {
-                MemoryDocument newDocument = MemoryDocument.from(memory, convertToRelationshipInfo(relationshipListResponse));
-                memoryDocumentRepository.save(newDocument);
-            }
-            
-            return true;
-            
+            long requeuedCount = memoryIndexOutboxService.requeueFailedEvents();
+            long elapsedTime = System.currentTimeMillis() - startTime;
+
+            return MigrationResponse.success("실패한 인덱싱 이벤트 재처리 요청: " + requeuedCount + "건",
+                                            requeuedCount, requeuedCount, 0, elapsedTime);
+
         } catch (Exception e) {
-            log.error("Failed to migrate memory ID: {}, Error: {}", memory.getId(), e.getMessage());
-            return false;
-        }
-    }
+            long elapsedTime = System.currentTimeMillis() - startTime;
+            log.error("Failed to requeue failed index events: {}", e.getMessage());
 
-    private RelationshipInfo convertToRelationshipInfo(RelationshipListResponse relationshipListResponse) {
-        if (relationshipListResponse == null || relationshipListResponse.relationships() == null) {
-            return new RelationshipInfo(null);
+            return MigrationResponse.failure("인덱싱 이벤트 재처리 요청 실패: " + e.getMessage(),
+                                            0, 0, 0, elapsedTime);
         }
-
-        var relationships = relationshipListResponse.relationships().stream()
-                .map(rel -> new RelationshipInfo.RelatedMemberInfo(
-                        rel.relatedMember().id(),
-                        rel.relatedMember().name(),
-                        rel.relatedMember().nickname(),
-                        rel.relatedMember().email(),
-                        rel.relatedMember().profile() != null ? rel.relatedMember().profile().fileUrl() : null
-                ))
-                .toList();
-
-        return new RelationshipInfo(relationships);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,212 @@
+package com.memory.service.admin;
+
+import com.memory.document.memory.MemoryIndexManager;
+import com.memory.document.memory.MemoryIndexState;
+import com.memory.domain.memory.repository.MemoryRepository;
+import com.memory.dto.search.IndexRebuildStatusResponse;
+import com.memory.exception.customException.ConflictException;
+import com.memory.service.search.MemorySearchCache;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 무중단(blue/green) 인덱스 재구축
+ * 1. shadow 인덱스를 만들고 쓰기 별칭에 추가 (이후 아웃박스 반영은 live + shadow 이중 쓰기)
+ * 2. 전체 메모리를 shadow 인덱스에 재색인
+ * 3. 실패 없이 끝나면 읽기/쓰기 별칭을 원자적으로 교체, 기존 live 는 롤백 인덱스로 유지
+ *    롤백 인덱스로의 이중 쓰기가 실패하면 롤백 인덱스를 stale 로 표시하고 롤백을 거절한다
+ *    실패하면 shadow 인덱스를 삭제해 쓰기 별칭에서 떼어낸다 (실패한 인덱스로 이중 쓰기가 계속되지 않도록)
+ * 진행 상황은 요청을 받은 인스턴스의 메모리에만 보관한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemoryIndexRebuildService {
+
+    private final MemoryIndexManager memoryIndexManager;
+    private final MemoryBulkReindexer memoryBulkReindexer;
+    private final MemoryRepository memoryRepository;
+    private final MemorySearchCache memorySearchCache;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor();
+
+    @Value("${search.reindex.batch-size:500}")
+    private int defaultBatchSize;
+
+    @Value("${search.reindex.concurrency:4}")
+    private int defaultConcurrency;
+
+    @Value("${search.index.state-cache-ttl-ms:5000}")
+    private long indexStateCacheTtlMs;
+
+    private volatile RebuildTask currentTask;
+
+    public synchronized IndexRebuildStatusResponse startRebuild(Integer batchSize, Integer concurrency) {
+        if (currentTask != null && currentTask.getStatus() == RebuildStatus.RUNNING) {
+            throw new ConflictException("이미 인덱스 재구축이 진행 중입니다.");
+        }
+        if (memoryIndexManager.getState().hasShadowIndex()) {
+            throw new ConflictException("정리되지 않은 shadow 인덱스가 있습니다. 롤백으로 먼저 정리해주세요.");
+        }
+
+        int pageSize = batchSize != null && batchSize > 0 ? batchSize : defaultBatchSize;
+        int parallelism = concurrency != null && concurrency > 0 ? concurrency : defaultConcurrency;
+
+        String shadowIndex = memoryIndexManager.createShadowIndex();
+        RebuildTask task = new RebuildTask(shadowIndex, memoryRepository.countMemoriesForIndexing());
+        currentTask = task;
+        rebuildExecutor.execute(() -> rebuild(task, pageSize, parallelism));
+
+        return getStatus();
+    }
+
+    public IndexRebuildStatusResponse getStatus() {
+        MemoryIndexState state = memoryIndexManager.getState();
+        RebuildTask task = currentTask;
+
+        if (task == null) {
+            return IndexRebuildStatusResponse.builder()
+                    .status(RebuildStatus.IDLE.name())
+                    .liveIndex(state.liveIndex())
+                    .shadowIndex(state.shadowIndex())
+                    .rollbackIndex(state.rollbackIndex())
+                    .rollbackStale(state.rollbackStale())
+                    .build();
+        }
+
+        MemoryReindexProgress progress = task.getProgress();
+        return IndexRebuildStatusResponse.builder()
+                .status(task.getStatus().name())
+                .liveIndex(state.liveIndex())
+                .shadowIndex(state.shadowIndex())
+                .rollbackIndex(state.rollbackIndex())
+                .rollbackStale(state.rollbackStale())
+                .totalCount(task.getTotalCount())
+                .processedCount(progress.getProcessedCount())
+                .successCount(progress.getSuccessCount())
+                .errorCount(progress.getErrorCount())
+                .progressRate(calculateProgressRate(progress.getProcessedCount(), task.getTotalCount()))
+                .startedAt(task.getStartedAt())
+                .finishedAt(task.getFinishedAt())
+                .message(task.getMessage())
+                .build();
+    }
+
+    /**
+     * 재구축 중이면 중단 후 shadow 인덱스를 삭제하고, 교체가 끝난 뒤라면 이전 인덱스로 되돌린다.
+     */
+    public synchronized IndexRebuildStatusResponse rollback() {
+        RebuildTask task = currentTask;
+        if (task != null && task.getStatus() == RebuildStatus.RUNNING) {
+            task.getProgress().cancel();
+            return getStatus();
+        }
+
+        MemoryIndexState state = memoryIndexManager.getState();
+        if (state.hasShadowIndex()) {
+            memoryIndexManager.dropShadowIndex(state.shadowIndex());
+        } else if (state.hasRollbackIndex()) {
+            if (state.rollbackStale()) {
+                throw new ConflictException("롤백 인덱스에 반영되지 않은 변경이 있어 롤백할 수 없습니다. 인덱스를 재구축해주세요.");
+            }
+            memoryIndexManager.rollback();
+            memorySearchCache.invalidateAll();
+        } else {
+            throw new ConflictException("롤백할 인덱스가 없습니다.");
+        }
+
+        return getStatus();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        RebuildTask task = currentTask;
+        if (task != null) {
+            task.getProgress().cancel();
+        }
+        rebuildExecutor.shutdown();
+    }
+
+    private void rebuild(RebuildTask task, int batchSize, int concurrency) {
+        try {
+            // 다른 인스턴스가 캐시된 별칭 상태를 갱신해 shadow 인덱스로 이중 쓰기를 시작한 뒤에 DB 를 읽는다
+            Thread.sleep(indexStateCacheTtlMs);
+            memoryBulkReindexer.reindex(task.getShadowIndex(), batchSize, concurrency, task.getProgress());
+
+            if (task.getProgress().isCancelled()) {
+                memoryIndexManager.dropShadowIndex(task.getShadowIndex());
+                task.finish(RebuildStatus.CANCELLED, "재구축이 취소되어 shadow 인덱스를 삭제했습니다.");
+                return;
+            }
+            if (task.getProgress().getErrorCount() > 0) {
+                memoryIndexManager.dropShadowIndex(task.getShadowIndex());
+                task.finish(RebuildStatus.FAILED, "실패한 문서가 있어 별칭을 교체하지 않고 shadow 인덱스를 삭제했습니다. 원인을 확인한 뒤 다시 시도해주세요.");
+                return;
+            }
+
+            memoryIndexManager.refresh(task.getShadowIndex());
+            memoryIndexManager.promote(task.getShadowIndex());
+            memorySearchCache.invalidateAll();
+            task.finish(RebuildStatus.COMPLETED, "별칭 교체 완료: " + task.getShadowIndex());
+
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("Memory index rebuild failed. shadow: {}", task.getShadowIndex(), e);
+            dropFailedShadowIndex(task.getShadowIndex());
+            task.finish(RebuildStatus.FAILED, "재구축 실패: " + e.getMessage());
+        }
+    }
+
+    private void dropFailedShadowIndex(String shadowIndex) {
+        try {
+            if (shadowIndex.equals(memoryIndexManager.getState().shadowIndex())) {
+                memoryIndexManager.dropShadowIndex(shadowIndex);
+            }
+        } catch (Exception e) {
+            log.error("Failed to drop shadow index after rebuild failure. shadow: {}", shadowIndex, e);
+        }
+    }
+
+    private double calculateProgressRate(long processedCount, long totalCount) {
+        if (totalCount <= 0) {
+            return 0;
+        }
+        return Math.min(100.0, Math.round(processedCount * 1000.0 / totalCount) / 10.0);
+    }
+
+    public enum RebuildStatus {
+        IDLE, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    @Getter
+    private static class RebuildTask {
+        private final String shadowIndex;
+        private final long totalCount;
+        private final MemoryReindexProgress progress = new MemoryReindexProgress();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile RebuildStatus status = RebuildStatus.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile String message;
+
+        RebuildTask(String shadowIndex, long totalCount) {
+            this.shadowIndex = shadowIndex;
+            this.totalCount = totalCount;
+        }
+
+        void finish(RebuildStatus status, String message) {
+            this.status = status;
+            this.message = message;
+            this.finishedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.memory.service.admin;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재색인 진행 상황 (벌크 요청 스레드에서 동시에 갱신된다)
+ */
+public class MemoryReindexProgress {
+
+    private final AtomicLong processedCount = new AtomicLong();
+    private final AtomicLong successCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private volatile boolean cancelled;
+
+    public void addProcessed(long count) {
+        processedCount.addAndGet(count);
+    }
+
+    public void addSuccess(long count) {
+        successCount.addAndGet(count);
+    }
+
+    public void addError(long count) {
+        errorCount.addAndGet(count);
+    }
+
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public long getProcessedCount() {
+        return processedCount.get();
+    }
+
+    public long getSuccessCount() {
+        return successCount.get();
+    }
+
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+}
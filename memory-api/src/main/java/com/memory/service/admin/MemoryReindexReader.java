@@ -0,0 +1,95 @@
+package com.memory.service.admin;
+
+import com.memory.document.memory.MemoryDocument;
+import com.memory.document.memory.RelationshipInfo;
+import com.memory.domain.memory.Memory;
+import com.memory.domain.memory.repository.MemoryRepository;
+import com.memory.domain.relationship.Relationship;
+import com.memory.domain.relationship.RelationshipStatus;
+import com.memory.domain.relationship.repository.RelationshipRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 재색인용 메모리 문서 조회
+ * 페이지마다 트랜잭션을 열고 닫아 영속성 컨텍스트가 전체 데이터만큼 커지지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemoryReindexReader {
+
+    private final MemoryRepository memoryRepository;
+    private final RelationshipRepository relationshipRepository;
+
+    /**
+     * lastMemoryId 이후의 메모리를 size 만큼 읽어 문서로 변환
+     * 작성자들의 관계 정보는 한 번의 쿼리로 미리 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public ReindexPage readPage(Long lastMemoryId, int size) {
+        List<Memory> memories = memoryRepository.findMemoriesForIndexing(lastMemoryId, size);
+        if (memories.isEmpty()) {
+            return new ReindexPage(List.of(), Map.of(), 0, lastMemoryId);
+        }
+
+        Map<Long, RelationshipInfo> relationshipsByMember = findRelationshipsByMember(memories);
+        List<MemoryDocument> documents = new ArrayList<>(memories.size());
+        Map<Long, String> buildFailures = new HashMap<>();
+
+        for (Memory memory : memories) {
+            try {
+                RelationshipInfo relationships = relationshipsByMember.getOrDefault(
+                        memory.getMember().getId(), new RelationshipInfo(List.of()));
+                documents.add(MemoryDocument.from(memory, relationships));
+            } catch (Exception e) {
+                log.error("Failed to build memory document. memoryId: {}", memory.getId(), e);
+                buildFailures.put(memory.getId(), String.valueOf(e.getMessage()));
+            }
+        }
+
+        Long nextLastMemoryId = memories.get(memories.size() - 1).getId();
+        return new ReindexPage(documents, buildFailures, memories.size(), nextLastMemoryId);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<MemoryDocument> readMemory(Long memoryId) {
+        return memoryRepository.findMemoryById(memoryId)
+                .map(memory -> MemoryDocument.from(memory, findRelationshipsByMember(List.of(memory))
+                        .getOrDefault(memory.getMember().getId(), new RelationshipInfo(List.of()))));
+    }
+
+    private Map<Long, RelationshipInfo> findRelationshipsByMember(List<Memory> memories) {
+        List<Long> memberIds = memories.stream()
+                .map(memory -> memory.getMember().getId())
+                .distinct()
+                .toList();
+
+        return relationshipRepository.findByMemberIdsAndRelationshipStatus(memberIds, RelationshipStatus.ACCEPTED)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        relationship -> relationship.getMember().getId(),
+                        Collectors.collectingAndThen(Collectors.toList(), RelationshipInfo::fromRelationships)
+                ));
+    }
+
+    /**
+     * @param fetchedCount   DB 에서 읽은 메모리 수 (변환 실패 포함)
+     * @param lastMemoryId   다음 페이지 조회 기준 ID
+     */
+    public record ReindexPage(
+            List<MemoryDocument> documents,
+            Map<Long, String> buildFailures,
+            int fetchedCount,
+            Long lastMemoryId
+    ) {}
+}
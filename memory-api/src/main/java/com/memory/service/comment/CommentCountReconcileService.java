@@ -0,0 +1,39 @@
+package com.memory.service.comment;
+
+import com.memory.domain.comment.repository.CommentRepository;
+import com.memory.domain.memory.repository.MemoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 댓글 수 컬럼(memory.comments_count, memory.top_level_comments_count, comment.reply_count) 보정
+ * id 범위 단위로 트랜잭션을 나눠 한 번에 잠그는 행 수를 제한한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentCountReconcileService {
+
+    private final MemoryRepository memoryRepository;
+    private final CommentRepository commentRepository;
+
+    @Transactional(readOnly = true)
+    public long findLastMemoryId() {
+        return memoryRepository.findLastMemoryId().orElse(0L);
+    }
+
+    @Transactional(readOnly = true)
+    public long findLastCommentId() {
+        return commentRepository.findLastCommentId().orElse(0L);
+    }
+
+    @Transactional
+    public long reconcileMemories(long fromMemoryId, long toMemoryId) {
+        return memoryRepository.reconcileCommentsCounts(fromMemoryId, toMemoryId);
+    }
+
+    @Transactional
+    public long reconcileComments(long fromCommentId, long toCommentId) {
+        return commentRepository.reconcileReplyCounts(fromCommentId, toCommentId);
+    }
+}
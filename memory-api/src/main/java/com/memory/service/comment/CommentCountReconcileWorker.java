@@ -0,0 +1,55 @@
+package com.memory.service.comment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongBinaryOperator;
+
+/**
+ * 댓글 수 컬럼을 주기적으로 실제 댓글 수와 맞추는 워커
+ * 증감 쿼리가 누락되거나(직접 수정한 데이터 등) 어긋난 값을 id 범위(batch-size)씩 나눠 다시 계산한다.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "comment.count-reconcile", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CommentCountReconcileWorker {
+
+    private final CommentCountReconcileService commentCountReconcileService;
+
+    @Value("${comment.count-reconcile.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${comment.count-reconcile.cron:0 30 4 * * *}")
+    public void reconcile() {
+        long repairedMemories = reconcileInRanges(commentCountReconcileService.findLastMemoryId(),
+                commentCountReconcileService::reconcileMemories);
+        long repairedComments = reconcileInRanges(commentCountReconcileService.findLastCommentId(),
+                commentCountReconcileService::reconcileComments);
+
+        if (repairedMemories > 0 || repairedComments > 0) {
+            log.warn("Repaired drifted comment counters. memories: {}, comments: {}", repairedMemories, repairedComments);
+        } else {
+            log.info("Comment counters are consistent.");
+        }
+    }
+
+    long reconcileInRanges(long lastId, LongBinaryOperator reconcileRange) {
+        long repairedCount = 0;
+        for (long fromId = 1; fromId <= lastId; fromId += batchSize) {
+            long toId = Math.min(fromId + batchSize - 1, lastId);
+            try {
+                repairedCount += reconcileRange.applyAsLong(fromId, toId);
+            } catch (Exception e) {
+                log.error("Failed to reconcile comment counters. range: {}-{}", fromId, toId, e);
+            }
+        }
+        return repairedCount;
+    }
+}
@@ -1,6 +1,7 @@
 package com.memory.service.comment;
 
 import com.memory.domain.comment.Comment;
+import com.memory.domain.comment.repository.CommentCursor;
 import com.memory.domain.comment.repository.CommentRepository;
 import com.memory.domain.member.Member;
 import com.memory.domain.member.repository.MemberRepository;
@@ -9,6 +10,8 @@ import com.memory.domain.memory.repository.MemoryRepository;
 import com.memory.dto.comment.CommentCreateRequest;
 import com.memory.dto.comment.CommentListResponse;
 import com.memory.dto.comment.CommentResponse;
+import com.memory.dto.comment.CommentThreadListResponse;
+import com.memory.dto.comment.CommentThreadResponse;
 import com.memory.dto.comment.CommentUpdateRequest;
 import com.memory.exception.customException.NotFoundException;
 import com.memory.exception.customException.ValidationException;
@@ -17,11 +20,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_THREAD_REPLY_SIZE = 20;
+
     private final CommentRepository commentRepository;
     private final MemberRepository memberRepository;
     private final MemoryRepository memoryRepository;
@@ -53,38 +61,57 @@ public class CommentService {
 
         Comment comment = request.toEntity(member, memory, parentComment);
         Comment savedComment = commentRepository.save(comment);
-        memory.addComment(savedComment);
+
+        // 댓글 수는 엔티티 컬렉션을 읽지 않고 update 쿼리로 증가
+        memoryRepository.increaseCommentsCount(memory.getId(), parentComment == null);
+        if (parentComment != null) {
+            commentRepository.increaseReplyCount(parentComment.getId());
+        }
 
         return CommentResponse.from(savedComment, memberId, false);
     }
 
     @Transactional(readOnly = true)
-    public CommentListResponse getTopLevelCommentsByMemory(Long memoryId, int page, int size, Long memberId) {
+    public CommentListResponse getTopLevelCommentsByMemory(Long memoryId, String cursor, int size, Long memberId) {
+        validatePageSize(size);
         findMemberById(memberId);
         Memory memory = findMemoryById(memoryId);
         
-        List<Comment> comments = commentRepository.findTopLevelCommentsByMemory(memory, page, size);
-        System.out.println("comments = " + comments);
-        List<CommentResponse> commentResponses = CommentResponse.fromList(comments, memberId);
-        
-        long totalCount = commentRepository.countActiveCommentsByMemory(memory);
-        long topLevelCount = memory.getTopLevelCommentsCount();
-        boolean hasNext = comments.size() == size;
+        List<Comment> comments = commentRepository.findTopLevelCommentsByMemory(memory, CommentCursor.decode(cursor), size + 1);
         
-        return CommentListResponse.of(commentResponses, totalCount, topLevelCount, page, size, hasNext);
+        return toCursorPage(comments, size, memberId, memory.getCommentsCount(), memory.getTopLevelCommentsCount());
     }
 
     @Transactional(readOnly = true)
-    public CommentListResponse getTopLevelCommentsByPublicMemory(Long memoryId, int page, int size) {
+    public CommentListResponse getTopLevelCommentsByPublicMemory(Long memoryId, String cursor, int size) {
+        validatePageSize(size);
         Memory memory = findMemoryById(memoryId);
-        List<Comment> comments = commentRepository.findTopLevelCommentsByMemory(memory, page, size);
-        List<CommentResponse> commentResponses = CommentResponse.fromList(comments, null);
+        List<Comment> comments = commentRepository.findTopLevelCommentsByMemory(memory, CommentCursor.decode(cursor), size + 1);
+
+        return toCursorPage(comments, size, null, memory.getCommentsCount(), memory.getTopLevelCommentsCount());
+    }
 
-        long totalCount = commentRepository.countActiveCommentsByMemory(memory);
-        long topLevelCount = memory.getTopLevelCommentsCount();
-        boolean hasNext = comments.size() == size;
+    /**
+     * 이전 클라이언트 호환용 offset 페이징 (page 파라미터), 새 클라이언트는 커서 페이징을 사용한다
+     */
+    @Transactional(readOnly = true)
+    public CommentListResponse getTopLevelCommentsByMemory(Long memoryId, int page, int size, Long memberId) {
+        validatePage(page, size);
+        findMemberById(memberId);
+        Memory memory = findMemoryById(memoryId);
+
+        List<Comment> comments = commentRepository.findTopLevelCommentsByMemory(memory, (long) page * size, size + 1);
+
+        return toOffsetPage(comments, page, size, memberId, memory.getCommentsCount(), memory.getTopLevelCommentsCount());
+    }
+
+    @Transactional(readOnly = true)
+    public CommentListResponse getTopLevelCommentsByPublicMemory(Long memoryId, int page, int size) {
+        validatePage(page, size);
+        Memory memory = findMemoryById(memoryId);
+        List<Comment> comments = commentRepository.findTopLevelCommentsByMemory(memory, (long) page * size, size + 1);
 
-        return CommentListResponse.of(commentResponses, totalCount, topLevelCount, page, size, hasNext);
+        return toOffsetPage(comments, page, size, null, memory.getCommentsCount(), memory.getTopLevelCommentsCount());
     }
 
     @Transactional(readOnly = true)
@@ -98,6 +125,43 @@ public class CommentService {
         return CommentListResponse.of(replyResponses, (long) replies.size(), 0L, 0, replies.size(), false);
     }
 
+    /**
+     * 대댓글 더보기 - 스레드 조회의 repliesNextCursor 또는 이전 응답의 nextCursor 이후부터 오래된 순으로 조회
+     */
+    @Transactional(readOnly = true)
+    public CommentListResponse getRepliesByComment(Long commentId, String cursor, int size, Long memberId) {
+        validatePageSize(size);
+        findMemberById(memberId);
+        Comment parentComment = findCommentById(commentId);
+
+        List<Comment> replies = commentRepository.findRepliesByParentComment(parentComment, CommentCursor.decode(cursor), size + 1);
+
+        return toCursorPage(replies, size, memberId, parentComment.getReplyCount(), 0L);
+    }
+
+    /**
+     * 댓글 스레드 조회 - 최상위 댓글 한 페이지와 각 댓글의 첫 대댓글 replySize 개
+     * 최상위 댓글 조회 1번 + 대댓글 조회 1번 (부모별로 대댓글 API 를 따로 호출하지 않도록)
+     */
+    @Transactional(readOnly = true)
+    public CommentThreadListResponse getCommentThreadsByMemory(Long memoryId, String cursor, int size, int replySize, Long memberId) {
+        validatePageSize(size);
+        validateReplySize(replySize);
+        findMemberById(memberId);
+        Memory memory = findMemoryById(memoryId);
+
+        return toThreadPage(memory, cursor, size, replySize, memberId);
+    }
+
+    @Transactional(readOnly = true)
+    public CommentThreadListResponse getCommentThreadsByPublicMemory(Long memoryId, String cursor, int size, int replySize) {
+        validatePageSize(size);
+        validateReplySize(replySize);
+        Memory memory = findMemoryById(memoryId);
+
+        return toThreadPage(memory, cursor, size, replySize, null);
+    }
+
     @Transactional(readOnly = true)
     public CommentResponse getComment(Long commentId, Long memberId) {
         findMemberById(memberId);
@@ -123,7 +187,7 @@ public class CommentService {
         
         comment.updateContent(request.getContent());
         
-        return CommentResponse.from(comment, memberId, !comment.getChildren().isEmpty());
+        return CommentResponse.from(comment, memberId, comment.getReplyCount() > 0);
     }
 
     @Transactional
@@ -141,29 +205,139 @@ public class CommentService {
         }
         
         comment.markAsDeleted();
+
+        memoryRepository.decreaseCommentsCount(comment.getMemory().getId(), comment.isTopLevel());
+        if (comment.getParent() != null) {
+            commentRepository.decreaseReplyCount(comment.getParent().getId());
+        }
     }
 
     @Transactional(readOnly = true)
-    public CommentListResponse getCommentsByMember(Long memberId, int page, int size, Long currentMemberId) {
+    public CommentListResponse getCommentsByMember(Long memberId, String cursor, int size, Long currentMemberId) {
+        validatePageSize(size);
         Member targetMember = findMemberById(memberId);
         findMemberById(currentMemberId);
         
-        List<Comment> comments = commentRepository.findCommentsByMember(targetMember, page, size);
-        List<CommentResponse> commentResponses = CommentResponse.fromList(comments, currentMemberId);
-        
-        boolean hasNext = comments.size() == size;
+        List<Comment> comments = commentRepository.findCommentsByMember(targetMember, CommentCursor.decode(cursor), size + 1);
         
-        return CommentListResponse.of(commentResponses, (long) comments.size(), 0L, page, size, hasNext);
+        return toCursorPage(comments, size, currentMemberId, null, 0L);
     }
 
     @Transactional(readOnly = true)
-    public CommentListResponse getRecentComments(int limit, Long memberId) {
+    public CommentListResponse getCommentsByMember(Long memberId, int page, int size, Long currentMemberId) {
+        validatePage(page, size);
+        Member targetMember = findMemberById(memberId);
+        findMemberById(currentMemberId);
+
+        List<Comment> comments = commentRepository.findCommentsByMember(targetMember, (long) page * size, size + 1);
+
+        return toOffsetPage(comments, page, size, currentMemberId, null, 0L);
+    }
+
+    @Transactional(readOnly = true)
+    public CommentListResponse getRecentComments(String cursor, int limit, Long memberId) {
+        validatePageSize(limit);
         findMemberById(memberId);
         
-        List<Comment> comments = commentRepository.findRecentComments(limit);
-        List<CommentResponse> commentResponses = CommentResponse.fromList(comments, memberId);
+        List<Comment> comments = commentRepository.findRecentComments(CommentCursor.decode(cursor), limit + 1);
         
-        return CommentListResponse.of(commentResponses, (long) comments.size(), 0L, 0, limit, false);
+        return toCursorPage(comments, limit, memberId, null, 0L);
+    }
+
+    /**
+     * size + 1 개를 조회한 결과로 다음 페이지 여부를 판단하고 응답에는 size 개만 담는다
+     * totalCount 가 null 이면 이번 페이지의 댓글 수를 사용한다.
+     */
+    private CommentListResponse toCursorPage(List<Comment> fetched, int size, Long memberId, Long totalCount, Long topLevelCount) {
+        boolean hasNext = fetched.size() > size;
+        List<Comment> comments = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? CommentCursor.from(comments.get(comments.size() - 1)).encode() : null;
+
+        return CommentListResponse.ofCursor(
+                CommentResponse.fromList(comments, memberId),
+                totalCount != null ? totalCount : comments.size(),
+                topLevelCount,
+                size,
+                hasNext,
+                nextCursor
+        );
+    }
+
+    private CommentThreadListResponse toThreadPage(Memory memory, String cursor, int size, int replySize, Long memberId) {
+        List<Comment> fetched = commentRepository.findTopLevelCommentsByMemory(memory, CommentCursor.decode(cursor), size + 1);
+        boolean hasNext = fetched.size() > size;
+        List<Comment> parents = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? CommentCursor.from(parents.get(parents.size() - 1)).encode() : null;
+
+        // 부모별 replySize + 1 개를 조회해 더보기 여부를 판단
+        Map<Long, List<Comment>> repliesByParentId = findFirstReplies(parents, replySize + 1);
+        List<CommentThreadResponse> threads = parents.stream()
+                .map(parent -> toThread(parent, repliesByParentId.getOrDefault(parent.getId(), List.of()), replySize, memberId))
+                .toList();
+
+        return CommentThreadListResponse.of(threads, memory.getCommentsCount(), memory.getTopLevelCommentsCount(),
+                size, hasNext, nextCursor);
+    }
+
+    private Map<Long, List<Comment>> findFirstReplies(List<Comment> parents, int limitPerParent) {
+        List<Long> parentIds = parents.stream()
+                .map(Comment::getId)
+                .toList();
+        if (parentIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return commentRepository.findFirstRepliesByParentIds(parentIds, limitPerParent).stream()
+                .collect(Collectors.groupingBy(reply -> reply.getParent().getId()));
+    }
+
+    private CommentThreadResponse toThread(Comment parent, List<Comment> fetchedReplies, int replySize, Long memberId) {
+        boolean hasMoreReplies = fetchedReplies.size() > replySize;
+        List<Comment> replies = hasMoreReplies ? fetchedReplies.subList(0, replySize) : fetchedReplies;
+        // replySize 가 0 이면 커서 없이 첫 대댓글부터 더보기
+        String repliesNextCursor = hasMoreReplies && !replies.isEmpty()
+                ? CommentCursor.from(replies.get(replies.size() - 1)).encode()
+                : null;
+
+        List<CommentResponse> replyResponses = replies.stream()
+                .map(reply -> CommentResponse.from(reply, memberId, false))
+                .toList();
+
+        return CommentThreadResponse.of(CommentResponse.from(parent, memberId, false), replyResponses,
+                hasMoreReplies, repliesNextCursor);
+    }
+
+    private void validateReplySize(int replySize) {
+        if (replySize < 0 || replySize > MAX_THREAD_REPLY_SIZE) {
+            throw new ValidationException("replySize 는 0 ~ " + MAX_THREAD_REPLY_SIZE + " 사이여야 합니다.");
+        }
+    }
+
+    private CommentListResponse toOffsetPage(List<Comment> fetched, int page, int size, Long memberId, Long totalCount, Long topLevelCount) {
+        boolean hasNext = fetched.size() > size;
+        List<Comment> comments = hasNext ? fetched.subList(0, size) : fetched;
+
+        return CommentListResponse.of(
+                CommentResponse.fromList(comments, memberId),
+                totalCount != null ? totalCount : comments.size(),
+                topLevelCount,
+                page,
+                size,
+                hasNext
+        );
+    }
+
+    private void validatePage(int page, int size) {
+        if (page < 0) {
+            throw new ValidationException("page 는 0 이상이어야 합니다.");
+        }
+        validatePageSize(size);
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("size 는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
     }
 
     private Member findMemberById(Long memberId) {
@@ -1,71 +1,74 @@
 package com.memory.service.document;
 
-import com.memory.document.memory.MemoryDocument;
-import com.memory.document.memory.MemoryDocumentRepository;
-import com.memory.document.memory.RelationshipInfo;
 import com.memory.domain.memory.Memory;
-import com.memory.dto.relationship.response.RelationshipListResponse;
+import com.memory.domain.outbox.MemoryIndexOutbox;
+import com.memory.domain.outbox.repository.MemoryIndexOutboxRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+/**
+ * 메모리 변경을 인덱싱 아웃박스에 기록한다.
+ * 호출한 트랜잭션과 함께 커밋되며, 실제 Elasticsearch 반영은 {@link MemoryIndexOutboxWorker} 가 비동기로 처리한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemoryDocumentService {
 
-    private final MemoryDocumentRepository memoryDocumentRepository;
+    private final MemoryIndexOutboxRepository memoryIndexOutboxRepository;
+
+    // 프로필/관계 변경으로 다시 색인할 문서를 초당 몇 개씩 워커에 넘길지 (클러스터 부하 제한)
+    @Value("${search.outbox.propagation-events-per-second:50}")
+    private int propagationEventsPerSecond;
 
-    public void indexMemory(Memory memory, RelationshipListResponse relationships) {
-        try {
-            MemoryDocument document = MemoryDocument.from(memory, convertToRelationshipInfo(relationships));
-            memoryDocumentRepository.save(document);
-        } catch (Exception e) {
-            log.error("Failed to index memory to Elasticsearch. memoryId: {}", memory.getId(), e);
+    @PostConstruct
+    public void validateProperties() {
+        if (propagationEventsPerSecond < 1) {
+            throw new IllegalStateException(
+                    "search.outbox.propagation-events-per-second 는 1 이상이어야 합니다: " + propagationEventsPerSecond);
         }
     }
 
-    public void updateMemoryIndex(Memory memory, RelationshipListResponse relationships) {
-        try {
-            // memoryId로 기존 문서 조회 후 업데이트
-            MemoryDocument existingDoc = memoryDocumentRepository.findByMemoryId(memory.getId());
-            if (existingDoc != null) {
-                existingDoc.updateFromMemory(memory, convertToRelationshipInfo(relationships));
-                memoryDocumentRepository.save(existingDoc);
-            } else {
-                // 문서가 없으면 새로 생성
-                MemoryDocument newDocument = MemoryDocument.from(memory, convertToRelationshipInfo(relationships));
-                memoryDocumentRepository.save(newDocument);
-            }
-        } catch (Exception e) {
-            log.error("Failed to update memory index in Elasticsearch. memoryId: {}", memory.getId(), e);
-        }
+    @Transactional
+    public void indexMemory(Memory memory) {
+        memoryIndexOutboxRepository.save(MemoryIndexOutbox.upsert(memory.getId()));
     }
 
-    public void deleteMemoryIndex(Long memoryId) {
-        try {
-            // memoryId 필드로 검색해서 해당 문서들 삭제
-            memoryDocumentRepository.deleteByMemoryId(memoryId);
-        } catch (Exception e) {
-            log.error("Failed to delete memory index from Elasticsearch. memoryId: {}", memoryId, e);
-        }
+    @Transactional
+    public void updateMemoryIndex(Memory memory) {
+        memoryIndexOutboxRepository.save(MemoryIndexOutbox.upsert(memory.getId()));
     }
 
-    private RelationshipInfo convertToRelationshipInfo(RelationshipListResponse relationshipListResponse) {
-        if (relationshipListResponse == null || relationshipListResponse.relationships() == null) {
-            return new RelationshipInfo(null);
-        }
+    @Transactional
+    public void deleteMemoryIndex(Long memoryId) {
+        memoryIndexOutboxRepository.save(MemoryIndexOutbox.delete(memoryId));
+    }
 
-        var relationships = relationshipListResponse.relationships().stream()
-                .map(rel -> new RelationshipInfo.RelatedMemberInfo(
-                        rel.relatedMember().id(),
-                        rel.relatedMember().name(),
-                        rel.relatedMember().nickname(),
-                        rel.relatedMember().email(),
-                        rel.relatedMember().profile() != null ? rel.relatedMember().profile().fileUrl() : null
-                ))
-                .toList();
+    /**
+     * 닉네임/프로필 이미지 변경을 회원 정보가 비정규화된 문서에 전파
+     * external version 으로 순서를 보장하므로 _update_by_query 대신 아웃박스 이벤트로 문서를 다시 만든다.
+     */
+    @Transactional
+    public int propagateMemberProfile(Long memberId) {
+        int enqueuedCount = memoryIndexOutboxRepository.enqueueMemberProfileEvents(memberId, propagationEventsPerSecond);
+        log.info("Enqueued member profile propagation. memberId: {}, memories: {}", memberId, enqueuedCount);
+        return enqueuedCount;
+    }
 
-        return new RelationshipInfo(relationships);
+    /**
+     * 관계 수락/종료로 바뀐 관계 멤버 정보를 양쪽 회원이 작성한 문서에 전파
+     */
+    @Transactional
+    public int propagateRelationshipChange(Long memberId, Long relatedMemberId) {
+        int enqueuedCount = memoryIndexOutboxRepository.enqueueMemberMemoryEvents(
+                List.of(memberId, relatedMemberId), propagationEventsPerSecond);
+        log.info("Enqueued relationship propagation. memberIds: [{}, {}], memories: {}", memberId, relatedMemberId, enqueuedCount);
+        return enqueuedCount;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,156 @@
+package com.memory.service.document;
+
+import com.memory.document.memory.MemoryDocument;
+import com.memory.document.memory.MemoryIndexOperation;
+import com.memory.document.memory.RelationshipInfo;
+import com.memory.domain.member.Member;
+import com.memory.domain.memory.Memory;
+import com.memory.domain.memory.repository.MemoryRepository;
+import com.memory.domain.outbox.MemoryIndexEventType;
+import com.memory.domain.outbox.MemoryIndexOutbox;
+import com.memory.domain.outbox.repository.MemoryIndexOutboxRepository;
+import com.memory.domain.relationship.RelationshipStatus;
+import com.memory.domain.relationship.repository.RelationshipRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemoryIndexOutboxService {
+
+    private final MemoryIndexOutboxRepository memoryIndexOutboxRepository;
+    private final MemoryRepository memoryRepository;
+    private final RelationshipRepository relationshipRepository;
+
+    /**
+     * 처리할 이벤트를 가져와 PROCESSING 상태로 변경 (커밋 시점에 잠금 해제)
+     */
+    @Transactional
+    public List<MemoryIndexOutbox> claimEvents(int limit, Duration leaseTimeout) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MemoryIndexOutbox> events = memoryIndexOutboxRepository.findProcessableEventsForUpdate(
+                now, now.minus(leaseTimeout), limit);
+
+        events.forEach(MemoryIndexOutbox::claim);
+        return events;
+    }
+
+    /**
+     * 이벤트를 벌크 인덱싱 요청으로 변환
+     * 같은 메모리에 대한 이벤트가 여러 개면 가장 마지막 이벤트만 반영한다.
+     */
+    @Transactional(readOnly = true)
+    public IndexBatch prepareBatch(List<MemoryIndexOutbox> events) {
+        Map<Long, MemoryIndexOutbox> latestEvents = new LinkedHashMap<>();
+        for (MemoryIndexOutbox event : events) {
+            latestEvents.merge(event.getMemoryId(), event,
+                    (current, candidate) -> candidate.getId() > current.getId() ? candidate : current);
+        }
+
+        Map<Long, RelationshipInfo> relationshipsByMember = new HashMap<>();
+        List<MemoryIndexOperation> operations = new ArrayList<>();
+        Map<Long, String> buildFailures = new HashMap<>();
+
+        for (MemoryIndexOutbox event : latestEvents.values()) {
+            try {
+                operations.add(toOperation(event, relationshipsByMember));
+            } catch (Exception e) {
+                log.error("Failed to build memory document. memoryId: {}", event.getMemoryId(), e);
+                buildFailures.put(event.getMemoryId(), String.valueOf(e.getMessage()));
+            }
+        }
+
+        return new IndexBatch(operations, buildFailures);
+    }
+
+    /**
+     * 처리 결과 반영. 실패한 메모리의 이벤트는 백오프 후 재시도되고, 최대 재시도를 넘기면 FAILED 로 남는다.
+     * version conflict 로 거절된 메모리는 전체 재색인 버전보다 먼저 발급되었지만 재색인이 읽은 뒤에 커밋된 변경일 수 있으므로,
+     * 이벤트는 완료 처리하고 더 큰 ID(버전)의 이벤트를 새로 기록해 다시 반영한다.
+     */
+    @Transactional
+    public void completeEvents(List<MemoryIndexOutbox> events, Map<Long, String> failures, Set<Long> versionConflicts) {
+        List<Long> eventIds = events.stream()
+                .map(MemoryIndexOutbox::getId)
+                .toList();
+
+        for (MemoryIndexOutbox event : memoryIndexOutboxRepository.findAllById(eventIds)) {
+            if (!failures.containsKey(event.getMemoryId())) {
+                event.markAsCompleted();
+                continue;
+            }
+
+            event.markAsFailed(failures.get(event.getMemoryId()));
+            if (event.isFailed()) {
+                log.error("Memory index event exceeded max retry count. eventId: {}, memoryId: {}, reason: {}",
+                        event.getId(), event.getMemoryId(), event.getFailureReason());
+            }
+        }
+
+        if (!versionConflicts.isEmpty()) {
+            log.info("Replaying memory index events rejected by version conflict. memoryIds: {}", versionConflicts);
+            memoryIndexOutboxRepository.saveAll(versionConflicts.stream()
+                    .map(MemoryIndexOutbox::upsert)
+                    .toList());
+        }
+    }
+
+    @Transactional
+    public long requeueFailedEvents() {
+        return memoryIndexOutboxRepository.requeueFailedEvents();
+    }
+
+    @Transactional
+    public long purgeCompletedEvents(Duration retention) {
+        return memoryIndexOutboxRepository.deleteCompletedEventsBefore(LocalDateTime.now().minus(retention));
+    }
+
+    /**
+     * 전체 재색인에 사용할 문서 버전 발급 (nextval 은 읽기 전용 트랜잭션에서 호출할 수 없음)
+     */
+    @Transactional
+    public long nextIndexVersion() {
+        return memoryIndexOutboxRepository.nextEventSequence();
+    }
+
+    @Transactional(readOnly = true)
+    public long countFailedEvents() {
+        return memoryIndexOutboxRepository.countFailedEvents();
+    }
+
+    private MemoryIndexOperation toOperation(MemoryIndexOutbox event, Map<Long, RelationshipInfo> relationshipsByMember) {
+        if (event.getEventType() == MemoryIndexEventType.DELETE) {
+            return MemoryIndexOperation.delete(event.getMemoryId(), event.getVersion());
+        }
+
+        Optional<Memory> memory = memoryRepository.findById(event.getMemoryId());
+        if (memory.isEmpty() || memory.get().isDeleted()) {
+            return MemoryIndexOperation.delete(event.getMemoryId(), event.getVersion());
+        }
+
+        Member member = memory.get().getMember();
+        RelationshipInfo relationships = relationshipsByMember.computeIfAbsent(member.getId(),
+                memberId -> RelationshipInfo.fromRelationships(
+                        relationshipRepository.findByMemberAndRelationshipStatus(member, RelationshipStatus.ACCEPTED)));
+
+        return MemoryIndexOperation.index(MemoryDocument.from(memory.get(), relationships), event.getVersion());
+    }
+
+    public record IndexBatch(
+            List<MemoryIndexOperation> operations,
+            Map<Long, String> buildFailures
+    ) {}
+}
@@ -0,0 +1,89 @@
+package com.memory.service.document;
+
+import com.memory.document.memory.MemoryBulkIndexResult;
+import com.memory.document.memory.MemoryDocumentRepository;
+import com.memory.domain.outbox.MemoryIndexOutbox;
+import com.memory.service.search.MemorySearchCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인덱싱 아웃박스를 주기적으로 읽어 Elasticsearch 에 벌크로 반영하는 워커
+ */
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "search.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MemoryIndexOutboxWorker {
+
+    private final MemoryIndexOutboxService memoryIndexOutboxService;
+    private final MemoryDocumentRepository memoryDocumentRepository;
+    private final MemorySearchCache memorySearchCache;
+
+    @Value("${search.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${search.outbox.lease-timeout-seconds:300}")
+    private long leaseTimeoutSeconds;
+
+    @Value("${search.outbox.retention-days:7}")
+    private long retentionDays;
+
+    @Scheduled(fixedDelayString = "${search.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        int claimedCount;
+        do {
+            claimedCount = processBatch();
+        } while (claimedCount >= batchSize);
+    }
+
+    @Scheduled(cron = "${search.outbox.purge-cron:0 0 4 * * *}")
+    public void purgeCompletedEvents() {
+        long deletedCount = memoryIndexOutboxService.purgeCompletedEvents(Duration.ofDays(retentionDays));
+        log.info("Purged completed memory index events: {}", deletedCount);
+    }
+
+    int processBatch() {
+        List<MemoryIndexOutbox> events = memoryIndexOutboxService.claimEvents(batchSize, Duration.ofSeconds(leaseTimeoutSeconds));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        MemoryIndexOutboxService.IndexBatch batch = memoryIndexOutboxService.prepareBatch(events);
+        Map<Long, String> failures = new HashMap<>(batch.buildFailures());
+        Set<Long> versionConflicts = Set.of();
+
+        try {
+            MemoryBulkIndexResult result = memoryDocumentRepository.bulkApply(batch.operations());
+            failures.putAll(result.failures());
+            versionConflicts = result.versionConflicts();
+        } catch (Exception e) {
+            log.error("Failed to bulk index memory documents. operations: {}", batch.operations().size(), e);
+            batch.operations().forEach(operation -> failures.put(operation.memoryId(), String.valueOf(e.getMessage())));
+        }
+
+        memoryIndexOutboxService.completeEvents(events, failures, versionConflicts);
+        Set<Long> notApplied = versionConflicts;
+        memorySearchCache.onIndexed(batch.operations().stream()
+                .filter(operation -> !failures.containsKey(operation.memoryId()))
+                .filter(operation -> !notApplied.contains(operation.memoryId()))
+                .toList());
+
+        if (!failures.isEmpty()) {
+            log.warn("Memory index batch finished with failures. events: {}, failed memories: {}", events.size(), failures.keySet());
+        }
+        return events.size();
+    }
+}
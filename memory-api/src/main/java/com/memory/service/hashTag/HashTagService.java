@@ -5,12 +5,18 @@ import com.memory.domain.hashtag.MemoryHashTag;
 import com.memory.domain.hashtag.repository.HashTagRepository;
 import com.memory.domain.hashtag.repository.MemoryHashTagRepository;
 import com.memory.domain.memory.Memory;
+import com.memory.dto.hashtag.response.HashTagResponse;
+import com.memory.dto.search.HashtagFacet;
+import com.memory.service.search.HashtagTrendService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -18,6 +24,7 @@ public class HashTagService {
 
     private final HashTagRepository hashTagRepository;
     private final MemoryHashTagRepository memoryHashTagRepository;
+    private final HashtagTrendService hashtagTrendService;
 
     @Transactional
     public List<HashTag> findOrCreateHashTags(List<String> hashTagNames) {
@@ -51,9 +58,28 @@ public class HashTagService {
         return hashTagRepository.findHashTagsByNameContaining(keyword, limit);
     }
 
+    /**
+     * 인기 해시태그 (검색 인덱스의 PUBLIC 메모리 집계 기준)
+     * HashTag.useCount 는 비공개 메모리까지 포함한 누적 값이라 공개 목록의 순위에 쓰지 않고, 이름 검색 정렬에만 사용한다.
+     * 인덱스에는 있지만 삭제된 해시태그는 제외한다.
+     */
     @Transactional(readOnly = true)
-    public List<HashTag> getPopularHashTags(int limit) {
-        return hashTagRepository.findPopularHashTags(limit);
+    public List<HashTagResponse> getPopularHashTags(int limit) {
+        List<HashtagFacet> facets = hashtagTrendService.getPublicPopular(limit);
+        if (facets.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, HashTag> hashTagsByName = hashTagRepository.findByNames(facets.stream()
+                        .map(HashtagFacet::getName)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(HashTag::getName, Function.identity()));
+
+        return facets.stream()
+                .filter(facet -> hashTagsByName.containsKey(facet.getName()))
+                .map(facet -> HashTagResponse.of(hashTagsByName.get(facet.getName()), facet.getCount()))
+                .toList();
     }
 
     private HashTag createHashTag(String hashTagName) {
@@ -12,11 +12,14 @@ import com.memory.dto.member.response.MemberResponse;
 import com.memory.exception.customException.ConflictException;
 import com.memory.exception.customException.NotFoundException;
 import com.memory.exception.customException.ValidationException;
+import com.memory.service.document.MemoryDocumentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 public class MemberService {
@@ -25,6 +28,7 @@ public class MemberService {
     private final FileRepository fileRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final MemoryDocumentService memoryDocumentService;
 
     @Transactional
     public MemberResponse signup(MemberRequest.Signup signupRequestDto) {
@@ -71,8 +75,15 @@ public class MemberService {
             throw new ValidationException("이미 다른 회원과 연결된 파일입니다.");
         }
 
+        boolean profileChanged = !Objects.equals(member.getNickname(), updateRequestDto.getNickname())
+                || member.getFile() != file;
         member.update(updateRequestDto.getNickname(), file);
 
+        // 메모리 검색 문서에 복사된 닉네임/프로필 이미지 갱신 요청
+        if (profileChanged) {
+            memoryDocumentService.propagateMemberProfile(memberId);
+        }
+
         return MemberResponse.from(member);
     }
 
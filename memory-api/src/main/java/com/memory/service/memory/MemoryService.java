@@ -2,24 +2,24 @@ package com.memory.service.memory;
 
 import com.memory.domain.file.File;
 import com.memory.domain.file.repository.FileRepository;
-import com.memory.domain.map.Map;
 import com.memory.domain.map.repository.MapRepository;
 import com.memory.domain.member.Member;
 import com.memory.domain.member.repository.MemberRepository;
 import com.memory.domain.memory.Memory;
 import com.memory.domain.memory.MemoryType;
+import com.memory.domain.memory.repository.MemoryFeedRow;
 import com.memory.domain.memory.repository.MemoryRepository;
-import com.memory.domain.relationship.Relationship;
-import com.memory.domain.relationship.RelationshipStatus;
-import com.memory.domain.relationship.repository.RelationshipRepository;
+import com.memory.dto.file.response.FileResponse;
 import com.memory.dto.memory.MemoryRequest;
 import com.memory.dto.memory.response.MemoryResponse;
 import com.memory.exception.customException.NotFoundException;
+import com.memory.service.relationship.MemberVisibilityService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,14 +30,14 @@ public class MemoryService {
     private final MemberRepository memberRepository;
     private final MapRepository mapRepository;
     private final FileRepository fileRepository;
-    private final RelationshipRepository relationshipRepository;
+    private final MemberVisibilityService memberVisibilityService;
 
     @Transactional
     public MemoryResponse createMemory(Long memberId, MemoryRequest.Create createRequest) {
         Member member = memberRepository.findMemberById(memberId)
                 .orElseThrow(() -> new NotFoundException("회원을 찾을 수 없습니다."));
 
-        Map map = mapRepository.findById(createRequest.getMapId())
+        com.memory.domain.map.Map map = mapRepository.findById(createRequest.getMapId())
                 .orElseThrow(() -> new NotFoundException("지도를 찾을 수 없습니다."));
 
         Memory savedMemory = memoryRepository.save(createRequest.toEntity(member, map));
@@ -78,22 +78,10 @@ public class MemoryService {
         Member member = memberRepository.findMemberById(memberId)
                 .orElseThrow(() -> new NotFoundException("회원을 찾을 수 없습니다."));
 
-        List<Relationship> relationshipList = relationshipRepository.findByMemberAndRelationshipStatus(member, RelationshipStatus.ACCEPTED);
+        List<Long> relatedMemberIds = memberVisibilityService.getRelatedMemberIds(memberId);
 
-        List<Long> relatedMemberIds = relationshipList.stream()
-                .map(relationship -> relationship.getRelatedMember().getId())
-                .toList();
-
-        List<Memory> memories;
-        if (lastMemoryId == null) {
-            memories = memoryRepository.findByMemberAndMemoryType(member, relatedMemberIds, memoryType, size);
-        } else {
-            memories = memoryRepository.findByMemberAndMemoryType(member, relatedMemberIds, memoryType, lastMemoryId, size);
-        }
-
-        return memories.stream()
-                .map(MemoryResponse::from)
-                .collect(Collectors.toList());
+        List<MemoryFeedRow> memories = memoryRepository.findFeedByMember(member, relatedMemberIds, memoryType, lastMemoryId, size);
+        return toFeedResponses(memories);
     }
 
     @Transactional
@@ -139,16 +127,8 @@ public class MemoryService {
 
     @Transactional(readOnly = true)
     public List<MemoryResponse> findPublicMemories(Long lastMemoryId, Integer size) {
-        List<Memory> memories;
-        if (lastMemoryId == null) {
-            memories = memoryRepository.findByMemoryType(MemoryType.PUBLIC, size);
-        } else {
-            memories = memoryRepository.findByMemoryType(MemoryType.PUBLIC, lastMemoryId, size != null ? size : 10);
-        }
-
-        return memories.stream()
-                .map(MemoryResponse::from)
-                .collect(Collectors.toList());
+        List<MemoryFeedRow> memories = memoryRepository.findFeedByMemoryType(MemoryType.PUBLIC, lastMemoryId, size != null ? size : 10);
+        return toFeedResponses(memories);
     }
 
     @Transactional(readOnly = true)
@@ -157,4 +137,31 @@ public class MemoryService {
                 .orElseThrow(() -> new NotFoundException("해당 유저의 메모리를 찾을 수 없습니다."));
     }
 
+    /**
+     * 피드 응답 조립 - 파일/해시태그를 페이지의 memoryId 로 한 번씩만 조회
+     * (댓글 수는 피드 조회 결과의 comments_count 를 그대로 사용)
+     */
+    private List<MemoryResponse> toFeedResponses(List<MemoryFeedRow> memories) {
+        if (memories.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> memoryIds = memories.stream()
+                .map(MemoryFeedRow::id)
+                .toList();
+
+        Map<Long, List<FileResponse>> filesByMemoryId = memoryRepository.findFeedFiles(memoryIds).stream()
+                .collect(Collectors.groupingBy(MemoryFeedRow.FileRow::memoryId,
+                        Collectors.mapping(FileResponse::from, Collectors.toList())));
+        Map<Long, List<String>> hashTagNamesByMemoryId = memoryRepository.findFeedHashTags(memoryIds).stream()
+                .collect(Collectors.groupingBy(MemoryFeedRow.HashTagRow::memoryId,
+                        Collectors.mapping(MemoryFeedRow.HashTagRow::name, Collectors.toList())));
+
+        return memories.stream()
+                .map(memory -> MemoryResponse.of(memory,
+                        filesByMemoryId.getOrDefault(memory.id(), List.of()),
+                        hashTagNamesByMemoryId.getOrDefault(memory.id(), List.of())))
+                .collect(Collectors.toList());
+    }
+
 }
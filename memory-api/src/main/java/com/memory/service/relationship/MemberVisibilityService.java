@@ -0,0 +1,68 @@
+package com.memory.service.relationship;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.memory.document.memory.MemoryVisibility;
+import com.memory.domain.relationship.RelationshipStatus;
+import com.memory.domain.relationship.repository.RelationshipRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 회원별 메모리 조회 범위(본인 + 관계가 수락된 멤버) 캐시
+ * 검색(ES terms 필터)과 메모리 목록(QueryDSL 접근 조건)이 요청마다 관계를 조회하지 않도록 한다.
+ * 관계 수락/종료 시 양쪽 회원을 커밋 이후에 무효화하고, 다른 인스턴스에는 TTL 이후 반영된다.
+ */
+@Service
+public class MemberVisibilityService {
+
+    private final RelationshipRepository relationshipRepository;
+    private final Cache<Long, MemoryVisibility> visibilityCache;
+
+    public MemberVisibilityService(RelationshipRepository relationshipRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${member.visibility-cache.maximum-size:10000}") long maximumSize,
+                                   @Value("${member.visibility-cache.ttl-minutes:10}") long ttlMinutes) {
+        this.relationshipRepository = relationshipRepository;
+        this.visibilityCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, visibilityCache, "member.visibility");
+    }
+
+    public MemoryVisibility getVisibility(Long memberId) {
+        return visibilityCache.get(memberId, id -> new MemoryVisibility(id,
+                relationshipRepository.findRelatedMemberIds(id, RelationshipStatus.ACCEPTED)));
+    }
+
+    public List<Long> getRelatedMemberIds(Long memberId) {
+        return getVisibility(memberId).relatedMemberIds();
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화 (커밋 전에 다른 요청이 이전 관계를 다시 캐시하지 않도록)
+     */
+    public void evict(Long... memberIds) {
+        List<Long> targets = List.of(memberIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    visibilityCache.invalidateAll(targets);
+                }
+            });
+            return;
+        }
+        visibilityCache.invalidateAll(targets);
+    }
+}
@@ -9,6 +9,7 @@ import com.memory.dto.relationship.RelationshipRequest;
 import com.memory.dto.relationship.response.RelationshipListResponse;
 import com.memory.dto.relationship.response.RelationshipResponse;
 import com.memory.exception.customException.NotFoundException;
+import com.memory.service.document.MemoryDocumentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +22,8 @@ public class RelationshipService {
 
     private final RelationshipRepository relationshipRepository;
     private final MemberRepository memberRepository;
+    private final MemberVisibilityService memberVisibilityService;
+    private final MemoryDocumentService memoryDocumentService;
 
     @Transactional
     public RelationshipResponse createRelationshipRequest(Long memberId, RelationshipRequest.Create createRequestDto) {
@@ -53,6 +56,8 @@ public class RelationshipService {
                 RelationshipStatus.ACCEPTED
         );
         relationshipRepository.save(reciprocalRelationship);
+        memberVisibilityService.evict(relationship.getMember().getId(), relationship.getRelatedMember().getId());
+        memoryDocumentService.propagateRelationshipChange(relationship.getMember().getId(), relationship.getRelatedMember().getId());
 
         return RelationshipResponse.from(relationship);
     }
@@ -114,6 +119,8 @@ public class RelationshipService {
                 reciprocalRelationship.end();
             }
         }
+        memberVisibilityService.evict(relationship.getMember().getId(), relationship.getRelatedMember().getId());
+        memoryDocumentService.propagateRelationshipChange(relationship.getMember().getId(), relationship.getRelatedMember().getId());
 
         return RelationshipResponse.from(relationship);
     }
@@ -0,0 +1,65 @@
+package com.memory.service.search;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 제목/해시태그 자동완성을 동시에 요청하는 스레드 풀 (스레드 이름 autocomplete-N)
+ * 대기열이 가득 차면 요청 스레드에서 대신 실행하지 않고 바로 거절하여, 해당 자동완성은 마감 시간을 기다리지 않고 빈 결과가 된다.
+ */
+@Component
+public class AutocompleteExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public AutocompleteExecutor(@Value("${search.autocomplete.pool-size:16}") int poolSize,
+                                @Value("${search.autocomplete.queue-capacity:64}") int queueCapacity) {
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("autocomplete-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 마감 시간 안에 끝나지 않으면 null 로 완료하고 실행 중인 작업은 취소(인터럽트)한다.
+     * 풀이 가득 차 거절되면 {@link RejectedExecutionException} 으로 바로 실패한 future 를 반환한다.
+     */
+    public <T> CompletableFuture<T> supplyWithinDeadline(Supplier<T> supplier, long deadlineMs) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(supplier.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        return result.completeOnTimeout(null, deadlineMs, TimeUnit.MILLISECONDS)
+                .whenComplete((value, e) -> {
+                    if (!task.isDone()) {
+                        task.cancel(true);
+                    }
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,105 @@
+package com.memory.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.memory.document.memory.MemoryDocumentRepository;
+import com.memory.document.memory.MemoryVisibility;
+import com.memory.dto.search.HashtagFacet;
+import com.memory.dto.search.HashtagTrendResponse;
+import com.memory.dto.search.HashtagTrendWindow;
+import com.memory.exception.customException.ValidationException;
+import com.memory.service.relationship.MemberVisibilityService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 검색 인덱스의 hashTags 집계로 계산하는 기간별 인기/급상승 해시태그
+ * 게스트(PUBLIC) 결과는 모든 사용자에게 같으므로 짧은 TTL 로 캐시한다.
+ */
+@Service
+public class HashtagTrendService {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final MemoryDocumentRepository memoryDocumentRepository;
+    private final MemberVisibilityService memberVisibilityService;
+    private final Cache<TrendKey, List<HashtagFacet>> publicTrendCache;
+
+    public HashtagTrendService(MemoryDocumentRepository memoryDocumentRepository,
+                               MemberVisibilityService memberVisibilityService,
+                               MeterRegistry meterRegistry,
+                               @Value("${search.hashtag-trend.cache-ttl-seconds:60}") long cacheTtlSeconds) {
+        this.memoryDocumentRepository = memoryDocumentRepository;
+        this.memberVisibilityService = memberVisibilityService;
+        this.publicTrendCache = Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, publicTrendCache, "memory.hashtag.trend.public");
+    }
+
+    /**
+     * 게스트 사용자의 해시태그 트렌드 (PUBLIC 메모리만)
+     */
+    public HashtagTrendResponse getPublicTrend(HashtagTrendWindow window, boolean trending, int limit) {
+        validateLimit(limit);
+
+        List<HashtagFacet> hashtags = publicTrendCache.get(new TrendKey(window, trending, limit),
+                key -> memoryDocumentRepository.aggregateHashtags(null, since(window), trending, limit));
+        return toResponse(window, trending, hashtags);
+    }
+
+    /**
+     * 전체 기간의 인기 해시태그 (PUBLIC 메모리 수 기준, 게스트와 같은 캐시 사용)
+     */
+    public List<HashtagFacet> getPublicPopular(int limit) {
+        validateLimit(limit);
+
+        return publicTrendCache.get(new TrendKey(null, false, limit),
+                key -> memoryDocumentRepository.aggregateHashtags(null, null, false, limit));
+    }
+
+    /**
+     * 인증된 사용자의 해시태그 트렌드 (본인 + 관계된 사용자 + PUBLIC 메모리)
+     */
+    public HashtagTrendResponse getAuthenticatedTrend(Long memberId, HashtagTrendWindow window, boolean trending, int limit) {
+        validateLimit(limit);
+
+        MemoryVisibility visibility = memberVisibilityService.getVisibility(memberId);
+        List<HashtagFacet> hashtags = memoryDocumentRepository.aggregateHashtags(visibility, since(window), trending, limit);
+        return toResponse(window, trending, hashtags);
+    }
+
+    /**
+     * 분 단위로 내림하여 같은 분 안의 요청은 같은 쿼리가 되도록 한다 (Elasticsearch shard request cache)
+     */
+    private Instant since(HashtagTrendWindow window) {
+        return Instant.now().truncatedTo(ChronoUnit.MINUTES).minus(window.getDuration());
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("limit 은 1 ~ " + MAX_LIMIT + " 사이여야 합니다.");
+        }
+    }
+
+    private HashtagTrendResponse toResponse(HashtagTrendWindow window, boolean trending, List<HashtagFacet> hashtags) {
+        return HashtagTrendResponse.builder()
+                .window(window)
+                .trending(trending)
+                .hashtags(hashtags)
+                .build();
+    }
+
+    private record TrendKey(HashtagTrendWindow window, boolean trending, int limit) {
+    }
+}
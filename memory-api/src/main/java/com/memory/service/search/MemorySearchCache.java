@@ -0,0 +1,204 @@
+package com.memory.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.memory.document.memory.MemoryIndexOperation;
+import com.memory.dto.search.AutocompleteResponse;
+import com.memory.dto.search.MemorySearchRequest;
+import com.memory.dto.search.MemorySearchResponse;
+import com.memory.dto.search.SearchResultResponse;
+import com.memory.dto.search.SearchType;
+import com.memory.dto.search.SearchView;
+import com.memory.dto.search.TimelineInterval;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 게스트(PUBLIC) 검색/자동완성 결과 캐시 (인스턴스 로컬, 크기 + TTL 제한)
+ * <p>
+ * 키에 세대(generation) 번호를 포함하여, PUBLIC 검색 결과가 바뀔 수 있는 색인이 반영되면 세대를 올려 이전 결과를 더 이상 조회하지 않는다.
+ * 이전 세대 항목은 TTL 또는 크기 제한으로 정리된다.
+ * 다른 인스턴스의 워커가 반영한 변경은 알 수 없으므로 그 경우의 최대 지연은 TTL 이다.
+ */
+@Component
+public class MemorySearchCache {
+
+    private final Cache<SearchKey, SearchResultResponse> searchCache;
+    private final Cache<AutocompleteKey, AutocompleteResponse> autocompleteCache;
+    private final AtomicLong generation = new AtomicLong();
+    // 현재 세대의 캐시된 검색 결과에 포함된 메모리 (비공개 전환/삭제 시 무효화 판단용)
+    private final Set<Long> cachedMemoryIds = ConcurrentHashMap.newKeySet();
+
+    public MemorySearchCache(MeterRegistry meterRegistry,
+                             @Value("${search.cache.maximum-size:1000}") long maximumSize,
+                             @Value("${search.cache.search-ttl-seconds:30}") long searchTtlSeconds,
+                             @Value("${search.cache.autocomplete-ttl-seconds:10}") long autocompleteTtlSeconds) {
+        this.searchCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(searchTtlSeconds))
+                .recordStats()
+                .build();
+        this.autocompleteCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(autocompleteTtlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, searchCache, "memory.search.public");
+        CaffeineCacheMetrics.monitor(meterRegistry, autocompleteCache, "memory.autocomplete.public");
+        Gauge.builder("memory.search.cache.generation", generation, AtomicLong::get)
+                .description("Generation of public search cache entries")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커서 검색은 point-in-time 상태를 가지므로 캐시하지 않는다
+     * 마감 시간을 넘겨 일부 결과만 담긴 응답도 TTL 동안 남지 않도록 저장하지 않는다
+     */
+    public SearchResultResponse getSearch(MemorySearchRequest request, Supplier<SearchResultResponse> loader) {
+        if (request.isCursorPaging() || StringUtils.hasText(request.getCursor())) {
+            return loader.get();
+        }
+
+        SearchKey key = SearchKey.of(generation.get(), request);
+        SearchResultResponse cached = searchCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        SearchResultResponse response = loader.get();
+        if (!isPartial(response)) {
+            searchCache.put(key, response);
+            trackMemoryIds(response);
+        }
+        return response;
+    }
+
+    /**
+     * 묶음 검색용 조회, 캐시에 없는 검색만 모아서 한 번에 실행한 뒤 {@link #putSearch} 로 저장한다
+     */
+    public SearchResultResponse findSearch(MemorySearchRequest request) {
+        return searchCache.getIfPresent(SearchKey.of(generation.get(), request));
+    }
+
+    /**
+     * 조회 시점의 세대(generation)로 저장해야 실행 중에 무효화된 결과가 새 세대에 섞이지 않는다
+     */
+    public void putSearch(long searchGeneration, MemorySearchRequest request, SearchResultResponse response) {
+        if (searchGeneration != generation.get() || isPartial(response)) {
+            return;
+        }
+        searchCache.put(SearchKey.of(searchGeneration, request), response);
+        trackMemoryIds(response);
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 한쪽 결과가 빠진(partial) 응답은 저장하지 않아, 일시적인 지연이 TTL 동안 같은 검색어의 결과로 남지 않도록 한다
+     */
+    public AutocompleteResponse getAutocomplete(String query, int limit, Supplier<AutocompleteResponse> loader) {
+        AutocompleteKey key = new AutocompleteKey(generation.get(), normalizeQuery(query), limit);
+        AutocompleteResponse cached = autocompleteCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        AutocompleteResponse response = loader.get();
+        if (!response.isPartial()) {
+            autocompleteCache.put(key, response);
+        }
+        return response;
+    }
+
+    /**
+     * 색인이 반영된 작업 중 PUBLIC 결과에 영향을 줄 수 있는 것이 있으면 세대를 올린다
+     * (PUBLIC 문서 색인, 삭제, 캐시된 결과에 포함된 메모리의 변경)
+     */
+    public void onIndexed(Collection<MemoryIndexOperation> operations) {
+        boolean affectsPublic = operations.stream().anyMatch(operation ->
+                operation.type() == MemoryIndexOperation.Type.DELETE
+                        || cachedMemoryIds.contains(operation.memoryId())
+                        || "PUBLIC".equals(operation.document().getMemoryType()));
+
+        if (affectsPublic) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * 인덱스 교체(재구축, 롤백)처럼 전체 결과가 바뀌는 경우
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cachedMemoryIds.clear();
+    }
+
+    private boolean isPartial(SearchResultResponse response) {
+        return response.getMetadata() != null && response.getMetadata().isPartial();
+    }
+
+    private void trackMemoryIds(SearchResultResponse response) {
+        response.getMemories().stream()
+                .map(MemorySearchResponse::getMemoryId)
+                .forEach(cachedMemoryIds::add);
+    }
+
+    private static String normalizeQuery(String query) {
+        return query == null ? null : query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 결과에 영향을 주는 요청 값만 정규화하여 사용 (해시태그는 OR 조건이므로 순서/중복 무시)
+     */
+    private record SearchKey(
+        long generation,
+        SearchType type,
+        String query,
+        List<String> hashtags,
+        LocalDate fromDate,
+        LocalDate toDate,
+        TimelineInterval timelineInterval,
+        int page,
+        int size,
+        boolean highlight,
+        Integer highlightFragmentSize,
+        Integer highlightFragmentCount,
+        boolean fragmentsOnly,
+        SearchView view,
+        boolean hashtagFacets
+    ) {
+        static SearchKey of(long generation, MemorySearchRequest request) {
+            List<String> hashtags = request.getHashtags() == null ? null : request.getHashtags().stream()
+                    .map(String::trim)
+                    .distinct()
+                    .sorted()
+                    .toList();
+
+            return new SearchKey(generation, request.getType(), normalizeQuery(request.getQuery()), hashtags,
+                    request.getFromDate(), request.getToDate(), request.getTimelineInterval(),
+                    request.getPage(), request.getSize(), request.isHighlight(),
+                    request.getHighlightFragmentSize(), request.getHighlightFragmentCount(),
+                    request.isFragmentsOnly(), request.getView(), request.isHashtagFacets());
+        }
+    }
+
+    private record AutocompleteKey(long generation, String query, int limit) {
+    }
+}
@@ -0,0 +1,194 @@
+package com.memory.service.search;
+
+import com.memory.document.memory.MemorySearchListener;
+import com.memory.dto.search.MemorySearchRequest;
+import com.memory.dto.search.SearchType;
+import com.memory.dto.search.SlowSearchQuery;
+import com.memory.exception.customException.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 계측
+ * <ul>
+ *     <li>memory.search.duration - 검색 종류/게스트 여부별 서비스 전체 소요 시간 (히스토그램, 캐시 적중 포함)</li>
+ *     <li>memory.search.took - 같은 검색의 Elasticsearch took, duration 과의 차이가 네트워크/역직렬화/응답 변환 시간</li>
+ *     <li>memory.search.zero.results - 결과가 없는 검색 수</li>
+ *     <li>느린 검색 - 임계값을 넘긴 검색을 실행한 query 절과 함께 가장 느린 N 건 보관</li>
+ * </ul>
+ * 검색 종류는 {@link SearchType} 이름 또는 {@link #BATCH}, {@link #NEARBY}, {@link #AREA}, {@link #DETAIL} 이다.
+ * 저장소가 실행한 쿼리는 {@link MemorySearchListener} 로 같은 스레드에서 전달받아 진행 중인 기록에 붙인다.
+ */
+@Component
+public class MemorySearchMetrics implements MemorySearchListener {
+
+    public static final String BATCH = "BATCH";
+    public static final String NEARBY = "NEARBY";
+    public static final String AREA = "AREA";
+    public static final String DETAIL = "DETAIL";
+
+    private static final Duration[] SERVICE_LEVEL_OBJECTIVES = {
+            Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(200),
+            Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2)
+    };
+
+    private final MeterRegistry meterRegistry;
+    private final SlowSearchQueryLog slowSearchQueryLog;
+    private final long slowThresholdMs;
+    private final ThreadLocal<Recording> currentRecording = new ThreadLocal<>();
+
+    public MemorySearchMetrics(MeterRegistry meterRegistry,
+                               @Value("${search.slow-query.threshold-ms:300}") long slowThresholdMs,
+                               @Value("${search.slow-query.capacity:100}") int capacity) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdMs = slowThresholdMs;
+        this.slowSearchQueryLog = new SlowSearchQueryLog(capacity);
+    }
+
+    /**
+     * 검색 한 건의 기록 시작, try-with-resources 로 닫아야 스레드에 남지 않는다
+     */
+    public Recording start(MemorySearchRequest request, boolean authenticated) {
+        return start(request.getType().name(), describeCondition(request), authenticated);
+    }
+
+    /**
+     * 검색 요청 DTO 가 없는 검색(묶음/주변/영역/상세)의 기록 시작
+     */
+    public Recording start(String searchType, String condition, boolean authenticated) {
+        Recording recording = new Recording(searchType, condition, authenticated);
+        currentRecording.set(recording);
+        return recording;
+    }
+
+    @Override
+    public void onSearchExecuted(String queryDsl, Duration took) {
+        Recording recording = currentRecording.get();
+        if (recording != null) {
+            recording.executed(queryDsl, took);
+        }
+    }
+
+    /**
+     * 보관 중인 가장 느린 검색을 느린 순서로 limit 건 (1 ~ search.slow-query.capacity)
+     */
+    public List<SlowSearchQuery> getSlowQueries(int limit) {
+        int maxLimit = Math.max(slowSearchQueryLog.capacity(), 1);
+        if (limit < 1 || limit > maxLimit) {
+            throw new ValidationException("limit 은 1 ~ " + maxLimit + " 사이여야 합니다.");
+        }
+        return slowSearchQueryLog.slowest(limit);
+    }
+
+    public void clearSlowQueries() {
+        slowSearchQueryLog.clear();
+    }
+
+    private Timer durationTimer(String searchType, boolean authenticated) {
+        return Timer.builder("memory.search.duration")
+                .description("Memory search time measured by the service")
+                .tag("type", searchType)
+                .tag("audience", audience(authenticated))
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES)
+                .register(meterRegistry);
+    }
+
+    private Timer tookTimer(String searchType, boolean authenticated) {
+        return Timer.builder("memory.search.took")
+                .description("Memory search time reported by Elasticsearch (took)")
+                .tag("type", searchType)
+                .tag("audience", audience(authenticated))
+                .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES)
+                .register(meterRegistry);
+    }
+
+    private Counter zeroResultCounter(String searchType, boolean authenticated) {
+        return Counter.builder("memory.search.zero.results")
+                .description("Number of memory searches without any hit")
+                .tag("type", searchType)
+                .tag("audience", audience(authenticated))
+                .register(meterRegistry);
+    }
+
+    private static String audience(boolean authenticated) {
+        return authenticated ? "member" : "guest";
+    }
+
+    private static String describeCondition(MemorySearchRequest request) {
+        return switch (request.getType()) {
+            case HASHTAGS -> String.valueOf(request.getHashtags());
+            case DATE -> request.getFromDate() + " ~ " + request.getToDate();
+            default -> request.getQuery();
+        };
+    }
+
+    public final class Recording implements AutoCloseable {
+
+        private final String searchType;
+        private final String condition;
+        private final boolean authenticated;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startNanos = System.nanoTime();
+        private String queryDsl;
+        private Duration took;
+
+        private Recording(String searchType, String condition, boolean authenticated) {
+            this.searchType = searchType;
+            this.condition = condition;
+            this.authenticated = authenticated;
+        }
+
+        /**
+         * 묶음 검색처럼 한 기록에서 여러 쿼리가 실행되면 가장 오래 걸린 쿼리를 남긴다
+         */
+        private void executed(String queryDsl, Duration took) {
+            if (this.took == null || (took != null && took.compareTo(this.took) > 0)) {
+                this.queryDsl = queryDsl;
+                this.took = took;
+            }
+        }
+
+        /**
+         * 검색 결과가 만들어진 시점에 호출 (예외로 끝난 검색은 기록하지 않음, 캐시 적중은 took 없이 기록)
+         */
+        public void finish(long totalHits) {
+            long durationNanos = System.nanoTime() - startNanos;
+
+            durationTimer(searchType, authenticated).record(durationNanos, TimeUnit.NANOSECONDS);
+            if (took != null) {
+                tookTimer(searchType, authenticated).record(took);
+            }
+            if (totalHits == 0) {
+                zeroResultCounter(searchType, authenticated).increment();
+            }
+
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+            if (durationMs >= slowThresholdMs) {
+                slowSearchQueryLog.add(SlowSearchQuery.builder()
+                        .executedAt(startedAt)
+                        .searchType(searchType)
+                        .authenticated(authenticated)
+                        .condition(condition)
+                        .durationMs(durationMs)
+                        .tookMs(took != null ? took.toMillis() : null)
+                        .totalHits(totalHits)
+                        .queryDsl(queryDsl)
+                        .build());
+            }
+        }
+
+        @Override
+        public void close() {
+            currentRecording.remove();
+        }
+    }
+}
@@ -2,47 +2,105 @@ package com.memory.service.search;
 
 import com.memory.document.memory.MemoryDocument;
 import com.memory.document.memory.MemoryDocumentRepository;
+import com.memory.document.memory.MemoryGeoAreaResult;
+import com.memory.document.memory.MemoryGeoBounds;
+import com.memory.document.memory.MemorySearchCriteria;
+import com.memory.document.memory.MemorySearchCursor;
+import com.memory.document.memory.MemorySearchOptions;
+import com.memory.document.memory.MemorySearchResult;
+import com.memory.document.memory.MemoryVisibility;
 import com.memory.dto.search.*;
+import com.memory.exception.customException.NotFoundException;
 import com.memory.exception.customException.ValidationException;
+import com.memory.service.relationship.MemberVisibilityService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemorySearchService {
 
+    // 일부 샤드의 결과만 받은 커서 페이지를 같은 위치에서 다시 조회하는 최대 횟수
+    private static final int MAX_PARTIAL_RETRIES = 2;
+
     private final MemoryDocumentRepository memoryDocumentRepository;
+    private final MemorySearchCache memorySearchCache;
+    private final MemberVisibilityService memberVisibilityService;
+    private final MemorySearchMetrics memorySearchMetrics;
+    private final AutocompleteExecutor autocompleteExecutor;
+    private final PublicPointInTimePool publicPointInTimePool;
+
+    // 자동완성 한 요청의 마감 시간, 넘긴 쪽의 결과는 버린다
+    @Value("${search.autocomplete.deadline-ms:200}")
+    private long autocompleteDeadlineMs;
+
+    // 검색 한 요청의 마감 시간, Elasticsearch 검색 timeout 으로 전달 (0 이면 제한 없음)
+    @Value("${search.deadline-ms:1000}")
+    private long searchDeadlineMs;
+
+    // 커서 서명 키, 클라이언트가 커서의 공유 여부나 검색 조건을 바꾸지 못하도록 한다
+    @Value("${search.cursor.secret:${jwt.token.secret}}")
+    private String cursorSecret;
+
+    // offset 페이징 허용 범위 (인덱스 설정 max_result_window 와 동일하게 유지)
+    @Value("${search.max-result-window:10000}")
+    private int maxResultWindow;
 
     /**
      * 게스트 사용자의 PUBLIC 메모리 검색
      */
     public SearchResultResponse searchPublic(MemorySearchRequest request) {
         long startTime = System.currentTimeMillis();
-        
+
         validateRequest(request);
         
-        Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
-        Page<SearchHit<MemoryDocument>> searchHits = executePublicSearch(request, pageable);
+        // 같은 조건의 게스트 검색이 반복되므로 짧은 TTL 캐시 사용 (캐시 적중도 검색 시간으로 기록)
+        try (MemorySearchMetrics.Recording recording = memorySearchMetrics.start(request, false)) {
+            SearchResultResponse response = memorySearchCache.getSearch(request, () -> loadPublicSearch(request));
+            recording.finish(response.getPageInfo().getTotalElements());
+            // 캐시된 응답의 메타데이터는 처음 검색한 요청의 것이므로 이번 요청 기준으로 다시 만든다
+            return response.withMetadata(buildMetadata(request, System.currentTimeMillis() - startTime,
+                    response.getMetadata().isPartial()));
+        }
+    }
+
+    private SearchResultResponse loadPublicSearch(MemorySearchRequest request) {
+        long startTime = System.currentTimeMillis();
         
+        MemorySearchOptions searchOptions = toSearchOptions(request, true);
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
+        MemorySearchResult searchResult = executePublicSearch(request, pageable, searchOptions);
+        SearchPage<MemoryDocument> searchHits = searchResult.page();
+
         List<MemorySearchResponse> memories = searchHits.getContent().stream()
-                .map(hit -> convertToResponse(hit, request.isHighlight()))
+                .map(hit -> convertToResponse(hit, request))
                 .toList();
-        
+
+        SearchResultResponse.PageInfo pageInfo = buildPageInfo(searchHits, searchOptions, searchResult.partial());
+
         long searchTime = System.currentTimeMillis() - startTime;
-        
+
         return SearchResultResponse.builder()
                 .memories(memories)
-                .pageInfo(buildPageInfo(searchHits))
-                .metadata(buildMetadata(request, searchTime))
+                .pageInfo(pageInfo)
+                .timeline(searchResult.timeline())
+                .hashtagFacets(searchResult.hashtagFacets())
+                .metadata(buildMetadata(request, searchTime, searchResult.partial()))
                 .build();
     }
 
@@ -54,20 +112,190 @@ public class MemorySearchService {
         
         validateRequest(request);
         
-        Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
-        Page<SearchHit<MemoryDocument>> searchHits = executeAuthenticatedSearch(request, memberId, pageable);
-        
-        List<MemorySearchResponse> memories = searchHits.getContent().stream()
-                .map(hit -> convertToResponse(hit, request.isHighlight()))
-                .toList();
-        
-        long searchTime = System.currentTimeMillis() - startTime;
-        
-        return SearchResultResponse.builder()
-                .memories(memories)
-                .pageInfo(buildPageInfo(searchHits))
-                .metadata(buildMetadata(request, searchTime))
-                .build();
+        try (MemorySearchMetrics.Recording recording = memorySearchMetrics.start(request, true)) {
+            MemoryVisibility visibility = memberVisibilityService.getVisibility(memberId);
+            MemorySearchOptions searchOptions = toSearchOptions(request, false);
+            Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
+            MemorySearchResult searchResult = closePointInTimeOnFailure(request, searchOptions,
+                    () -> executeAuthenticatedSearch(request, visibility, pageable, searchOptions));
+            SearchPage<MemoryDocument> searchHits = searchResult.page();
+
+            List<MemorySearchResponse> memories = searchHits.getContent().stream()
+                    .map(hit -> convertToResponse(hit, request))
+                    .toList();
+
+            SearchResultResponse.PageInfo pageInfo = buildPageInfo(searchHits, searchOptions, searchResult.partial());
+            recording.finish(searchHits.getTotalElements());
+
+            long searchTime = System.currentTimeMillis() - startTime;
+
+            return SearchResultResponse.builder()
+                    .memories(memories)
+                    .pageInfo(pageInfo)
+                    .timeline(searchResult.timeline())
+                    .hashtagFacets(searchResult.hashtagFacets())
+                    .metadata(buildMetadata(request, searchTime, searchResult.partial()))
+                    .build();
+        }
+    }
+
+    /**
+     * 게스트 사용자의 묶음 검색 (홈 화면 섹션별 검색)
+     * 캐시에 있는 검색은 그대로 사용하고, 나머지만 _msearch 한 번으로 실행한다.
+     */
+    public MultiSearchResultResponse searchPublicBatch(MultiSearchRequest request) {
+        long startTime = System.currentTimeMillis();
+
+        List<MemorySearchRequest> searches = request.getSearches();
+        searches.forEach(this::validateBatchRequest);
+
+        try (MemorySearchMetrics.Recording recording = memorySearchMetrics.start(MemorySearchMetrics.BATCH, describeBatch(searches), false)) {
+            long cacheGeneration = memorySearchCache.currentGeneration();
+            SearchResultResponse[] results = new SearchResultResponse[searches.size()];
+            List<Integer> missedIndexes = new ArrayList<>();
+            for (int i = 0; i < searches.size(); i++) {
+                SearchResultResponse cached = memorySearchCache.findSearch(searches.get(i));
+                if (cached == null) {
+                    missedIndexes.add(i);
+                } else {
+                    results[i] = cached.withMetadata(buildMetadata(searches.get(i), System.currentTimeMillis() - startTime, false));
+                }
+            }
+
+            if (!missedIndexes.isEmpty()) {
+                List<MemorySearchRequest> missedSearches = missedIndexes.stream()
+                        .map(searches::get)
+                        .toList();
+                List<SearchResultResponse> loaded = executeBatch(missedSearches, null);
+                for (int i = 0; i < missedIndexes.size(); i++) {
+                    results[missedIndexes.get(i)] = loaded.get(i);
+                    memorySearchCache.putSearch(cacheGeneration, missedSearches.get(i), loaded.get(i));
+                }
+            }
+
+            List<SearchResultResponse> responses = List.of(results);
+            recording.finish(totalHits(responses));
+
+            return MultiSearchResultResponse.builder()
+                    .results(responses)
+                    .searchTimeMs(System.currentTimeMillis() - startTime)
+                    .build();
+        }
+    }
+
+    /**
+     * 인증된 사용자의 묶음 검색, 모든 검색을 _msearch 한 번으로 실행
+     */
+    public MultiSearchResultResponse searchAuthenticatedBatch(MultiSearchRequest request, Long memberId) {
+        long startTime = System.currentTimeMillis();
+
+        List<MemorySearchRequest> searches = request.getSearches();
+        searches.forEach(this::validateBatchRequest);
+
+        try (MemorySearchMetrics.Recording recording = memorySearchMetrics.start(MemorySearchMetrics.BATCH, describeBatch(searches), true)) {
+            List<SearchResultResponse> results = executeBatch(searches, memberVisibilityService.getVisibility(memberId));
+            recording.finish(totalHits(results));
+
+            return MultiSearchResultResponse.builder()
+                    .results(results)
+                    .searchTimeMs(System.currentTimeMillis() - startTime)
+                    .build();
+        }
+    }
+
+    /**
+     * 중심 좌표 주변의 메모리를 가까운 순으로 검색 (memberId 가 null 이면 PUBLIC 메모리만)
+     */
+    public SearchResultResponse searchNearby(GeoDistanceSearchRequest request, Long memberId) {
+        long startTime = System.currentTimeMillis();
+        String condition = request.getLatitude() + "," + request.getLongitude() + " " + request.getDistanceKm() + "km";
+
+        if (exceedsResultWindow(request.getPage(), request.getSize())) {
+            throw new ValidationException("페이지 범위를 초과했습니다. 검색 반경을 좁혀주세요.");
+        }
+
+        try (MemorySearchMetrics.Recording recording = memorySearchMetrics.start(MemorySearchMetrics.NEARBY, condition, memberId != null)) {
+            MemoryVisibility visibility = memberId != null ? memberVisibilityService.getVisibility(memberId) : null;
+            MemorySearchOptions searchOptions = MemorySearchOptions.of(false, null, null, false, request.getView())
+                    .withTimeout(searchTimeout());
+            SearchPage<MemoryDocument> searchHits = memoryDocumentRepository.searchByGeoDistance(visibility,
+                    request.getLatitude(), request.getLongitude(), request.getDistanceKm(),
+                    PageRequest.of(request.getPage(), request.getSize()), searchOptions);
+
+            List<MemorySearchResponse> memories = searchHits.getContent().stream()
+                    .map(hit -> convertToNearbyResponse(hit, request.getView()))
+                    .toList();
+            recording.finish(searchHits.getTotalElements());
+
+            return SearchResultResponse.builder()
+                    .memories(memories)
+                    .pageInfo(buildPageInfo(searchHits, searchOptions, false))
+                    .metadata(SearchResultResponse.SearchMetadata.builder()
+                            .searchTimeMs(System.currentTimeMillis() - startTime)
+                            .build())
+                    .build();
+        }
+    }
+
+    /**
+     * 지도 화면 영역의 마커 클러스터와 메모리 목록을 한 번에 조회 (memberId 가 null 이면 PUBLIC 메모리만)
+     */
+    public GeoAreaSearchResponse searchArea(GeoAreaSearchRequest request, Long memberId) {
+        long startTime = System.currentTimeMillis();
+
+        if (request.getTop() < request.getBottom()) {
+            throw new ValidationException("top 은 bottom 보다 크거나 같아야 합니다.");
+        }
+        if (exceedsResultWindow(request.getPage(), request.getSize())) {
+            throw new ValidationException("페이지 범위를 초과했습니다. 지도 영역을 좁혀주세요.");
+        }
+
+        MemoryGeoBounds bounds = new MemoryGeoBounds(request.getTop(), request.getLeft(), request.getBottom(), request.getRight());
+        String condition = bounds + " precision " + request.getPrecision();
+
+        try (MemorySearchMetrics.Recording recording = memorySearchMetrics.start(MemorySearchMetrics.AREA, condition, memberId != null)) {
+            MemoryVisibility visibility = memberId != null ? memberVisibilityService.getVisibility(memberId) : null;
+            MemorySearchOptions searchOptions = MemorySearchOptions.of(false, null, null, false, request.getView())
+                    .withTimeout(searchTimeout());
+            MemoryGeoAreaResult result = memoryDocumentRepository.searchByGeoBoundingBox(visibility, bounds, request.getPrecision(),
+                    PageRequest.of(request.getPage(), request.getSize()), searchOptions);
+
+            List<MemorySearchResponse> memories = result.page().getContent().stream()
+                    .map(hit -> responseBuilder(hit, request.getView()).build())
+                    .toList();
+            recording.finish(result.page().getTotalElements());
+
+            return GeoAreaSearchResponse.builder()
+                    .clusters(result.clusters())
+                    .memories(memories)
+                    .pageInfo(buildPageInfo(result.page(), searchOptions, false))
+                    .searchTimeMs(System.currentTimeMillis() - startTime)
+                    .build();
+        }
+    }
+
+    /**
+     * 게스트 사용자의 검색 결과 상세 (LIST 조회 후 전체 필드가 필요할 때)
+     */
+    public MemorySearchResponse getPublicDetail(Long memoryId) {
+        try (MemorySearchMetrics.Recording recording = memorySearchMetrics.start(MemorySearchMetrics.DETAIL, String.valueOf(memoryId), false)) {
+            MemoryDocument document = memoryDocumentRepository.findPublicDocument(memoryId)
+                    .orElseThrow(() -> new NotFoundException("메모리를 찾을 수 없습니다."));
+            recording.finish(1);
+            return fullResponseBuilder(document).build();
+        }
+    }
+
+    /**
+     * 인증된 사용자의 검색 결과 상세 (본인 메모리 + 관계된 사용자 메모리 + PUBLIC 메모리)
+     */
+    public MemorySearchResponse getAuthenticatedDetail(Long memoryId, Long memberId) {
+        try (MemorySearchMetrics.Recording recording = memorySearchMetrics.start(MemorySearchMetrics.DETAIL, String.valueOf(memoryId), true)) {
+            MemoryDocument document = memoryDocumentRepository.findVisibleDocument(memberVisibilityService.getVisibility(memberId), memoryId)
+                    .orElseThrow(() -> new NotFoundException("메모리를 찾을 수 없습니다."));
+            recording.finish(1);
+            return fullResponseBuilder(document).build();
+        }
     }
 
     private void validateRequest(MemorySearchRequest request) {
@@ -91,38 +319,227 @@ public class MemorySearchService {
                 }
             }
         }
+
+        // 깊은 offset 페이지는 샤드마다 from + size 만큼 정렬해야 하므로 커서 검색으로 유도
+        boolean cursorPaging = request.isCursorPaging() || StringUtils.hasText(request.getCursor());
+        if (!cursorPaging && exceedsResultWindow(request.getPage(), request.getSize())) {
+            throw new ValidationException("페이지 범위를 초과했습니다. 커서 검색(cursorPaging)을 사용해주세요.");
+        }
+    }
+
+    /**
+     * offset 페이지의 마지막 위치(from + size)가 index.max_result_window 를 넘는지 여부
+     */
+    private boolean exceedsResultWindow(int page, int size) {
+        return (long) (page + 1) * size > maxResultWindow;
+    }
+
+    /**
+     * 묶음 검색은 point-in-time 을 검색마다 열어야 하는 커서 검색을 지원하지 않는다
+     */
+    private void validateBatchRequest(MemorySearchRequest request) {
+        if (request.isCursorPaging() || StringUtils.hasText(request.getCursor())) {
+            throw new ValidationException("묶음 검색에서는 커서 검색을 사용할 수 없습니다.");
+        }
+        validateRequest(request);
+    }
+
+    /**
+     * 커서 검색의 첫 페이지는 point-in-time 을 연다. 게스트는 PIT 를 요청마다 열지 않고 공유 PIT 를 사용한다.
+     */
+    private MemorySearchOptions toSearchOptions(MemorySearchRequest request, boolean publicSearch) {
+        MemorySearchOptions searchOptions = MemorySearchOptions.of(request.isHighlight(), request.getHighlightFragmentSize(),
+                request.getHighlightFragmentCount(), request.isFragmentsOnly(), request.getView())
+                .withHashtagFacets(request.isHashtagFacets())
+                .withTimeout(searchTimeout());
+
+        String fingerprint = cursorFingerprint(request, publicSearch);
+        if (StringUtils.hasText(request.getCursor())) {
+            MemorySearchCursor cursor = MemorySearchCursor.decode(request.getCursor(), cursorSecret);
+            // 정렬이 다른 검색의 search_after 값은 Elasticsearch 가 거절하므로 미리 막는다
+            if (!fingerprint.equals(cursor.fingerprint())) {
+                throw new ValidationException("커서를 발급한 검색과 검색 조건이 다릅니다.");
+            }
+            return searchOptions.withCursor(cursor);
+        }
+        if (request.isCursorPaging()) {
+            String pointInTimeId = publicSearch ? publicPointInTimePool.acquire() : memoryDocumentRepository.openPointInTime();
+            return searchOptions.withCursor(MemorySearchCursor.first(pointInTimeId, publicSearch, fingerprint));
+        }
+        return searchOptions;
+    }
+
+    /**
+     * 공개 범위 + 검색 유형(정렬 기준) + 검색 조건
+     */
+    private String cursorFingerprint(MemorySearchRequest request, boolean publicSearch) {
+        String condition = String.join("|", publicSearch ? "public" : "member", request.getType().name(),
+                String.valueOf(request.getQuery()), String.valueOf(request.getHashtags()),
+                String.valueOf(request.getFromDate()), String.valueOf(request.getToDate()));
+        return Integer.toHexString(condition.hashCode());
+    }
+
+    /**
+     * 공유 PIT 여부는 서명된 커서의 값과 이 인스턴스가 나눠 준 PIT 목록으로 판단한다
+     */
+    private boolean isSharedPointInTime(MemorySearchCursor cursor, String pointInTimeId) {
+        return cursor.shared()
+                || publicPointInTimePool.isShared(cursor.pointInTimeId())
+                || publicPointInTimePool.isShared(pointInTimeId);
+    }
+
+    /**
+     * 첫 페이지에서 연 point-in-time 은 클라이언트가 커서를 받지 못하므로, 검색이 실패하면 keep-alive 를 기다리지 않고 바로 해제한다.
+     * 공유 PIT 는 다른 게스트가 사용 중일 수 있으므로 해제하지 않는다.
+     */
+    private MemorySearchResult closePointInTimeOnFailure(MemorySearchRequest request, MemorySearchOptions searchOptions,
+                                                         Supplier<MemorySearchResult> search) {
+        try {
+            return search.get();
+        } catch (RuntimeException e) {
+            MemorySearchCursor cursor = searchOptions.cursor();
+            boolean openedHere = cursor != null && !StringUtils.hasText(request.getCursor());
+            if (openedHere && !isSharedPointInTime(cursor, cursor.pointInTimeId())) {
+                memoryDocumentRepository.closePointInTime(cursor.pointInTimeId());
+            }
+            throw e;
+        }
+    }
+
+    private Duration searchTimeout() {
+        return searchDeadlineMs > 0 ? Duration.ofMillis(searchDeadlineMs) : null;
     }
 
-    private Page<SearchHit<MemoryDocument>> executePublicSearch(MemorySearchRequest request, Pageable pageable) {
+    private MemorySearchResult executePublicSearch(MemorySearchRequest request, Pageable pageable,
+                                                   MemorySearchOptions searchOptions) {
         return switch (request.getType()) {
-            case ALL -> memoryDocumentRepository.searchPublicByAllFields(request.getQuery(), pageable);
-            case TITLE -> memoryDocumentRepository.searchPublicByTitle(request.getQuery(), pageable);
-            case CONTENT -> memoryDocumentRepository.searchPublicByContent(request.getQuery(), pageable);
-            case HASHTAGS -> memoryDocumentRepository.searchPublicByHashtags(request.getHashtags(), pageable);
-            case LOCATION -> memoryDocumentRepository.searchPublicByLocation(request.getQuery(), pageable);
-            case DATE -> memoryDocumentRepository.searchPublicByDateRange(request.getFromDate(), request.getToDate(), pageable);
+            case ALL -> memoryDocumentRepository.searchPublicByAllFields(request.getQuery(), pageable, searchOptions);
+            case TITLE -> memoryDocumentRepository.searchPublicByTitle(request.getQuery(), pageable, searchOptions);
+            case CONTENT -> memoryDocumentRepository.searchPublicByContent(request.getQuery(), pageable, searchOptions);
+            case HASHTAGS -> memoryDocumentRepository.searchPublicByHashtags(request.getHashtags(), pageable, searchOptions);
+            case LOCATION -> memoryDocumentRepository.searchPublicByLocation(request.getQuery(), pageable, searchOptions);
+            case DATE -> memoryDocumentRepository.searchPublicByDateRange(request.getFromDate(), request.getToDate(), request.getTimelineInterval(), pageable, searchOptions);
         };
     }
 
-    private Page<SearchHit<MemoryDocument>> executeAuthenticatedSearch(MemorySearchRequest request, Long memberId, Pageable pageable) {
+    private MemorySearchResult executeAuthenticatedSearch(MemorySearchRequest request, MemoryVisibility visibility, Pageable pageable,
+                                                          MemorySearchOptions searchOptions) {
         return switch (request.getType()) {
-            case ALL -> memoryDocumentRepository.searchByMemberAndAllFields(memberId, request.getQuery(), pageable);
-            case TITLE -> memoryDocumentRepository.searchByMemberAndTitle(memberId, request.getQuery(), pageable);
-            case CONTENT -> memoryDocumentRepository.searchByMemberAndContent(memberId, request.getQuery(), pageable);
-            case HASHTAGS -> memoryDocumentRepository.searchByMemberAndHashtags(memberId, request.getHashtags(), pageable);
-            case LOCATION -> memoryDocumentRepository.searchByMemberAndLocation(memberId, request.getQuery(), pageable);
-            case DATE -> memoryDocumentRepository.searchByMemberAndDateRange(memberId, request.getFromDate(), request.getToDate(), pageable);
+            case ALL -> memoryDocumentRepository.searchByMemberAndAllFields(visibility, request.getQuery(), pageable, searchOptions);
+            case TITLE -> memoryDocumentRepository.searchByMemberAndTitle(visibility, request.getQuery(), pageable, searchOptions);
+            case CONTENT -> memoryDocumentRepository.searchByMemberAndContent(visibility, request.getQuery(), pageable, searchOptions);
+            case HASHTAGS -> memoryDocumentRepository.searchByMemberAndHashtags(visibility, request.getHashtags(), pageable, searchOptions);
+            case LOCATION -> memoryDocumentRepository.searchByMemberAndLocation(visibility, request.getQuery(), pageable, searchOptions);
+            case DATE -> memoryDocumentRepository.searchByMemberAndDateRange(visibility, request.getFromDate(), request.getToDate(), request.getTimelineInterval(), pageable, searchOptions);
         };
     }
 
-    private MemorySearchResponse convertToResponse(SearchHit<MemoryDocument> hit, boolean includeHighlight) {
+    /**
+     * visibility 가 null 이면 PUBLIC 메모리만 검색
+     */
+    private List<SearchResultResponse> executeBatch(List<MemorySearchRequest> searches, MemoryVisibility visibility) {
+        long startTime = System.currentTimeMillis();
+
+        List<MemorySearchCriteria> criteria = searches.stream()
+                .map(search -> new MemorySearchCriteria(search.getType(), search.getQuery(), search.getHashtags(),
+                        search.getFromDate(), search.getToDate(), search.getTimelineInterval(), visibility,
+                        PageRequest.of(search.getPage(), search.getSize()), toSearchOptions(search, visibility == null)))
+                .toList();
+        List<MemorySearchResult> searchResults = memoryDocumentRepository.multiSearch(criteria);
+
+        long searchTime = System.currentTimeMillis() - startTime;
+
+        List<SearchResultResponse> responses = new ArrayList<>(searches.size());
+        for (int i = 0; i < searches.size(); i++) {
+            MemorySearchRequest search = searches.get(i);
+            MemorySearchResult searchResult = searchResults.get(i);
+            SearchPage<MemoryDocument> searchHits = searchResult.page();
+
+            responses.add(SearchResultResponse.builder()
+                    .memories(searchHits.getContent().stream()
+                            .map(hit -> convertToResponse(hit, search))
+                            .toList())
+                    .pageInfo(buildPageInfo(searchHits, criteria.get(i).searchOptions(), searchResult.partial()))
+                    .timeline(searchResult.timeline())
+                    .hashtagFacets(searchResult.hashtagFacets())
+                    .metadata(buildMetadata(search, searchTime, searchResult.partial()))
+                    .build());
+        }
+        return responses;
+    }
+
+    private String describeBatch(List<MemorySearchRequest> searches) {
+        return searches.stream()
+                .map(MemorySearchRequest::getType)
+                .toList()
+                .toString();
+    }
+
+    private long totalHits(List<SearchResultResponse> responses) {
+        return responses.stream()
+                .mapToLong(response -> response.getPageInfo().getTotalElements())
+                .sum();
+    }
+
+    private MemorySearchResponse convertToResponse(SearchHit<MemoryDocument> hit, MemorySearchRequest request) {
+        MemorySearchResponse.MemorySearchResponseBuilder builder = responseBuilder(hit, request.getView());
+
+        boolean includeHighlight = request.isHighlight() || request.isFragmentsOnly();
+        if (includeHighlight && !hit.getHighlightFields().isEmpty()) {
+            builder.highlights(buildHighlights(hit.getHighlightFields()));
+        }
+
+        return builder.build();
+    }
+
+    private MemorySearchResponse.MemorySearchResponseBuilder responseBuilder(SearchHit<MemoryDocument> hit, SearchView view) {
+        return view == SearchView.LIST
+                ? listResponseBuilder(hit)
+                : fullResponseBuilder(hit.getContent());
+    }
+
+    /**
+     * 거리순 정렬의 첫 번째 정렬 값이 중심 좌표까지의 거리(m)
+     */
+    private MemorySearchResponse convertToNearbyResponse(SearchHit<MemoryDocument> hit, SearchView view) {
+        MemorySearchResponse.MemorySearchResponseBuilder builder = responseBuilder(hit, view);
+        if (!hit.getSortValues().isEmpty() && hit.getSortValues().get(0) instanceof Number distance) {
+            builder.distanceMeters(distance.doubleValue());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 결과 카드용 필드만 사용 (_source 도 해당 필드만 조회됨)
+     */
+    private MemorySearchResponse.MemorySearchResponseBuilder listResponseBuilder(SearchHit<MemoryDocument> hit) {
         MemoryDocument document = hit.getContent();
-        
-        MemorySearchResponse.MemorySearchResponseBuilder builder = MemorySearchResponse.builder()
+        List<String> contentFragments = hit.getHighlightField("content");
+
+        return MemorySearchResponse.builder()
+                .memoryId(document.getMemoryId())
+                .title(document.getTitle())
+                .snippet(contentFragments.isEmpty() ? null : contentFragments.get(0))
+                .locationName(document.getLocationName())
+                .latitude(document.getLocation() != null ? document.getLocation().getLat() : null)
+                .longitude(document.getLocation() != null ? document.getLocation().getLon() : null)
+                .memorableDate(document.getMemorableDate())
+                .memorableDateText(document.getMemorableDateText())
+                .memoryType(document.getMemoryType())
+                .hashtags(document.getHashTags())
+                .memberId(document.getMemberId())
+                .memberNickname(document.getMemberNickname())
+                .memberFileUrl(document.getMemberFileUrl());
+    }
+
+    private MemorySearchResponse.MemorySearchResponseBuilder fullResponseBuilder(MemoryDocument document) {
+        return MemorySearchResponse.builder()
                 .memoryId(document.getMemoryId())
                 .title(document.getTitle())
                 .content(document.getContent())
                 .locationName(document.getLocationName())
+                .latitude(document.getLocation() != null ? document.getLocation().getLat() : null)
+                .longitude(document.getLocation() != null ? document.getLocation().getLon() : null)
                 .memorableDate(document.getMemorableDate())
                 .memorableDateText(document.getMemorableDateText())
                 .memoryType(document.getMemoryType())
@@ -141,12 +558,6 @@ public class MemorySearchService {
                 .relationshipMemberNickname(document.getRelationshipMemberNickname())
                 .relationshipMemberEmail(document.getRelationshipMemberEmail())
                 .relationshipMemberFileUrl(document.getRelationshipMemberFileUrl());
-
-        if (includeHighlight && !hit.getHighlightFields().isEmpty()) {
-            builder.highlights(buildHighlights(hit.getHighlightFields()));
-        }
-
-        return builder.build();
     }
 
     private MemorySearchResponse.HighlightInfo buildHighlights(Map<String, List<String>> highlightFields) {
@@ -162,7 +573,12 @@ public class MemorySearchService {
                 .build();
     }
 
-    private SearchResultResponse.PageInfo buildPageInfo(Page<SearchHit<MemoryDocument>> searchHits) {
+    private SearchResultResponse.PageInfo buildPageInfo(SearchPage<MemoryDocument> searchHits, MemorySearchOptions searchOptions,
+                                                        boolean partial) {
+        if (searchOptions.isCursorPaging()) {
+            return buildCursorPageInfo(searchHits, searchOptions.cursor(), partial);
+        }
+
         return SearchResultResponse.PageInfo.builder()
                 .currentPage(searchHits.getNumber())
                 .totalPages(searchHits.getTotalPages())
@@ -173,7 +589,41 @@ public class MemorySearchService {
                 .build();
     }
 
-    private SearchResultResponse.SearchMetadata buildMetadata(MemorySearchRequest request, long searchTime) {
+    /**
+     * 페이지가 가득 찼으면 마지막 결과의 정렬 값으로 다음 커서를 만들고, 아니면 마지막 페이지이므로 point-in-time 을 해제
+     * 일부 샤드의 결과만 받은 페이지(partial)에서 이어 조회하면 끝나지 않은 샤드의 문서 중 마지막 결과보다 앞선 문서를 건너뛰므로,
+     * 같은 위치를 다시 조회하는 커서를 돌려준다. 재조회가 MAX_PARTIAL_RETRIES 번 연속 partial 이면 더 기다리지 않고
+     * 받은 결과 이후부터 이어 조회하거나(일부 문서가 빠질 수 있음), 결과가 없으면 검색을 끝낸다.
+     * 게스트 공유 PIT 는 다른 게스트가 넘기고 있을 수 있으므로 마지막 페이지에서도 해제하지 않는다.
+     */
+    private SearchResultResponse.PageInfo buildCursorPageInfo(SearchPage<MemoryDocument> searchHits, MemorySearchCursor cursor,
+                                                              boolean partial) {
+        List<SearchHit<MemoryDocument>> hits = searchHits.getContent();
+        // 응답의 point-in-time ID 가 갱신될 수 있으므로 최신 값을 사용
+        String pointInTimeId = searchHits.getSearchHits().getPointInTimeId() != null
+                ? searchHits.getSearchHits().getPointInTimeId()
+                : cursor.pointInTimeId();
+
+        String nextCursor = null;
+        if (partial && cursor.retries() < MAX_PARTIAL_RETRIES) {
+            nextCursor = cursor.retry(pointInTimeId).encode(cursorSecret);
+        } else if (!hits.isEmpty() && (partial || hits.size() >= searchHits.getSize())) {
+            List<Object> searchAfter = hits.get(hits.size() - 1).getSortValues();
+            nextCursor = cursor.next(pointInTimeId, searchAfter).encode(cursorSecret);
+        } else if (!isSharedPointInTime(cursor, pointInTimeId)) {
+            memoryDocumentRepository.closePointInTime(pointInTimeId);
+        }
+
+        return SearchResultResponse.PageInfo.builder()
+                .pageSize(searchHits.getSize())
+                .totalElements(searchHits.getTotalElements())
+                .hasNext(nextCursor != null)
+                .hasPrevious(!cursor.isFirstPage())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private SearchResultResponse.SearchMetadata buildMetadata(MemorySearchRequest request, long searchTime, boolean partial) {
         return SearchResultResponse.SearchMetadata.builder()
                 .searchType(request.getType())
                 .query(request.getQuery())
@@ -181,6 +631,7 @@ public class MemorySearchService {
                 .fromDate(request.getFromDate())
                 .toDate(request.getToDate())
                 .searchTimeMs(searchTime)
+                .partial(partial)
                 .build();
     }
 
@@ -191,44 +642,55 @@ public class MemorySearchService {
      */
     public AutocompleteResponse getPublicAutocomplete(String query, int limit) {
         long startTime = System.currentTimeMillis();
-        
+
         validateAutocompleteQuery(query);
-        
-        List<AutocompleteSuggestion> suggestions = new ArrayList<>();
-        
-        // 항상 제목과 해시태그 모두 검색
-        suggestions.addAll(memoryDocumentRepository.getPublicTitleSuggestions(query, limit / 2));
-        suggestions.addAll(memoryDocumentRepository.getPublicHashtagSuggestions(query, limit / 2));
-        
-        // 점수 기준으로 정렬하고 제한
-        suggestions = suggestions.stream()
-                .sorted((a, b) -> Float.compare(b.getScore(), a.getScore()))
-                .limit(limit)
-                .toList();
-        
-        long responseTime = System.currentTimeMillis() - startTime;
-        
-        return AutocompleteResponse.builder()
-                .suggestions(suggestions)
-                .query(query)
-                .totalSuggestions(suggestions.size())
-                .responseTimeMs(responseTime)
-                .build();
+
+        AutocompleteResponse response = memorySearchCache.getAutocomplete(query, limit, () -> autocomplete(query, limit,
+                () -> memoryDocumentRepository.getPublicTitleSuggestions(query, limit / 2),
+                () -> memoryDocumentRepository.getPublicHashtagSuggestions(query, limit / 2)));
+        // 캐시 키는 정규화한 검색어이므로 검색어와 응답 시간은 이번 요청 기준으로 돌려준다
+        return response.withRequest(query, System.currentTimeMillis() - startTime);
     }
 
     /**
      * 인증된 사용자의 자동완성 (본인 + 관계된 사용자 + PUBLIC) - 제목 + 해시태그
      */
     public AutocompleteResponse getAuthenticatedAutocomplete(Long memberId, String query, int limit) {
+        // 빈 검색어는 조회 범위를 조회하기 전에 거절
+        validateAutocompleteQuery(query);
+        MemoryVisibility visibility = memberVisibilityService.getVisibility(memberId);
+        return autocomplete(query, limit,
+                () -> memoryDocumentRepository.getAuthenticatedTitleSuggestions(visibility, query, limit / 2),
+                () -> memoryDocumentRepository.getAuthenticatedHashtagSuggestions(visibility, query, limit / 2));
+    }
+
+    /**
+     * 제목과 해시태그 자동완성을 동시에 요청하여 응답 시간을 둘 중 느린 쪽으로 맞춘다.
+     * 마감 시간 안에 끝나지 않거나, 풀이 가득 차 거절되거나, 실패한 쪽은 빈 결과로 두고 나머지 결과만 반환한다.
+     * 이 경우 응답의 partial 이 true 이며, 게스트 자동완성 캐시는 partial 응답을 저장하지 않는다.
+     */
+    private AutocompleteResponse autocomplete(String query, int limit,
+                                              Supplier<List<AutocompleteSuggestion>> titleSuggestions,
+                                              Supplier<List<AutocompleteSuggestion>> hashtagSuggestions) {
         long startTime = System.currentTimeMillis();
         
         validateAutocompleteQuery(query);
         
-        List<AutocompleteSuggestion> suggestions = new ArrayList<>();
-        
         // 항상 제목과 해시태그 모두 검색
-        suggestions.addAll(memoryDocumentRepository.getAuthenticatedTitleSuggestions(memberId, query, limit / 2));
-        suggestions.addAll(memoryDocumentRepository.getAuthenticatedHashtagSuggestions(memberId, query, limit / 2));
+        CompletableFuture<List<AutocompleteSuggestion>> titleFuture = suggestWithinDeadline(titleSuggestions, "title");
+        CompletableFuture<List<AutocompleteSuggestion>> hashtagFuture = suggestWithinDeadline(hashtagSuggestions, "hashtag");
+
+        List<AutocompleteSuggestion> titleResults = titleFuture.join();
+        List<AutocompleteSuggestion> hashtagResults = hashtagFuture.join();
+        boolean partial = titleResults == null || hashtagResults == null;
+
+        List<AutocompleteSuggestion> suggestions = new ArrayList<>();
+        if (titleResults != null) {
+            suggestions.addAll(titleResults);
+        }
+        if (hashtagResults != null) {
+            suggestions.addAll(hashtagResults);
+        }
         
         // 점수 기준으로 정렬하고 제한
         suggestions = suggestions.stream()
@@ -243,9 +705,29 @@ public class MemorySearchService {
                 .query(query)
                 .totalSuggestions(suggestions.size())
                 .responseTimeMs(responseTime)
+                .partial(partial)
                 .build();
     }
 
+    /**
+     * 마감 시간을 넘기거나 거절/실패한 쪽은 null 로 완료
+     */
+    private CompletableFuture<List<AutocompleteSuggestion>> suggestWithinDeadline(Supplier<List<AutocompleteSuggestion>> suggestions,
+                                                                                 String branch) {
+        return autocompleteExecutor.supplyWithinDeadline(suggestions, autocompleteDeadlineMs)
+                .handle((result, e) -> {
+                    if (e != null) {
+                        log.warn("Autocomplete {} suggestions failed: {}", branch, e.getMessage());
+                        return null;
+                    }
+                    if (result == null) {
+                        log.warn("Autocomplete {} suggestions exceeded deadline: {}ms", branch, autocompleteDeadlineMs);
+                        return null;
+                    }
+                    return result;
+                });
+    }
+
     private void validateAutocompleteQuery(String query) {
         if (!StringUtils.hasText(query)) {
             throw new ValidationException("검색어는 필수입니다");
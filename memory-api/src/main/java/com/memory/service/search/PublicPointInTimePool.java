@@ -0,0 +1,70 @@
+package com.memory.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.memory.document.memory.MemoryDocumentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게스트 커서 검색이 함께 쓰는 point-in-time (인스턴스 로컬)
+ * <p>
+ * point-in-time 은 검색 조건과 무관하게 인덱스 시점만 고정하므로, 게스트의 첫 페이지 요청마다 새로 열지 않고
+ * reuse-seconds 동안 하나를 나눠 써서 게스트가 여는 point-in-time 수(search.max_open_pit_context)를 인스턴스당 일정하게 유지한다.
+ * 따라서 게스트 커서 검색은 최대 reuse-seconds 전 시점의 인덱스를 기준으로 한다.
+ * reuse-seconds 는 point-in-time 을 열 때의 유지 시간(open-keep-alive-seconds)보다 짧아야 한다.
+ * 이 인스턴스가 나눠 준 point-in-time 은 커서 내용과 관계없이 닫지 않도록 {@link #isShared} 로 확인한다.
+ */
+@Component
+public class PublicPointInTimePool {
+
+    private final MemoryDocumentRepository memoryDocumentRepository;
+    private final long reuseMs;
+    // 나눠 준 point-in-time, 조회할 때마다 만료가 연장되어 ES 의 keep-alive 와 함께 정리
+    private final Cache<String, Boolean> issuedIds;
+
+    private volatile SharedPointInTime current;
+
+    public PublicPointInTimePool(MemoryDocumentRepository memoryDocumentRepository,
+                                 @Value("${search.cursor.public-reuse-seconds:10}") long reuseSeconds,
+                                 @Value("${search.cursor.keep-alive-seconds:60}") long keepAliveSeconds) {
+        this.memoryDocumentRepository = memoryDocumentRepository;
+        this.reuseMs = reuseSeconds * 1000;
+        this.issuedIds = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofSeconds(keepAliveSeconds))
+                .build();
+    }
+
+    /**
+     * 재사용 시간이 지나지 않았으면 기존 point-in-time 을, 지났으면 새로 열어 반환
+     * 이전 point-in-time 은 넘기고 있는 게스트의 페이지 요청마다 연장되다가 keep-alive 만료로 정리된다.
+     */
+    public String acquire() {
+        SharedPointInTime shared = current;
+        if (shared != null && shared.expiresAt() > System.currentTimeMillis()) {
+            return shared.pointInTimeId();
+        }
+
+        synchronized (this) {
+            shared = current;
+            if (shared == null || shared.expiresAt() <= System.currentTimeMillis()) {
+                shared = new SharedPointInTime(memoryDocumentRepository.openPointInTime(), System.currentTimeMillis() + reuseMs);
+                issuedIds.put(shared.pointInTimeId(), Boolean.TRUE);
+                current = shared;
+            }
+            return shared.pointInTimeId();
+        }
+    }
+
+    /**
+     * 이 인스턴스가 게스트에게 나눠 준 point-in-time 인지 여부
+     */
+    public boolean isShared(String pointInTimeId) {
+        return pointInTimeId != null && issuedIds.getIfPresent(pointInTimeId) != null;
+    }
+
+    private record SharedPointInTime(String pointInTimeId, long expiresAt) {
+    }
+}
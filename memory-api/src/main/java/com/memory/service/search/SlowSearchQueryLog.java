@@ -0,0 +1,56 @@
+package com.memory.service.search;
+
+import com.memory.dto.search.SlowSearchQuery;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 느린 검색 중 가장 느린 capacity 건만 보관하는 최소 힙 (가득 차면 보관 중 가장 빠른 항목보다 느린 검색만 교체)
+ * 오래된 기록도 밀려나지 않으므로 배포나 튜닝 후에는 clear 로 비운다. capacity 가 0 이하이면 보관하지 않는다.
+ */
+class SlowSearchQueryLog {
+
+    private static final Comparator<SlowSearchQuery> BY_DURATION = Comparator.comparingLong(SlowSearchQuery::getDurationMs);
+
+    private final int capacity;
+    private final PriorityQueue<SlowSearchQuery> entries;
+
+    SlowSearchQueryLog(int capacity) {
+        this.capacity = Math.max(capacity, 0);
+        this.entries = new PriorityQueue<>(Math.max(this.capacity, 1), BY_DURATION);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    synchronized void add(SlowSearchQuery query) {
+        if (capacity == 0) {
+            return;
+        }
+        if (entries.size() < capacity) {
+            entries.offer(query);
+            return;
+        }
+        if (query.getDurationMs() > entries.peek().getDurationMs()) {
+            entries.poll();
+            entries.offer(query);
+        }
+    }
+
+    /**
+     * 보관 중인 검색을 느린 순서로 반환
+     */
+    synchronized List<SlowSearchQuery> slowest(int limit) {
+        return entries.stream()
+                .sorted(BY_DURATION.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+}
@@ -2,15 +2,12 @@ package com.memory.useCase.memory;
 
 import com.memory.domain.hashtag.HashTag;
 import com.memory.domain.memory.Memory;
-import com.memory.domain.relationship.RelationshipStatus;
 import com.memory.dto.memory.MemoryRequest;
 import com.memory.dto.memory.response.MemoryResponse;
-import com.memory.dto.relationship.response.RelationshipListResponse;
 import com.memory.service.document.MemoryDocumentService;
 import com.memory.service.hashTag.HashTagService;
 import com.memory.service.hashTag.MemoryHashTagService;
 import com.memory.service.memory.MemoryService;
-import com.memory.service.relationship.RelationshipService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,7 +19,6 @@ import java.util.List;
 public class MemoryUseCase {
 
     private final MemoryService memoryService;
-    private final RelationshipService relationshipService;
     private final HashTagService hashTagService;
     private final MemoryHashTagService memoryHashTagService;
     private final MemoryDocumentService memoryDocumentService;
@@ -40,10 +36,9 @@ public class MemoryUseCase {
             
             memoryHashTagService.createMemoryHashTags(memory, hashTags);
         }
-        RelationshipListResponse relationships = relationshipService.getRelationshipsByStatus(memberId, RelationshipStatus.ACCEPTED);
 
-        // 3. Elasticsearch 인덱싱 저장
-        memoryDocumentService.indexMemory(memory, relationships);
+        // 3. Elasticsearch 인덱싱 요청 (아웃박스에 기록, 커밋 후 워커가 반영)
+        memoryDocumentService.indexMemory(memory);
         
         return memoryResponse;
     }
@@ -58,9 +53,8 @@ public class MemoryUseCase {
         List<HashTag> newHashTags = hashTagService.findOrCreateHashTags(updateRequest.getHashTagList());
         memoryHashTagService.updateMemoryHashTags(memory, newHashTags);
         
-        // 3. Elasticsearch 인덱스 업데이트
-        RelationshipListResponse relationships = relationshipService.getRelationshipsByStatus(memberId, RelationshipStatus.ACCEPTED);
-        memoryDocumentService.updateMemoryIndex(memory, relationships);
+        // 3. Elasticsearch 인덱스 업데이트 요청 (아웃박스에 기록, 커밋 후 워커가 반영)
+        memoryDocumentService.updateMemoryIndex(memory);
         
         return memoryResponse;
     }
@@ -69,7 +63,7 @@ public class MemoryUseCase {
     public void deleteMemory(Long memberId, Long memoryId) {
         memoryService.deleteMemory(memberId, memoryId);
 
-        // Elasticsearch 인덱스 삭제
+        // Elasticsearch 인덱스 삭제 요청 (아웃박스에 기록, 커밋 후 워커가 반영)
         memoryDocumentService.deleteMemoryIndex(memoryId);
     }
 }
@@ -0,0 +1,33 @@
+-- 메모리 검색 인덱싱 아웃박스 테이블 생성
+CREATE TABLE memory_index_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    memory_id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    retry_count INTEGER NOT NULL DEFAULT 0,
+    max_retry_count INTEGER NOT NULL DEFAULT 10,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    claimed_at TIMESTAMP,
+    processed_at TIMESTAMP,
+    failure_reason VARCHAR(500),
+    create_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    update_date TIMESTAMP,
+    delete_date TIMESTAMP
+);
+
+-- 워커 폴링용 인덱스 (처리 대기 이벤트를 id 순서로 조회)
+CREATE INDEX idx_memory_index_outbox_status_next_attempt ON memory_index_outbox(status, next_attempt_at, id);
+CREATE INDEX idx_memory_index_outbox_memory ON memory_index_outbox(memory_id);
+
+-- 아웃박스 테이블에 대한 코멘트
+COMMENT ON TABLE memory_index_outbox IS '메모리 Elasticsearch 인덱싱 아웃박스 테이블 (메모리 변경과 같은 트랜잭션에서 기록)';
+COMMENT ON COLUMN memory_index_outbox.id IS '아웃박스 이벤트 ID (PK, Elasticsearch external version으로 사용)';
+COMMENT ON COLUMN memory_index_outbox.memory_id IS '메모리 ID';
+COMMENT ON COLUMN memory_index_outbox.event_type IS '이벤트 타입 (UPSERT, DELETE)';
+COMMENT ON COLUMN memory_index_outbox.status IS '처리 상태 (PENDING, PROCESSING, COMPLETED, FAILED)';
+COMMENT ON COLUMN memory_index_outbox.retry_count IS '재시도 횟수';
+COMMENT ON COLUMN memory_index_outbox.max_retry_count IS '최대 재시도 횟수';
+COMMENT ON COLUMN memory_index_outbox.next_attempt_at IS '다음 처리 가능 시각 (재시도 백오프)';
+COMMENT ON COLUMN memory_index_outbox.claimed_at IS '워커가 이벤트를 가져간 시각 (리스 만료 판단용)';
+COMMENT ON COLUMN memory_index_outbox.processed_at IS '처리 완료 시각';
+COMMENT ON COLUMN memory_index_outbox.failure_reason IS '마지막 실패 사유';
@@ -0,0 +1,34 @@
+-- 댓글 수 비정규화 컬럼 추가 (목록/카드 조회 시 댓글 행을 읽지 않도록)
+ALTER TABLE memory ADD COLUMN comments_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE memory ADD COLUMN top_level_comments_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE comment ADD COLUMN reply_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 채우기 (삭제되지 않은 댓글 기준)
+UPDATE memory m
+SET comments_count = counts.comments_count,
+    top_level_comments_count = counts.top_level_comments_count
+FROM (
+    SELECT memory_id,
+           COUNT(*) AS comments_count,
+           COUNT(*) FILTER (WHERE depth = 0) AS top_level_comments_count
+    FROM comment
+    WHERE delete_date IS NULL
+    GROUP BY memory_id
+) counts
+WHERE m.id = counts.memory_id;
+
+UPDATE comment parent
+SET reply_count = counts.reply_count
+FROM (
+    SELECT parent_id, COUNT(*) AS reply_count
+    FROM comment
+    WHERE parent_id IS NOT NULL
+      AND delete_date IS NULL
+    GROUP BY parent_id
+) counts
+WHERE parent.id = counts.parent_id;
+
+-- 컬럼 코멘트
+COMMENT ON COLUMN memory.comments_count IS '삭제되지 않은 댓글 수 (대댓글 포함, 댓글 생성/삭제 시 갱신)';
+COMMENT ON COLUMN memory.top_level_comments_count IS '삭제되지 않은 최상위 댓글 수 (댓글 생성/삭제 시 갱신)';
+COMMENT ON COLUMN comment.reply_count IS '삭제되지 않은 대댓글 수 (대댓글 생성/삭제 시 갱신)';
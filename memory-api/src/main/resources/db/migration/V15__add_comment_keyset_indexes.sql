@@ -0,0 +1,9 @@
+-- 댓글 목록 keyset 페이징용 부분 복합 인덱스 (create_date, id 내림차순, 삭제되지 않은 댓글만)
+-- 메모리별 최상위 댓글 목록
+CREATE INDEX idx_comment_memory_depth_create_date ON comment(memory_id, depth, create_date DESC, id DESC) WHERE delete_date IS NULL;
+
+-- 회원별 댓글 목록
+CREATE INDEX idx_comment_member_create_date ON comment(member_id, create_date DESC, id DESC) WHERE delete_date IS NULL;
+
+-- 최근 댓글 목록
+CREATE INDEX idx_comment_create_date ON comment(create_date DESC, id DESC) WHERE delete_date IS NULL;
@@ -0,0 +1,2 @@
+-- 대댓글 조회용 부분 인덱스 (부모 댓글별 오래된 순, 스레드 조회의 ROW_NUMBER 파티션/정렬과 대댓글 더보기 keyset 페이징)
+CREATE INDEX idx_comment_parent_create_date ON comment(parent_id, create_date, id) WHERE delete_date IS NULL;
@@ -0,0 +1,27 @@
+-- 조회 쿼리용 부분 복합 인덱스 (삭제되지 않은 행만, WHERE delete_date IS NULL)
+-- 모든 조회가 delete_date IS NULL 조건을 함께 사용하므로 삭제된 행은 인덱스에 넣지 않는다.
+-- (댓글 인덱스는 V15, V16 에서 이미 부분 인덱스로 생성)
+
+-- 메모리 피드 - 회원별(타입) / 타입별, id 내림차순 keyset
+CREATE INDEX idx_memory_member_type_id ON memory(member_id, memory_type, id DESC) WHERE delete_date IS NULL;
+CREATE INDEX idx_memory_type_id ON memory(memory_type, id DESC) WHERE delete_date IS NULL;
+
+-- 메모리 피드의 파일/해시태그 묶음 조회
+CREATE INDEX idx_file_memory ON file(memory_id, id) WHERE delete_date IS NULL;
+CREATE INDEX idx_memory_hash_tag_memory ON memory_hash_tag(memory_id, id) WHERE delete_date IS NULL;
+
+-- 할 일 / 일기 / 루틴 - 회원별 기간 조회
+CREATE INDEX idx_todo_member_due_date ON todo(member_id, due_date) WHERE delete_date IS NULL;
+CREATE INDEX idx_diary_member_date ON diary(member_id, date) WHERE delete_date IS NULL;
+CREATE INDEX idx_routine_member ON routine(member_id) WHERE delete_date IS NULL;
+
+-- 캘린더 이벤트 - 회원별 시작 일시 (개인/기념일/관계 이벤트 공통 테이블)
+CREATE INDEX idx_base_calendar_event_member_start ON base_calendar_event(member_id, start_date_time) WHERE delete_date IS NULL;
+
+-- 관계 - 회원/상대 회원 기준 상태 조회
+CREATE INDEX idx_relationship_member_status ON relationship(member_id, relationship_status) WHERE delete_date IS NULL;
+CREATE INDEX idx_relationship_related_member_status ON relationship(related_member_id, relationship_status) WHERE delete_date IS NULL;
+
+-- 지도 / 회원 링크 - 회원별 조회
+CREATE INDEX idx_map_member_type ON map(member_id, map_type) WHERE delete_date IS NULL;
+CREATE INDEX idx_member_link_member_display_order ON member_link(member_id, display_order) WHERE delete_date IS NULL;
@@ -0,0 +1,213 @@
+package com.memory.controller;
+
+import com.memory.domain.member.Member;
+import com.memory.domain.memory.MemoryType;
+import com.memory.persistence.repository.memory.MemoryRepositoryCustomImpl;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 자주 호출되는 조회 쿼리가 인덱스를 타는지 EXPLAIN 으로 확인
+ * 테스트 DB 는 데이터가 거의 없어 그대로 두면 항상 Seq Scan 을 고르므로, enable_seqscan 을 끄고
+ * 사용할 수 있는 인덱스가 없어 Seq Scan 으로 떨어지거나 의도한 인덱스가 아닌 다른 인덱스(PK 등)를 타는 쿼리가 있으면 실패한다.
+ * (SQL 은 memory-adapter 의 QueryDSL 쿼리와 같은 조건/정렬로 작성)
+ * 조건이 복잡한 메모리 피드 쿼리는 직접 작성하지 않고 Hibernate 가 만든 SQL 을 그대로 가져와 확인한다.
+ */
+class HotQueryIndexIntegrationTest extends BaseIntegrationTest {
+
+    private static final List<HotQuery> HOT_QUERIES = List.of(
+            new HotQuery("회원별 메모리 피드", "memory", "idx_memory_member_type_id", """
+                    SELECT m.id FROM memory m
+                    WHERE m.member_id = 1 AND m.memory_type = 'PUBLIC' AND m.delete_date IS NULL AND m.id < 1000
+                    ORDER BY m.id DESC LIMIT 10
+                    """),
+            new HotQuery("타입별 메모리 피드", "memory", "idx_memory_type_id", """
+                    SELECT m.id FROM memory m
+                    WHERE m.memory_type = 'PUBLIC' AND m.delete_date IS NULL
+                    ORDER BY m.id DESC LIMIT 10
+                    """),
+            new HotQuery("피드 파일 묶음 조회", "file", "idx_file_memory", """
+                    SELECT f.id FROM file f
+                    WHERE f.memory_id IN (1, 2, 3) AND f.delete_date IS NULL
+                    ORDER BY f.id
+                    """),
+            new HotQuery("피드 해시태그 묶음 조회", "memory_hash_tag", "idx_memory_hash_tag_memory", """
+                    SELECT mh.id FROM memory_hash_tag mh
+                    WHERE mh.memory_id IN (1, 2, 3) AND mh.delete_date IS NULL
+                    ORDER BY mh.id
+                    """),
+            new HotQuery("메모리 최상위 댓글 keyset", "comment", "idx_comment_memory_depth_create_date", """
+                    SELECT c.id FROM comment c
+                    WHERE c.memory_id = 1 AND c.depth = 0 AND c.delete_date IS NULL
+                      AND (c.create_date, c.id) < (TIMESTAMP '2024-01-01 00:00:00', 100)
+                    ORDER BY c.create_date DESC, c.id DESC LIMIT 11
+                    """),
+            new HotQuery("회원별 댓글 keyset", "comment", "idx_comment_member_create_date", """
+                    SELECT c.id FROM comment c
+                    WHERE c.member_id = 1 AND c.delete_date IS NULL
+                    ORDER BY c.create_date DESC, c.id DESC LIMIT 11
+                    """),
+            new HotQuery("최근 댓글 keyset", "comment", "idx_comment_create_date", """
+                    SELECT c.id FROM comment c
+                    WHERE c.delete_date IS NULL
+                      AND (c.create_date, c.id) < (TIMESTAMP '2024-01-01 00:00:00', 100)
+                    ORDER BY c.create_date DESC, c.id DESC LIMIT 11
+                    """),
+            new HotQuery("부모 댓글별 대댓글", "comment", "idx_comment_parent_create_date", """
+                    SELECT c.id FROM comment c
+                    WHERE c.parent_id IN (1, 2, 3) AND c.delete_date IS NULL
+                    ORDER BY c.parent_id, c.create_date, c.id
+                    """),
+            new HotQuery("회원별 기간 할 일", "todo", "idx_todo_member_due_date", """
+                    SELECT t.id FROM todo t
+                    WHERE t.member_id = 1 AND t.due_date BETWEEN TIMESTAMP '2024-01-01' AND TIMESTAMP '2024-01-31'
+                      AND t.delete_date IS NULL
+                    ORDER BY t.due_date, t.create_date DESC
+                    """),
+            new HotQuery("회원별 기간 일기", "diary", "idx_diary_member_date", """
+                    SELECT d.id FROM diary d
+                    WHERE d.member_id = 1 AND d.date BETWEEN DATE '2024-01-01' AND DATE '2024-01-31'
+                      AND d.delete_date IS NULL
+                    """),
+            new HotQuery("회원별 루틴", "routine", "idx_routine_member", """
+                    SELECT r.id FROM routine r
+                    WHERE r.member_id = 1 AND r.delete_date IS NULL
+                    """),
+            new HotQuery("회원별 기간 캘린더 이벤트", "base_calendar_event", "idx_base_calendar_event_member_start", """
+                    SELECT e.id FROM base_calendar_event e
+                    WHERE e.member_id = 1 AND e.start_date_time BETWEEN TIMESTAMP '2024-01-01' AND TIMESTAMP '2024-01-31'
+                      AND e.delete_date IS NULL
+                    ORDER BY e.start_date_time
+                    """),
+            new HotQuery("회원별 관계 상태", "relationship", "idx_relationship_member_status", """
+                    SELECT r.id FROM relationship r
+                    WHERE r.member_id = 1 AND r.relationship_status = 'ACCEPTED' AND r.delete_date IS NULL
+                    """),
+            new HotQuery("상대 회원별 관계 상태", "relationship", "idx_relationship_related_member_status", """
+                    SELECT r.id FROM relationship r
+                    WHERE r.related_member_id = 1 AND r.relationship_status = 'ACCEPTED' AND r.delete_date IS NULL
+                    """),
+            new HotQuery("회원별 지도", "map", "idx_map_member_type", """
+                    SELECT m.id FROM map m
+                    WHERE m.member_id = 1 AND m.map_type = 'USER_PLACE' AND m.delete_date IS NULL
+                    """),
+            new HotQuery("회원별 링크", "member_link", "idx_member_link_member_display_order", """
+                    SELECT l.id FROM member_link l
+                    WHERE l.member_id = 1 AND l.delete_date IS NULL
+                    ORDER BY l.display_order
+                    """)
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void disableSequentialScan() {
+        // 테스트 트랜잭션 안에서만 적용
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    @DisplayName("자주 호출되는 조회 쿼리는 삭제되지 않은 행의 부분 인덱스를 사용하고 Seq Scan 으로 떨어지지 않는다")
+    void hotQueriesUseIndexes() {
+        assertAll(HOT_QUERIES.stream().map(this::assertUsesExpectedIndex));
+    }
+
+    @Test
+    @DisplayName("메모리 피드는 Hibernate 가 만든 SQL 그대로 회원/타입 부분 인덱스를 사용한다")
+    void memoryFeedQueriesUseIndexes() {
+        assertAll(
+                // (member_id = ? AND memory_type <> 'PRIVATE') OR (member_id IN (...) AND memory_type <> 'PRIVATE') ORDER BY id DESC
+                assertUsesExpectedIndex(generatedHotQuery("관계 메모리 피드", "memory", "idx_memory_member_type_id",
+                        (repository, session) -> repository.findFeedByMember(session.getReference(Member.class, 1L),
+                                List.of(2L, 3L), MemoryType.RELATIONSHIP, 1000L, 10))),
+                assertUsesExpectedIndex(generatedHotQuery("회원별 공개 메모리 피드", "memory", "idx_memory_member_type_id",
+                        (repository, session) -> repository.findFeedByMember(session.getReference(Member.class, 1L),
+                                List.of(), MemoryType.PUBLIC, 1000L, 10))),
+                // memory_type IN ('RELATIONSHIP', 'PUBLIC') ORDER BY id DESC
+                assertUsesExpectedIndex(generatedHotQuery("관계 타입 메모리 피드", "memory", "idx_memory_type_id",
+                        (repository, session) -> repository.findFeedByMemoryType(MemoryType.RELATIONSHIP, null, 10)))
+        );
+    }
+
+    /**
+     * 별도 세션에서 쿼리를 실행하면서 StatementInspector 로 마지막에 실행된 SQL 을 가져온다
+     */
+    private HotQuery generatedHotQuery(String name, String table, String expectedIndex,
+                                       BiConsumer<MemoryRepositoryCustomImpl, Session> query) {
+        List<String> statements = new ArrayList<>();
+        try (Session session = entityManagerFactory.unwrap(SessionFactory.class)
+                .withOptions()
+                .statementInspector(sql -> {
+                    statements.add(sql);
+                    return sql;
+                })
+                .openSession()) {
+            query.accept(new MemoryRepositoryCustomImpl(new JPAQueryFactory(session)), session);
+        }
+        return new HotQuery(name, table, expectedIndex, statements.get(statements.size() - 1));
+    }
+
+    /**
+     * 바인딩 파라미터(?)가 있는 SQL 은 PREPARE 후 값과 무관한 generic plan 으로 확인한다
+     */
+    private String explain(String sql) {
+        if (!sql.contains("?")) {
+            return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+        }
+
+        StringBuilder numbered = new StringBuilder();
+        int parameterCount = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameterCount);
+            } else {
+                numbered.append(c);
+            }
+        }
+
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+        jdbcTemplate.execute("PREPARE hot_query AS " + numbered);
+        try {
+            return String.join("\n", jdbcTemplate.queryForList(
+                    "EXPLAIN EXECUTE hot_query(" + String.join(", ", Collections.nCopies(parameterCount, "'1'")) + ")", String.class));
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE hot_query");
+        }
+    }
+
+    private Executable assertUsesExpectedIndex(HotQuery hotQuery) {
+        return () -> {
+            String plan = explain(hotQuery.sql());
+            assertAll(
+                    () -> assertFalse(plan.contains("Seq Scan on " + hotQuery.table() + " "),
+                            () -> hotQuery.name() + " 쿼리가 Seq Scan 을 사용합니다.\n" + plan),
+                    () -> assertTrue(plan.contains(" " + hotQuery.expectedIndex() + " "),
+                            () -> hotQuery.name() + " 쿼리가 " + hotQuery.expectedIndex() + " 인덱스를 사용하지 않습니다.\n" + plan)
+            );
+        };
+    }
+
+    private record HotQuery(String name, String table, String expectedIndex, String sql) {
+    }
+}
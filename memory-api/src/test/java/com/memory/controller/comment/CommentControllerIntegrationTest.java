@@ -159,7 +159,34 @@ class CommentControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.statusCode").value(200))
                 .andExpect(jsonPath("$.data").exists())
-                .andExpect(jsonPath("$.data.comments").isArray());
+                .andExpect(jsonPath("$.data.comments").isArray())
+                .andExpect(jsonPath("$.data.currentPage").value(0));
+    }
+
+    @Test
+    @DisplayName("메모리의 최상위 댓글 목록 커서 페이징 조회 통합 테스트")
+    void getTopLevelCommentsByMemoryWithCursorIntegrationTest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/comments/memory/{memoryId}/top-level", testMemory.getId())
+                        .header("Authorization", validToken)
+                        .param("size", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCode").value(200))
+                .andExpect(jsonPath("$.data.comments").isArray())
+                .andExpect(jsonPath("$.data.currentPage").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("메모리의 최상위 댓글 목록 조회 실패 - page 와 cursor 를 함께 전달")
+    void getTopLevelCommentsByMemoryFailPageWithCursor() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/comments/memory/{memoryId}/top-level", testMemory.getId())
+                        .header("Authorization", validToken)
+                        .param("page", "1")
+                        .param("cursor", "any-cursor")
+                        .param("size", "10"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -175,6 +202,20 @@ class CommentControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.data").exists());
     }
 
+    @Test
+    @DisplayName("메모리의 댓글 스레드 조회 통합 테스트")
+    void getCommentThreadsByMemoryIntegrationTest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/comments/memory/{memoryId}/threads", testMemory.getId())
+                        .header("Authorization", validToken)
+                        .param("size", "10")
+                        .param("replySize", "3"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statusCode").value(200))
+                .andExpect(jsonPath("$.data.threads").isArray());
+    }
+
     @Test
     @DisplayName("특정 댓글의 대댓글 목록 조회 통합 테스트")
     void getRepliesByCommentIntegrationTest() throws Exception {
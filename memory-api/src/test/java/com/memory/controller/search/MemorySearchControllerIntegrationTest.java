@@ -1,8 +1,14 @@
 package com.memory.controller.search;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.memory.config.jwt.JwtTokenProvider;
 import com.memory.controller.BaseIntegrationTest;
+import com.memory.document.memory.MemoryDocument;
+import com.memory.document.memory.MemoryDocumentRepository;
+import com.memory.document.memory.MemoryIndexManager;
+import com.memory.document.memory.MemoryIndexOperation;
+import com.memory.document.memory.RelationshipInfo;
 import com.memory.domain.member.Member;
 import com.memory.domain.member.MemberType;
 import com.memory.domain.member.repository.MemberRepository;
@@ -11,16 +17,28 @@ import com.memory.domain.memory.MemoryType;
 import com.memory.domain.memory.repository.MemoryRepository;
 import com.memory.dto.search.MemorySearchRequest;
 import com.memory.dto.search.SearchType;
+import com.memory.dto.search.TimelineInterval;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class MemorySearchControllerIntegrationTest extends BaseIntegrationTest {
 
@@ -42,6 +60,12 @@ class MemorySearchControllerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private MemoryDocumentRepository memoryDocumentRepository;
+
+    @Autowired
+    private MemoryIndexManager memoryIndexManager;
+
     private Member testMember;
     private Memory testMemory;
     private String validToken;
@@ -248,4 +272,359 @@ class MemorySearchControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.statusCode").value(200))
                 .andExpect(jsonPath("$.data").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("커서 검색 통합 테스트 - 다음 커서로 겹치지 않게 이어서 조회하고, 마지막 페이지에서는 커서를 주지 않는다")
+    void cursorSearchRoundTripIntegrationTest() throws Exception {
+        // Given
+        String word = uniqueWord();
+        indexMemories(List.of(
+                saveMemory(word + " 첫번째", "content", LocalDate.of(2024, 1, 1), MemoryType.PUBLIC),
+                saveMemory(word + " 두번째", "content", LocalDate.of(2024, 1, 2), MemoryType.PUBLIC),
+                saveMemory(word + " 세번째", "content", LocalDate.of(2024, 1, 3), MemoryType.PUBLIC)));
+
+        MemorySearchRequest firstRequest = MemorySearchRequest.builder()
+            .type(SearchType.TITLE)
+            .query(word)
+            .size(2)
+            .cursorPaging(true)
+            .build();
+
+        // When & Then
+        MvcResult firstPage = mockMvc.perform(post("/api/v1/memories/search")
+                        .header("Authorization", validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(firstRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.memories.length()").value(2))
+                .andExpect(jsonPath("$.data.pageInfo.totalElements").value(3))
+                .andExpect(jsonPath("$.data.pageInfo.hasNext").value(true))
+                .andExpect(jsonPath("$.data.pageInfo.hasPrevious").value(false))
+                .andReturn();
+
+        MemorySearchRequest nextRequest = MemorySearchRequest.builder()
+            .type(SearchType.TITLE)
+            .query(word)
+            .size(2)
+            .cursor(readPath(firstPage, "/data/pageInfo/nextCursor").asText())
+            .build();
+
+        MvcResult lastPage = mockMvc.perform(post("/api/v1/memories/search")
+                        .header("Authorization", validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(nextRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.memories.length()").value(1))
+                .andExpect(jsonPath("$.data.pageInfo.hasNext").value(false))
+                .andExpect(jsonPath("$.data.pageInfo.hasPrevious").value(true))
+                .andExpect(jsonPath("$.data.pageInfo.nextCursor").doesNotExist())
+                .andReturn();
+
+        Set<Long> memoryIds = new HashSet<>();
+        readPath(firstPage, "/data/memories").forEach(memory -> memoryIds.add(memory.get("memoryId").asLong()));
+        readPath(lastPage, "/data/memories").forEach(memory -> memoryIds.add(memory.get("memoryId").asLong()));
+        assertEquals(3, memoryIds.size());
+    }
+
+    @Test
+    @DisplayName("게스트 커서 검색 통합 테스트 - 마지막 페이지까지 조회해도 공유 point-in-time 으로 다음 게스트가 검색할 수 있다")
+    void publicCursorSearchEndOfResultsIntegrationTest() throws Exception {
+        // Given
+        String word = uniqueWord();
+        indexMemories(List.of(saveMemory(word + " 기록", "content", LocalDate.of(2024, 1, 1), MemoryType.PUBLIC)));
+
+        MemorySearchRequest request = MemorySearchRequest.builder()
+            .type(SearchType.TITLE)
+            .query(word)
+            .size(2)
+            .cursorPaging(true)
+            .build();
+
+        // When & Then
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/v1/memories/public/search")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.memories.length()").value(1))
+                    .andExpect(jsonPath("$.data.pageInfo.hasNext").value(false))
+                    .andExpect(jsonPath("$.data.pageInfo.nextCursor").doesNotExist());
+        }
+    }
+
+    @Test
+    @DisplayName("커서 검색 실패 - 다른 검색 유형에 커서를 사용")
+    void cursorSearchFailDifferentSearchType() throws Exception {
+        // Given
+        String word = uniqueWord();
+        indexMemories(List.of(
+                saveMemory(word + " 첫번째", "content", LocalDate.of(2024, 1, 1), MemoryType.PUBLIC),
+                saveMemory(word + " 두번째", "content", LocalDate.of(2024, 1, 2), MemoryType.PUBLIC)));
+
+        MemorySearchRequest firstRequest = MemorySearchRequest.builder()
+            .type(SearchType.TITLE)
+            .query(word)
+            .size(1)
+            .cursorPaging(true)
+            .build();
+
+        MvcResult firstPage = mockMvc.perform(post("/api/v1/memories/search")
+                        .header("Authorization", validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(firstRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        MemorySearchRequest dateRequest = MemorySearchRequest.builder()
+            .type(SearchType.DATE)
+            .fromDate(LocalDate.of(2024, 1, 1))
+            .toDate(LocalDate.of(2024, 1, 2))
+            .size(1)
+            .cursor(readPath(firstPage, "/data/pageInfo/nextCursor").asText())
+            .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/memories/search")
+                        .header("Authorization", validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dateRequest)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("커서 검색 실패 - 잘못된 커서")
+    void cursorSearchFailInvalidCursor() throws Exception {
+        // Given
+        MemorySearchRequest request = MemorySearchRequest.builder()
+            .type(SearchType.ALL)
+            .query("test")
+            .cursor("invalid-cursor")
+            .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/memories/search")
+                        .header("Authorization", validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("날짜 범위 검색 통합 테스트 - fromDate 와 toDate 당일의 메모리를 포함한다")
+    void searchMemoriesByDateRangeIncludesBoundsIntegrationTest() throws Exception {
+        // Given (날짜 검색은 검색어가 없으므로 다른 테스트와 겹치지 않는 연도 사용)
+        Memory first = saveMemory("범위 시작", "content", LocalDate.of(1991, 3, 1), MemoryType.PUBLIC);
+        Memory last = saveMemory("범위 끝", "content", LocalDate.of(1991, 3, 31), MemoryType.PUBLIC);
+        indexMemories(List.of(first, last,
+                saveMemory("범위 이전", "content", LocalDate.of(1991, 2, 28), MemoryType.PUBLIC),
+                saveMemory("범위 이후", "content", LocalDate.of(1991, 4, 1), MemoryType.PUBLIC)));
+
+        MemorySearchRequest request = MemorySearchRequest.builder()
+            .type(SearchType.DATE)
+            .fromDate(LocalDate.of(1991, 3, 1))
+            .toDate(LocalDate.of(1991, 3, 31))
+            .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/memories/search")
+                        .header("Authorization", validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.pageInfo.totalElements").value(2))
+                .andExpect(jsonPath("$.data.memories[0].memoryId").value(last.getId()))
+                .andExpect(jsonPath("$.data.memories[1].memoryId").value(first.getId()));
+    }
+
+    @Test
+    @DisplayName("날짜 범위 검색 통합 테스트 - timelineInterval 에 따라 월별/연도별 버킷으로 집계한다")
+    void searchMemoriesByDateRangeTimelineIntegrationTest() throws Exception {
+        // Given
+        indexMemories(List.of(
+                saveMemory("1월 첫 기록", "content", LocalDate.of(1992, 1, 10), MemoryType.PUBLIC),
+                saveMemory("1월 두번째 기록", "content", LocalDate.of(1992, 1, 20), MemoryType.PUBLIC),
+                saveMemory("3월 기록", "content", LocalDate.of(1992, 3, 5), MemoryType.PUBLIC),
+                saveMemory("다음 해 기록", "content", LocalDate.of(1993, 6, 1), MemoryType.PUBLIC)));
+
+        MemorySearchRequest monthRequest = dateRangeRequest(LocalDate.of(1992, 1, 1), LocalDate.of(1993, 12, 31), TimelineInterval.MONTH);
+        MemorySearchRequest yearRequest = dateRangeRequest(LocalDate.of(1992, 1, 1), LocalDate.of(1993, 12, 31), TimelineInterval.YEAR);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/memories/search")
+                        .header("Authorization", validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(monthRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.timeline.length()").value(3))
+                .andExpect(jsonPath("$.data.timeline[0].key").value("1992-01"))
+                .andExpect(jsonPath("$.data.timeline[0].startDate").value("1992-01-01"))
+                .andExpect(jsonPath("$.data.timeline[0].count").value(2))
+                .andExpect(jsonPath("$.data.timeline[1].key").value("1992-03"))
+                .andExpect(jsonPath("$.data.timeline[1].count").value(1))
+                .andExpect(jsonPath("$.data.timeline[2].key").value("1993-06"))
+                .andExpect(jsonPath("$.data.timeline[2].count").value(1));
+
+        mockMvc.perform(post("/api/v1/memories/search")
+                        .header("Authorization", validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(yearRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.timeline.length()").value(2))
+                .andExpect(jsonPath("$.data.timeline[0].key").value("1992"))
+                .andExpect(jsonPath("$.data.timeline[0].startDate").value("1992-01-01"))
+                .andExpect(jsonPath("$.data.timeline[0].count").value(3))
+                .andExpect(jsonPath("$.data.timeline[1].key").value("1993"))
+                .andExpect(jsonPath("$.data.timeline[1].count").value(1));
+    }
+
+    @Test
+    @DisplayName("날짜 범위 검색 통합 테스트 - timelineInterval 이 없으면 타임라인을 집계하지 않는다")
+    void searchMemoriesByDateRangeWithoutTimelineIntegrationTest() throws Exception {
+        // Given
+        indexMemories(List.of(saveMemory("타임라인 없는 기록", "content", LocalDate.of(1994, 5, 5), MemoryType.PUBLIC)));
+
+        MemorySearchRequest request = dateRangeRequest(LocalDate.of(1994, 1, 1), LocalDate.of(1994, 12, 31), null);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/memories/search")
+                        .header("Authorization", validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.pageInfo.totalElements").value(1))
+                .andExpect(jsonPath("$.data.timeline").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("자동완성 통합 테스트 - PRIVATE 메모리 제목은 작성자에게만 제안하고 다른 회원과 게스트에게는 제안하지 않는다")
+    void autocompleteHidesPrivateTitleIntegrationTest() throws Exception {
+        // Given
+        String word = uniqueWord();
+        String publicTitle = word + " 공개 기록";
+        String privateTitle = word + " 비밀 기록";
+        indexMemories(List.of(
+                saveMemory(publicTitle, "content", LocalDate.of(2024, 1, 1), MemoryType.PUBLIC),
+                saveMemory(privateTitle, "content", LocalDate.of(2024, 1, 2), MemoryType.PRIVATE)));
+
+        Member otherMember = memberRepository.save(new Member("Other User", "otheruser",
+                "other" + System.currentTimeMillis() + "@example.com", passwordEncoder.encode("password123"), MemberType.MEMBER));
+        String otherToken = "Bearer " + jwtTokenProvider.createAccessToken(otherMember.getEmail());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/memories/autocomplete")
+                        .header("Authorization", validToken)
+                        .param("query", word)
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.suggestions[*].text", hasItems(publicTitle, privateTitle)));
+
+        mockMvc.perform(get("/api/v1/memories/autocomplete")
+                        .header("Authorization", otherToken)
+                        .param("query", word)
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.suggestions[*].text", hasItem(publicTitle)))
+                .andExpect(jsonPath("$.data.suggestions[*].text", not(hasItem(privateTitle))));
+
+        mockMvc.perform(get("/api/v1/memories/public/autocomplete")
+                        .param("query", word)
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.suggestions[*].text", hasItem(publicTitle)))
+                .andExpect(jsonPath("$.data.suggestions[*].text", not(hasItem(privateTitle))));
+    }
+
+    @Test
+    @DisplayName("fragmentsOnly 검색 통합 테스트 - content 원문은 내려주지 않고 검색어가 포함된 하이라이트 조각만 반환한다")
+    void searchFragmentsOnlyExcludesContentIntegrationTest() throws Exception {
+        // Given
+        String word = uniqueWord();
+        indexMemories(List.of(saveMemory("조각 검색", "앞부분 문장입니다. " + "중간 내용 ".repeat(40) + word + " 가 들어간 문장",
+                LocalDate.of(2024, 1, 1), MemoryType.PUBLIC)));
+
+        MemorySearchRequest request = MemorySearchRequest.builder()
+            .type(SearchType.CONTENT)
+            .query(word)
+            .fragmentsOnly(true)
+            .highlightFragmentSize(50)
+            .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/memories/search")
+                        .header("Authorization", validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.memories.length()").value(1))
+                .andExpect(jsonPath("$.data.memories[0].content").doesNotExist())
+                .andExpect(jsonPath("$.data.memories[0].highlights.content[0]", containsString("<em>" + word + "</em>")))
+                .andExpect(jsonPath("$.data.memories[0].highlights.content[0]", not(containsString("앞부분 문장입니다"))));
+    }
+
+    @Test
+    @DisplayName("fragmentsOnly 검색 통합 테스트 - content 에 검색어가 없으면 no_match_size 만큼 앞부분을 조각으로 반환한다")
+    void searchFragmentsOnlyNoMatchFallbackIntegrationTest() throws Exception {
+        // Given
+        String word = uniqueWord();
+        indexMemories(List.of(saveMemory(word + " 제목", "앞부분 문장입니다. " + "중간 내용 ".repeat(40) + "마지막 문장",
+                LocalDate.of(2024, 1, 1), MemoryType.PUBLIC)));
+
+        MemorySearchRequest request = MemorySearchRequest.builder()
+            .type(SearchType.TITLE)
+            .query(word)
+            .fragmentsOnly(true)
+            .highlightFragmentSize(50)
+            .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/memories/search")
+                        .header("Authorization", validToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.memories.length()").value(1))
+                .andExpect(jsonPath("$.data.memories[0].content").doesNotExist())
+                .andExpect(jsonPath("$.data.memories[0].highlights.content[0]", startsWith("앞부분 문장입니다.")))
+                .andExpect(jsonPath("$.data.memories[0].highlights.content[0]", not(containsString("마지막 문장"))));
+    }
+
+    /**
+     * 다른 테스트의 문서와 섞이지 않도록 테스트마다 다른 검색어 사용 (형태소 분석으로 나뉘지 않게 영문자만)
+     */
+    private String uniqueWord() {
+        return "w" + UUID.randomUUID().toString().replaceAll("[^a-z]", "");
+    }
+
+    private MemorySearchRequest dateRangeRequest(LocalDate fromDate, LocalDate toDate, TimelineInterval timelineInterval) {
+        return MemorySearchRequest.builder()
+            .type(SearchType.DATE)
+            .fromDate(fromDate)
+            .toDate(toDate)
+            .timelineInterval(timelineInterval)
+            .build();
+    }
+
+    private Memory saveMemory(String title, String content, LocalDate memorableDate, MemoryType memoryType) {
+        return memoryRepository.save(Memory.builder()
+            .title(title)
+            .content(content)
+            .memorableDate(memorableDate)
+            .member(testMember)
+            .memoryType(memoryType)
+            .build());
+    }
+
+    /**
+     * 테스트 트랜잭션은 커밋되지 않아 outbox 워커가 색인하지 않으므로 직접 색인하고 바로 검색되도록 refresh
+     */
+    private void indexMemories(List<Memory> memories) {
+        memoryDocumentRepository.bulkApply(memories.stream()
+                .map(memory -> MemoryIndexOperation.index(MemoryDocument.from(memory, new RelationshipInfo(null)), 1L))
+                .toList());
+        memoryIndexManager.refresh(MemoryIndexManager.READ_ALIAS);
+    }
+
+    private JsonNode readPath(MvcResult result, String pointer) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).at(pointer);
+    }
+}
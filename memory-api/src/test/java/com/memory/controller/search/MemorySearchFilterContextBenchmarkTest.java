@@ -0,0 +1,168 @@
+package com.memory.controller.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import com.memory.controller.BaseIntegrationTest;
+import com.memory.document.memory.MemoryIndexManager;
+import com.memory.document.memory.MemoryVisibility;
+import com.memory.search.repository.memory.MemorySearchFieldProfile;
+import com.memory.search.repository.memory.MemoryVisibilityFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공개 범위 조건을 must 에 둔 기존 쿼리와 filter 로 분리한 쿼리의 지연 시간 비교
+ * ES 는 문서 수가 10,000 건 이상인 세그먼트만 filter 를 캐시하므로 그 이상을 넣고 세그먼트를 하나로 병합한 뒤 측정한다.
+ * 실행: ./gradlew :memory-api:test -Pbenchmark --tests '*MemorySearchFilterContextBenchmarkTest'
+ */
+@Slf4j
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MemorySearchFilterContextBenchmarkTest extends BaseIntegrationTest {
+
+    private static final long BASE_MEMORY_ID = 9_000_000L;
+    private static final int DOCUMENT_COUNT = 20_000;
+    private static final int BULK_SIZE = 2_000;
+    private static final int WARMUP_ITERATIONS = 100;
+    private static final int MEASURE_ITERATIONS = 500;
+    private static final long MEMBER_ID = 7L;
+    private static final List<Long> RELATED_MEMBER_IDS = List.of(11L, 23L, 42L, 105L, 256L);
+    private static final String[] MEMORY_TYPES = {"PUBLIC", "PUBLIC", "PUBLIC", "RELATIONSHIP", "RELATIONSHIP", "RELATIONSHIP",
+            "PRIVATE", "PRIVATE", "PRIVATE", "PRIVATE"};
+    private static final String[] WORDS = {"여행", "제주도", "맛집", "독서", "가족", "바다", "캠핑", "생일", "산책", "카페"};
+
+    @Autowired
+    private ElasticsearchClient elasticsearchClient;
+
+    @Autowired
+    private MemoryIndexManager memoryIndexManager;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        memoryIndexManager.ensureIndex();
+
+        Random random = new Random(42);
+        List<BulkOperation> operations = new ArrayList<>();
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            long memoryId = BASE_MEMORY_ID + i;
+            Map<String, Object> document = createDocument(memoryId, random);
+            operations.add(BulkOperation.of(op -> op
+                    .index(idx -> idx
+                            .index(MemoryIndexManager.WRITE_ALIAS)
+                            .id(String.valueOf(memoryId))
+                            .document(document))));
+
+            if (operations.size() == BULK_SIZE) {
+                List<BulkOperation> batch = List.copyOf(operations);
+                elasticsearchClient.bulk(b -> b.operations(batch));
+                operations.clear();
+            }
+        }
+
+        elasticsearchClient.indices().refresh(r -> r.index(MemoryIndexManager.READ_ALIAS));
+        elasticsearchClient.indices().forcemerge(f -> f.index(MemoryIndexManager.READ_ALIAS).maxNumSegments(1L));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        elasticsearchClient.deleteByQuery(d -> d
+                .index(MemoryIndexManager.READ_ALIAS)
+                .query(q -> q.range(r -> r.number(n -> n.field("memoryId").gte((double) BASE_MEMORY_ID))))
+                .refresh(true));
+    }
+
+    @Test
+    @DisplayName("공개 범위 조건을 filter 로 옮겨도 결과 수는 같고 지연 시간을 비교한다")
+    void compareMustAndFilterVisibility() throws IOException {
+        // Given
+        // 운영 검색과 같은 공개 범위 filter (본인 + 관계된 사용자의 PRIVATE 가 아닌 메모리 + PUBLIC)
+        Query visibility = MemoryVisibilityFilter.memberOrPublic(new MemoryVisibility(MEMBER_ID, RELATED_MEMBER_IDS));
+        Query match = MemorySearchFieldProfile.ALL.toQuery("제주도 여행");
+
+        Query mustQuery = BoolQuery.of(b -> b
+                .must(match)
+                .must(visibility)
+        )._toQuery();
+        Query filterQuery = BoolQuery.of(b -> b
+                .must(match)
+                .filter(visibility)
+        )._toQuery();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            search(mustQuery);
+            search(filterQuery);
+        }
+
+        // When
+        long[] mustLatencies = new long[MEASURE_ITERATIONS];
+        long[] filterLatencies = new long[MEASURE_ITERATIONS];
+        long mustTotal = 0;
+        long filterTotal = 0;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            mustTotal = search(mustQuery).hits().total().value();
+            mustLatencies[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            filterTotal = search(filterQuery).hits().total().value();
+            filterLatencies[i] = System.nanoTime() - start;
+        }
+
+        // Then
+        log.info("[benchmark] must   visibility - p50: {}us, p95: {}us", percentile(mustLatencies, 50), percentile(mustLatencies, 95));
+        log.info("[benchmark] filter visibility - p50: {}us, p95: {}us", percentile(filterLatencies, 50), percentile(filterLatencies, 95));
+        assertThat(filterTotal).isEqualTo(mustTotal);
+        assertThat(filterTotal).isPositive();
+    }
+
+    private SearchResponse<Void> search(Query query) throws IOException {
+        return elasticsearchClient.search(s -> s
+                .index(MemoryIndexManager.READ_ALIAS)
+                .query(query)
+                .size(20)
+                .source(src -> src.fetch(false)), Void.class);
+    }
+
+    private Map<String, Object> createDocument(long memoryId, Random random) {
+        String first = WORDS[random.nextInt(WORDS.length)];
+        String second = WORDS[random.nextInt(WORDS.length)];
+
+        Map<String, Object> document = new HashMap<>();
+        document.put("memoryId", memoryId);
+        document.put("title", first + " " + second + " 기록");
+        document.put("content", first + "에서 " + second + "을 함께 한 날의 추억 " + memoryId);
+        document.put("locationName", first);
+        document.put("memoryType", MEMORY_TYPES[random.nextInt(MEMORY_TYPES.length)]);
+        document.put("hashTags", List.of(first, second));
+        document.put("memberId", (long) random.nextInt(500) + 1);
+        document.put("relationshipMemberId", (long) random.nextInt(500) + 1);
+        document.put("memberName", "member" + random.nextInt(500));
+        return document;
+    }
+
+    private long percentile(long[] latencies, int percentile) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000;
+    }
+}
@@ -0,0 +1,113 @@
+package com.memory.service.admin;
+
+import com.memory.document.memory.MemoryBulkIndexResult;
+import com.memory.document.memory.MemoryDocument;
+import com.memory.document.memory.MemoryDocumentRepository;
+import com.memory.document.memory.MemoryIndexOperation;
+import com.memory.service.document.MemoryIndexOutboxService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemoryBulkReindexerTest {
+
+    @Mock
+    private MemoryDocumentRepository memoryDocumentRepository;
+
+    @Mock
+    private MemoryReindexReader memoryReindexReader;
+
+    @Mock
+    private MemoryIndexOutboxService memoryIndexOutboxService;
+
+    @InjectMocks
+    private MemoryBulkReindexer memoryBulkReindexer;
+
+    private MemoryDocument document(Long memoryId) {
+        return MemoryDocument.builder()
+                .id(String.valueOf(memoryId))
+                .memoryId(memoryId)
+                .title("메모리 " + memoryId)
+                .build();
+    }
+
+    @Test
+    @DisplayName("keyset 페이지 단위로 벌크 요청하고 결과를 집계한다")
+    void reindex() throws InterruptedException {
+        // Given
+        when(memoryIndexOutboxService.nextIndexVersion()).thenReturn(100L);
+        when(memoryReindexReader.readPage(null, 2)).thenReturn(new MemoryReindexReader.ReindexPage(
+                List.of(document(1L), document(2L)), Map.of(), 2, 2L));
+        when(memoryReindexReader.readPage(2L, 2)).thenReturn(new MemoryReindexReader.ReindexPage(
+                List.of(document(4L)), Map.of(3L, "build failed"), 2, 4L));
+        when(memoryReindexReader.readPage(4L, 2)).thenReturn(new MemoryReindexReader.ReindexPage(
+                List.of(), Map.of(), 0, 4L));
+        when(memoryDocumentRepository.bulkApply(anyList()))
+                .thenAnswer(invocation -> {
+                    List<MemoryIndexOperation> operations = invocation.getArgument(0);
+                    return new MemoryBulkIndexResult(operations.size(), Map.of());
+                });
+
+        MemoryReindexProgress progress = new MemoryReindexProgress();
+
+        // When
+        memoryBulkReindexer.reindex(null, 2, 2, progress);
+
+        // Then
+        assertEquals(4, progress.getProcessedCount());
+        assertEquals(3, progress.getSuccessCount());
+        assertEquals(1, progress.getErrorCount());
+        verify(memoryDocumentRepository, times(2)).bulkApply(anyList());
+    }
+
+    @Test
+    @DisplayName("벌크 요청이 실패하면 해당 페이지 전체를 실패로 집계한다")
+    void reindexBulkFailure() throws InterruptedException {
+        // Given
+        when(memoryIndexOutboxService.nextIndexVersion()).thenReturn(100L);
+        when(memoryReindexReader.readPage(null, 10)).thenReturn(new MemoryReindexReader.ReindexPage(
+                List.of(document(1L), document(2L)), Map.of(), 2, 2L));
+        when(memoryDocumentRepository.bulkApply(anyList())).thenThrow(new RuntimeException("es down"));
+
+        MemoryReindexProgress progress = new MemoryReindexProgress();
+
+        // When
+        memoryBulkReindexer.reindex(null, 10, 1, progress);
+
+        // Then
+        assertEquals(2, progress.getProcessedCount());
+        assertEquals(0, progress.getSuccessCount());
+        assertEquals(2, progress.getErrorCount());
+    }
+
+    @Test
+    @DisplayName("대상 인덱스를 지정하면 해당 인덱스에만 반영한다")
+    void reindexIntoShadowIndex() throws InterruptedException {
+        // Given
+        when(memoryIndexOutboxService.nextIndexVersion()).thenReturn(100L);
+        when(memoryReindexReader.readPage(null, 10)).thenReturn(new MemoryReindexReader.ReindexPage(
+                List.of(document(1L)), Map.of(), 1, 1L));
+        when(memoryDocumentRepository.bulkApply(eq("memory_v20250101000000"), anyList()))
+                .thenReturn(new MemoryBulkIndexResult(1, Map.of()));
+        MemoryReindexProgress progress = new MemoryReindexProgress();
+
+        // When
+        memoryBulkReindexer.reindex("memory_v20250101000000", 10, 1, progress);
+
+        // Then
+        assertEquals(1, progress.getSuccessCount());
+        verify(memoryDocumentRepository, never()).bulkApply(anyList());
+    }
+}
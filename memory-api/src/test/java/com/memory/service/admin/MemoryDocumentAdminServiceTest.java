@@ -0,0 +1,131 @@
+package com.memory.service.admin;
+
+import com.memory.document.memory.MemoryBulkIndexResult;
+import com.memory.document.memory.MemoryDocument;
+import com.memory.document.memory.MemoryDocumentRepository;
+import com.memory.document.memory.MemoryIndexOperation;
+import com.memory.dto.search.MigrationResponse;
+import com.memory.service.document.MemoryIndexOutboxService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemoryDocumentAdminServiceTest {
+
+    @Mock
+    private MemoryDocumentRepository memoryDocumentRepository;
+
+    @Mock
+    private MemoryReindexReader memoryReindexReader;
+
+    @Mock
+    private MemoryBulkReindexer memoryBulkReindexer;
+
+    @Mock
+    private MemoryIndexOutboxService memoryIndexOutboxService;
+
+    @InjectMocks
+    private MemoryDocumentAdminService memoryDocumentAdminService;
+
+    private MemoryDocument document(Long memoryId) {
+        return MemoryDocument.builder()
+                .id(String.valueOf(memoryId))
+                .memoryId(memoryId)
+                .title("메모리 " + memoryId)
+                .build();
+    }
+
+    @Test
+    @DisplayName("전체 재색인 - 쓰기 별칭 대상으로 재색인하고 결과를 응답으로 변환한다")
+    void migrateAllMemories() throws InterruptedException {
+        // Given
+        doAnswer(invocation -> {
+            MemoryReindexProgress progress = invocation.getArgument(3);
+            progress.addProcessed(3);
+            progress.addSuccess(3);
+            return null;
+        }).when(memoryBulkReindexer).reindex(isNull(), eq(100), eq(2), any(MemoryReindexProgress.class));
+
+        // When
+        MigrationResponse response = memoryDocumentAdminService.migrateAllMemories(100, 2);
+
+        // Then
+        assertTrue(response.isSuccess());
+        assertEquals(3, response.getProcessedCount());
+        assertEquals(3, response.getSuccessCount());
+        assertEquals(0, response.getErrorCount());
+    }
+
+    @Test
+    @DisplayName("전체 재색인 - 실패한 문서가 있으면 실패로 응답한다")
+    void migrateAllMemoriesBulkFailure() throws InterruptedException {
+        // Given
+        doAnswer(invocation -> {
+            MemoryReindexProgress progress = invocation.getArgument(3);
+            progress.addProcessed(3);
+            progress.addSuccess(2);
+            progress.addError(1);
+            return null;
+        }).when(memoryBulkReindexer).reindex(isNull(), eq(100), eq(2), any(MemoryReindexProgress.class));
+
+        // When
+        MigrationResponse response = memoryDocumentAdminService.migrateAllMemories(100, 2);
+
+        // Then
+        assertFalse(response.isSuccess());
+        assertEquals(3, response.getProcessedCount());
+        assertEquals(2, response.getSuccessCount());
+        assertEquals(1, response.getErrorCount());
+    }
+
+    @Test
+    @DisplayName("개별 재색인 - 발급받은 버전으로 REINDEX 요청을 보낸다")
+    @SuppressWarnings("unchecked")
+    void migrateMemory() {
+        // Given
+        Long memoryId = 1L;
+        when(memoryReindexReader.readMemory(memoryId)).thenReturn(Optional.of(document(memoryId)));
+        when(memoryIndexOutboxService.nextIndexVersion()).thenReturn(55L);
+        when(memoryDocumentRepository.bulkApply(any())).thenReturn(new MemoryBulkIndexResult(1, Map.of()));
+
+        // When
+        MigrationResponse response = memoryDocumentAdminService.migrateMemory(memoryId);
+
+        // Then
+        assertTrue(response.isSuccess());
+        ArgumentCaptor<List<MemoryIndexOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(memoryDocumentRepository).bulkApply(captor.capture());
+        MemoryIndexOperation operation = captor.getValue().get(0);
+        assertEquals(MemoryIndexOperation.Type.REINDEX, operation.type());
+        assertEquals(55L, operation.version());
+    }
+
+    @Test
+    @DisplayName("개별 재색인 - 메모리가 없으면 실패 응답을 반환한다")
+    void migrateMemoryNotFound() {
+        // Given
+        when(memoryReindexReader.readMemory(999L)).thenReturn(Optional.empty());
+
+        // When
+        MigrationResponse response = memoryDocumentAdminService.migrateMemory(999L);
+
+        // Then
+        assertFalse(response.isSuccess());
+        verify(memoryDocumentRepository, never()).bulkApply(any());
+    }
+}
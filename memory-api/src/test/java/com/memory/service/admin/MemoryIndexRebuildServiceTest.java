@@ -0,0 +1,135 @@
+package com.memory.service.admin;
+
+import com.memory.document.memory.MemoryIndexManager;
+import com.memory.document.memory.MemoryIndexState;
+import com.memory.domain.memory.repository.MemoryRepository;
+import com.memory.dto.search.IndexRebuildStatusResponse;
+import com.memory.exception.customException.ConflictException;
+import com.memory.service.search.MemorySearchCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemoryIndexRebuildServiceTest {
+
+    @Mock
+    private MemoryIndexManager memoryIndexManager;
+
+    @Mock
+    private MemoryBulkReindexer memoryBulkReindexer;
+
+    @Mock
+    private MemoryRepository memoryRepository;
+
+    @Mock
+    private MemorySearchCache memorySearchCache;
+
+    @InjectMocks
+    private MemoryIndexRebuildService memoryIndexRebuildService;
+
+    @Test
+    @DisplayName("정리되지 않은 shadow 인덱스가 있으면 재구축을 시작할 수 없다")
+    void startRebuildWithRemainingShadowIndex() {
+        // Given
+        when(memoryIndexManager.getState())
+                .thenReturn(new MemoryIndexState("memory_v1", "memory_v2", null));
+
+        // When & Then
+        assertThrows(ConflictException.class, () -> memoryIndexRebuildService.startRebuild(100, 2));
+        verify(memoryIndexManager, never()).createShadowIndex();
+    }
+
+    @Test
+    @DisplayName("재구축 - 삭제되지 않은 메모리 수를 전체 건수로 쓰고, 실패한 문서가 있으면 shadow 인덱스를 삭제한다")
+    void rebuildFailureDropsShadowIndex() throws InterruptedException {
+        // Given
+        when(memoryIndexManager.getState())
+                .thenReturn(new MemoryIndexState("memory_v1", null, null));
+        when(memoryIndexManager.createShadowIndex()).thenReturn("memory_v2");
+        when(memoryRepository.countMemoriesForIndexing()).thenReturn(3L);
+        doAnswer(invocation -> {
+            MemoryReindexProgress progress = invocation.getArgument(3);
+            progress.addProcessed(3);
+            progress.addSuccess(2);
+            progress.addError(1);
+            return null;
+        }).when(memoryBulkReindexer).reindex(eq("memory_v2"), eq(100), eq(2), any(MemoryReindexProgress.class));
+
+        // When
+        IndexRebuildStatusResponse response = memoryIndexRebuildService.startRebuild(100, 2);
+
+        // Then
+        assertEquals(3L, response.getTotalCount());
+        verify(memoryIndexManager, timeout(1000)).dropShadowIndex("memory_v2");
+        verify(memoryIndexManager, never()).promote(any());
+        verify(memoryRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("롤백 - 별칭 교체 후라면 이전 인덱스로 되돌린다")
+    void rollbackToPreviousIndex() {
+        // Given
+        when(memoryIndexManager.getState())
+                .thenReturn(new MemoryIndexState("memory_v2", null, "memory_v1"))
+                .thenReturn(new MemoryIndexState("memory_v1", null, "memory_v2"));
+
+        // When
+        IndexRebuildStatusResponse response = memoryIndexRebuildService.rollback();
+
+        // Then
+        verify(memoryIndexManager).rollback();
+        verify(memorySearchCache).invalidateAll();
+        assertEquals("memory_v1", response.getLiveIndex());
+    }
+
+    @Test
+    @DisplayName("롤백 - 이중 쓰기에 실패한 이전 인덱스로는 되돌리지 않는다")
+    void rollbackRejectsStaleIndex() {
+        // Given
+        when(memoryIndexManager.getState())
+                .thenReturn(new MemoryIndexState("memory_v2", null, "memory_v1", true));
+
+        // When & Then
+        assertThrows(ConflictException.class, () -> memoryIndexRebuildService.rollback());
+        verify(memoryIndexManager, never()).rollback();
+        verify(memorySearchCache, never()).invalidateAll();
+        assertTrue(memoryIndexRebuildService.getStatus().isRollbackStale());
+    }
+
+    @Test
+    @DisplayName("롤백 - 남아 있는 shadow 인덱스가 있으면 삭제한다")
+    void rollbackDropsShadowIndex() {
+        // Given
+        when(memoryIndexManager.getState())
+                .thenReturn(new MemoryIndexState("memory_v1", "memory_v2", null))
+                .thenReturn(new MemoryIndexState("memory_v1", null, null));
+
+        // When
+        memoryIndexRebuildService.rollback();
+
+        // Then
+        verify(memoryIndexManager).dropShadowIndex("memory_v2");
+        verify(memoryIndexManager, never()).rollback();
+    }
+
+    @Test
+    @DisplayName("롤백 - 되돌릴 인덱스가 없으면 예외가 발생한다")
+    void rollbackWithoutPreviousIndex() {
+        // Given
+        when(memoryIndexManager.getState())
+                .thenReturn(new MemoryIndexState("memory_v1", null, null));
+
+        // When & Then
+        assertThrows(ConflictException.class, () -> memoryIndexRebuildService.rollback());
+        verify(memoryIndexManager, never()).dropShadowIndex(any());
+    }
+}
@@ -0,0 +1,62 @@
+package com.memory.service.comment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentCountReconcileWorkerTest {
+
+    @Mock
+    private CommentCountReconcileService commentCountReconcileService;
+
+    @InjectMocks
+    private CommentCountReconcileWorker commentCountReconcileWorker;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(commentCountReconcileWorker, "batchSize", 1000);
+    }
+
+    @Test
+    @DisplayName("댓글 수 보정 - 마지막 id 까지 batch-size 범위로 나눠 메모리와 댓글을 보정한다")
+    void reconcileInIdRanges() {
+        // Given
+        when(commentCountReconcileService.findLastMemoryId()).thenReturn(2500L);
+        when(commentCountReconcileService.findLastCommentId()).thenReturn(800L);
+        when(commentCountReconcileService.reconcileMemories(anyLong(), anyLong())).thenReturn(1L);
+
+        // When
+        commentCountReconcileWorker.reconcile();
+
+        // Then
+        verify(commentCountReconcileService).reconcileMemories(1L, 1000L);
+        verify(commentCountReconcileService).reconcileMemories(1001L, 2000L);
+        verify(commentCountReconcileService).reconcileMemories(2001L, 2500L);
+        verify(commentCountReconcileService).reconcileComments(1L, 800L);
+        verifyNoMoreInteractions(commentCountReconcileService);
+    }
+
+    @Test
+    @DisplayName("댓글 수 보정 - 한 범위가 실패해도 나머지 범위는 계속 보정한다")
+    void continuesAfterFailedRange() {
+        // Given
+        when(commentCountReconcileService.findLastMemoryId()).thenReturn(2000L);
+        when(commentCountReconcileService.findLastCommentId()).thenReturn(0L);
+        when(commentCountReconcileService.reconcileMemories(1L, 1000L)).thenThrow(new IllegalStateException("lock timeout"));
+
+        // When
+        commentCountReconcileWorker.reconcile();
+
+        // Then
+        verify(commentCountReconcileService).reconcileMemories(1001L, 2000L);
+        verify(commentCountReconcileService, never()).reconcileComments(anyLong(), anyLong());
+    }
+}
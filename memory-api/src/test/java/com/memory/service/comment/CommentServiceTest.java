@@ -1,6 +1,7 @@
 package com.memory.service.comment;
 
 import com.memory.domain.comment.Comment;
+import com.memory.domain.comment.repository.CommentCursor;
 import com.memory.domain.comment.repository.CommentRepository;
 import com.memory.domain.member.Member;
 import com.memory.domain.member.repository.MemberRepository;
@@ -9,6 +10,8 @@ import com.memory.domain.memory.repository.MemoryRepository;
 import com.memory.dto.comment.CommentCreateRequest;
 import com.memory.dto.comment.CommentListResponse;
 import com.memory.dto.comment.CommentResponse;
+import com.memory.dto.comment.CommentThreadListResponse;
+import com.memory.dto.comment.CommentThreadResponse;
 import com.memory.dto.comment.CommentUpdateRequest;
 import com.memory.exception.customException.NotFoundException;
 import com.memory.exception.customException.ValidationException;
@@ -100,6 +103,7 @@ class CommentServiceTest {
         // Given
         when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
         when(memoryRepository.findMemoryById(memoryId)).thenReturn(Optional.of(memory));
+        when(memory.getId()).thenReturn(memoryId);
         
         when(topLevelComment.getId()).thenReturn(commentId);
         when(topLevelComment.getContent()).thenReturn(commentContent);
@@ -124,7 +128,8 @@ class CommentServiceTest {
         verify(memberRepository).findMemberById(memberId);
         verify(memoryRepository).findMemoryById(memoryId);
         verify(commentRepository).save(any(Comment.class));
-        verify(memory).addComment(any(Comment.class));
+        verify(memoryRepository).increaseCommentsCount(memoryId, true);
+        verify(commentRepository, never()).increaseReplyCount(any());
     }
 
     @Test
@@ -157,7 +162,8 @@ class CommentServiceTest {
         verify(memoryRepository).findMemoryById(memoryId);
         verify(commentRepository).findCommentById(commentId);
         verify(commentRepository).save(any(Comment.class));
-        verify(memory).addComment(any(Comment.class));
+        verify(memoryRepository).increaseCommentsCount(memoryId, false);
+        verify(commentRepository).increaseReplyCount(commentId);
     }
 
     @Test
@@ -252,7 +258,7 @@ class CommentServiceTest {
     @DisplayName("메모리별 최상위 댓글 조회 성공 테스트")
     void getTopLevelCommentsByMemorySuccess() {
         // Given
-        int page = 0;
+        String cursor = null;
         int size = 10;
         
         when(topLevelComment.getId()).thenReturn(commentId);
@@ -269,26 +275,27 @@ class CommentServiceTest {
         List<Comment> comments = List.of(topLevelComment);
         when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
         when(memoryRepository.findMemoryById(memoryId)).thenReturn(Optional.of(memory));
-        when(commentRepository.findTopLevelCommentsByMemory(memory, page, size)).thenReturn(comments);
-        when(commentRepository.countActiveCommentsByMemory(memory)).thenReturn(1L);
+        when(commentRepository.findTopLevelCommentsByMemory(memory, null, size + 1)).thenReturn(comments);
+        when(memory.getCommentsCount()).thenReturn(3L);
         when(memory.getTopLevelCommentsCount()).thenReturn(1L);
 
         // When
-        CommentListResponse response = commentService.getTopLevelCommentsByMemory(memoryId, page, size, memberId);
+        CommentListResponse response = commentService.getTopLevelCommentsByMemory(memoryId, cursor, size, memberId);
 
         // Then
         assertNotNull(response);
         verify(memberRepository).findMemberById(memberId);
         verify(memoryRepository).findMemoryById(memoryId);
-        verify(commentRepository).findTopLevelCommentsByMemory(memory, page, size);
-        verify(commentRepository).countActiveCommentsByMemory(memory);
+        verify(commentRepository).findTopLevelCommentsByMemory(memory, null, size + 1);
+        assertEquals(3L, response.getTotalCount());
+        assertEquals(1L, response.getTopLevelCount());
     }
 
     @Test
     @DisplayName("공개 메모리 댓글 조회 성공 테스트")
     void getTopLevelCommentsByPublicMemorySuccess() {
         // Given
-        int page = 0;
+        String cursor = null;
         int size = 10;
         
         when(topLevelComment.getId()).thenReturn(commentId);
@@ -304,18 +311,19 @@ class CommentServiceTest {
         
         List<Comment> comments = List.of(topLevelComment);
         when(memoryRepository.findMemoryById(memoryId)).thenReturn(Optional.of(memory));
-        when(commentRepository.findTopLevelCommentsByMemory(memory, page, size)).thenReturn(comments);
-        when(commentRepository.countActiveCommentsByMemory(memory)).thenReturn(1L);
+        when(commentRepository.findTopLevelCommentsByMemory(memory, null, size + 1)).thenReturn(comments);
+        when(memory.getCommentsCount()).thenReturn(3L);
         when(memory.getTopLevelCommentsCount()).thenReturn(1L);
 
         // When
-        CommentListResponse response = commentService.getTopLevelCommentsByPublicMemory(memoryId, page, size);
+        CommentListResponse response = commentService.getTopLevelCommentsByPublicMemory(memoryId, cursor, size);
 
         // Then
         assertNotNull(response);
         verify(memoryRepository).findMemoryById(memoryId);
-        verify(commentRepository).findTopLevelCommentsByMemory(memory, page, size);
-        verify(commentRepository).countActiveCommentsByMemory(memory);
+        verify(commentRepository).findTopLevelCommentsByMemory(memory, null, size + 1);
+        assertEquals(3L, response.getTotalCount());
+        assertEquals(1L, response.getTopLevelCount());
     }
 
     @Test
@@ -463,6 +471,9 @@ class CommentServiceTest {
         when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
         when(topLevelComment.isAuthor(member)).thenReturn(true);
         when(topLevelComment.isDeleted()).thenReturn(false);
+        when(topLevelComment.isTopLevel()).thenReturn(true);
+        when(topLevelComment.getMemory()).thenReturn(memory);
+        when(memory.getId()).thenReturn(memoryId);
         when(commentRepository.findCommentById(commentId)).thenReturn(Optional.of(topLevelComment));
 
         // When
@@ -472,6 +483,31 @@ class CommentServiceTest {
         verify(memberRepository).findMemberById(memberId);
         verify(commentRepository).findCommentById(commentId);
         verify(topLevelComment).markAsDeleted();
+        verify(memoryRepository).decreaseCommentsCount(memoryId, true);
+        verify(commentRepository, never()).decreaseReplyCount(any());
+    }
+
+    @Test
+    @DisplayName("대댓글 삭제 시 메모리 댓글 수와 부모 댓글의 대댓글 수를 함께 줄인다")
+    void deleteReplyCommentDecreasesCounters() {
+        // Given
+        when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
+        when(replyComment.isAuthor(member)).thenReturn(true);
+        when(replyComment.isDeleted()).thenReturn(false);
+        when(replyComment.isTopLevel()).thenReturn(false);
+        when(replyComment.getMemory()).thenReturn(memory);
+        when(replyComment.getParent()).thenReturn(topLevelComment);
+        when(topLevelComment.getId()).thenReturn(commentId);
+        when(memory.getId()).thenReturn(memoryId);
+        when(commentRepository.findCommentById(replyCommentId)).thenReturn(Optional.of(replyComment));
+
+        // When
+        commentService.deleteComment(replyCommentId, memberId);
+
+        // Then
+        verify(replyComment).markAsDeleted();
+        verify(memoryRepository).decreaseCommentsCount(memoryId, false);
+        verify(commentRepository).decreaseReplyCount(commentId);
     }
 
     @Test
@@ -509,7 +545,7 @@ class CommentServiceTest {
     @DisplayName("회원별 댓글 조회 성공 테스트")
     void getCommentsByMemberSuccess() {
         // Given
-        int page = 0;
+        String cursor = null;
         int size = 10;
         
         when(topLevelComment.getId()).thenReturn(commentId);
@@ -526,16 +562,16 @@ class CommentServiceTest {
         List<Comment> comments = List.of(topLevelComment);
         when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
         when(memberRepository.findMemberById(otherMemberId)).thenReturn(Optional.of(otherMember));
-        when(commentRepository.findCommentsByMember(member, page, size)).thenReturn(comments);
+        when(commentRepository.findCommentsByMember(member, null, size + 1)).thenReturn(comments);
 
         // When
-        CommentListResponse response = commentService.getCommentsByMember(memberId, page, size, otherMemberId);
+        CommentListResponse response = commentService.getCommentsByMember(memberId, cursor, size, otherMemberId);
 
         // Then
         assertNotNull(response);
         verify(memberRepository).findMemberById(memberId);
         verify(memberRepository).findMemberById(otherMemberId);
-        verify(commentRepository).findCommentsByMember(member, page, size);
+        verify(commentRepository).findCommentsByMember(member, null, size + 1);
     }
 
     @Test
@@ -557,35 +593,204 @@ class CommentServiceTest {
         
         List<Comment> comments = List.of(topLevelComment);
         when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
-        when(commentRepository.findRecentComments(limit)).thenReturn(comments);
+        when(commentRepository.findRecentComments(null, limit + 1)).thenReturn(comments);
 
         // When
-        CommentListResponse response = commentService.getRecentComments(limit, memberId);
+        CommentListResponse response = commentService.getRecentComments(null, limit, memberId);
 
         // Then
         assertNotNull(response);
         verify(memberRepository).findMemberById(memberId);
-        verify(commentRepository).findRecentComments(limit);
+        verify(commentRepository).findRecentComments(null, limit + 1);
+    }
+
+    @Test
+    @DisplayName("커서 페이징 - size + 1 개를 조회해 다음 페이지가 있으면 size 개만 담고 마지막 댓글로 다음 커서를 만든다")
+    void getTopLevelCommentsReturnsNextCursor() {
+        // Given
+        int size = 2;
+        java.time.LocalDateTime createDate = java.time.LocalDateTime.of(2024, 5, 1, 12, 0, 0, 123456000);
+        Comment first = pagedComment(3L, createDate.plusMinutes(1));
+        Comment second = pagedComment(2L, createDate);
+        Comment extra = pagedComment(1L, createDate);
+        CommentCursor cursor = new CommentCursor(createDate.plusMinutes(2), 4L);
+
+        when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
+        when(memoryRepository.findMemoryById(memoryId)).thenReturn(Optional.of(memory));
+        when(commentRepository.findTopLevelCommentsByMemory(memory, cursor, size + 1)).thenReturn(List.of(first, second, extra));
+
+        // When
+        CommentListResponse response = commentService.getTopLevelCommentsByMemory(memoryId, cursor.encode(), size, memberId);
+
+        // Then
+        assertEquals(List.of(3L, 2L), response.getComments().stream().map(CommentResponse::getId).toList());
+        assertTrue(response.getHasNext());
+        assertEquals(new CommentCursor(createDate, 2L), CommentCursor.decode(response.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("커서 페이징 - 마지막 페이지면 다음 커서가 없다")
+    void getRecentCommentsLastPageHasNoCursor() {
+        // Given
+        when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
+        when(commentRepository.findRecentComments(null, 11)).thenReturn(List.of(pagedComment(1L, java.time.LocalDateTime.now())));
+
+        // When
+        CommentListResponse response = commentService.getRecentComments(null, 10, memberId);
+
+        // Then
+        assertEquals(1, response.getComments().size());
+        assertFalse(response.getHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 페이징 - 잘못된 커서나 size 범위는 조회하지 않는다")
+    void rejectsInvalidCursorAndSize() {
+        // Given
+        when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
+        when(memoryRepository.findMemoryById(memoryId)).thenReturn(Optional.of(memory));
+
+        // When & Then
+        assertThrows(ValidationException.class,
+                () -> commentService.getTopLevelCommentsByMemory(memoryId, "not-a-cursor", 10, memberId));
+        assertThrows(ValidationException.class,
+                () -> commentService.getRecentComments(null, 0, memberId));
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    @DisplayName("offset 페이징 - page 를 전달하는 이전 클라이언트는 page * size 부터 조회하고 현재 페이지를 담는다")
+    void getTopLevelCommentsByPageKeepsOffsetPaging() {
+        // Given
+        int page = 2;
+        int size = 2;
+        java.time.LocalDateTime createDate = java.time.LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
+        when(memoryRepository.findMemoryById(memoryId)).thenReturn(Optional.of(memory));
+        when(commentRepository.findTopLevelCommentsByMemory(memory, 4L, size + 1))
+                .thenReturn(List.of(pagedComment(2L, createDate), pagedComment(1L, createDate)));
+
+        // When
+        CommentListResponse response = commentService.getTopLevelCommentsByMemory(memoryId, page, size, memberId);
+
+        // Then
+        assertEquals(2, response.getComments().size());
+        assertEquals(page, response.getCurrentPage());
+        assertFalse(response.getHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("댓글 스레드 조회 - 최상위 댓글과 부모별 첫 대댓글을 한 번씩 조회해 스레드로 묶는다")
+    void getCommentThreadsLoadsRepliesInBatch() {
+        // Given
+        int size = 10;
+        int replySize = 2;
+        java.time.LocalDateTime createDate = java.time.LocalDateTime.of(2024, 5, 1, 12, 0);
+        Comment parent1 = pagedComment(10L, createDate.plusMinutes(1));
+        Comment parent2 = pagedComment(20L, createDate);
+        Comment reply1 = pagedReply(11L, parent1, createDate.plusMinutes(2));
+        Comment reply2 = pagedReply(12L, parent1, createDate.plusMinutes(3));
+        Comment reply3 = pagedReply(13L, parent1, createDate.plusMinutes(4));
+
+        when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
+        when(memoryRepository.findMemoryById(memoryId)).thenReturn(Optional.of(memory));
+        when(memory.getCommentsCount()).thenReturn(5L);
+        when(memory.getTopLevelCommentsCount()).thenReturn(2L);
+        when(commentRepository.findTopLevelCommentsByMemory(memory, null, size + 1)).thenReturn(List.of(parent1, parent2));
+        when(commentRepository.findFirstRepliesByParentIds(List.of(10L, 20L), replySize + 1)).thenReturn(List.of(reply1, reply2, reply3));
+
+        // When
+        CommentThreadListResponse response = commentService.getCommentThreadsByMemory(memoryId, null, size, replySize, memberId);
+
+        // Then
+        assertEquals(2, response.getThreads().size());
+        assertFalse(response.getHasNext());
+        assertEquals(5L, response.getTotalCount());
+
+        CommentThreadResponse firstThread = response.getThreads().get(0);
+        assertEquals(10L, firstThread.getComment().getId());
+        assertEquals(List.of(11L, 12L), firstThread.getReplies().stream().map(CommentResponse::getId).toList());
+        assertTrue(firstThread.getHasMoreReplies());
+        assertEquals(new CommentCursor(createDate.plusMinutes(3), 12L), CommentCursor.decode(firstThread.getRepliesNextCursor()));
+
+        CommentThreadResponse secondThread = response.getThreads().get(1);
+        assertTrue(secondThread.getReplies().isEmpty());
+        assertFalse(secondThread.getHasMoreReplies());
+        assertNull(secondThread.getRepliesNextCursor());
+
+        verify(commentRepository, never()).findRepliesByParentComment(any());
+    }
+
+    @Test
+    @DisplayName("댓글 스레드 조회 - replySize 범위를 벗어나면 조회하지 않는다")
+    void getCommentThreadsRejectsInvalidReplySize() {
+        // When & Then
+        assertThrows(ValidationException.class,
+                () -> commentService.getCommentThreadsByPublicMemory(memoryId, null, 10, 21));
+        verifyNoInteractions(commentRepository, memoryRepository);
+    }
+
+    @Test
+    @DisplayName("대댓글 더보기 - 커서 이후의 대댓글을 오래된 순으로 size 개 조회한다")
+    void getRepliesByCommentWithCursor() {
+        // Given
+        int size = 1;
+        java.time.LocalDateTime createDate = java.time.LocalDateTime.of(2024, 5, 1, 12, 0);
+        CommentCursor cursor = new CommentCursor(createDate, 12L);
+        Comment reply = pagedReply(13L, topLevelComment, createDate.plusMinutes(1));
+
+        when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
+        when(commentRepository.findCommentById(commentId)).thenReturn(Optional.of(topLevelComment));
+        when(topLevelComment.getReplyCount()).thenReturn(3L);
+        when(commentRepository.findRepliesByParentComment(topLevelComment, cursor, size + 1)).thenReturn(List.of(reply));
+
+        // When
+        CommentListResponse response = commentService.getRepliesByComment(commentId, cursor.encode(), size, memberId);
+
+        // Then
+        assertEquals(List.of(13L), response.getComments().stream().map(CommentResponse::getId).toList());
+        assertEquals(3L, response.getTotalCount());
+        assertFalse(response.getHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    private Comment pagedReply(Long id, Comment parent, java.time.LocalDateTime createDate) {
+        Comment reply = pagedComment(id, createDate);
+        when(reply.getParent()).thenReturn(parent);
+        when(reply.getDepth()).thenReturn(1);
+        return reply;
+    }
+
+    private Comment pagedComment(Long id, java.time.LocalDateTime createDate) {
+        Comment comment = mock(Comment.class, LENIENT);
+        when(comment.getId()).thenReturn(id);
+        when(comment.getMemory()).thenReturn(memory);
+        when(comment.getMember()).thenReturn(member);
+        when(comment.getChildren()).thenReturn(Collections.emptyList());
+        when(comment.getCreateDate()).thenReturn(createDate);
+        return comment;
     }
 
     @Test
     @DisplayName("빈 댓글 목록 조회 테스트")
     void getCommentsEmptyList() {
         // Given
-        int page = 0;
+        String cursor = null;
         int size = 10;
         when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
         when(memoryRepository.findMemoryById(memoryId)).thenReturn(Optional.of(memory));
-        when(commentRepository.findTopLevelCommentsByMemory(memory, page, size)).thenReturn(Collections.emptyList());
-        when(commentRepository.countActiveCommentsByMemory(memory)).thenReturn(0L);
+        when(commentRepository.findTopLevelCommentsByMemory(memory, null, size + 1)).thenReturn(Collections.emptyList());
+        when(memory.getCommentsCount()).thenReturn(0L);
         when(memory.getTopLevelCommentsCount()).thenReturn(0L);
 
         // When
-        CommentListResponse response = commentService.getTopLevelCommentsByMemory(memoryId, page, size, memberId);
+        CommentListResponse response = commentService.getTopLevelCommentsByMemory(memoryId, cursor, size, memberId);
 
         // Then
         assertNotNull(response);
-        verify(commentRepository).findTopLevelCommentsByMemory(memory, page, size);
+        verify(commentRepository).findTopLevelCommentsByMemory(memory, null, size + 1);
     }
 
     @Test
@@ -0,0 +1,182 @@
+package com.memory.service.document;
+
+import com.memory.document.memory.MemoryIndexOperation;
+import com.memory.domain.member.Member;
+import com.memory.domain.memory.Memory;
+import com.memory.domain.memory.MemoryType;
+import com.memory.domain.memory.repository.MemoryRepository;
+import com.memory.domain.outbox.MemoryIndexOutbox;
+import com.memory.domain.outbox.MemoryIndexOutboxStatus;
+import com.memory.domain.outbox.repository.MemoryIndexOutboxRepository;
+import com.memory.domain.relationship.RelationshipStatus;
+import com.memory.domain.relationship.repository.RelationshipRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemoryIndexOutboxServiceTest {
+
+    @Mock
+    private MemoryIndexOutboxRepository memoryIndexOutboxRepository;
+
+    @Mock
+    private MemoryRepository memoryRepository;
+
+    @Mock
+    private RelationshipRepository relationshipRepository;
+
+    @InjectMocks
+    private MemoryIndexOutboxService memoryIndexOutboxService;
+
+    private Member member;
+    private Memory memory;
+
+    private final Long memberId = 1L;
+    private final Long memoryId = 10L;
+
+    @BeforeEach
+    void setUp() {
+        member = new Member("테스트 사용자", "testuser", "test@example.com", "encodedPassword");
+        setId(member, memberId);
+
+        memory = Memory.builder()
+                .title("테스트 메모리")
+                .content("테스트 내용")
+                .memoryType(MemoryType.PUBLIC)
+                .member(member)
+                .build();
+        setId(memory, memoryId);
+    }
+
+    private void setId(Object entity, Long id) {
+        try {
+            Field idField = entity.getClass().getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(entity, id);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to set ID", e);
+        }
+    }
+
+    private MemoryIndexOutbox outbox(MemoryIndexOutbox event, Long id) {
+        setId(event, id);
+        return event;
+    }
+
+    @Test
+    @DisplayName("같은 메모리의 이벤트는 가장 마지막 이벤트만 반영된다")
+    void prepareBatchCoalescesEventsPerMemory() {
+        // Given
+        MemoryIndexOutbox first = outbox(MemoryIndexOutbox.upsert(memoryId), 1L);
+        MemoryIndexOutbox second = outbox(MemoryIndexOutbox.upsert(memoryId), 2L);
+
+        when(memoryRepository.findById(memoryId)).thenReturn(Optional.of(memory));
+        when(relationshipRepository.findByMemberAndRelationshipStatus(member, RelationshipStatus.ACCEPTED))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        MemoryIndexOutboxService.IndexBatch batch = memoryIndexOutboxService.prepareBatch(List.of(first, second));
+
+        // Then
+        assertEquals(1, batch.operations().size());
+        MemoryIndexOperation operation = batch.operations().get(0);
+        assertEquals(MemoryIndexOperation.Type.INDEX, operation.type());
+        assertEquals(2L, operation.version());
+        assertEquals(String.valueOf(memoryId), operation.document().getId());
+        assertTrue(batch.buildFailures().isEmpty());
+        verify(memoryRepository, times(1)).findById(memoryId);
+    }
+
+    @Test
+    @DisplayName("삭제된 메모리에 대한 UPSERT 이벤트는 삭제 요청으로 변환된다")
+    void prepareBatchConvertsDeletedMemoryToDelete() {
+        // Given
+        memory.updateDelete();
+        MemoryIndexOutbox event = outbox(MemoryIndexOutbox.upsert(memoryId), 3L);
+        when(memoryRepository.findById(memoryId)).thenReturn(Optional.of(memory));
+
+        // When
+        MemoryIndexOutboxService.IndexBatch batch = memoryIndexOutboxService.prepareBatch(List.of(event));
+
+        // Then
+        assertEquals(1, batch.operations().size());
+        assertEquals(MemoryIndexOperation.Type.DELETE, batch.operations().get(0).type());
+        verify(relationshipRepository, never()).findByMemberAndRelationshipStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("DELETE 이벤트는 메모리 조회 없이 삭제 요청으로 변환된다")
+    void prepareBatchDeleteEvent() {
+        // Given
+        MemoryIndexOutbox event = outbox(MemoryIndexOutbox.delete(memoryId), 4L);
+
+        // When
+        MemoryIndexOutboxService.IndexBatch batch = memoryIndexOutboxService.prepareBatch(List.of(event));
+
+        // Then
+        assertEquals(MemoryIndexOperation.Type.DELETE, batch.operations().get(0).type());
+        assertEquals(4L, batch.operations().get(0).version());
+        verify(memoryRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("처리 결과 반영 - 성공은 완료, 실패는 재시도 대기 상태가 된다")
+    void completeEvents() {
+        // Given
+        Long failedMemoryId = 20L;
+        MemoryIndexOutbox succeeded = outbox(MemoryIndexOutbox.upsert(memoryId), 1L);
+        MemoryIndexOutbox failed = outbox(MemoryIndexOutbox.upsert(failedMemoryId), 2L);
+        succeeded.claim();
+        failed.claim();
+
+        when(memoryIndexOutboxRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(succeeded, failed));
+
+        // When
+        memoryIndexOutboxService.completeEvents(List.of(succeeded, failed), Map.of(failedMemoryId, "mapper_parsing_exception"), Set.of());
+
+        // Then
+        assertEquals(MemoryIndexOutboxStatus.COMPLETED, succeeded.getStatus());
+        assertNotNull(succeeded.getProcessedAt());
+        assertEquals(MemoryIndexOutboxStatus.PENDING, failed.getStatus());
+        assertEquals(1, failed.getRetryCount());
+        assertEquals("mapper_parsing_exception", failed.getFailureReason());
+        assertNull(failed.getClaimedAt());
+        assertFalse(failed.isFailed());
+        verify(memoryIndexOutboxRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("처리 결과 반영 - version conflict 로 거절된 메모리는 완료 처리 후 새 이벤트로 다시 기록한다")
+    void completeEventsReplaysVersionConflicts() {
+        // Given
+        MemoryIndexOutbox conflicted = outbox(MemoryIndexOutbox.upsert(memoryId), 1L);
+        conflicted.claim();
+
+        when(memoryIndexOutboxRepository.findAllById(List.of(1L))).thenReturn(List.of(conflicted));
+
+        // When
+        memoryIndexOutboxService.completeEvents(List.of(conflicted), Map.of(), Set.of(memoryId));
+
+        // Then
+        assertEquals(MemoryIndexOutboxStatus.COMPLETED, conflicted.getStatus());
+        verify(memoryIndexOutboxRepository).saveAll(argThat((List<MemoryIndexOutbox> replayed) -> replayed.size() == 1
+                && replayed.get(0).getMemoryId().equals(memoryId)
+                && replayed.get(0).getStatus() == MemoryIndexOutboxStatus.PENDING));
+    }
+}
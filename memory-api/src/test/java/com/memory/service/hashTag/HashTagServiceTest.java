@@ -5,6 +5,9 @@ import com.memory.domain.hashtag.MemoryHashTag;
 import com.memory.domain.hashtag.repository.HashTagRepository;
 import com.memory.domain.hashtag.repository.MemoryHashTagRepository;
 import com.memory.domain.memory.Memory;
+import com.memory.dto.hashtag.response.HashTagResponse;
+import com.memory.dto.search.HashtagFacet;
+import com.memory.service.search.HashtagTrendService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,6 +36,9 @@ class HashTagServiceTest {
     @Mock
     private MemoryHashTagRepository memoryHashTagRepository;
 
+    @Mock
+    private HashtagTrendService hashtagTrendService;
+
     @InjectMocks
     private HashTagService hashTagService;
 
@@ -222,22 +228,49 @@ class HashTagServiceTest {
     }
 
     @Test
-    @DisplayName("인기 해시태그 조회 성공 테스트")
+    @DisplayName("인기 해시태그 조회 성공 테스트 - 공개 메모리 집계 순서와 개수 사용")
     void getPopularHashTagsSuccess() {
         // Given
         int limit = 5;
-        List<HashTag> popularHashTags = Arrays.asList(existingHashTag, newHashTag);
-        when(hashTagRepository.findPopularHashTags(limit)).thenReturn(popularHashTags);
+        existingHashTag.incrementUseCount();
+        List<HashtagFacet> facets = List.of(
+                HashtagFacet.builder().name(newHashTagName).count(7).build(),
+                HashtagFacet.builder().name(existingHashTagName).count(3).build()
+        );
+        when(hashtagTrendService.getPublicPopular(limit)).thenReturn(facets);
+        when(hashTagRepository.findByNames(List.of(newHashTagName, existingHashTagName)))
+                .thenReturn(Arrays.asList(existingHashTag, newHashTag));
 
         // When
-        List<HashTag> result = hashTagService.getPopularHashTags(limit);
+        List<HashTagResponse> result = hashTagService.getPopularHashTags(limit);
 
         // Then
-        assertNotNull(result);
         assertEquals(2, result.size());
-        assertEquals(popularHashTags, result);
+        assertEquals(new HashTagResponse(2L, newHashTagName, 7L), result.get(0));
+        assertEquals(new HashTagResponse(hashTagId, existingHashTagName, 3L), result.get(1));
 
-        verify(hashTagRepository).findPopularHashTags(limit);
+        verify(hashtagTrendService).getPublicPopular(limit);
+    }
+
+    @Test
+    @DisplayName("인기 해시태그 조회 테스트 - 삭제된 해시태그 제외")
+    void getPopularHashTagsSkipsDeletedHashTags() {
+        // Given
+        int limit = 5;
+        List<HashtagFacet> facets = List.of(
+                HashtagFacet.builder().name("삭제된해시태그").count(9).build(),
+                HashtagFacet.builder().name(existingHashTagName).count(3).build()
+        );
+        when(hashtagTrendService.getPublicPopular(limit)).thenReturn(facets);
+        when(hashTagRepository.findByNames(List.of("삭제된해시태그", existingHashTagName)))
+                .thenReturn(List.of(existingHashTag));
+
+        // When
+        List<HashTagResponse> result = hashTagService.getPopularHashTags(limit);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(existingHashTagName, result.get(0).name());
     }
 
     @Test
@@ -245,16 +278,17 @@ class HashTagServiceTest {
     void getPopularHashTagsNoResults() {
         // Given
         int limit = 5;
-        when(hashTagRepository.findPopularHashTags(limit)).thenReturn(Collections.emptyList());
+        when(hashtagTrendService.getPublicPopular(limit)).thenReturn(Collections.emptyList());
 
         // When
-        List<HashTag> result = hashTagService.getPopularHashTags(limit);
+        List<HashTagResponse> result = hashTagService.getPopularHashTags(limit);
 
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
 
-        verify(hashTagRepository).findPopularHashTags(limit);
+        verify(hashtagTrendService).getPublicPopular(limit);
+        verify(hashTagRepository, never()).findByNames(any());
     }
 
     @Test
@@ -1,6 +1,9 @@
 package com.memory.service.member;
 
 import com.memory.config.jwt.JwtTokenProvider;
+import com.memory.domain.file.File;
+import com.memory.domain.file.FileType;
+import com.memory.domain.file.repository.FileRepository;
 import com.memory.domain.member.Member;
 import com.memory.domain.member.MemberType;
 import com.memory.domain.member.repository.MemberRepository;
@@ -10,6 +13,7 @@ import com.memory.dto.member.response.MemberResponse;
 import com.memory.exception.customException.ConflictException;
 import com.memory.exception.customException.NotFoundException;
 import com.memory.exception.customException.ValidationException;
+import com.memory.service.document.MemoryDocumentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,6 +42,12 @@ class MemberServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private MemoryDocumentService memoryDocumentService;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -221,4 +231,36 @@ class MemberServiceTest {
         assertNull(response.profile());  // No file associated with the member yet
         verify(memberRepository).findMemberById(memberId);
     }
+
+    @Test
+    @DisplayName("회원 수정 - 닉네임이 바뀌면 메모리 검색 문서에 프로필 변경을 전파한다")
+    void updateMemberPropagatesProfile() {
+        // Given
+        File file = new File("profile.png", "uuid-profile.png", "https://cdn/profile.png", FileType.MEMBER, 100L);
+        when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
+        when(fileRepository.findById(1L)).thenReturn(Optional.of(file));
+
+        // When
+        memberService.updateMember(memberId, new MemberRequest.Update("newNickname", 1L));
+
+        // Then
+        assertEquals("newNickname", member.getNickname());
+        verify(memoryDocumentService).propagateMemberProfile(memberId);
+    }
+
+    @Test
+    @DisplayName("회원 수정 - 닉네임과 프로필 이미지가 그대로면 전파하지 않는다")
+    void updateMemberWithoutProfileChange() {
+        // Given
+        File file = new File("profile.png", "uuid-profile.png", "https://cdn/profile.png", FileType.MEMBER, 100L);
+        member.update(nickname, file);
+        when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
+        when(fileRepository.findById(1L)).thenReturn(Optional.of(file));
+
+        // When
+        memberService.updateMember(memberId, new MemberRequest.Update(nickname, 1L));
+
+        // Then
+        verify(memoryDocumentService, never()).propagateMemberProfile(any());
+    }
 }
@@ -7,13 +7,13 @@ import com.memory.domain.member.Member;
 import com.memory.domain.member.repository.MemberRepository;
 import com.memory.domain.memory.Memory;
 import com.memory.domain.memory.MemoryType;
+import com.memory.domain.memory.repository.MemoryFeedRow;
 import com.memory.domain.memory.repository.MemoryRepository;
-import com.memory.domain.relationship.Relationship;
-import com.memory.domain.relationship.RelationshipStatus;
-import com.memory.domain.relationship.repository.RelationshipRepository;
+import com.memory.dto.file.response.FileResponse;
 import com.memory.dto.memory.MemoryRequest;
 import com.memory.dto.memory.response.MemoryResponse;
 import com.memory.exception.customException.NotFoundException;
+import com.memory.service.relationship.MemberVisibilityService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -52,7 +52,7 @@ class MemoryServiceTest {
     private FileRepository fileRepository;
 
     @Mock
-    private RelationshipRepository relationshipRepository;
+    private MemberVisibilityService memberVisibilityService;
 
     @InjectMocks
     private MemoryService memoryService;
@@ -130,6 +130,35 @@ class MemoryServiceTest {
         }
     }
 
+    private List<MemoryFeedRow> feedRows(List<Memory> memories) {
+        return memories.stream()
+                .map(this::feedRow)
+                .toList();
+    }
+
+    private MemoryFeedRow feedRow(Memory memory) {
+        return feedRow(memory, memory.getCommentsCount());
+    }
+
+    private MemoryFeedRow feedRow(Memory memory, long commentsCount) {
+        Map map = memory.getMap();
+        return new MemoryFeedRow(memory.getId(), memory.getTitle(), memory.getContent(), memory.getLocationName(),
+                memory.getMemorableDate(), memory.getMemoryType(), memory.getCreateDate(), commentsCount, memberRow(memory.getMember()),
+                new MemoryFeedRow.MapRow(map.getId(), map.getName(), map.getDescription(), map.getAddress(),
+                        map.getLocation(), map.getMapType(), memberRow(map.getMember())));
+    }
+
+    private MemoryFeedRow.MemberRow memberRow(Member member) {
+        MemoryFeedRow.FileRow noProfile = new MemoryFeedRow.FileRow(null, null, null, null, null, null, null, null, null);
+        return new MemoryFeedRow.MemberRow(member.getId(), member.getEmail(), member.getName(), member.getNickname(),
+                member.getMemberType(), noProfile);
+    }
+
+    private MemoryFeedRow.FileRow memoryFileRow(Long fileId, Long memoryId) {
+        return new MemoryFeedRow.FileRow(fileId, "test.jpg", "stored_test.jpg", "https://example.com/test.jpg",
+                MEMORY, 1024L, memoryId, null, null);
+    }
+
     private MemoryRequest.Create createMemoryCreateRequest() {
         return new MemoryRequest.Create(title, content, locationName, memorableDate, mapId, MemoryType.PRIVATE, 
                 Arrays.asList(fileId1, fileId2), Arrays.asList("테스트", "메모리"));
@@ -284,10 +313,10 @@ class MemoryServiceTest {
         List<Memory> memories = Arrays.asList(memory, memory2);
 
         when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
-        when(relationshipRepository.findByMemberAndRelationshipStatus(member, RelationshipStatus.ACCEPTED))
+        when(memberVisibilityService.getRelatedMemberIds(memberId))
                 .thenReturn(Collections.emptyList());
-        when(memoryRepository.findByMemberAndMemoryType(member, Collections.emptyList(), MemoryType.PRIVATE, size))
-                .thenReturn(memories);
+        when(memoryRepository.findFeedByMember(member, Collections.emptyList(), MemoryType.PRIVATE, null, size))
+                .thenReturn(feedRows(memories));
 
         // When
         List<MemoryResponse> responses = memoryService.findMemoriesByMember(memberId, null, size, MemoryType.PRIVATE);
@@ -299,8 +328,8 @@ class MemoryServiceTest {
         assertEquals(2L, responses.get(1).id());
 
         verify(memberRepository).findMemberById(memberId);
-        verify(relationshipRepository).findByMemberAndRelationshipStatus(member, RelationshipStatus.ACCEPTED);
-        verify(memoryRepository).findByMemberAndMemoryType(member, Collections.emptyList(), MemoryType.PRIVATE, size);
+        verify(memberVisibilityService).getRelatedMemberIds(memberId);
+        verify(memoryRepository).findFeedByMember(member, Collections.emptyList(), MemoryType.PRIVATE, null, size);
     }
 
     @Test
@@ -312,10 +341,10 @@ class MemoryServiceTest {
         List<Memory> memories = Collections.singletonList(memory);
 
         when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
-        when(relationshipRepository.findByMemberAndRelationshipStatus(member, RelationshipStatus.ACCEPTED))
+        when(memberVisibilityService.getRelatedMemberIds(memberId))
                 .thenReturn(Collections.emptyList());
-        when(memoryRepository.findByMemberAndMemoryType(member, Collections.emptyList(), MemoryType.PRIVATE, lastMemoryId, size))
-                .thenReturn(memories);
+        when(memoryRepository.findFeedByMember(member, Collections.emptyList(), MemoryType.PRIVATE, lastMemoryId, size))
+                .thenReturn(feedRows(memories));
 
         // When
         List<MemoryResponse> responses = memoryService.findMemoriesByMember(memberId, lastMemoryId, size, MemoryType.PRIVATE);
@@ -326,8 +355,8 @@ class MemoryServiceTest {
         assertEquals(memoryId, responses.get(0).id());
 
         verify(memberRepository).findMemberById(memberId);
-        verify(relationshipRepository).findByMemberAndRelationshipStatus(member, RelationshipStatus.ACCEPTED);
-        verify(memoryRepository).findByMemberAndMemoryType(member, Collections.emptyList(), MemoryType.PRIVATE, lastMemoryId, size);
+        verify(memberVisibilityService).getRelatedMemberIds(memberId);
+        verify(memoryRepository).findFeedByMember(member, Collections.emptyList(), MemoryType.PRIVATE, lastMemoryId, size);
     }
 
     @Test
@@ -343,8 +372,8 @@ class MemoryServiceTest {
 
         assertEquals("회원을 찾을 수 없습니다.", exception.getMessage());
         verify(memberRepository).findMemberById(memberId);
-        verify(relationshipRepository, never()).findByMemberAndRelationshipStatus(any(), any());
-        verify(memoryRepository, never()).findByMemberAndMemoryType(any(), any(), any(), anyInt());
+        verify(memberVisibilityService, never()).getRelatedMemberIds(any());
+        verify(memoryRepository, never()).findFeedByMember(any(), any(), any(), any(), anyInt());
     }
 
     @Test
@@ -519,7 +548,7 @@ class MemoryServiceTest {
 
         List<Memory> publicMemories = List.of(publicMemory);
 
-        when(memoryRepository.findByMemoryType(MemoryType.PUBLIC, size)).thenReturn(publicMemories);
+        when(memoryRepository.findFeedByMemoryType(MemoryType.PUBLIC, null, size)).thenReturn(feedRows(publicMemories));
 
         // When
         List<MemoryResponse> responses = memoryService.findPublicMemories(null, size);
@@ -531,7 +560,7 @@ class MemoryServiceTest {
         assertEquals("공개 메모리", responses.get(0).title());
         assertEquals(MemoryType.PUBLIC, responses.get(0).memoryType());
 
-        verify(memoryRepository).findByMemoryType(MemoryType.PUBLIC, size);
+        verify(memoryRepository).findFeedByMemoryType(MemoryType.PUBLIC, null, size);
     }
 
     @Test
@@ -542,7 +571,7 @@ class MemoryServiceTest {
         int size = 10;
         List<Memory> publicMemories = List.of();
 
-        when(memoryRepository.findByMemoryType(MemoryType.PUBLIC, lastMemoryId, size)).thenReturn(publicMemories);
+        when(memoryRepository.findFeedByMemoryType(MemoryType.PUBLIC, lastMemoryId, size)).thenReturn(feedRows(publicMemories));
 
         // When
         List<MemoryResponse> responses = memoryService.findPublicMemories(lastMemoryId, size);
@@ -551,7 +580,7 @@ class MemoryServiceTest {
         assertNotNull(responses);
         assertTrue(responses.isEmpty());
 
-        verify(memoryRepository).findByMemoryType(MemoryType.PUBLIC, lastMemoryId, size);
+        verify(memoryRepository).findFeedByMemoryType(MemoryType.PUBLIC, lastMemoryId, size);
     }
 
     @Test
@@ -561,7 +590,7 @@ class MemoryServiceTest {
         Long lastMemoryId = 5L;
         List<Memory> publicMemories = List.of();
 
-        when(memoryRepository.findByMemoryType(MemoryType.PUBLIC, lastMemoryId, 10)).thenReturn(publicMemories);
+        when(memoryRepository.findFeedByMemoryType(MemoryType.PUBLIC, lastMemoryId, 10)).thenReturn(feedRows(publicMemories));
 
         // When
         List<MemoryResponse> responses = memoryService.findPublicMemories(lastMemoryId, null);
@@ -570,7 +599,41 @@ class MemoryServiceTest {
         assertNotNull(responses);
         assertTrue(responses.isEmpty());
 
-        verify(memoryRepository).findByMemoryType(MemoryType.PUBLIC, lastMemoryId, 10);
+        verify(memoryRepository).findFeedByMemoryType(MemoryType.PUBLIC, lastMemoryId, 10);
+    }
+
+    @Test
+    @DisplayName("공개 메모리 목록 조회 테스트 - 파일/해시태그는 페이지 단위로 한 번씩 조회해 메모리별로 붙이고 댓글 수는 피드 행의 값을 쓴다")
+    void findPublicMemoriesAssemblesFeedInBatch() {
+        // Given
+        Memory memory2 = new Memory("두 번째 메모리", "두 번째 내용", "두 번째 장소",
+                LocalDate.of(2023, 12, 27), MemoryType.PUBLIC, member, mapEntity);
+        setId(memory2, 2L);
+        List<Long> memoryIds = List.of(memoryId, 2L);
+
+        when(memoryRepository.findFeedByMemoryType(MemoryType.PUBLIC, null, 10)).thenReturn(List.of(feedRow(memory, 3L), feedRow(memory2)));
+        when(memoryRepository.findFeedFiles(memoryIds))
+                .thenReturn(List.of(memoryFileRow(fileId1, memoryId), memoryFileRow(fileId2, memoryId)));
+        when(memoryRepository.findFeedHashTags(memoryIds))
+                .thenReturn(List.of(new MemoryFeedRow.HashTagRow(2L, "여행")));
+
+        // When
+        List<MemoryResponse> responses = memoryService.findPublicMemories(null, 10);
+
+        // Then
+        assertEquals(2, responses.size());
+        assertEquals(List.of(fileId1, fileId2), responses.get(0).files().stream().map(FileResponse::id).toList());
+        assertTrue(responses.get(0).hashTagNames().isEmpty());
+        assertEquals(3L, responses.get(0).commentsCount());
+        assertEquals(mapId, responses.get(0).map().id());
+        assertNull(responses.get(0).member().profile());
+
+        assertTrue(responses.get(1).files().isEmpty());
+        assertEquals(List.of("여행"), responses.get(1).hashTagNames());
+        assertEquals(0L, responses.get(1).commentsCount());
+
+        verify(memoryRepository).findFeedFiles(memoryIds);
+        verify(memoryRepository).findFeedHashTags(memoryIds);
     }
 
     @Test
@@ -585,10 +648,10 @@ class MemoryServiceTest {
         List<Memory> publicMemories = List.of(publicMemory);
 
         when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
-        when(relationshipRepository.findByMemberAndRelationshipStatus(member, RelationshipStatus.ACCEPTED))
+        when(memberVisibilityService.getRelatedMemberIds(memberId))
                 .thenReturn(Collections.emptyList());
-        when(memoryRepository.findByMemberAndMemoryType(member, Collections.emptyList(), MemoryType.PUBLIC, size))
-                .thenReturn(publicMemories);
+        when(memoryRepository.findFeedByMember(member, Collections.emptyList(), MemoryType.PUBLIC, null, size))
+                .thenReturn(feedRows(publicMemories));
 
         // When
         List<MemoryResponse> responses = memoryService.findMemoriesByMember(memberId, null, size, MemoryType.PUBLIC);
@@ -600,8 +663,8 @@ class MemoryServiceTest {
         assertEquals(MemoryType.PUBLIC, responses.get(0).memoryType());
 
         verify(memberRepository).findMemberById(memberId);
-        verify(relationshipRepository).findByMemberAndRelationshipStatus(member, RelationshipStatus.ACCEPTED);
-        verify(memoryRepository).findByMemberAndMemoryType(member, Collections.emptyList(), MemoryType.PUBLIC, size);
+        verify(memberVisibilityService).getRelatedMemberIds(memberId);
+        verify(memoryRepository).findFeedByMember(member, Collections.emptyList(), MemoryType.PUBLIC, null, size);
     }
 
     @Test
@@ -614,8 +677,6 @@ class MemoryServiceTest {
         Member relatedMember = new Member("관련 사용자", "relateduser", "related@example.com", "encodedPassword");
         setId(relatedMember, relatedMemberId);
         
-        Relationship relationship = new Relationship(member, relatedMember, RelationshipStatus.ACCEPTED);
-        List<Relationship> relationships = List.of(relationship);
         List<Long> relatedMemberIds = List.of(relatedMemberId);
         
         Memory myPublicMemory = new Memory("내 공개 메모리", "내 공개 내용", "내 공개 장소", 
@@ -629,10 +690,10 @@ class MemoryServiceTest {
         List<Memory> memories = Arrays.asList(myPublicMemory, relatedPublicMemory);
 
         when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
-        when(relationshipRepository.findByMemberAndRelationshipStatus(member, RelationshipStatus.ACCEPTED))
-                .thenReturn(relationships);
-        when(memoryRepository.findByMemberAndMemoryType(member, relatedMemberIds, MemoryType.RELATIONSHIP, size))
-                .thenReturn(memories);
+        when(memberVisibilityService.getRelatedMemberIds(memberId))
+                .thenReturn(relatedMemberIds);
+        when(memoryRepository.findFeedByMember(member, relatedMemberIds, MemoryType.RELATIONSHIP, null, size))
+                .thenReturn(feedRows(memories));
 
         // When
         List<MemoryResponse> responses = memoryService.findMemoriesByMember(memberId, null, size, MemoryType.RELATIONSHIP);
@@ -644,8 +705,8 @@ class MemoryServiceTest {
         assertEquals(4L, responses.get(1).id());
 
         verify(memberRepository).findMemberById(memberId);
-        verify(relationshipRepository).findByMemberAndRelationshipStatus(member, RelationshipStatus.ACCEPTED);
-        verify(memoryRepository).findByMemberAndMemoryType(member, relatedMemberIds, MemoryType.RELATIONSHIP, size);
+        verify(memberVisibilityService).getRelatedMemberIds(memberId);
+        verify(memoryRepository).findFeedByMember(member, relatedMemberIds, MemoryType.RELATIONSHIP, null, size);
     }
 
     @Test
@@ -661,10 +722,10 @@ class MemoryServiceTest {
         List<Memory> memories = List.of(myPublicMemory);
 
         when(memberRepository.findMemberById(memberId)).thenReturn(Optional.of(member));
-        when(relationshipRepository.findByMemberAndRelationshipStatus(member, RelationshipStatus.ACCEPTED))
+        when(memberVisibilityService.getRelatedMemberIds(memberId))
                 .thenReturn(Collections.emptyList());
-        when(memoryRepository.findByMemberAndMemoryType(member, Collections.emptyList(), MemoryType.RELATIONSHIP, size))
-                .thenReturn(memories);
+        when(memoryRepository.findFeedByMember(member, Collections.emptyList(), MemoryType.RELATIONSHIP, null, size))
+                .thenReturn(feedRows(memories));
 
         // When
         List<MemoryResponse> responses = memoryService.findMemoriesByMember(memberId, null, size, MemoryType.RELATIONSHIP);
@@ -675,8 +736,8 @@ class MemoryServiceTest {
         assertEquals(5L, responses.get(0).id());
 
         verify(memberRepository).findMemberById(memberId);
-        verify(relationshipRepository).findByMemberAndRelationshipStatus(member, RelationshipStatus.ACCEPTED);
-        verify(memoryRepository).findByMemberAndMemoryType(member, Collections.emptyList(), MemoryType.RELATIONSHIP, size);
+        verify(memberVisibilityService).getRelatedMemberIds(memberId);
+        verify(memoryRepository).findFeedByMember(member, Collections.emptyList(), MemoryType.RELATIONSHIP, null, size);
     }
 
     @Test
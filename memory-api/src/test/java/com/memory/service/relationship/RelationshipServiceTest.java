@@ -9,6 +9,7 @@ import com.memory.dto.relationship.RelationshipRequest;
 import com.memory.dto.relationship.response.RelationshipListResponse;
 import com.memory.dto.relationship.response.RelationshipResponse;
 import com.memory.exception.customException.NotFoundException;
+import com.memory.service.document.MemoryDocumentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,12 @@ class RelationshipServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberVisibilityService memberVisibilityService;
+
+    @Mock
+    private MemoryDocumentService memoryDocumentService;
+
     @InjectMocks
     private RelationshipService relationshipService;
 
@@ -162,6 +169,8 @@ class RelationshipServiceTest {
         verify(memberRepository).findMemberById(member2Id);
         verify(relationshipRepository).findById(relationshipId);
         verify(relationshipRepository).save(any(Relationship.class));
+        verify(memberVisibilityService).evict(member1Id, member2Id);
+        verify(memoryDocumentService).propagateRelationshipChange(member1Id, member2Id);
     }
 
     @Test
@@ -0,0 +1,81 @@
+package com.memory.service.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutocompleteExecutorTest {
+
+    private final AutocompleteExecutor autocompleteExecutor = new AutocompleteExecutor(1, 1);
+
+    @AfterEach
+    void tearDown() {
+        autocompleteExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("마감 시간 안에 끝나면 결과를 반환한다")
+    void returnsResultWithinDeadline() {
+        // When
+        CompletableFuture<String> future = autocompleteExecutor.supplyWithinDeadline(() -> "여행", 1000);
+
+        // Then
+        assertEquals("여행", future.join());
+    }
+
+    @Test
+    @DisplayName("마감 시간을 넘기면 null 로 완료하고 실행 중인 작업을 인터럽트한다")
+    void cancelsTaskOnDeadline() throws InterruptedException {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When
+        CompletableFuture<String> future = autocompleteExecutor.supplyWithinDeadline(() -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "늦은 결과";
+        }, 50);
+
+        // Then
+        assertNull(future.join());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 가득 차면 마감 시간을 기다리지 않고 바로 거절한다")
+    void rejectsWhenSaturated() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        autocompleteExecutor.supplyWithinDeadline(() -> await(release), 5000);
+        autocompleteExecutor.supplyWithinDeadline(() -> await(release), 5000);
+
+        // When
+        CompletableFuture<String> rejected = autocompleteExecutor.supplyWithinDeadline(() -> "여행", 5000);
+
+        // Then
+        assertTrue(rejected.isCompletedExceptionally());
+        CompletionException exception = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+        release.countDown();
+    }
+
+    private String await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "완료";
+    }
+}
@@ -0,0 +1,94 @@
+package com.memory.service.search;
+
+import com.memory.document.memory.MemoryDocumentRepository;
+import com.memory.document.memory.MemoryVisibility;
+import com.memory.dto.search.HashtagFacet;
+import com.memory.dto.search.HashtagTrendResponse;
+import com.memory.dto.search.HashtagTrendWindow;
+import com.memory.exception.customException.ValidationException;
+import com.memory.service.relationship.MemberVisibilityService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HashtagTrendServiceTest {
+
+    @Mock
+    private MemoryDocumentRepository memoryDocumentRepository;
+
+    @Mock
+    private MemberVisibilityService memberVisibilityService;
+
+    private HashtagTrendService hashtagTrendService;
+
+    @BeforeEach
+    void setUp() {
+        hashtagTrendService = new HashtagTrendService(memoryDocumentRepository, memberVisibilityService, new SimpleMeterRegistry(), 60);
+    }
+
+    @Test
+    @DisplayName("게스트 트렌드 - 기간 시작 시각부터 PUBLIC 범위로 집계하고 같은 조건은 캐시된 결과를 사용한다")
+    void publicTrendAggregatesWindowAndUsesCache() {
+        // Given
+        when(memoryDocumentRepository.aggregateHashtags(isNull(), any(Instant.class), eq(true), eq(10)))
+                .thenReturn(List.of(facet("벚꽃", 12, 3.5)));
+
+        // When
+        hashtagTrendService.getPublicTrend(HashtagTrendWindow.DAY, true, 10);
+        HashtagTrendResponse response = hashtagTrendService.getPublicTrend(HashtagTrendWindow.DAY, true, 10);
+
+        // Then
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        verify(memoryDocumentRepository, times(1)).aggregateHashtags(isNull(), since.capture(), eq(true), eq(10));
+        Duration window = Duration.between(since.getValue(), Instant.now());
+        assertTrue(window.compareTo(Duration.ofHours(24)) >= 0 && window.compareTo(Duration.ofHours(24).plusMinutes(2)) < 0);
+        assertEquals("벚꽃", response.getHashtags().get(0).getName());
+        assertTrue(response.isTrending());
+    }
+
+    @Test
+    @DisplayName("인증된 사용자 트렌드 - 사용자의 조회 범위로 집계한다")
+    void authenticatedTrendUsesMemberVisibility() {
+        // Given
+        MemoryVisibility visibility = new MemoryVisibility(1L, List.of(2L));
+        when(memberVisibilityService.getVisibility(1L)).thenReturn(visibility);
+        when(memoryDocumentRepository.aggregateHashtags(eq(visibility), any(Instant.class), eq(false), eq(5)))
+                .thenReturn(List.of(facet("여행", 4, null)));
+
+        // When
+        HashtagTrendResponse response = hashtagTrendService.getAuthenticatedTrend(1L, HashtagTrendWindow.WEEK, false, 5);
+
+        // Then
+        assertEquals(HashtagTrendWindow.WEEK, response.getWindow());
+        assertEquals(4, response.getHashtags().get(0).getCount());
+    }
+
+    @Test
+    @DisplayName("limit 범위를 벗어나면 집계하지 않는다")
+    void rejectsInvalidLimit() {
+        // When & Then
+        assertThrows(ValidationException.class, () -> hashtagTrendService.getPublicTrend(HashtagTrendWindow.MONTH, false, 0));
+        verifyNoInteractions(memoryDocumentRepository);
+    }
+
+    private HashtagFacet facet(String name, long count, Double score) {
+        return HashtagFacet.builder()
+                .name(name)
+                .count(count)
+                .score(score)
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.memory.service.search;
+
+import com.memory.document.memory.MemoryDocument;
+import com.memory.document.memory.MemoryIndexOperation;
+import com.memory.dto.search.AutocompleteResponse;
+import com.memory.dto.search.MemorySearchRequest;
+import com.memory.dto.search.MemorySearchResponse;
+import com.memory.dto.search.SearchResultResponse;
+import com.memory.dto.search.SearchType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemorySearchCacheTest {
+
+    private MemorySearchCache memorySearchCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        memorySearchCache = new MemorySearchCache(new SimpleMeterRegistry(), 100, 30, 10);
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("검색어 공백/대소문자, 해시태그 순서가 달라도 같은 캐시 항목을 사용한다")
+    void normalizedRequestHitsCache() {
+        // Given
+        MemorySearchRequest first = request(" Jeju  Trip ", List.of("여행", "제주"));
+        MemorySearchRequest second = request("jeju trip", List.of("제주", "여행", "여행"));
+
+        // When
+        memorySearchCache.getSearch(first, () -> load(1L));
+        memorySearchCache.getSearch(second, () -> load(1L));
+
+        // Then
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("PRIVATE 문서 색인은 캐시된 결과와 무관하면 세대를 올리지 않는다")
+    void privateIndexWithoutCachedMemoryKeepsGeneration() {
+        // Given
+        memorySearchCache.getSearch(request("여행", null), () -> load(1L));
+
+        // When
+        memorySearchCache.onIndexed(List.of(MemoryIndexOperation.index(document(2L, "PRIVATE"), 10L)));
+        memorySearchCache.getSearch(request("여행", null), () -> load(1L));
+
+        // Then
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("캐시된 결과의 메모리가 비공개로 바뀌면 세대를 올려 다시 조회한다")
+    void cachedMemoryChangeInvalidates() {
+        // Given
+        memorySearchCache.getSearch(request("여행", null), () -> load(1L));
+
+        // When
+        memorySearchCache.onIndexed(List.of(MemoryIndexOperation.index(document(1L, "PRIVATE"), 10L)));
+        memorySearchCache.getSearch(request("여행", null), () -> load(1L));
+
+        // Then
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("PUBLIC 문서 색인이나 삭제가 반영되면 세대를 올려 다시 조회한다")
+    void publicIndexOrDeleteInvalidates() {
+        // Given
+        memorySearchCache.getSearch(request("여행", null), () -> load(1L));
+
+        // When
+        memorySearchCache.onIndexed(List.of(MemoryIndexOperation.index(document(2L, "PUBLIC"), 10L)));
+        memorySearchCache.getSearch(request("여행", null), () -> load(1L));
+        memorySearchCache.onIndexed(List.of(MemoryIndexOperation.delete(3L, 11L)));
+        memorySearchCache.getSearch(request("여행", null), () -> load(1L));
+
+        // Then
+        assertEquals(3, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("커서 검색은 캐시하지 않는다")
+    void cursorSearchIsNotCached() {
+        // Given
+        MemorySearchRequest request = MemorySearchRequest.builder()
+                .type(SearchType.ALL)
+                .query("여행")
+                .cursorPaging(true)
+                .build();
+
+        // When
+        memorySearchCache.getSearch(request, () -> load(1L));
+        memorySearchCache.getSearch(request, () -> load(1L));
+
+        // Then
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("마감 시간 초과나 샤드 실패로 일부 결과만 담긴 검색 응답은 캐시하지 않는다")
+    void partialSearchIsNotCached() {
+        // Given
+        MemorySearchRequest request = request("여행", null);
+        SearchResultResponse partial = SearchResultResponse.builder()
+                .memories(List.of())
+                .metadata(SearchResultResponse.SearchMetadata.builder().partial(true).build())
+                .build();
+
+        // When
+        memorySearchCache.getSearch(request, () -> {
+            loadCount.incrementAndGet();
+            return partial;
+        });
+        memorySearchCache.putSearch(memorySearchCache.currentGeneration(), request, partial);
+        memorySearchCache.getSearch(request, () -> load(1L));
+
+        // Then
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    @DisplayName("한쪽 결과가 빠진 자동완성 응답은 캐시하지 않는다")
+    void partialAutocompleteIsNotCached() {
+        // When
+        memorySearchCache.getAutocomplete("여행", 10, () -> autocomplete(true));
+        memorySearchCache.getAutocomplete("여행", 10, () -> autocomplete(false));
+        memorySearchCache.getAutocomplete("여행", 10, () -> autocomplete(false));
+
+        // Then
+        assertEquals(2, loadCount.get());
+    }
+
+    private MemorySearchRequest request(String query, List<String> hashtags) {
+        return MemorySearchRequest.builder()
+                .type(SearchType.ALL)
+                .query(query)
+                .hashtags(hashtags)
+                .build();
+    }
+
+    private SearchResultResponse load(Long memoryId) {
+        loadCount.incrementAndGet();
+        return SearchResultResponse.builder()
+                .memories(List.of(MemorySearchResponse.builder().memoryId(memoryId).build()))
+                .build();
+    }
+
+    private AutocompleteResponse autocomplete(boolean partial) {
+        loadCount.incrementAndGet();
+        return AutocompleteResponse.builder()
+                .suggestions(List.of())
+                .partial(partial)
+                .build();
+    }
+
+    private MemoryDocument document(Long memoryId, String memoryType) {
+        return MemoryDocument.builder()
+                .memoryId(memoryId)
+                .memoryType(memoryType)
+                .build();
+    }
+}
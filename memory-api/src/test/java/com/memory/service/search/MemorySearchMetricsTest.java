@@ -0,0 +1,173 @@
+package com.memory.service.search;
+
+import com.memory.dto.search.MemorySearchRequest;
+import com.memory.dto.search.SearchType;
+import com.memory.dto.search.SlowSearchQuery;
+import com.memory.exception.customException.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemorySearchMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("검색 타입/게스트 여부별로 소요 시간과 Elasticsearch took 을 기록한다")
+    void recordsDurationAndTook() {
+        // Given
+        MemorySearchMetrics metrics = new MemorySearchMetrics(meterRegistry, 300, 10);
+
+        // When
+        try (MemorySearchMetrics.Recording recording = metrics.start(request("여행"), false)) {
+            metrics.onSearchExecuted("{\"match\":{}}", Duration.ofMillis(12));
+            recording.finish(3);
+        }
+
+        // Then
+        assertEquals(1, meterRegistry.get("memory.search.duration").tag("type", "TITLE").tag("audience", "guest").timer().count());
+        assertEquals(12.0, meterRegistry.get("memory.search.took").tag("type", "TITLE").timer()
+                .totalTime(TimeUnit.MILLISECONDS));
+        assertNull(meterRegistry.find("memory.search.zero.results").counter());
+    }
+
+    @Test
+    @DisplayName("결과가 없는 검색은 zero result 카운터를 올린다")
+    void countsZeroResults() {
+        // Given
+        MemorySearchMetrics metrics = new MemorySearchMetrics(meterRegistry, 300, 10);
+
+        // When
+        try (MemorySearchMetrics.Recording recording = metrics.start(request("없는 검색어"), true)) {
+            recording.finish(0);
+        }
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("memory.search.zero.results").tag("audience", "member").counter().count());
+    }
+
+    @Test
+    @DisplayName("임계값을 넘긴 검색은 실행한 query 와 함께 보관한다")
+    void keepsSlowQueryWithQueryDsl() {
+        // Given
+        MemorySearchMetrics metrics = new MemorySearchMetrics(meterRegistry, 0, 10);
+
+        // When
+        record(metrics, "여행", Duration.ofMillis(20));
+
+        // Then
+        SlowSearchQuery slowQuery = metrics.getSlowQueries(10).get(0);
+        assertEquals("TITLE", slowQuery.getSearchType());
+        assertEquals("여행", slowQuery.getCondition());
+        assertEquals("dsl-여행", slowQuery.getQueryDsl());
+    }
+
+    @Test
+    @DisplayName("느린 검색은 최근 순서가 아니라 가장 느린 capacity 건만 느린 순서로 보관한다")
+    void keepsSlowestQueries() {
+        // Given
+        SlowSearchQueryLog slowSearchQueryLog = new SlowSearchQueryLog(2);
+
+        // When
+        slowSearchQueryLog.add(slowQuery("첫번째", 500));
+        slowSearchQueryLog.add(slowQuery("두번째", 100));
+        slowSearchQueryLog.add(slowQuery("세번째", 300));
+        slowSearchQueryLog.add(slowQuery("네번째", 200));
+
+        // Then
+        List<SlowSearchQuery> slowQueries = slowSearchQueryLog.slowest(10);
+        assertEquals(List.of("첫번째", "세번째"), slowQueries.stream().map(SlowSearchQuery::getCondition).toList());
+    }
+
+    @Test
+    @DisplayName("용량이 0 이면 느린 검색을 보관하지 않는다")
+    void ignoresSlowQueriesWithoutCapacity() {
+        // Given
+        MemorySearchMetrics metrics = new MemorySearchMetrics(meterRegistry, 0, 0);
+
+        // When
+        record(metrics, "여행", Duration.ofMillis(20));
+
+        // Then
+        assertTrue(metrics.getSlowQueries(1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("느린 검색 조회 limit 은 1 ~ capacity 사이여야 한다")
+    void rejectsSlowQueryLimitOutOfRange() {
+        // Given
+        MemorySearchMetrics metrics = new MemorySearchMetrics(meterRegistry, 0, 10);
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> metrics.getSlowQueries(-1));
+        assertThrows(ValidationException.class, () -> metrics.getSlowQueries(0));
+        assertThrows(ValidationException.class, () -> metrics.getSlowQueries(11));
+        assertTrue(metrics.getSlowQueries(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("검색 요청 DTO 가 없는 검색도 검색 종류 태그로 기록하고, 여러 쿼리가 실행되면 가장 느린 쿼리를 남긴다")
+    void recordsSearchWithoutRequest() {
+        // Given
+        MemorySearchMetrics metrics = new MemorySearchMetrics(meterRegistry, 0, 10);
+
+        // When
+        try (MemorySearchMetrics.Recording recording = metrics.start(MemorySearchMetrics.BATCH, "[TITLE, DATE]", true)) {
+            metrics.onSearchExecuted("dsl-title", Duration.ofMillis(5));
+            metrics.onSearchExecuted("dsl-date", Duration.ofMillis(40));
+            recording.finish(2);
+        }
+
+        // Then
+        assertEquals(1, meterRegistry.get("memory.search.duration").tag("type", "BATCH").tag("audience", "member").timer().count());
+        assertEquals("dsl-date", metrics.getSlowQueries(10).get(0).getQueryDsl());
+        assertEquals(40L, metrics.getSlowQueries(10).get(0).getTookMs());
+    }
+
+    @Test
+    @DisplayName("기록이 닫힌 뒤 실행된 검색은 이전 기록에 붙지 않는다")
+    void ignoresSearchOutsideRecording() {
+        // Given
+        MemorySearchMetrics metrics = new MemorySearchMetrics(meterRegistry, 0, 10);
+        record(metrics, "여행", Duration.ofMillis(5));
+
+        // When
+        metrics.onSearchExecuted("{}", Duration.ofMillis(999));
+
+        // Then
+        assertEquals(5L, metrics.getSlowQueries(10).get(0).getTookMs());
+    }
+
+    private void record(MemorySearchMetrics metrics, String query, Duration took) {
+        try (MemorySearchMetrics.Recording recording = metrics.start(request(query), false)) {
+            metrics.onSearchExecuted("dsl-" + query, took);
+            recording.finish(1);
+        }
+    }
+
+    private SlowSearchQuery slowQuery(String condition, long durationMs) {
+        return SlowSearchQuery.builder()
+                .condition(condition)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private MemorySearchRequest request(String query) {
+        return MemorySearchRequest.builder()
+                .type(SearchType.TITLE)
+                .query(query)
+                .build();
+    }
+}
@@ -0,0 +1,515 @@
+package com.memory.service.search;
+
+import com.memory.document.memory.MemoryDocument;
+import com.memory.document.memory.MemoryDocumentRepository;
+import com.memory.document.memory.MemorySearchCriteria;
+import com.memory.document.memory.MemorySearchCursor;
+import com.memory.document.memory.MemorySearchResult;
+import com.memory.document.memory.MemoryVisibility;
+import com.memory.dto.search.AutocompleteResponse;
+import com.memory.dto.search.AutocompleteSuggestion;
+import com.memory.dto.search.GeoAreaSearchRequest;
+import com.memory.dto.search.GeoDistanceSearchRequest;
+import com.memory.dto.search.MemorySearchRequest;
+import com.memory.dto.search.MemorySearchResponse;
+import com.memory.dto.search.MultiSearchRequest;
+import com.memory.dto.search.MultiSearchResultResponse;
+import com.memory.dto.search.SearchResultResponse;
+import com.memory.dto.search.SearchType;
+import com.memory.dto.search.SearchView;
+import com.memory.exception.customException.ValidationException;
+import com.memory.service.relationship.MemberVisibilityService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemorySearchServiceTest {
+
+    private static final long DEADLINE_MS = 100;
+    private static final String CURSOR_SECRET = "test-cursor-secret";
+
+    @Mock
+    private MemoryDocumentRepository memoryDocumentRepository;
+
+    @Mock
+    private MemberVisibilityService memberVisibilityService;
+
+    private MemorySearchService memorySearchService;
+
+    private AutocompleteExecutor autocompleteExecutor;
+
+    @BeforeEach
+    void setUp() {
+        MemorySearchCache memorySearchCache = new MemorySearchCache(new SimpleMeterRegistry(), 100, 30, 10);
+        MemorySearchMetrics memorySearchMetrics = new MemorySearchMetrics(new SimpleMeterRegistry(), 300, 100);
+        autocompleteExecutor = new AutocompleteExecutor(4, 8);
+        memorySearchService = new MemorySearchService(memoryDocumentRepository, memorySearchCache, memberVisibilityService,
+                memorySearchMetrics, autocompleteExecutor, new PublicPointInTimePool(memoryDocumentRepository, 10, 60));
+        ReflectionTestUtils.setField(memorySearchService, "autocompleteDeadlineMs", DEADLINE_MS);
+        ReflectionTestUtils.setField(memorySearchService, "maxResultWindow", 10000);
+        ReflectionTestUtils.setField(memorySearchService, "cursorSecret", CURSOR_SECRET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        autocompleteExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("자동완성 - 제목과 해시태그 결과를 점수순으로 합친다")
+    void publicAutocompleteMergesBothBranches() {
+        // Given
+        when(memoryDocumentRepository.getPublicTitleSuggestions("여행", 5))
+                .thenReturn(List.of(suggestion("여행 기록", AutocompleteSuggestion.SuggestionType.TITLE, 2.0f)));
+        when(memoryDocumentRepository.getPublicHashtagSuggestions("여행", 5))
+                .thenReturn(List.of(suggestion("여행", AutocompleteSuggestion.SuggestionType.HASHTAG, 3.0f)));
+
+        // When
+        AutocompleteResponse response = memorySearchService.getPublicAutocomplete("여행", 10);
+
+        // Then
+        assertEquals(2, response.getTotalSuggestions());
+        assertEquals("여행", response.getSuggestions().get(0).getText());
+        assertEquals("여행 기록", response.getSuggestions().get(1).getText());
+        assertFalse(response.isPartial());
+    }
+
+    @Test
+    @DisplayName("자동완성 - 마감 시간을 넘긴 쪽은 버리고 나머지 결과만 반환한다")
+    void authenticatedAutocompleteReturnsPartialResultsOnDeadline() {
+        // Given
+        MemoryVisibility visibility = new MemoryVisibility(1L, List.of(2L));
+        when(memberVisibilityService.getVisibility(1L)).thenReturn(visibility);
+        when(memoryDocumentRepository.getAuthenticatedTitleSuggestions(visibility, "여행", 5))
+                .thenReturn(List.of(suggestion("여행 기록", AutocompleteSuggestion.SuggestionType.TITLE, 2.0f)));
+        when(memoryDocumentRepository.getAuthenticatedHashtagSuggestions(visibility, "여행", 5))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(DEADLINE_MS * 5);
+                    return List.of(suggestion("여행", AutocompleteSuggestion.SuggestionType.HASHTAG, 3.0f));
+                });
+
+        // When
+        AutocompleteResponse response = memorySearchService.getAuthenticatedAutocomplete(1L, "여행", 10);
+
+        // Then
+        assertEquals(1, response.getTotalSuggestions());
+        assertEquals("여행 기록", response.getSuggestions().get(0).getText());
+        assertTrue(response.getResponseTimeMs() < DEADLINE_MS * 5);
+        assertTrue(response.isPartial());
+    }
+
+    @Test
+    @DisplayName("자동완성 - 한쪽 조회가 실패해도 나머지 결과는 반환한다")
+    void publicAutocompleteIgnoresFailedBranch() {
+        // Given
+        when(memoryDocumentRepository.getPublicTitleSuggestions("여행", 5))
+                .thenThrow(new RuntimeException("Elasticsearch unavailable"));
+        when(memoryDocumentRepository.getPublicHashtagSuggestions("여행", 5))
+                .thenReturn(List.of(suggestion("여행", AutocompleteSuggestion.SuggestionType.HASHTAG, 3.0f)));
+
+        // When
+        AutocompleteResponse response = memorySearchService.getPublicAutocomplete("여행", 10);
+
+        // Then
+        assertEquals(1, response.getTotalSuggestions());
+        assertEquals(AutocompleteSuggestion.SuggestionType.HASHTAG, response.getSuggestions().get(0).getType());
+        assertTrue(response.isPartial());
+    }
+
+    @Test
+    @DisplayName("게스트 자동완성 - 한쪽 결과가 빠진 응답은 캐시하지 않고 다음 요청에서 다시 조회한다")
+    void publicAutocompleteDoesNotCachePartialResponse() {
+        // Given
+        when(memoryDocumentRepository.getPublicTitleSuggestions("여행", 5))
+                .thenThrow(new RuntimeException("Elasticsearch unavailable"))
+                .thenReturn(List.of(suggestion("여행 기록", AutocompleteSuggestion.SuggestionType.TITLE, 2.0f)));
+        when(memoryDocumentRepository.getPublicHashtagSuggestions("여행", 5))
+                .thenReturn(List.of(suggestion("여행", AutocompleteSuggestion.SuggestionType.HASHTAG, 3.0f)));
+
+        // When
+        memorySearchService.getPublicAutocomplete("여행", 10);
+        AutocompleteResponse response = memorySearchService.getPublicAutocomplete("여행", 10);
+
+        // Then
+        assertFalse(response.isPartial());
+        assertEquals(2, response.getTotalSuggestions());
+        verify(memoryDocumentRepository, times(2)).getPublicTitleSuggestions("여행", 5);
+    }
+
+    @Test
+    @DisplayName("게스트 자동완성 - 같은 검색어는 캐시된 결과를 반환한다")
+    void publicAutocompleteUsesCache() {
+        // Given
+        when(memoryDocumentRepository.getPublicTitleSuggestions("여행", 5))
+                .thenReturn(List.of(suggestion("여행 기록", AutocompleteSuggestion.SuggestionType.TITLE, 2.0f)));
+        when(memoryDocumentRepository.getPublicHashtagSuggestions("여행", 5))
+                .thenReturn(List.of());
+
+        // When
+        memorySearchService.getPublicAutocomplete("여행", 10);
+        AutocompleteResponse response = memorySearchService.getPublicAutocomplete(" 여행 ", 10);
+
+        // Then
+        assertEquals(1, response.getTotalSuggestions());
+        verify(memoryDocumentRepository, times(1)).getPublicTitleSuggestions("여행", 5);
+    }
+
+    @Test
+    @DisplayName("게스트 묶음 검색 - 캐시에 없는 검색만 묶어서 한 번에 실행하고 요청 순서대로 반환한다")
+    void publicBatchSearchesOnlyCacheMisses() {
+        // Given
+        MemorySearchRequest recent = searchRequest("여행");
+        MemorySearchRequest hashtag = MemorySearchRequest.builder()
+                .type(SearchType.HASHTAGS)
+                .hashtags(List.of("제주도"))
+                .build();
+        when(memoryDocumentRepository.multiSearch(anyList()))
+                .thenAnswer(invocation -> invocation.<List<MemorySearchCriteria>>getArgument(0).stream()
+                        .map(criteria -> MemorySearchResult.of(mock(SearchPage.class)))
+                        .toList());
+        memorySearchService.searchPublicBatch(new MultiSearchRequest(List.of(recent)));
+
+        // When
+        MultiSearchResultResponse response = memorySearchService.searchPublicBatch(new MultiSearchRequest(List.of(recent, hashtag)));
+
+        // Then
+        ArgumentCaptor<List<MemorySearchCriteria>> captor = ArgumentCaptor.forClass(List.class);
+        verify(memoryDocumentRepository, times(2)).multiSearch(captor.capture());
+        List<MemorySearchCriteria> lastCriteria = captor.getAllValues().get(1);
+        assertEquals(1, lastCriteria.size());
+        assertEquals(SearchType.HASHTAGS, lastCriteria.get(0).type());
+        assertTrue(lastCriteria.get(0).isPublic());
+        assertEquals(2, response.getResults().size());
+        assertEquals(SearchType.ALL, response.getResults().get(0).getMetadata().getSearchType());
+        assertEquals(SearchType.HASHTAGS, response.getResults().get(1).getMetadata().getSearchType());
+    }
+
+    @Test
+    @DisplayName("검색 마감 시간을 Elasticsearch 검색 timeout 으로 전달한다")
+    void searchDeadlinePropagatesToSearchOptions() {
+        // Given
+        ReflectionTestUtils.setField(memorySearchService, "searchDeadlineMs", 500L);
+        when(memoryDocumentRepository.multiSearch(anyList()))
+                .thenReturn(List.of(MemorySearchResult.of(mock(SearchPage.class))));
+
+        // When
+        memorySearchService.searchPublicBatch(new MultiSearchRequest(List.of(searchRequest("여행"))));
+
+        // Then
+        ArgumentCaptor<List<MemorySearchCriteria>> captor = ArgumentCaptor.forClass(List.class);
+        verify(memoryDocumentRepository).multiSearch(captor.capture());
+        assertEquals(Duration.ofMillis(500), captor.getValue().get(0).searchOptions().timeout());
+    }
+
+    @Test
+    @DisplayName("게스트 검색 - 캐시된 결과는 이번 요청의 검색어와 검색 시간으로 메타데이터를 다시 만든다")
+    @SuppressWarnings("unchecked")
+    void cachedPublicSearchRebuildsMetadata() {
+        // Given
+        long loadTimeMs = 200;
+        when(memoryDocumentRepository.searchPublicByAllFields(eq("여행"), any(), any()))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(loadTimeMs);
+                    return MemorySearchResult.of(mock(SearchPage.class));
+                });
+        SearchResultResponse loaded = memorySearchService.searchPublic(searchRequest("여행"));
+
+        // When
+        SearchResultResponse cached = memorySearchService.searchPublic(searchRequest(" 여행 "));
+
+        // Then
+        verify(memoryDocumentRepository, times(1)).searchPublicByAllFields(any(), any(), any());
+        assertTrue(loaded.getMetadata().getSearchTimeMs() >= loadTimeMs);
+        assertTrue(cached.getMetadata().getSearchTimeMs() < loadTimeMs);
+        assertEquals(" 여행 ", cached.getMetadata().getQuery());
+        assertSame(loaded.getMemories(), cached.getMemories());
+    }
+
+    @Test
+    @DisplayName("게스트 검색 - 일부 샤드의 결과만 받은 검색은 캐시하지 않고 다음 요청에서 다시 검색한다")
+    @SuppressWarnings("unchecked")
+    void partialPublicSearchIsNotCached() {
+        // Given
+        when(memoryDocumentRepository.searchPublicByAllFields(eq("여행"), any(), any()))
+                .thenReturn(new MemorySearchResult(mock(SearchPage.class), null, null, true));
+
+        // When
+        memorySearchService.searchPublic(searchRequest("여행"));
+        SearchResultResponse response = memorySearchService.searchPublic(searchRequest("여행"));
+
+        // Then
+        assertTrue(response.getMetadata().isPartial());
+        verify(memoryDocumentRepository, times(2)).searchPublicByAllFields(eq("여행"), any(), any());
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 일부 샤드의 결과만 받은 페이지는 point-in-time 을 유지하고 같은 위치를 다시 조회하는 커서를 돌려준다")
+    @SuppressWarnings("unchecked")
+    void partialCursorPageRetriesSamePosition() {
+        // Given
+        MemoryVisibility visibility = new MemoryVisibility(1L, List.of());
+        when(memberVisibilityService.getVisibility(1L)).thenReturn(visibility);
+        when(memoryDocumentRepository.openPointInTime()).thenReturn("pit-1");
+        SearchPage<MemoryDocument> page = mock(SearchPage.class);
+        when(page.getSearchHits()).thenReturn(mock(SearchHits.class));
+        when(page.getSize()).thenReturn(10);
+        when(memoryDocumentRepository.searchByMemberAndAllFields(eq(visibility), eq("여행"), any(), any()))
+                .thenReturn(new MemorySearchResult(page, null, null, true));
+
+        // When
+        SearchResultResponse response = memorySearchService.searchAuthenticated(cursorRequest("여행"), 1L);
+
+        // Then
+        MemorySearchCursor nextCursor = MemorySearchCursor.decode(response.getPageInfo().getNextCursor(), CURSOR_SECRET);
+        assertTrue(response.getPageInfo().isHasNext());
+        assertEquals("pit-1", nextCursor.pointInTimeId());
+        assertTrue(nextCursor.isFirstPage());
+        assertEquals(1, nextCursor.retries());
+        verify(memoryDocumentRepository, never()).closePointInTime(any());
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 같은 위치를 다시 조회해도 계속 일부 결과만 받고 결과가 없으면 검색을 끝낸다")
+    @SuppressWarnings("unchecked")
+    void partialCursorPageStopsRetryingAfterLimit() {
+        // Given
+        MemoryVisibility visibility = new MemoryVisibility(1L, List.of());
+        when(memberVisibilityService.getVisibility(1L)).thenReturn(visibility);
+        when(memoryDocumentRepository.openPointInTime()).thenReturn("pit-1");
+        SearchPage<MemoryDocument> page = mock(SearchPage.class);
+        when(page.getSearchHits()).thenReturn(mock(SearchHits.class));
+        when(page.getSize()).thenReturn(10);
+        when(memoryDocumentRepository.searchByMemberAndAllFields(eq(visibility), eq("여행"), any(), any()))
+                .thenReturn(new MemorySearchResult(page, null, null, true));
+
+        // When
+        SearchResultResponse response = memorySearchService.searchAuthenticated(cursorRequest("여행"), 1L);
+        for (int i = 0; i < 2; i++) {
+            response = memorySearchService.searchAuthenticated(MemorySearchRequest.builder()
+                    .type(SearchType.ALL)
+                    .query("여행")
+                    .cursor(response.getPageInfo().getNextCursor())
+                    .build(), 1L);
+        }
+
+        // Then
+        assertFalse(response.getPageInfo().isHasNext());
+        assertNull(response.getPageInfo().getNextCursor());
+        verify(memoryDocumentRepository).closePointInTime("pit-1");
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 첫 페이지 검색이 실패하면 새로 연 point-in-time 을 바로 해제한다")
+    void failedFirstCursorPageClosesPointInTime() {
+        // Given
+        MemoryVisibility visibility = new MemoryVisibility(1L, List.of());
+        when(memberVisibilityService.getVisibility(1L)).thenReturn(visibility);
+        when(memoryDocumentRepository.openPointInTime()).thenReturn("pit-1");
+        when(memoryDocumentRepository.searchByMemberAndAllFields(eq(visibility), eq("여행"), any(), any()))
+                .thenThrow(new RuntimeException("Elasticsearch unavailable"));
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> memorySearchService.searchAuthenticated(cursorRequest("여행"), 1L));
+        verify(memoryDocumentRepository).closePointInTime("pit-1");
+    }
+
+    @Test
+    @DisplayName("게스트 커서 검색 - 첫 페이지마다 point-in-time 을 열지 않고 공유하며, 마지막 페이지에서도 해제하지 않는다")
+    @SuppressWarnings("unchecked")
+    void publicCursorSearchSharesPointInTime() {
+        // Given
+        when(memoryDocumentRepository.openPointInTime()).thenReturn("shared-pit");
+        SearchPage<MemoryDocument> page = mock(SearchPage.class);
+        when(page.getSearchHits()).thenReturn(mock(SearchHits.class));
+        when(memoryDocumentRepository.searchPublicByAllFields(anyString(), any(), any()))
+                .thenReturn(MemorySearchResult.of(page));
+
+        // When
+        memorySearchService.searchPublic(cursorRequest("여행"));
+        SearchResultResponse response = memorySearchService.searchPublic(cursorRequest("제주"));
+
+        // Then
+        assertFalse(response.getPageInfo().isHasNext());
+        verify(memoryDocumentRepository, times(1)).openPointInTime();
+        verify(memoryDocumentRepository, never()).closePointInTime(any());
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 다른 검색 유형에 커서를 사용하면 검색하지 않는다")
+    void cursorFromDifferentSearchIsRejected() {
+        // Given
+        String cursor = MemorySearchCursor.first("pit-1", false, "other-search")
+                .next("pit-1", List.<Object>of(1.5, 10L))
+                .encode(CURSOR_SECRET);
+        MemorySearchRequest request = MemorySearchRequest.builder()
+                .type(SearchType.ALL)
+                .query("여행")
+                .cursor(cursor)
+                .build();
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> memorySearchService.searchPublic(request));
+        verifyNoInteractions(memoryDocumentRepository);
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 서명이 맞지 않는(변조된) 커서는 거절한다")
+    void tamperedCursorIsRejected() {
+        // Given
+        String cursor = MemorySearchCursor.first("pit-1", false, "search")
+                .next("pit-1", List.<Object>of(1.5, 10L))
+                .encode("another-secret");
+        MemorySearchRequest request = MemorySearchRequest.builder()
+                .type(SearchType.ALL)
+                .query("여행")
+                .cursor(cursor)
+                .build();
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> memorySearchService.searchPublic(request));
+        verifyNoInteractions(memoryDocumentRepository);
+    }
+
+    @Test
+    @DisplayName("묶음 검색 - 커서 검색이 포함되면 실행하지 않는다")
+    void batchRejectsCursorPaging() {
+        // Given
+        MemorySearchRequest cursorSearch = MemorySearchRequest.builder()
+                .type(SearchType.ALL)
+                .query("여행")
+                .cursorPaging(true)
+                .build();
+
+        // When & Then
+        assertThrows(ValidationException.class,
+                () -> memorySearchService.searchAuthenticatedBatch(new MultiSearchRequest(List.of(cursorSearch)), 1L));
+        verify(memoryDocumentRepository, never()).multiSearch(anyList());
+    }
+
+    @Test
+    @DisplayName("주변 검색 - 게스트는 PUBLIC 범위로 검색하고 거리순 정렬 값을 거리(m)로 반환한다")
+    @SuppressWarnings("unchecked")
+    void nearbySearchReturnsDistance() {
+        // Given
+        MemoryDocument document = MemoryDocument.builder()
+                .memoryId(1L)
+                .title("우도 땅콩 아이스크림")
+                .location(new GeoPoint(33.5, 126.95))
+                .build();
+        SearchHit<MemoryDocument> hit = mock(SearchHit.class);
+        when(hit.getContent()).thenReturn(document);
+        when(hit.getSortValues()).thenReturn(List.<Object>of(1234.5));
+        SearchPage<MemoryDocument> page = mock(SearchPage.class);
+        when(page.getContent()).thenReturn(List.of(hit));
+        when(memoryDocumentRepository.searchByGeoDistance(isNull(), eq(33.5), eq(126.9), eq(5.0), any(), any()))
+                .thenReturn(page);
+
+        GeoDistanceSearchRequest request = GeoDistanceSearchRequest.builder()
+                .latitude(33.5)
+                .longitude(126.9)
+                .view(SearchView.FULL)
+                .build();
+
+        // When
+        SearchResultResponse response = memorySearchService.searchNearby(request, null);
+
+        // Then
+        MemorySearchResponse memory = response.getMemories().get(0);
+        assertEquals(1234.5, memory.getDistanceMeters());
+        assertEquals(33.5, memory.getLatitude());
+        assertEquals(126.95, memory.getLongitude());
+        verifyNoInteractions(memberVisibilityService);
+    }
+
+    @Test
+    @DisplayName("지도 영역 검색 - top 이 bottom 보다 아래면 검색하지 않는다")
+    void areaSearchRejectsInvertedBounds() {
+        // Given
+        GeoAreaSearchRequest request = GeoAreaSearchRequest.builder()
+                .top(33.0)
+                .left(126.0)
+                .bottom(34.0)
+                .right(127.0)
+                .build();
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> memorySearchService.searchArea(request, null));
+        verify(memoryDocumentRepository, never()).searchByGeoBoundingBox(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("주변 검색 - 페이지 범위가 max_result_window 를 넘으면 검색하지 않는다")
+    void nearbySearchRejectsDeepPage() {
+        // Given
+        GeoDistanceSearchRequest request = GeoDistanceSearchRequest.builder()
+                .latitude(33.5)
+                .longitude(126.9)
+                .page(500)
+                .size(20)
+                .build();
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> memorySearchService.searchNearby(request, null));
+        verifyNoInteractions(memoryDocumentRepository);
+    }
+
+    @Test
+    @DisplayName("지도 영역 검색 - 페이지 범위가 max_result_window 를 넘으면 검색하지 않는다")
+    void areaSearchRejectsDeepPage() {
+        // Given
+        GeoAreaSearchRequest request = GeoAreaSearchRequest.builder()
+                .top(34.0)
+                .left(126.0)
+                .bottom(33.0)
+                .right(127.0)
+                .page(500)
+                .size(20)
+                .build();
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> memorySearchService.searchArea(request, null));
+        verifyNoInteractions(memoryDocumentRepository);
+    }
+
+    private MemorySearchRequest searchRequest(String query) {
+        return MemorySearchRequest.builder()
+                .type(SearchType.ALL)
+                .query(query)
+                .build();
+    }
+
+    private MemorySearchRequest cursorRequest(String query) {
+        return MemorySearchRequest.builder()
+                .type(SearchType.ALL)
+                .query(query)
+                .cursorPaging(true)
+                .build();
+    }
+
+    private AutocompleteSuggestion suggestion(String text, AutocompleteSuggestion.SuggestionType type, float score) {
+        return AutocompleteSuggestion.builder()
+                .text(text)
+                .type(type)
+                .score(score)
+                .matchCount(1L)
+                .build();
+    }
+}
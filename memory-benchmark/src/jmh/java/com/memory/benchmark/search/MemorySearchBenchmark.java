@@ -0,0 +1,106 @@
+package com.memory.benchmark.search;
+
+import com.memory.document.memory.MemoryDocument;
+import com.memory.document.memory.MemoryDocumentRepository;
+import com.memory.document.memory.MemorySearchOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchPage;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MemoryDocumentRepositoryCustomImpl 검색 지연 시간/처리량 측정
+ * 규모(corpusSize)별로 합성 코퍼스를 색인하고 기록된 query mix 를 재생한다.
+ * <ul>
+ *     <li>Throughput - 초당 검색 수</li>
+ *     <li>SampleTime - 검색 한 건의 지연 시간 분포 (p50/p99 는 결과의 p0.50/p0.99)</li>
+ *     <li>recall@20 - trial 시작 시 정답 판정 세트로 측정해 출력</li>
+ * </ul>
+ * 실행: ./gradlew :memory-benchmark:jmh (Docker 필요, 100만 건 규모는 색인에만 수 분이 걸림)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MemorySearchBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+    private static final long REPLAY_SEED = 42L;
+
+    @Param({"10000", "100000", "1000000"})
+    public int corpusSize;
+
+    // MIX 이면 전체 query mix, SearchType 이름이면 해당 타입 검색만 재생
+    @Param({"MIX"})
+    public String searchType;
+
+    private SearchBenchmarkEnvironment environment;
+    private MemoryDocumentRepository repository;
+    private MemorySearchOptions searchOptions;
+    private List<RecordedQuery> replaySequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SearchWorkload workload = SearchWorkload.load();
+        SyntheticMemoryCorpus corpus = new SyntheticMemoryCorpus(corpusSize, workload.topics());
+
+        environment = SearchBenchmarkEnvironment.start();
+        environment.seed(corpus);
+        repository = environment.repository();
+        // 검색 API 기본값과 같은 조건 (하이라이트 포함)
+        searchOptions = MemorySearchOptions.of(true, null, null, false, null);
+        replaySequence = workload.replaySequence(searchType, REPLAY_SEED);
+
+        System.out.println(SearchRecallReport.evaluate(repository, workload, corpus, FIRST_PAGE, searchOptions).format());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+
+    /**
+     * 스레드마다 재생 순서의 다른 위치에서 시작해 같은 검색이 동시에 몰리지 않도록 한다
+     */
+    @State(Scope.Thread)
+    public static class ReplayCursor {
+
+        private int position;
+
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams threadParams) {
+            position = threadParams.getThreadIndex() * 7;
+        }
+
+        RecordedQuery next(List<RecordedQuery> sequence) {
+            RecordedQuery query = sequence.get(position % sequence.size());
+            position++;
+            return query;
+        }
+    }
+
+    @Benchmark
+    public SearchPage<MemoryDocument> replayQueryMix(ReplayCursor cursor) {
+        return cursor.next(replaySequence).execute(repository, FIRST_PAGE, searchOptions);
+    }
+}
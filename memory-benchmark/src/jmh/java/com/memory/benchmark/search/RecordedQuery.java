@@ -0,0 +1,75 @@
+package com.memory.benchmark.search;
+
+import com.memory.document.memory.MemoryDocument;
+import com.memory.document.memory.MemoryDocumentRepository;
+import com.memory.document.memory.MemorySearchOptions;
+import com.memory.document.memory.MemorySearchResult;
+import com.memory.document.memory.MemoryVisibility;
+import com.memory.dto.search.SearchType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchPage;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 재생할 검색 요청 하나
+ * memberId 가 있으면 인증된 사용자 검색, 없으면 게스트(PUBLIC) 검색으로 실행한다.
+ *
+ * @param topic  정답 판정에 사용할 topic (없으면 지연 시간만 측정)
+ * @param weight 전체 요청 중 이 검색이 차지하는 비율
+ */
+public record RecordedQuery(
+    SearchType type,
+    String query,
+    List<String> hashtags,
+    LocalDate fromDate,
+    LocalDate toDate,
+    Long memberId,
+    String topic,
+    int weight
+) {
+
+    public boolean isJudged() {
+        return topic != null;
+    }
+
+    public SearchPage<MemoryDocument> execute(MemoryDocumentRepository repository, Pageable pageable, MemorySearchOptions options) {
+        if (memberId == null) {
+            return executePublic(repository, pageable, options);
+        }
+
+        MemoryVisibility visibility = MemoryVisibility.ofMember(memberId);
+        MemorySearchResult result = switch (type) {
+            case ALL -> repository.searchByMemberAndAllFields(visibility, query, pageable, options);
+            case TITLE -> repository.searchByMemberAndTitle(visibility, query, pageable, options);
+            case CONTENT -> repository.searchByMemberAndContent(visibility, query, pageable, options);
+            case HASHTAGS -> repository.searchByMemberAndHashtags(visibility, hashtags, pageable, options);
+            case LOCATION -> repository.searchByMemberAndLocation(visibility, query, pageable, options);
+            case DATE -> repository.searchByMemberAndDateRange(visibility, fromDate, toDate, null, pageable, options);
+        };
+        return result.page();
+    }
+
+    private SearchPage<MemoryDocument> executePublic(MemoryDocumentRepository repository, Pageable pageable, MemorySearchOptions options) {
+        MemorySearchResult result = switch (type) {
+            case ALL -> repository.searchPublicByAllFields(query, pageable, options);
+            case TITLE -> repository.searchPublicByTitle(query, pageable, options);
+            case CONTENT -> repository.searchPublicByContent(query, pageable, options);
+            case HASHTAGS -> repository.searchPublicByHashtags(hashtags, pageable, options);
+            case LOCATION -> repository.searchPublicByLocation(query, pageable, options);
+            case DATE -> repository.searchPublicByDateRange(fromDate, toDate, null, pageable, options);
+        };
+        return result.page();
+    }
+
+    @Override
+    public String toString() {
+        String condition = switch (type) {
+            case HASHTAGS -> String.valueOf(hashtags);
+            case DATE -> fromDate + "~" + toDate;
+            default -> query;
+        };
+        return type + "(" + condition + (memberId != null ? ", member " + memberId : "") + ")";
+    }
+}
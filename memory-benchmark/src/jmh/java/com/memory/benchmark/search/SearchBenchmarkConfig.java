@@ -0,0 +1,20 @@
+package com.memory.benchmark.search;
+
+import com.memory.config.ElasticSearchConfig;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
+
+/**
+ * 검색 저장소만 올리는 최소 컨텍스트 (JPA/웹 없이 memory-adapter 의 ES 구현체를 그대로 사용)
+ */
+@Configuration
+@Import(ElasticSearchConfig.class)
+@ComponentScan(basePackages = "com.memory.search")
+@EnableElasticsearchRepositories(
+    basePackages = "com.memory.document",
+    repositoryImplementationPostfix = "CustomImpl"
+)
+public class SearchBenchmarkConfig {
+}
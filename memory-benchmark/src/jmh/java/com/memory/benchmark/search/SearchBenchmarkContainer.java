@@ -0,0 +1,45 @@
+package com.memory.benchmark.search;
+
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.elasticsearch.ElasticsearchContainer;
+import org.testcontainers.images.builder.ImageFromDockerfile;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+
+/**
+ * 벤치마크용 Elasticsearch 컨테이너
+ * memory-api 통합 테스트의 ElasticSearchTC 와 같은 nori 이미지(es-nori:8.11.0)를 사용하고,
+ * 100만 건 색인을 위해 힙만 늘린다.
+ */
+public class SearchBenchmarkContainer extends ElasticsearchContainer {
+
+    private static final String TAGGED_IMAGE = "es-nori:8.11.0";
+    private static final String UPSTREAM = "docker.elastic.co/elasticsearch/elasticsearch";
+
+    private static DockerImageName imageName() {
+        new ImageFromDockerfile(TAGGED_IMAGE, false)
+                .withDockerfileFromBuilder(b -> b
+                        .from("docker.elastic.co/elasticsearch/elasticsearch:8.11.0")
+                        .run("bin/elasticsearch-plugin install --batch analysis-nori")
+                        .build()
+                )
+                .get();
+
+        return DockerImageName.parse(TAGGED_IMAGE)
+                .asCompatibleSubstituteFor(UPSTREAM);
+    }
+
+    public SearchBenchmarkContainer() {
+        super(imageName());
+
+        withEnv("discovery.type", "single-node");
+        withEnv("xpack.security.enabled", "false");
+        withEnv("xpack.ml.enabled", "false");
+        withEnv("ingest.geoip.downloader.enabled", "false");
+        withEnv("ES_JAVA_OPTS", "-Xms2g -Xmx2g");
+
+        waitingFor(Wait.forHttp("/").forPort(9200).forStatusCode(200));
+        withStartupTimeout(Duration.ofMinutes(3));
+    }
+}
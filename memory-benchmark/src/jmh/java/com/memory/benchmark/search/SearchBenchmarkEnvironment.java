@@ -0,0 +1,93 @@
+package com.memory.benchmark.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.memory.document.memory.MemoryBulkIndexResult;
+import com.memory.document.memory.MemoryDocumentRepository;
+import com.memory.document.memory.MemoryIndexManager;
+import com.memory.document.memory.MemoryIndexOperation;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크 한 번(trial)에 쓰는 Elasticsearch 컨테이너 + 검색 저장소 컨텍스트
+ */
+public class SearchBenchmarkEnvironment implements AutoCloseable {
+
+    private static final int BULK_SIZE = 5_000;
+    private static final long CORPUS_VERSION = 1L;
+
+    private final SearchBenchmarkContainer container;
+    private final AnnotationConfigApplicationContext context;
+
+    private SearchBenchmarkEnvironment(SearchBenchmarkContainer container, AnnotationConfigApplicationContext context) {
+        this.container = container;
+        this.context = context;
+    }
+
+    public static SearchBenchmarkEnvironment start() {
+        SearchBenchmarkContainer container = new SearchBenchmarkContainer();
+        container.start();
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Map.of("spring.elasticsearch.uris", container.getHttpHostAddress())));
+        context.register(SearchBenchmarkConfig.class);
+        context.refresh();
+
+        return new SearchBenchmarkEnvironment(container, context);
+    }
+
+    public MemoryDocumentRepository repository() {
+        return context.getBean(MemoryDocumentRepository.class);
+    }
+
+    /**
+     * 코퍼스 전체를 live 인덱스에 벌크 색인한 뒤 세그먼트를 하나로 병합 (측정 중 병합/refresh 영향 제거)
+     */
+    public void seed(SyntheticMemoryCorpus corpus) {
+        MemoryIndexManager memoryIndexManager = context.getBean(MemoryIndexManager.class);
+        ElasticsearchClient elasticsearchClient = context.getBean(ElasticsearchClient.class);
+        MemoryDocumentRepository repository = repository();
+
+        memoryIndexManager.ensureIndex();
+        String indexName = memoryIndexManager.getState().liveIndex();
+
+        try {
+            elasticsearchClient.indices().putSettings(s -> s
+                    .index(indexName)
+                    .settings(settings -> settings.refreshInterval(t -> t.time("-1"))));
+
+            List<MemoryIndexOperation> operations = new ArrayList<>(BULK_SIZE);
+            for (long memoryId = 1; memoryId <= corpus.size(); memoryId++) {
+                operations.add(MemoryIndexOperation.reindex(corpus.document(memoryId), CORPUS_VERSION));
+                if (operations.size() == BULK_SIZE || memoryId == corpus.size()) {
+                    MemoryBulkIndexResult result = repository.bulkApply(indexName, operations);
+                    if (!result.failures().isEmpty()) {
+                        throw new IllegalStateException("Failed to seed benchmark corpus: " + result.failures().values().iterator().next());
+                    }
+                    operations.clear();
+                }
+            }
+
+            elasticsearchClient.indices().putSettings(s -> s
+                    .index(indexName)
+                    .settings(settings -> settings.refreshInterval(t -> t.time("1s"))));
+            memoryIndexManager.refresh(indexName);
+            elasticsearchClient.indices().forcemerge(f -> f.index(indexName).maxNumSegments(1L));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to seed benchmark corpus", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        container.stop();
+    }
+}
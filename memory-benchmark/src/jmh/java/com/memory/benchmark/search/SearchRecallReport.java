@@ -0,0 +1,60 @@
+package com.memory.benchmark.search;
+
+import com.memory.document.memory.MemoryDocument;
+import com.memory.document.memory.MemoryDocumentRepository;
+import com.memory.document.memory.MemorySearchOptions;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 정답 판정이 있는 검색의 recall@k (상위 k 건 안에 들어온 정답 문서 비율)
+ */
+public record SearchRecallReport(
+    int corpusSize,
+    int k,
+    List<Row> rows
+) {
+
+    public static SearchRecallReport evaluate(MemoryDocumentRepository repository, SearchWorkload workload,
+                                              SyntheticMemoryCorpus corpus, Pageable pageable, MemorySearchOptions options) {
+        List<Row> rows = workload.judgedQueries().stream()
+                .map(query -> {
+                    Set<Long> relevant = new HashSet<>(corpus.relevantMemoryIds(query.topic()));
+                    long found = query.execute(repository, pageable, options).getSearchHits().getSearchHits().stream()
+                            .map(SearchHit::getContent)
+                            .map(MemoryDocument::getMemoryId)
+                            .filter(relevant::contains)
+                            .count();
+                    return new Row(query, (double) found / relevant.size());
+                })
+                .toList();
+        return new SearchRecallReport(corpus.size(), pageable.getPageSize(), rows);
+    }
+
+    public double meanRecall() {
+        return rows.stream()
+                .mapToDouble(Row::recall)
+                .average()
+                .orElse(0);
+    }
+
+    public String format() {
+        StringBuilder builder = new StringBuilder()
+                .append(String.format(Locale.ROOT, "%n[search-recall] corpus=%d, k=%d%n", corpusSize, k));
+        for (Row row : rows) {
+            builder.append(String.format(Locale.ROOT, "  %-60s recall@%d = %.2f%n", row.query(), k, row.recall()));
+        }
+        return builder.append(String.format(Locale.ROOT, "  %-60s recall@%d = %.3f%n", "mean", k, meanRecall()))
+                .toString();
+    }
+
+    public record Row(
+        RecordedQuery query,
+        double recall
+    ) {}
+}
@@ -0,0 +1,82 @@
+package com.memory.benchmark.search;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.memory.dto.search.SearchType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 기록된 검색 요청 비율(query mix)과 정답 판정 세트
+ * search-workload.json 의 topics 는 코퍼스에 심어 둘 정답 문서, queries 는 실제 요청 비율(weight)대로 재생할 검색이다.
+ */
+public record SearchWorkload(
+    List<JudgedTopic> topics,
+    List<RecordedQuery> queries
+) {
+
+    private static final String RESOURCE = "/search-workload.json";
+    private static final String ALL_TYPES = "MIX";
+
+    public static SearchWorkload load() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        try (InputStream inputStream = SearchWorkload.class.getResourceAsStream(RESOURCE)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Benchmark workload not found: " + RESOURCE);
+            }
+            return objectMapper.readValue(inputStream, SearchWorkload.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read benchmark workload", e);
+        }
+    }
+
+    /**
+     * 정답 판정이 있는 검색 (recall 측정 대상)
+     */
+    public List<RecordedQuery> judgedQueries() {
+        return queries.stream()
+                .filter(RecordedQuery::isJudged)
+                .toList();
+    }
+
+    /**
+     * weight 만큼 반복한 뒤 고정 시드로 섞은 재생 순서, searchType 이 MIX 가 아니면 해당 타입만 남긴다
+     */
+    public List<RecordedQuery> replaySequence(String searchType, long seed) {
+        List<RecordedQuery> sequence = new ArrayList<>();
+        for (RecordedQuery query : queries) {
+            if (!ALL_TYPES.equals(searchType) && query.type() != SearchType.valueOf(searchType)) {
+                continue;
+            }
+            for (int i = 0; i < query.weight(); i++) {
+                sequence.add(query);
+            }
+        }
+
+        if (sequence.isEmpty()) {
+            throw new IllegalArgumentException("No recorded query for search type: " + searchType);
+        }
+        Collections.shuffle(sequence, new Random(seed));
+        return sequence;
+    }
+
+    /**
+     * 코퍼스에 심어 두는 정답 문서의 내용 (같은 topic 의 문서는 모두 PUBLIC 으로 색인)
+     */
+    public record JudgedTopic(
+        String key,
+        String title,
+        String content,
+        String locationName,
+        String hashtag
+    ) {}
+}
@@ -0,0 +1,146 @@
+package com.memory.benchmark.search;
+
+import com.memory.benchmark.search.SearchWorkload.JudgedTopic;
+import com.memory.document.memory.MemoryDocument;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * 한국어/영어 메모리를 섞은 합성 코퍼스
+ * memoryId 마다 고정 시드로 만들어 같은 규모면 항상 같은 문서가 나오고,
+ * 코퍼스를 RELEVANT_PER_TOPIC 개 구간으로 나눠 각 구간 앞쪽에 topic 별 정답 문서를 하나씩 심는다.
+ */
+public class SyntheticMemoryCorpus {
+
+    public static final int RELEVANT_PER_TOPIC = 10;
+
+    private static final double ENGLISH_RATIO = 0.3;
+    private static final int MEMBER_COUNT = 5_000;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2015, 1, 1);
+    private static final int DATE_RANGE_DAYS = 3_650;
+
+    private static final String[] KOREAN_PLACES = {"제주도", "부산 해운대", "강릉", "서울숲", "한강공원", "경주", "전주 한옥마을", "여수 밤바다", "속초", "남산타워"};
+    private static final String[] KOREAN_ACTIVITIES = {"여행", "산책", "맛집 탐방", "캠핑", "생일 파티", "독서 모임", "자전거", "카페 투어", "등산", "불꽃놀이"};
+    private static final String[] KOREAN_SENTENCES = {
+            "날씨가 좋아서 오래 걸었다.", "사진을 잔뜩 찍었다.", "다음에 꼭 다시 오자고 약속했다.",
+            "생각보다 사람이 많았다.", "저녁은 근처 식당에서 먹었다.", "돌아오는 길에 노을이 예뻤다."
+    };
+    private static final String[] ENGLISH_PLACES = {"Seoul", "Busan", "Jeju", "Tokyo", "Paris", "New York", "Lisbon", "Kyoto", "London", "Bangkok"};
+    private static final String[] ENGLISH_ACTIVITIES = {"trip", "picnic", "birthday party", "coffee", "hiking", "beach day", "concert", "camping", "sunset walk", "museum visit"};
+    private static final String[] ENGLISH_SENTENCES = {
+            "The weather was perfect all day.", "We took way too many photos.", "Promised to come back next year.",
+            "It was more crowded than expected.", "Had dinner at a small place nearby.", "The sunset on the way home was beautiful."
+    };
+    private static final String[] MEMORY_TYPES = {"PUBLIC", "PUBLIC", "PUBLIC", "RELATIONSHIP", "RELATIONSHIP", "RELATIONSHIP", "RELATIONSHIP", "PRIVATE", "PRIVATE", "PRIVATE"};
+
+    private final int size;
+    private final List<JudgedTopic> topics;
+    private final int segmentSize;
+    private final Map<String, Integer> topicIndexes;
+
+    public SyntheticMemoryCorpus(int size, List<JudgedTopic> topics) {
+        if (size / RELEVANT_PER_TOPIC < topics.size()) {
+            throw new IllegalArgumentException("Corpus is too small for judged topics: " + size);
+        }
+        this.size = size;
+        this.topics = List.copyOf(topics);
+        this.segmentSize = size / RELEVANT_PER_TOPIC;
+        this.topicIndexes = topics.stream()
+                .collect(Collectors.toMap(JudgedTopic::key, topics::indexOf));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * memoryId 1 부터 size 까지의 문서
+     */
+    public MemoryDocument document(long memoryId) {
+        Random random = new Random(memoryId * 31 + 7);
+        JudgedTopic topic = plantedTopic(memoryId);
+        if (topic != null) {
+            return plantedDocument(memoryId, topic, random);
+        }
+        return random.nextDouble() < ENGLISH_RATIO
+                ? generatedDocument(memoryId, random, ENGLISH_PLACES, ENGLISH_ACTIVITIES, ENGLISH_SENTENCES)
+                : generatedDocument(memoryId, random, KOREAN_PLACES, KOREAN_ACTIVITIES, KOREAN_SENTENCES);
+    }
+
+    /**
+     * topic 의 정답 문서 ID (구간마다 topic 순서대로 하나씩)
+     */
+    public List<Long> relevantMemoryIds(String topicKey) {
+        Integer topicIndex = topicIndexes.get(topicKey);
+        if (topicIndex == null) {
+            throw new IllegalArgumentException("Unknown judged topic: " + topicKey);
+        }
+
+        List<Long> memoryIds = new ArrayList<>();
+        for (int segment = 0; segment < RELEVANT_PER_TOPIC; segment++) {
+            memoryIds.add((long) segment * segmentSize + topicIndex + 1);
+        }
+        return memoryIds;
+    }
+
+    private JudgedTopic plantedTopic(long memoryId) {
+        long offset = memoryId - 1;
+        if (offset / segmentSize >= RELEVANT_PER_TOPIC) {
+            return null;
+        }
+        int topicIndex = (int) (offset % segmentSize);
+        return topicIndex < topics.size() ? topics.get(topicIndex) : null;
+    }
+
+    private MemoryDocument plantedDocument(long memoryId, JudgedTopic topic, Random random) {
+        return baseDocument(memoryId, random)
+                .title(topic.title())
+                .content(topic.content())
+                .locationName(topic.locationName())
+                .hashTags(List.of(topic.hashtag()))
+                .memoryType("PUBLIC")
+                .build();
+    }
+
+    private MemoryDocument generatedDocument(long memoryId, Random random, String[] places, String[] activities, String[] sentences) {
+        String place = pick(random, places);
+        String activity = pick(random, activities);
+        String content = place + " " + activity + ". " + pick(random, sentences) + " " + pick(random, sentences);
+
+        return baseDocument(memoryId, random)
+                .title(place + " " + activity)
+                .content(content)
+                .locationName(place)
+                .hashTags(List.of(activity.replace(" ", ""), place.replace(" ", "")))
+                .memoryType(pick(random, MEMORY_TYPES))
+                .build();
+    }
+
+    private MemoryDocument.MemoryDocumentBuilder baseDocument(long memoryId, Random random) {
+        long memberId = random.nextInt(MEMBER_COUNT) + 1;
+        long relationshipMemberId = random.nextInt(MEMBER_COUNT) + 1;
+        LocalDate memorableDate = FIRST_DATE.plusDays(random.nextInt(DATE_RANGE_DAYS));
+
+        return MemoryDocument.builder()
+                .id(String.valueOf(memoryId))
+                .memoryId(memoryId)
+                .memorableDate(memorableDate)
+                .memorableDateText(memorableDate.getYear() + "년 " + memorableDate.getMonthValue() + "월 " + memorableDate.getDayOfMonth() + "일")
+                .memberId(memberId)
+                .memberName("member" + memberId)
+                .memberNickname("nick" + memberId)
+                .memberEmail("member" + memberId + "@example.com")
+                .relationshipMemberId(relationshipMemberId)
+                .relationshipMemberName("member" + relationshipMemberId)
+                .relationshipMemberNickname("nick" + relationshipMemberId);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,36 @@
+package com.memory.document.memory;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 벌크 인덱싱 결과
+ * failures 는 실패한 memoryId 와 실패 사유
+ * versionConflicts 는 이미 같거나 높은 버전이 반영되어 있어 거절된 INDEX/DELETE 요청의 memoryId
+ * (재색인 버전보다 먼저 발급되었지만 늦게 커밋된 이벤트일 수 있으므로 성공으로 세지 않는다)
+ */
+public record MemoryBulkIndexResult(
+    long successCount,
+    Map<Long, String> failures,
+    Set<Long> versionConflicts
+) {
+    public MemoryBulkIndexResult(long successCount, Map<Long, String> failures) {
+        this(successCount, failures, Set.of());
+    }
+
+    public static MemoryBulkIndexResult empty() {
+        return new MemoryBulkIndexResult(0, Map.of());
+    }
+
+    public long failureCount() {
+        return failures.size();
+    }
+
+    public boolean isFailed(Long memoryId) {
+        return failures.containsKey(memoryId);
+    }
+
+    public String getFailureReason(Long memoryId) {
+        return failures.get(memoryId);
+    }
+}
@@ -8,31 +8,50 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.locationtech.jts.geom.Point;
 import org.springframework.data.elasticsearch.annotations.*;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.data.elasticsearch.core.suggest.Completion;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(indexName = "memory")
+@Document(indexName = MemoryIndexManager.READ_ALIAS, createIndex = false)
 @Setting(settingPath = "elasticsearch/memory-settings.json")
 public class MemoryDocument {
 
+    // 자동완성 completion 필드의 공개 범위 context (PUBLIC 또는 볼 수 있는 멤버)
+    public static final String SUGGEST_VISIBILITY_CONTEXT = "visibility";
+    private static final String PUBLIC_SUGGEST_CONTEXT = "PUBLIC";
+    private static final String MEMBER_SUGGEST_CONTEXT_PREFIX = "member:";
+    private static final String SHARED_SUGGEST_CONTEXT_PREFIX = "shared:";
+    private static final int MAX_TITLE_SUGGEST_INPUTS = 5;
+
     @Id
     private String id;
 
+    // 텍스트 필드의 .ngram 하위 필드는 색인 시점에 형태소별 접두어(edge n-gram)를 만들어 두고
+    // 검색어는 원래 분석기로만 분석하여, 부분 입력도 일반 term 매칭으로 찾는다.
+
     @Field(type = FieldType.Long)
     private Long memoryId;
 
     @MultiField(
         mainField = @Field(type = FieldType.Text, analyzer = "nori_with_html_strip"),
         otherFields = {
-            @InnerField(suffix = "auto_complete", type = FieldType.Search_As_You_Type, analyzer = "nori")
+            @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "nori_edge_ngram", searchAnalyzer = "nori_with_html_strip")
         }
     )
     private String title;
@@ -40,7 +59,7 @@ public class MemoryDocument {
     @MultiField(
         mainField = @Field(type = FieldType.Text, analyzer = "nori_with_html_strip"),
         otherFields = {
-            @InnerField(suffix = "auto_complete", type = FieldType.Search_As_You_Type, analyzer = "nori")
+            @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "nori_edge_ngram", searchAnalyzer = "nori_with_html_strip")
         }
     )
     private String content;
@@ -48,11 +67,15 @@ public class MemoryDocument {
     @MultiField(
         mainField = @Field(type = FieldType.Text, analyzer = "nori_with_html_strip"),
         otherFields = {
-            @InnerField(suffix = "auto_complete", type = FieldType.Search_As_You_Type, analyzer = "nori")
+            @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "nori_edge_ngram", searchAnalyzer = "nori_with_html_strip")
         }
     )
     private String locationName;
 
+    // 메모리가 등록된 지도(Map)의 위치, 지도가 없으면 null
+    @GeoPointField
+    private GeoPoint location;
+
     @Field(type = FieldType.Date, format = DateFormat.date)
     private LocalDate memorableDate;
 
@@ -62,6 +85,10 @@ public class MemoryDocument {
     @Field(type = FieldType.Keyword)
     private String memoryType;
 
+    // 메모리 작성 시각 (해시태그 트렌드 집계 기간 기준)
+    @Field(type = FieldType.Date)
+    private Instant createdAt;
+
     @Field(type = FieldType.Keyword)
     private List<String> hashTags;
 
@@ -71,7 +98,7 @@ public class MemoryDocument {
     @MultiField(
         mainField = @Field(type = FieldType.Text, analyzer = "nori_with_html_strip"),
         otherFields = {
-            @InnerField(suffix = "auto_complete", type = FieldType.Search_As_You_Type, analyzer = "nori")
+            @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "nori_edge_ngram", searchAnalyzer = "nori_with_html_strip")
         }
     )
     private String memberName;
@@ -79,7 +106,7 @@ public class MemoryDocument {
     @MultiField(
         mainField = @Field(type = FieldType.Text, analyzer = "nori_with_html_strip"),
         otherFields = {
-            @InnerField(suffix = "auto_complete", type = FieldType.Search_As_You_Type, analyzer = "nori")
+            @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "nori_edge_ngram", searchAnalyzer = "nori_with_html_strip")
         }
     )
     private String memberNickname;
@@ -96,7 +123,7 @@ public class MemoryDocument {
     @MultiField(
         mainField = @Field(type = FieldType.Text, analyzer = "nori_with_html_strip"),
         otherFields = {
-            @InnerField(suffix = "auto_complete", type = FieldType.Search_As_You_Type, analyzer = "nori")
+            @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "nori_edge_ngram", searchAnalyzer = "nori_with_html_strip")
         }
     )
     private String relationshipMemberName;
@@ -104,7 +131,7 @@ public class MemoryDocument {
     @MultiField(
         mainField = @Field(type = FieldType.Text, analyzer = "nori_with_html_strip"),
         otherFields = {
-            @InnerField(suffix = "auto_complete", type = FieldType.Search_As_You_Type, analyzer = "nori")
+            @InnerField(suffix = "ngram", type = FieldType.Text, analyzer = "nori_edge_ngram", searchAnalyzer = "nori_with_html_strip")
         }
     )
     private String relationshipMemberNickname;
@@ -115,17 +142,30 @@ public class MemoryDocument {
     @Field(type = FieldType.Keyword)
     private String relationshipMemberFileUrl;
 
+    @CompletionField(maxInputLength = 100, contexts = {
+        @CompletionContext(name = SUGGEST_VISIBILITY_CONTEXT, type = CompletionContext.ContextMappingType.CATEGORY)
+    })
+    private Completion titleSuggest;
+
+    @CompletionField(maxInputLength = 100, contexts = {
+        @CompletionContext(name = SUGGEST_VISIBILITY_CONTEXT, type = CompletionContext.ContextMappingType.CATEGORY)
+    })
+    private Completion hashTagSuggest;
+
     public static MemoryDocument from(Memory memory, RelationshipInfo relationships) {
         Member member = memory.getMember();
         
-        return MemoryDocument.builder()
+        MemoryDocument document = MemoryDocument.builder()
+                .id(String.valueOf(memory.getId()))
                 .memoryId(memory.getId())
                 .title(memory.getTitle())
                 .content(memory.getContent())
                 .locationName(memory.getLocationName())
+                .location(extractLocation(memory.getMap()))
                 .memorableDate(memory.getMemorableDate())
                 .memorableDateText(formatMemorableDate(memory.getMemorableDate()))
                 .memoryType(memory.getMemoryType().name())
+                .createdAt(toInstant(memory.getCreateDate()))
                 .hashTags(memory.getHashTagNames())
                 .memberId(member.getId())
                 .memberName(member.getName())
@@ -138,6 +178,73 @@ public class MemoryDocument {
                 .relationshipMemberEmail(extractRelationshipMember(relationships, RelationshipMemberField.EMAIL))
                 .relationshipMemberFileUrl(extractRelationshipMember(relationships, RelationshipMemberField.FILE_URL))
                 .build();
+        document.updateSuggestions();
+        return document;
+    }
+
+    public static String publicSuggestContext() {
+        return PUBLIC_SUGGEST_CONTEXT;
+    }
+
+    public static String memberSuggestContext(Long memberId) {
+        return MEMBER_SUGGEST_CONTEXT_PREFIX + memberId;
+    }
+
+    /**
+     * 작성자와 관계된 멤버에게 보이는 (PRIVATE 가 아닌) 메모리의 context
+     */
+    public static String sharedSuggestContext(Long memberId) {
+        return SHARED_SUGGEST_CONTEXT_PREFIX + memberId;
+    }
+
+    /**
+     * 자동완성 입력과 context 를 현재 필드 값으로 갱신
+     * context 는 검색 공개 범위 필터(PUBLIC, 작성자 본인, 작성자와 관계된 멤버)와 같은 조건으로 색인한다.
+     */
+    private void updateSuggestions() {
+        Map<String, List<String>> contexts = Map.of(SUGGEST_VISIBILITY_CONTEXT, createSuggestContexts());
+        this.titleSuggest = createCompletion(createTitleSuggestInputs(title), contexts);
+        this.hashTagSuggest = createCompletion(hashTags, contexts);
+    }
+
+    private List<String> createSuggestContexts() {
+        List<String> contexts = new ArrayList<>();
+        if (PUBLIC_SUGGEST_CONTEXT.equals(memoryType)) {
+            contexts.add(PUBLIC_SUGGEST_CONTEXT);
+        }
+        if (memberId != null) {
+            contexts.add(memberSuggestContext(memberId));
+            if (!"PRIVATE".equals(memoryType)) {
+                contexts.add(sharedSuggestContext(memberId));
+            }
+        }
+        return contexts;
+    }
+
+    /**
+     * completion 은 입력의 앞부분만 매칭하므로 제목 중간 단어로도 찾을 수 있도록 단어 시작 위치별 입력을 추가
+     */
+    private static List<String> createTitleSuggestInputs(String title) {
+        if (title == null || title.isBlank()) {
+            return List.of();
+        }
+
+        String[] words = title.trim().split("\\s+");
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < words.length && i < MAX_TITLE_SUGGEST_INPUTS; i++) {
+            inputs.add(String.join(" ", Arrays.copyOfRange(words, i, words.length)));
+        }
+        return inputs;
+    }
+
+    private static Completion createCompletion(List<String> inputs, Map<String, List<String>> contexts) {
+        if (inputs == null || inputs.isEmpty()) {
+            return null;
+        }
+
+        Completion completion = new Completion(inputs.toArray(String[]::new));
+        completion.setContexts(contexts);
+        return completion;
     }
 
     private static String formatMemorableDate(LocalDate date) {
@@ -148,6 +255,24 @@ public class MemoryDocument {
         return date.format(formatter);
     }
 
+    /**
+     * 작성 시각은 서버 시간대 기준 LocalDateTime 이므로 인덱스에는 시점(UTC)으로 저장
+     */
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant() : null;
+    }
+
+    /**
+     * PostGIS Point 는 (x, y) = (경도, 위도) 순서
+     */
+    private static GeoPoint extractLocation(com.memory.domain.map.Map map) {
+        if (map == null || map.getLocation() == null) {
+            return null;
+        }
+        Point point = map.getLocation();
+        return new GeoPoint(point.getY(), point.getX());
+    }
+
     private static String extractFileUrl(File file) {
         return file != null ? file.getFileUrl() : null;
     }
@@ -179,9 +304,11 @@ public class MemoryDocument {
         this.title = memory.getTitle();
         this.content = memory.getContent();
         this.locationName = memory.getLocationName();
+        this.location = extractLocation(memory.getMap());
         this.memorableDate = memory.getMemorableDate();
         this.memorableDateText = formatMemorableDate(memory.getMemorableDate());
         this.memoryType = memory.getMemoryType().name();
+        this.createdAt = toInstant(memory.getCreateDate());
         this.hashTags = memory.getHashTagNames();
         
         this.memberId = member.getId();
@@ -195,6 +322,8 @@ public class MemoryDocument {
         this.relationshipMemberNickname = extractRelationshipMember(relationships, RelationshipMemberField.NICKNAME);
         this.relationshipMemberEmail = extractRelationshipMember(relationships, RelationshipMemberField.EMAIL);
         this.relationshipMemberFileUrl = extractRelationshipMember(relationships, RelationshipMemberField.FILE_URL);
+
+        updateSuggestions();
     }
 
 }
\ No newline at end of file
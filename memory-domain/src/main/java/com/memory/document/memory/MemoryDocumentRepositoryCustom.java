@@ -1,12 +1,15 @@
 package com.memory.document.memory;
 
 import com.memory.dto.search.AutocompleteSuggestion;
-import org.springframework.data.domain.Page;
+import com.memory.dto.search.HashtagFacet;
+import com.memory.dto.search.TimelineInterval;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchPage;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface MemoryDocumentRepositoryCustom {
 
@@ -15,64 +18,120 @@ public interface MemoryDocumentRepositoryCustom {
     /**
      * PUBLIC 메모리 전체 검색 (제목, 내용, 해시태그)
      */
-    Page<SearchHit<MemoryDocument>> searchPublicByAllFields(String query, Pageable pageable);
+    MemorySearchResult searchPublicByAllFields(String query, Pageable pageable, MemorySearchOptions searchOptions);
 
     /**
      * PUBLIC 메모리 제목 검색
      */
-    Page<SearchHit<MemoryDocument>> searchPublicByTitle(String query, Pageable pageable);
+    MemorySearchResult searchPublicByTitle(String query, Pageable pageable, MemorySearchOptions searchOptions);
 
     /**
      * PUBLIC 메모리 내용 검색
      */
-    Page<SearchHit<MemoryDocument>> searchPublicByContent(String query, Pageable pageable);
+    MemorySearchResult searchPublicByContent(String query, Pageable pageable, MemorySearchOptions searchOptions);
 
     /**
      * PUBLIC 메모리 해시태그 검색
      */
-    Page<SearchHit<MemoryDocument>> searchPublicByHashtags(List<String> hashtags, Pageable pageable);
+    MemorySearchResult searchPublicByHashtags(List<String> hashtags, Pageable pageable, MemorySearchOptions searchOptions);
 
     /**
      * PUBLIC 메모리 위치명 검색
      */
-    Page<SearchHit<MemoryDocument>> searchPublicByLocation(String query, Pageable pageable);
+    MemorySearchResult searchPublicByLocation(String query, Pageable pageable, MemorySearchOptions searchOptions);
 
     /**
-     * PUBLIC 메모리 날짜 범위 검색
+     * PUBLIC 메모리 날짜 범위 검색 (memorableDate 기준, timelineInterval 이 있으면 기간별 개수도 함께 집계)
      */
-    Page<SearchHit<MemoryDocument>> searchPublicByDateRange(LocalDate fromDate, LocalDate toDate, Pageable pageable);
+    MemorySearchResult searchPublicByDateRange(LocalDate fromDate, LocalDate toDate, TimelineInterval timelineInterval,
+                                               Pageable pageable, MemorySearchOptions searchOptions);
 
     // ===== 인증된 사용자 검색 메서드들 (본인 메모리 + PUBLIC) =====
 
     /**
-     * 사용자별 전체 검색 (본인 메모리 + PUBLIC 메모리)
+     * 사용자별 전체 검색 (본인 메모리 + 관계된 사용자의 PRIVATE 가 아닌 메모리 + PUBLIC 메모리)
      */
-    Page<SearchHit<MemoryDocument>> searchByMemberAndAllFields(Long memberId, String query, Pageable pageable);
+    MemorySearchResult searchByMemberAndAllFields(MemoryVisibility visibility, String query, Pageable pageable, MemorySearchOptions searchOptions);
 
     /**
      * 사용자별 제목 검색
      */
-    Page<SearchHit<MemoryDocument>> searchByMemberAndTitle(Long memberId, String query, Pageable pageable);
+    MemorySearchResult searchByMemberAndTitle(MemoryVisibility visibility, String query, Pageable pageable, MemorySearchOptions searchOptions);
 
     /**
      * 사용자별 내용 검색
      */
-    Page<SearchHit<MemoryDocument>> searchByMemberAndContent(Long memberId, String query, Pageable pageable);
+    MemorySearchResult searchByMemberAndContent(MemoryVisibility visibility, String query, Pageable pageable, MemorySearchOptions searchOptions);
 
     /**
      * 사용자별 해시태그 검색
      */
-    Page<SearchHit<MemoryDocument>> searchByMemberAndHashtags(Long memberId, List<String> hashtags, Pageable pageable);
+    MemorySearchResult searchByMemberAndHashtags(MemoryVisibility visibility, List<String> hashtags, Pageable pageable, MemorySearchOptions searchOptions);
 
     /**
      * 사용자별 위치명 검색
      */
-    Page<SearchHit<MemoryDocument>> searchByMemberAndLocation(Long memberId, String query, Pageable pageable);
+    MemorySearchResult searchByMemberAndLocation(MemoryVisibility visibility, String query, Pageable pageable, MemorySearchOptions searchOptions);
 
     /**
-     * 사용자별 날짜 범위 검색
+     * 사용자별 날짜 범위 검색 (memorableDate 기준, timelineInterval 이 있으면 기간별 개수도 함께 집계)
      */
-    Page<SearchHit<MemoryDocument>> searchByMemberAndDateRange(Long memberId, LocalDate fromDate, LocalDate toDate, Pageable pageable);
+    MemorySearchResult searchByMemberAndDateRange(MemoryVisibility visibility, LocalDate fromDate, LocalDate toDate, TimelineInterval timelineInterval,
+                                                  Pageable pageable, MemorySearchOptions searchOptions);
+
+    // ===== 해시태그 집계 메서드들 =====
+
+    /**
+     * since 이후 작성된 메모리의 해시태그 집계 (visibility 가 null 이면 PUBLIC 메모리만, since 가 null 이면 전체 기간)
+     * significant 이면 조회 범위 전체 대비 기간 안에서 유독 많이 쓰인 해시태그(significant_terms), 아니면 개수순(terms)
+     */
+    List<HashtagFacet> aggregateHashtags(MemoryVisibility visibility, Instant since, boolean significant, int limit);
+
+    // ===== 위치 검색 메서드들 (visibility 가 null 이면 PUBLIC 메모리만) =====
+
+    /**
+     * 중심 좌표에서 distanceKm 이내의 메모리를 가까운 순으로 검색 (정렬 값에 거리(m) 포함)
+     */
+    SearchPage<MemoryDocument> searchByGeoDistance(MemoryVisibility visibility, double latitude, double longitude, double distanceKm,
+                                                   Pageable pageable, MemorySearchOptions searchOptions);
+
+    /**
+     * 지도 영역 안의 메모리 검색 + geohash 격자별 마커 클러스터 집계
+     */
+    MemoryGeoAreaResult searchByGeoBoundingBox(MemoryVisibility visibility, MemoryGeoBounds bounds, int geohashPrecision,
+                                               Pageable pageable, MemorySearchOptions searchOptions);
+
+    // ===== 묶음 검색 메서드들 =====
+
+    /**
+     * 여러 검색을 _msearch 요청 한 번으로 실행, 결과는 요청 순서와 같음
+     */
+    List<MemorySearchResult> multiSearch(List<MemorySearchCriteria> criteria);
+
+    // ===== 커서 검색 메서드들 =====
+
+    /**
+     * 커서 검색용 point-in-time 생성 (읽기 별칭 기준)
+     * 첫 페이지 검색까지만 유지되도록 짧은 keep-alive 로 열고, 이후 페이지 검색마다 keep-alive 를 연장한다.
+     */
+    String openPointInTime();
+
+    /**
+     * 더 이상 다음 페이지가 없는 커서의 point-in-time 해제
+     */
+    void closePointInTime(String pointInTimeId);
+
+    // ===== 상세 조회 메서드들 =====
+
+    /**
+     * PUBLIC 메모리 문서 전체 필드 조회
+     */
+    Optional<MemoryDocument> findPublicDocument(Long memoryId);
+
+    /**
+     * 사용자가 볼 수 있는 메모리 문서 전체 필드 조회 (본인 + 관계된 사용자 + PUBLIC)
+     */
+    Optional<MemoryDocument> findVisibleDocument(MemoryVisibility visibility, Long memoryId);
 
     // ===== 자동완성 메서드들 =====
 
@@ -89,10 +148,22 @@ public interface MemoryDocumentRepositoryCustom {
     /**
      * 인증된 사용자 제목 자동완성 (본인 + 관계된 사용자 + PUBLIC)
      */
-    List<AutocompleteSuggestion> getAuthenticatedTitleSuggestions(Long memberId, String query, int limit);
+    List<AutocompleteSuggestion> getAuthenticatedTitleSuggestions(MemoryVisibility visibility, String query, int limit);
 
     /**
      * 인증된 사용자 해시태그 자동완성 (본인 + 관계된 사용자 + PUBLIC)
      */
-    List<AutocompleteSuggestion> getAuthenticatedHashtagSuggestions(Long memberId, String query, int limit);
+    List<AutocompleteSuggestion> getAuthenticatedHashtagSuggestions(MemoryVisibility visibility, String query, int limit);
+
+    // ===== 인덱싱 메서드들 =====
+
+    /**
+     * 색인/삭제 요청을 _bulk API 한 번으로 반영 (external version 으로 멱등 처리)
+     */
+    MemoryBulkIndexResult bulkApply(List<MemoryIndexOperation> operations);
+
+    /**
+     * 지정한 물리 인덱스에만 벌크 반영 (shadow 인덱스 재색인용)
+     */
+    MemoryBulkIndexResult bulkApply(String indexName, List<MemoryIndexOperation> operations);
 }
\ No newline at end of file
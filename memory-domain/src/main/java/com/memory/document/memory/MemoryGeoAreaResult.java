@@ -0,0 +1,18 @@
+package com.memory.document.memory;
+
+import com.memory.dto.search.GeoCluster;
+import org.springframework.data.elasticsearch.core.SearchPage;
+
+import java.util.List;
+
+/**
+ * 지도 영역 검색 결과 + 같은 요청에서 집계한 마커 클러스터
+ *
+ * @param page     영역 안의 메모리 (최신 추억 날짜순)
+ * @param clusters geohash 격자별 메모리 수와 중심 좌표
+ */
+public record MemoryGeoAreaResult(
+    SearchPage<MemoryDocument> page,
+    List<GeoCluster> clusters
+) {
+}
@@ -0,0 +1,13 @@
+package com.memory.document.memory;
+
+/**
+ * 지도 화면 영역 (좌상단 ~ 우하단 좌표)
+ * left 가 right 보다 크면 날짜 변경선을 넘는 영역으로 처리된다.
+ */
+public record MemoryGeoBounds(
+    double top,
+    double left,
+    double bottom,
+    double right
+) {
+}
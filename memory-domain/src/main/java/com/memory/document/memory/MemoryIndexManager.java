@@ -0,0 +1,60 @@
+package com.memory.document.memory;
+
+/**
+ * 메모리 인덱스 별칭 관리
+ * 검색은 읽기 별칭, 색인은 쓰기 별칭을 통해서만 접근하고 실제 물리 인덱스(memory_v{yyyyMMddHHmmss})는 교체 가능하다.
+ * <ul>
+ *     <li>{@link #READ_ALIAS} - 현재 서비스 중인(live) 인덱스 하나</li>
+ *     <li>{@link #WRITE_ALIAS} - live(쓰기 인덱스) + 재색인 중인 shadow 또는 롤백용 이전 인덱스</li>
+ *     <li>{@link #ROLLBACK_ALIAS} - 교체 직전의 live 인덱스 (이중 쓰기를 유지하여 무손실 롤백 가능)</li>
+ *     <li>{@link #STALE_ROLLBACK_ALIAS} - 이중 쓰기에 실패해 변경이 누락된 롤백 인덱스 (롤백 불가)</li>
+ * </ul>
+ */
+public interface MemoryIndexManager {
+
+    String READ_ALIAS = "memory";
+    String WRITE_ALIAS = "memory-write";
+    String ROLLBACK_ALIAS = "memory-rollback";
+    String STALE_ROLLBACK_ALIAS = "memory-rollback-stale";
+
+    /**
+     * 별칭이 없으면 새 물리 인덱스를 만들어 연결한다.
+     * 별칭 도입 전의 단일 "memory" 인덱스가 있으면 그 인덱스를 live 로 사용한다.
+     */
+    void ensureIndex();
+
+    /**
+     * 별칭 상태는 짧은 시간 캐시된다. 이 인스턴스에서 별칭을 바꾸면 바로 갱신되고,
+     * 다른 인스턴스에서 바꾼 별칭은 search.index.state-cache-ttl-ms 이후에 반영된다.
+     */
+    MemoryIndexState getState();
+
+    /**
+     * 새 shadow 인덱스를 생성하고 쓰기 별칭에 추가하여 이중 쓰기를 시작한다.
+     * 남아 있던 롤백 인덱스는 삭제한다.
+     */
+    String createShadowIndex();
+
+    void dropShadowIndex(String indexName);
+
+    /**
+     * 읽기/쓰기 별칭을 shadow 인덱스로 한 번에 교체하고, 기존 live 인덱스는 롤백 인덱스로 남긴다.
+     */
+    void promote(String indexName);
+
+    /**
+     * 롤백 인덱스를 다시 live 로 되돌린다.
+     * stale 로 표시된 롤백 인덱스는 되돌리지 않는다.
+     */
+    void rollback();
+
+    /**
+     * 이중 쓰기에 실패한 롤백 인덱스를 stale 로 표시한다. 롤백 인덱스가 아니거나 이미 표시되어 있으면 무시한다.
+     * 표시는 별칭으로 남기므로 모든 인스턴스에 공유되고, 다음 재구축에서 롤백 인덱스와 함께 삭제된다.
+     */
+    void markRollbackStale(String indexName);
+
+    void refresh(String indexName);
+
+    long countDocuments(String indexName);
+}
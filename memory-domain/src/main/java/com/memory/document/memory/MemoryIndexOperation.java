@@ -0,0 +1,31 @@
+package com.memory.document.memory;
+
+/**
+ * 벌크 인덱싱 요청 단위
+ * version 은 Elasticsearch external version 으로 사용되어 오래된 요청이 최신 문서를 덮어쓰지 않도록 한다.
+ */
+public record MemoryIndexOperation(
+    Type type,
+    Long memoryId,
+    long version,
+    MemoryDocument document
+) {
+    public enum Type {
+        INDEX,
+        // 전체 재색인용 - 같은 버전의 문서도 덮어쓴다 (external_gte)
+        REINDEX,
+        DELETE
+    }
+
+    public static MemoryIndexOperation index(MemoryDocument document, long version) {
+        return new MemoryIndexOperation(Type.INDEX, document.getMemoryId(), version, document);
+    }
+
+    public static MemoryIndexOperation reindex(MemoryDocument document, long version) {
+        return new MemoryIndexOperation(Type.REINDEX, document.getMemoryId(), version, document);
+    }
+
+    public static MemoryIndexOperation delete(Long memoryId, long version) {
+        return new MemoryIndexOperation(Type.DELETE, memoryId, version, null);
+    }
+}
@@ -0,0 +1,51 @@
+package com.memory.document.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메모리 인덱스 별칭 상태
+ * shadowIndex, rollbackIndex 는 없으면 null
+ * rollbackStale 은 롤백 인덱스에 반영하지 못한 변경이 있어 롤백할 수 없는 상태
+ */
+public record MemoryIndexState(
+    String liveIndex,
+    String shadowIndex,
+    String rollbackIndex,
+    boolean rollbackStale
+) {
+    public MemoryIndexState(String liveIndex, String shadowIndex, String rollbackIndex) {
+        this(liveIndex, shadowIndex, rollbackIndex, false);
+    }
+
+    public boolean hasShadowIndex() {
+        return shadowIndex != null;
+    }
+
+    public boolean hasRollbackIndex() {
+        return rollbackIndex != null;
+    }
+
+    /**
+     * 색인 요청을 보낼 인덱스 목록 (live 가 항상 첫 번째)
+     */
+    public List<String> writeIndices() {
+        List<String> indices = new ArrayList<>();
+        indices.add(liveIndex);
+        if (shadowIndex != null) {
+            indices.add(shadowIndex);
+        }
+        if (rollbackIndex != null) {
+            indices.add(rollbackIndex);
+        }
+        return indices;
+    }
+
+    /**
+     * 롤백 인덱스의 실패는 재시도 대상이 아니다 (매핑이 달라 실패할 수 있음)
+     * 대신 롤백 인덱스를 stale 로 표시하여 변경이 누락된 인덱스로 롤백하지 못하게 한다.
+     */
+    public boolean isRequired(String indexName) {
+        return !indexName.equals(rollbackIndex);
+    }
+}
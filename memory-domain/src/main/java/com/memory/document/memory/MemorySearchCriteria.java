@@ -0,0 +1,32 @@
+package com.memory.document.memory;
+
+import com.memory.dto.search.SearchType;
+import com.memory.dto.search.TimelineInterval;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 묶음 검색(_msearch)에 포함되는 검색 한 건의 조건
+ *
+ * @param type             검색 타입 (타입별로 query/hashtags/fromDate~toDate 중 필요한 값만 사용)
+ * @param visibility       인증된 사용자의 조회 범위, null 이면 PUBLIC 메모리만 검색
+ * @param timelineInterval DATE 검색에서 기간별 개수를 함께 집계할 단위, null 이면 집계하지 않음
+ * @param searchOptions    커서 검색은 지원하지 않음 (point-in-time 은 요청별로 열어야 함)
+ */
+public record MemorySearchCriteria(
+    SearchType type,
+    String query,
+    List<String> hashtags,
+    LocalDate fromDate,
+    LocalDate toDate,
+    TimelineInterval timelineInterval,
+    MemoryVisibility visibility,
+    Pageable pageable,
+    MemorySearchOptions searchOptions
+) {
+    public boolean isPublic() {
+        return visibility == null;
+    }
+}
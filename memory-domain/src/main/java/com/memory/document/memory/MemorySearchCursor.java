@@ -0,0 +1,110 @@
+package com.memory.document.memory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.memory.exception.customException.ValidationException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * point-in-time + search_after 커서
+ * 클라이언트에는 Base64(URL safe) 로 인코딩하고 HMAC 서명을 붙인 불투명 문자열로 전달하며, 서명이 맞지 않는 커서는 거절한다.
+ *
+ * @param pointInTimeId 검색 시점을 고정하는 PIT ID
+ * @param searchAfter   직전 페이지 마지막 결과의 정렬 값 (검색 유형별 정렬 값 + memoryId tiebreaker), 첫 페이지는 null
+ * @param shared        여러 게스트가 함께 쓰는 PIT 여부, 공유 PIT 는 마지막 페이지에서 닫지 않고 keep-alive 만료로 정리
+ * @param fingerprint   커서를 발급한 검색(공개 범위, 검색 유형, 조건)의 지문, 다른 검색에 커서를 사용하지 못하도록 비교
+ * @param retries       일부 샤드의 결과만 받아 같은 위치를 다시 조회한 횟수
+ */
+public record MemorySearchCursor(
+    String pointInTimeId,
+    List<Object> searchAfter,
+    boolean shared,
+    String fingerprint,
+    int retries
+) {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String SIGNATURE_SEPARATOR = ".";
+    private static final String PIT_KEY = "p";
+    private static final String SEARCH_AFTER_KEY = "s";
+    private static final String SHARED_KEY = "sh";
+    private static final String FINGERPRINT_KEY = "f";
+    private static final String RETRIES_KEY = "r";
+
+    public static MemorySearchCursor first(String pointInTimeId, boolean shared, String fingerprint) {
+        return new MemorySearchCursor(pointInTimeId, null, shared, fingerprint, 0);
+    }
+
+    /**
+     * 같은 검색의 다음 위치 커서 (공유 여부, 지문 유지)
+     */
+    public MemorySearchCursor next(String pointInTimeId, List<Object> searchAfter) {
+        return new MemorySearchCursor(pointInTimeId, searchAfter, shared, fingerprint, 0);
+    }
+
+    /**
+     * 같은 위치를 다시 조회하는 커서 (첫 페이지는 빈 search_after 로 표시)
+     */
+    public MemorySearchCursor retry(String pointInTimeId) {
+        return new MemorySearchCursor(pointInTimeId, isFirstPage() ? List.of() : searchAfter, shared, fingerprint, retries + 1);
+    }
+
+    public boolean isFirstPage() {
+        return searchAfter == null || searchAfter.isEmpty();
+    }
+
+    public String encode(String secret) {
+        try {
+            byte[] json = OBJECT_MAPPER.writeValueAsBytes(Map.of(PIT_KEY, pointInTimeId, SEARCH_AFTER_KEY, searchAfter,
+                    SHARED_KEY, shared, FINGERPRINT_KEY, fingerprint, RETRIES_KEY, retries));
+            String payload = Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+            return payload + SIGNATURE_SEPARATOR + sign(payload, secret);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode search cursor", e);
+        }
+    }
+
+    public static MemorySearchCursor decode(String cursor, String secret) {
+        try {
+            int separator = cursor.lastIndexOf(SIGNATURE_SEPARATOR);
+            if (separator < 0) {
+                throw new ValidationException("유효하지 않은 검색 커서입니다.");
+            }
+            String payload = cursor.substring(0, separator);
+            byte[] signature = cursor.substring(separator + 1).getBytes(StandardCharsets.UTF_8);
+            if (!MessageDigest.isEqual(signature, sign(payload, secret).getBytes(StandardCharsets.UTF_8))) {
+                throw new ValidationException("유효하지 않은 검색 커서입니다.");
+            }
+
+            byte[] json = Base64.getUrlDecoder().decode(payload.getBytes(StandardCharsets.UTF_8));
+            Map<String, Object> values = OBJECT_MAPPER.readValue(json, new TypeReference<>() {});
+            String pointInTimeId = (String) values.get(PIT_KEY);
+            @SuppressWarnings("unchecked")
+            List<Object> searchAfter = (List<Object>) values.get(SEARCH_AFTER_KEY);
+            String fingerprint = (String) values.get(FINGERPRINT_KEY);
+
+            if (pointInTimeId == null || searchAfter == null || fingerprint == null) {
+                throw new ValidationException("유효하지 않은 검색 커서입니다.");
+            }
+            int retries = values.get(RETRIES_KEY) instanceof Number number ? number.intValue() : 0;
+            return new MemorySearchCursor(pointInTimeId, searchAfter, Boolean.TRUE.equals(values.get(SHARED_KEY)), fingerprint, retries);
+        } catch (ValidationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ValidationException("유효하지 않은 검색 커서입니다.");
+        }
+    }
+
+    private static String sign(String payload, String secret) throws Exception {
+        Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,16 @@
+package com.memory.document.memory;
+
+import java.time.Duration;
+
+/**
+ * 메모리 검색 요청이 Elasticsearch 에서 실행될 때마다 호출되는 리스너
+ * 검색을 실행한 스레드에서 동기로 호출되므로 가볍게 처리해야 한다.
+ */
+public interface MemorySearchListener {
+
+    /**
+     * @param queryDsl 실행한 쿼리 (query 절의 JSON)
+     * @param took     Elasticsearch 가 응답한 took (네트워크/역직렬화 시간 제외)
+     */
+    void onSearchExecuted(String queryDsl, Duration took);
+}
@@ -0,0 +1,74 @@
+package com.memory.document.memory;
+
+import com.memory.dto.search.SearchView;
+
+import java.time.Duration;
+
+/**
+ * 검색 응답 옵션 (하이라이팅 + 조회 필드 범위)
+ * <ul>
+ *     <li>fragmentsOnly - content 원문은 제외하고 하이라이트 조각만 반환</li>
+ *     <li>view LIST - 결과 카드에 필요한 필드만 _source 에서 가져오고 content 는 앞부분 조각으로 대체</li>
+ *     <li>cursor - 지정되면 from/size 대신 point-in-time + search_after 로 조회</li>
+ *     <li>hashtagFacets - 같은 검색 요청에서 결과 전체의 해시태그별 개수를 집계</li>
+ *     <li>timeout - 샤드별 검색 마감 시간, 넘기면 그때까지 찾은 결과만 반환 (null 이면 제한 없음)</li>
+ * </ul>
+ */
+public record MemorySearchOptions(
+    boolean highlight,
+    int fragmentSize,
+    int numberOfFragments,
+    boolean fragmentsOnly,
+    SearchView view,
+    MemorySearchCursor cursor,
+    boolean hashtagFacets,
+    Duration timeout
+) {
+    public static final int DEFAULT_FRAGMENT_SIZE = 100;
+    public static final int DEFAULT_NUMBER_OF_FRAGMENTS = 3;
+
+    public static MemorySearchOptions defaults() {
+        return new MemorySearchOptions(false, DEFAULT_FRAGMENT_SIZE, DEFAULT_NUMBER_OF_FRAGMENTS, false, SearchView.FULL, null, false, null);
+    }
+
+    public static MemorySearchOptions of(boolean highlight, Integer fragmentSize, Integer numberOfFragments,
+                                         boolean fragmentsOnly, SearchView view) {
+        return new MemorySearchOptions(
+                highlight || fragmentsOnly,
+                fragmentSize != null ? fragmentSize : DEFAULT_FRAGMENT_SIZE,
+                numberOfFragments != null ? numberOfFragments : DEFAULT_NUMBER_OF_FRAGMENTS,
+                fragmentsOnly,
+                view != null ? view : SearchView.FULL,
+                null,
+                false,
+                null
+        );
+    }
+
+    public MemorySearchOptions withCursor(MemorySearchCursor cursor) {
+        return new MemorySearchOptions(highlight, fragmentSize, numberOfFragments, fragmentsOnly, view, cursor, hashtagFacets, timeout);
+    }
+
+    public MemorySearchOptions withHashtagFacets(boolean hashtagFacets) {
+        return new MemorySearchOptions(highlight, fragmentSize, numberOfFragments, fragmentsOnly, view, cursor, hashtagFacets, timeout);
+    }
+
+    public MemorySearchOptions withTimeout(Duration timeout) {
+        return new MemorySearchOptions(highlight, fragmentSize, numberOfFragments, fragmentsOnly, view, cursor, hashtagFacets, timeout);
+    }
+
+    public boolean isCursorPaging() {
+        return cursor != null;
+    }
+
+    public boolean isListView() {
+        return view == SearchView.LIST;
+    }
+
+    /**
+     * content 원문 대신 조각(매칭이 없으면 앞부분)을 받아야 하는지 여부
+     */
+    public boolean needsContentFragments() {
+        return fragmentsOnly || isListView();
+    }
+}
@@ -0,0 +1,26 @@
+package com.memory.document.memory;
+
+import com.memory.dto.search.HashtagFacet;
+import com.memory.dto.search.TimelineBucket;
+import org.springframework.data.elasticsearch.core.SearchPage;
+
+import java.util.List;
+
+/**
+ * 검색 결과 페이지 + 같은 요청에서 함께 집계한 타임라인 버킷/해시태그 facet
+ *
+ * @param page          검색 결과
+ * @param timeline      memorableDate 기준 date_histogram 버킷, 요청하지 않았으면 null
+ * @param hashtagFacets 검색 결과 전체의 해시태그별 개수, 요청하지 않았으면 null
+ * @param partial       응답의 timed_out 이 true 이거나 실패한 샤드(_shards.failed)가 있어 일부 샤드의 결과만 포함되었는지 여부
+ */
+public record MemorySearchResult(
+    SearchPage<MemoryDocument> page,
+    List<TimelineBucket> timeline,
+    List<HashtagFacet> hashtagFacets,
+    boolean partial
+) {
+    public static MemorySearchResult of(SearchPage<MemoryDocument> page) {
+        return new MemorySearchResult(page, null, null, false);
+    }
+}
@@ -0,0 +1,23 @@
+package com.memory.document.memory;
+
+import java.util.List;
+
+/**
+ * 인증된 사용자가 볼 수 있는 메모리 범위
+ * 본인 메모리 전체 + 관계(ACCEPTED)된 멤버의 PRIVATE 가 아닌 메모리 + PUBLIC 메모리
+ *
+ * @param memberId         조회하는 사용자
+ * @param relatedMemberIds 관계가 수락된 멤버 (본인 제외)
+ */
+public record MemoryVisibility(
+    Long memberId,
+    List<Long> relatedMemberIds
+) {
+    public MemoryVisibility {
+        relatedMemberIds = relatedMemberIds == null ? List.of() : List.copyOf(relatedMemberIds);
+    }
+
+    public static MemoryVisibility ofMember(Long memberId) {
+        return new MemoryVisibility(memberId, List.of());
+    }
+}
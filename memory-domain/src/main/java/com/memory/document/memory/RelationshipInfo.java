@@ -1,5 +1,9 @@
 package com.memory.document.memory;
 
+import com.memory.domain.file.File;
+import com.memory.domain.member.Member;
+import com.memory.domain.relationship.Relationship;
+
 import java.util.List;
 
 public record RelationshipInfo(
@@ -12,4 +16,24 @@ public record RelationshipInfo(
         String email,
         String profileFileUrl
     ) {}
-}
\ No newline at end of file
+
+    public static RelationshipInfo fromRelationships(List<Relationship> relationships) {
+        if (relationships == null) {
+            return new RelationshipInfo(null);
+        }
+
+        return new RelationshipInfo(relationships.stream()
+                .map(relationship -> {
+                    Member relatedMember = relationship.getRelatedMember();
+                    File profile = relatedMember.getFile();
+                    return new RelatedMemberInfo(
+                            relatedMember.getId(),
+                            relatedMember.getName(),
+                            relatedMember.getNickname(),
+                            relatedMember.getEmail(),
+                            profile != null ? profile.getFileUrl() : null
+                    );
+                })
+                .toList());
+    }
+}
@@ -41,6 +41,10 @@ public class Comment extends BaseTimeEntity {
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> children = new ArrayList<>();
 
+    // 삭제되지 않은 대댓글 수 - 대댓글 생성/삭제 시 update 쿼리로만 증감 (엔티티 저장 시에는 쓰지 않음)
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long replyCount;
+
     private Comment(String content, Memory memory, Member member, Comment parent) {
         this.content = content;
         this.memory = memory;
@@ -89,12 +93,6 @@ public class Comment extends BaseTimeEntity {
         return this.member.equals(member);
     }
 
-    public long getActiveChildrenCount() {
-        return children.stream()
-                .filter(comment -> !comment.isDeleted())
-                .count();
-    }
-
     public void markAsDeleted() {
         if (hasActiveChildren()) {
             this.content = "삭제된 댓글입니다.";
@@ -103,7 +101,7 @@ public class Comment extends BaseTimeEntity {
     }
 
     private boolean hasActiveChildren() {
-        return getActiveChildrenCount() > 0;
+        return replyCount > 0;
     }
 
     public static Comment create(String content, Memory memory, Member member, Comment parent) {
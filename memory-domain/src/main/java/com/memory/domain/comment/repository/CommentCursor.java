@@ -0,0 +1,51 @@
+package com.memory.domain.comment.repository;
+
+import com.memory.domain.comment.Comment;
+import com.memory.exception.customException.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 댓글 목록 keyset 커서 - 직전 페이지 마지막 댓글의 (create_date, id)
+ * 클라이언트에는 Base64(URL safe) 로 인코딩된 불투명 문자열로 전달한다.
+ *
+ * @param createDate 마지막 댓글의 생성일시
+ * @param id         마지막 댓글의 ID (생성일시가 같은 댓글 사이의 순서)
+ */
+public record CommentCursor(
+    LocalDateTime createDate,
+    Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static CommentCursor from(Comment comment) {
+        return new CommentCursor(comment.getCreateDate(), comment.getId());
+    }
+
+    public String encode() {
+        String value = createDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서가 없으면 첫 페이지(null)
+     */
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = value.lastIndexOf(DELIMITER);
+            return new CommentCursor(
+                    LocalDateTime.parse(value.substring(0, delimiterIndex)),
+                    Long.parseLong(value.substring(delimiterIndex + 1))
+            );
+        } catch (Exception e) {
+            throw new ValidationException("유효하지 않은 댓글 커서입니다.");
+        }
+    }
+}
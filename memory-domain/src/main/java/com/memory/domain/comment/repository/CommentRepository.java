@@ -2,6 +2,27 @@ package com.memory.domain.comment.repository;
 
 import com.memory.domain.comment.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
+
+    /**
+     * 부모 댓글별로 오래된 순 (create_date, id) 첫 limitPerParent 개의 대댓글을 한 번에 조회
+     * 부모마다 따로 조회하지 않도록 ROW_NUMBER() 로 부모별 순위를 매겨 자른다. (작성자는 batch fetch 로 묶어서 로딩)
+     */
+    @Query(value = """
+            SELECT c.*
+            FROM comment c
+            JOIN (SELECT r.id,
+                         ROW_NUMBER() OVER (PARTITION BY r.parent_id ORDER BY r.create_date, r.id) AS reply_rank
+                  FROM comment r
+                  WHERE r.parent_id IN (:parentIds)
+                    AND r.delete_date IS NULL) ranked ON ranked.id = c.id
+            WHERE ranked.reply_rank <= :limitPerParent
+            ORDER BY c.parent_id, c.create_date, c.id
+            """, nativeQuery = true)
+    List<Comment> findFirstRepliesByParentIds(@Param("parentIds") List<Long> parentIds, @Param("limitPerParent") int limitPerParent);
 }
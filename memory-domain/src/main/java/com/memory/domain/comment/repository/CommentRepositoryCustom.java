@@ -11,17 +11,34 @@ public interface CommentRepositoryCustom {
 
     List<Comment> findCommentsByMemoryWithHierarchy(Memory memory);
 
-    List<Comment> findTopLevelCommentsByMemory(Memory memory, int page, int size);
+    // 목록 조회 - (create_date, id) 내림차순 keyset 페이징, cursor 가 null 이면 첫 페이지
+    List<Comment> findTopLevelCommentsByMemory(Memory memory, CommentCursor cursor, int limit);
+
+    // 이전 클라이언트 호환용 offset 페이징 - 커서 목록과 같은 (create_date, id) 내림차순
+    List<Comment> findTopLevelCommentsByMemory(Memory memory, long offset, int limit);
 
     List<Comment> findRepliesByParentComment(Comment parentComment);
 
-    long countActiveCommentsByMemory(Memory memory);
+    // 대댓글 더보기 - (create_date, id) 오름차순 keyset 페이징, cursor 가 null 이면 첫 대댓글부터
+    List<Comment> findRepliesByParentComment(Comment parentComment, CommentCursor cursor, int limit);
+
+    // 대댓글 수 증감 - 엔티티를 거치지 않고 한 번의 update 로 반영
+    void increaseReplyCount(Long commentId);
+
+    void decreaseReplyCount(Long commentId);
+
+    // 대댓글 수 보정 - id 범위 안에서 실제 대댓글 수와 다른 댓글만 갱신하고 갱신한 수를 반환
+    long reconcileReplyCounts(Long fromCommentId, Long toCommentId);
+
+    Optional<Long> findLastCommentId();
+
+    List<Comment> findCommentsByMember(Member member, CommentCursor cursor, int limit);
 
-    List<Comment> findCommentsByMember(Member member, int page, int size);
+    List<Comment> findCommentsByMember(Member member, long offset, int limit);
 
     Optional<Comment> findByIdWithMember(Long commentId);
 
-    List<Comment> findRecentComments(int limit);
+    List<Comment> findRecentComments(CommentCursor cursor, int limit);
 
     Optional<Comment> findCommentById(Long commentId);
 }
@@ -6,7 +6,7 @@ import java.util.List;
 import java.util.Optional;
 
 public interface HashTagRepositoryCustom {
-    List<HashTag> findPopularHashTags(int limit);
     List<HashTag> findHashTagsByNameContaining(String keyword, int limit);
     Optional<HashTag> findByName(String name);
+    List<HashTag> findByNames(List<String> names);
 }
\ No newline at end of file
@@ -35,6 +35,14 @@ public class Memory extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private MemoryType memoryType;
 
+    // 삭제되지 않은 댓글 수 (대댓글 포함) - 댓글 생성/삭제 시 update 쿼리로만 증감 (엔티티 저장 시에는 쓰지 않음)
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long commentsCount;
+
+    // 삭제되지 않은 최상위 댓글 수
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long topLevelCommentsCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
@@ -83,10 +91,6 @@ public class Memory extends BaseTimeEntity {
         files.forEach(this::addFile);
     }
 
-    public void addComment(Comment comment) {
-        this.comments.add(comment);
-    }
-
     public void addMemoryHashTag(MemoryHashTag memoryHashTag) {
         this.memoryHashTags.add(memoryHashTag);
         memoryHashTag.updateMemory(this);
@@ -107,21 +111,6 @@ public class Memory extends BaseTimeEntity {
                 .toList();
     }
 
-    /**
-     * 최상위 댓글 수 조회 (삭제되지 않은 댓글)
-     */
-    public long getTopLevelCommentsCount() {
-        return comments.stream()
-                .filter(comment -> !comment.isDeleted() && comment.isTopLevel())
-                .count();
-    }
-
-    public long getCommentsCount() {
-        return comments.stream()
-                .filter(comment -> !comment.isDeleted())
-                .count();
-    }
-
     public boolean isPublic() {
         return memoryType == MemoryType.PUBLIC;
     }
@@ -0,0 +1,89 @@
+package com.memory.domain.memory.repository;
+
+import com.memory.domain.file.FileType;
+import com.memory.domain.map.MapType;
+import com.memory.domain.member.MemberType;
+import com.memory.domain.memory.MemoryType;
+import org.locationtech.jts.geom.Point;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 메모리 피드(목록) 조회 결과
+ * 엔티티 대신 응답에 필요한 컬럼만 한 번의 조회로 가져온다 (작성자/지도/지도 소유자와 각 프로필 파일 포함).
+ * 파일, 해시태그는 페이지의 memoryId 로 따로 한 번씩 묶어서 조회하고, 댓글 수는 메모리의 comments_count 컬럼을 사용한다.
+ */
+public record MemoryFeedRow(
+    Long id,
+    String title,
+    String content,
+    String locationName,
+    LocalDate memorableDate,
+    MemoryType memoryType,
+    LocalDateTime createDate,
+    Long commentsCount,
+    MemberRow member,
+    MapRow map
+) {
+
+    public record MemberRow(
+        Long id,
+        String email,
+        String name,
+        String nickname,
+        MemberType memberType,
+        FileRow profile
+    ) {
+    }
+
+    /**
+     * left join 으로 지도가 없으면 모든 값이 null
+     */
+    public record MapRow(
+        Long id,
+        String name,
+        String description,
+        String address,
+        Point location,
+        MapType mapType,
+        MemberRow member
+    ) {
+        public boolean exists() {
+            return id != null;
+        }
+
+        public String latitude() {
+            return location != null ? String.valueOf(location.getY()) : null;
+        }
+
+        public String longitude() {
+            return location != null ? String.valueOf(location.getX()) : null;
+        }
+    }
+
+    /**
+     * left join 으로 파일이 없으면 모든 값이 null
+     */
+    public record FileRow(
+        Long id,
+        String originalFileName,
+        String fileName,
+        String fileUrl,
+        FileType fileType,
+        Long fileSize,
+        Long memoryId,
+        Long memberId,
+        LocalDateTime createDate
+    ) {
+        public boolean exists() {
+            return id != null;
+        }
+    }
+
+    public record HashTagRow(
+        Long memoryId,
+        String name
+    ) {
+    }
+}
@@ -8,15 +8,29 @@ import java.util.List;
 import java.util.Optional;
 
 public interface MemoryRepositoryCustom {
-    List<Memory> findByMemberAndMemoryType(Member member, List<Long> relatedMemberIds, MemoryType memoryType, int size);
-    List<Memory> findByMemberAndMemoryType(Member member, List<Long> relatedMemberIds, MemoryType memoryType, Long lastMemoryId, int size);
     Optional<Memory> findMemoryByIdAndMemberId(Long memoryId, Long memberId);
-    List<Memory> findByMemoryType(MemoryType memoryType, int size);
-    List<Memory> findByMemoryType(MemoryType memoryType, Long lastMemoryId, int size);
+
+    // 피드(목록) 조회용 - lastMemoryId 가 null 이면 첫 페이지
+    List<MemoryFeedRow> findFeedByMember(Member member, List<Long> relatedMemberIds, MemoryType memoryType, Long lastMemoryId, int size);
+    List<MemoryFeedRow> findFeedByMemoryType(MemoryType memoryType, Long lastMemoryId, int size);
+    List<MemoryFeedRow.FileRow> findFeedFiles(List<Long> memoryIds);
+    List<MemoryFeedRow.HashTagRow> findFeedHashTags(List<Long> memoryIds);
     
     // 게임용 메서드들
     List<Memory> findMemoriesWithImagesByMember(Member member);
     List<Memory> findMemoriesWithImagesByMemoryType(MemoryType memoryType);
 
     Optional<Memory> findMemoryById(Long memoryId);
+
+    // 재색인용 - id 오름차순 keyset 페이징
+    List<Memory> findMemoriesForIndexing(Long lastMemoryId, int size);
+    long countMemoriesForIndexing();
+
+    // 댓글 수 증감 - 엔티티를 거치지 않고 한 번의 update 로 반영 (동시에 달린 댓글도 유실 없음)
+    void increaseCommentsCount(Long memoryId, boolean topLevel);
+    void decreaseCommentsCount(Long memoryId, boolean topLevel);
+
+    // 댓글 수 보정 - id 범위 안에서 실제 댓글 수와 다른 메모리만 갱신하고 갱신한 수를 반환
+    long reconcileCommentsCounts(Long fromMemoryId, Long toMemoryId);
+    Optional<Long> findLastMemoryId();
 }
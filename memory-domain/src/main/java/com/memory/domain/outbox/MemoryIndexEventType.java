@@ -0,0 +1,6 @@
+package com.memory.domain.outbox;
+
+public enum MemoryIndexEventType {
+    UPSERT,
+    DELETE
+}
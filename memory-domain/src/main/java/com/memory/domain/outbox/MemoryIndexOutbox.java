@@ -0,0 +1,123 @@
+package com.memory.domain.outbox;
+
+import com.memory.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메모리 Elasticsearch 인덱싱 아웃박스 Entity
+ * 메모리 변경과 같은 트랜잭션에서 기록되고, 백그라운드 워커가 읽어 인덱스에 반영한다.
+ */
+@ToString
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "memory_index_outbox")
+public class MemoryIndexOutbox extends BaseTimeEntity {
+
+    private static final int DEFAULT_MAX_RETRY_COUNT = 10;
+    private static final long MAX_BACKOFF_SECONDS = 300L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "memory_id", nullable = false)
+    private Long memoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private MemoryIndexEventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private MemoryIndexOutboxStatus status;
+
+    @Column(name = "retry_count", nullable = false)
+    private Integer retryCount;
+
+    @Column(name = "max_retry_count", nullable = false)
+    private Integer maxRetryCount;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    private MemoryIndexOutbox(Long memoryId, MemoryIndexEventType eventType) {
+        this.memoryId = memoryId;
+        this.eventType = eventType;
+        this.status = MemoryIndexOutboxStatus.PENDING;
+        this.retryCount = 0;
+        this.maxRetryCount = DEFAULT_MAX_RETRY_COUNT;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public static MemoryIndexOutbox upsert(Long memoryId) {
+        return new MemoryIndexOutbox(memoryId, MemoryIndexEventType.UPSERT);
+    }
+
+    public static MemoryIndexOutbox delete(Long memoryId) {
+        return new MemoryIndexOutbox(memoryId, MemoryIndexEventType.DELETE);
+    }
+
+    public void claim() {
+        this.status = MemoryIndexOutboxStatus.PROCESSING;
+        this.claimedAt = LocalDateTime.now();
+    }
+
+    public void markAsCompleted() {
+        this.status = MemoryIndexOutboxStatus.COMPLETED;
+        this.processedAt = LocalDateTime.now();
+        this.failureReason = null;
+    }
+
+    /**
+     * 실패 처리. 재시도 가능하면 지수 백오프 후 다시 PENDING 으로, 아니면 FAILED 로 남긴다.
+     */
+    public void markAsFailed(String failureReason) {
+        this.retryCount++;
+        this.failureReason = truncate(failureReason);
+        this.claimedAt = null;
+
+        if (this.retryCount >= this.maxRetryCount) {
+            this.status = MemoryIndexOutboxStatus.FAILED;
+            return;
+        }
+
+        long backoffSeconds = Math.min(1L << Math.min(this.retryCount, 16), MAX_BACKOFF_SECONDS);
+        this.status = MemoryIndexOutboxStatus.PENDING;
+        this.nextAttemptAt = LocalDateTime.now().plusSeconds(backoffSeconds);
+    }
+
+    public boolean isFailed() {
+        return this.status == MemoryIndexOutboxStatus.FAILED;
+    }
+
+    /**
+     * Elasticsearch external version 으로 사용되는 값. 이벤트 ID 는 단조 증가하므로
+     * 늦게 도착한 과거 이벤트가 최신 문서를 덮어쓰지 않는다.
+     */
+    public long getVersion() {
+        return this.id;
+    }
+
+    private String truncate(String reason) {
+        if (reason == null || reason.length() <= 500) {
+            return reason;
+        }
+        return reason.substring(0, 500);
+    }
+}
@@ -0,0 +1,22 @@
+package com.memory.domain.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인덱싱 아웃박스 이벤트의 처리 상태를 나타내는 enum
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MemoryIndexOutboxStatus {
+
+    PENDING("처리 대기"),
+
+    PROCESSING("처리 중"),
+
+    COMPLETED("처리 완료"),
+
+    FAILED("처리 실패");
+
+    private final String description;
+}
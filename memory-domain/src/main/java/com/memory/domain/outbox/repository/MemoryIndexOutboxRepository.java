@@ -0,0 +1,64 @@
+package com.memory.domain.outbox.repository;
+
+import com.memory.domain.outbox.MemoryIndexOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MemoryIndexOutboxRepository extends JpaRepository<MemoryIndexOutbox, Long>, MemoryIndexOutboxRepositoryCustom {
+
+    /**
+     * 아웃박스 ID 시퀀스에서 다음 값을 발급받는다.
+     * 전체 재색인 시 문서 버전으로 사용되어, 이후에 기록된 이벤트만 재색인 결과를 덮어쓸 수 있다.
+     */
+    @Query(value = "SELECT nextval('memory_index_outbox_id_seq')", nativeQuery = true)
+    Long nextEventSequence();
+
+    /**
+     * 회원 프로필이 비정규화된 메모리 문서의 UPSERT 이벤트를 한 번에 기록
+     * 대상: 회원이 작성한 메모리 + 회원을 관계 멤버로 가진 작성자(ACCEPTED)의 메모리
+     * 초당 eventsPerSecond 개씩 처리되도록 next_attempt_at 을 1초 단위로 나누어, 일반 메모리 변경 이벤트보다 앞서지 않는다.
+     * 이미 예약된 전파 이벤트(재시도가 아닌 PENDING 중 가장 늦은 next_attempt_at) 다음 초부터 이어서 예약하므로
+     * 여러 번 호출되어도 전체 처리 속도가 eventsPerSecond 를 넘지 않는다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO memory_index_outbox (memory_id, event_type, next_attempt_at)
+            SELECT m.id, 'UPSERT',
+                   s.start_at + ((ROW_NUMBER() OVER (ORDER BY m.id) - 1) / :eventsPerSecond) * INTERVAL '1 second'
+            FROM memory m
+            CROSS JOIN (SELECT GREATEST(CURRENT_TIMESTAMP, MAX(o.next_attempt_at) + INTERVAL '1 second') AS start_at
+                        FROM memory_index_outbox o
+                        WHERE o.status = 'PENDING'
+                          AND o.retry_count = 0) s
+            WHERE m.delete_date IS NULL
+              AND (m.member_id = :memberId
+                   OR m.member_id IN (SELECT r.member_id
+                                      FROM relationship r
+                                      WHERE r.related_member_id = :memberId
+                                        AND r.relationship_status = 'ACCEPTED'
+                                        AND r.delete_date IS NULL))
+            """, nativeQuery = true)
+    int enqueueMemberProfileEvents(@Param("memberId") Long memberId, @Param("eventsPerSecond") int eventsPerSecond);
+
+    /**
+     * 작성자의 관계 정보가 바뀌었을 때 해당 작성자들이 작성한 메모리의 UPSERT 이벤트를 기록 (처리 속도 제한과 예약 시작 시각은 위와 동일)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO memory_index_outbox (memory_id, event_type, next_attempt_at)
+            SELECT m.id, 'UPSERT',
+                   s.start_at + ((ROW_NUMBER() OVER (ORDER BY m.id) - 1) / :eventsPerSecond) * INTERVAL '1 second'
+            FROM memory m
+            CROSS JOIN (SELECT GREATEST(CURRENT_TIMESTAMP, MAX(o.next_attempt_at) + INTERVAL '1 second') AS start_at
+                        FROM memory_index_outbox o
+                        WHERE o.status = 'PENDING'
+                          AND o.retry_count = 0) s
+            WHERE m.delete_date IS NULL
+              AND m.member_id IN (:memberIds)
+            """, nativeQuery = true)
+    int enqueueMemberMemoryEvents(@Param("memberIds") List<Long> memberIds, @Param("eventsPerSecond") int eventsPerSecond);
+}
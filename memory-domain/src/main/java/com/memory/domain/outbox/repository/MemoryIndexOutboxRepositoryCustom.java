@@ -0,0 +1,21 @@
+package com.memory.domain.outbox.repository;
+
+import com.memory.domain.outbox.MemoryIndexOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MemoryIndexOutboxRepositoryCustom {
+
+    /**
+     * 처리 가능한 이벤트를 잠금과 함께 조회 (다른 워커가 잠근 행은 건너뜀)
+     * PENDING 이면서 재시도 시각이 지난 이벤트 + 리스가 만료된 PROCESSING 이벤트
+     */
+    List<MemoryIndexOutbox> findProcessableEventsForUpdate(LocalDateTime now, LocalDateTime leaseExpiredBefore, int limit);
+
+    long requeueFailedEvents();
+
+    long deleteCompletedEventsBefore(LocalDateTime before);
+
+    long countFailedEvents();
+}
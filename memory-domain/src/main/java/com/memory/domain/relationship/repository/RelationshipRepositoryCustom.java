@@ -9,6 +9,8 @@ import java.util.List;
 public interface RelationshipRepositoryCustom {
     List<Relationship> findByMember(Member member);
     List<Relationship> findByMemberAndRelationshipStatus(Member member, RelationshipStatus status);
+    List<Relationship> findByMemberIdsAndRelationshipStatus(List<Long> memberIds, RelationshipStatus status);
+    List<Long> findRelatedMemberIds(Long memberId, RelationshipStatus status);
     List<Relationship> findByMemberIdAndRelatedMemberId(Long memberId, Long relatedMemberId);
     List<Relationship> findByRelatedMember(Member relatedMember);
     List<Relationship> findByRelatedMemberAndRelationshipStatus(Member relatedMember, RelationshipStatus status);
@@ -6,11 +6,22 @@ import lombok.Getter;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class AutocompleteResponse {
     
     private List<AutocompleteSuggestion> suggestions;
     private long responseTimeMs;
     private String query;
     private int totalSuggestions;
+    private boolean partial;    // 제목/해시태그 중 한쪽이 마감 시간 초과, 거절 또는 실패로 빠진 결과
+
+    /**
+     * 캐시된 결과를 이번 요청의 검색어와 응답 시간으로 바꾼 사본
+     */
+    public AutocompleteResponse withRequest(String query, long responseTimeMs) {
+        return toBuilder()
+                .query(query)
+                .responseTimeMs(responseTimeMs)
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.memory.dto.search;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeoAreaSearchRequest {
+
+    // 지도 화면의 좌상단(top, left) ~ 우하단(bottom, right) 좌표
+    @NotNull
+    @DecimalMin("-90")
+    @DecimalMax("90")
+    private Double top;
+
+    @NotNull
+    @DecimalMin("-180")
+    @DecimalMax("180")
+    private Double left;
+
+    @NotNull
+    @DecimalMin("-90")
+    @DecimalMax("90")
+    private Double bottom;
+
+    @NotNull
+    @DecimalMin("-180")
+    @DecimalMax("180")
+    private Double right;
+
+    // 마커 클러스터 격자 크기 (geohash 자리 수, 클수록 촘촘함 - 5: 약 5km, 7: 약 150m)
+    @Builder.Default
+    @Min(1)
+    @Max(12)
+    private int precision = 5;
+
+    @Builder.Default
+    @Min(0)
+    private int page = 0;
+
+    // 클러스터와 함께 내려줄 메모리 수 (최신 추억 날짜순)
+    @Builder.Default
+    @Min(1)
+    @Max(100)
+    private int size = 20;
+
+    @Builder.Default
+    private SearchView view = SearchView.LIST;
+}
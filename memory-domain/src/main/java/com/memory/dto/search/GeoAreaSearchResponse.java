@@ -0,0 +1,16 @@
+package com.memory.dto.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class GeoAreaSearchResponse {
+
+    private List<GeoCluster> clusters;
+    private List<MemorySearchResponse> memories;
+    private SearchResultResponse.PageInfo pageInfo;
+    private long searchTimeMs;
+}
@@ -0,0 +1,14 @@
+package com.memory.dto.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class GeoCluster {
+
+    private String geohash;                 // 격자 geohash (precision 자리)
+    private long count;                     // 격자 안의 메모리 개수
+    private double latitude;                // 격자 안 메모리들의 중심 위도 (마커 위치)
+    private double longitude;               // 격자 안 메모리들의 중심 경도
+}
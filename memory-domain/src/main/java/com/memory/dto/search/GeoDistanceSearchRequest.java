@@ -0,0 +1,46 @@
+package com.memory.dto.search;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeoDistanceSearchRequest {
+
+    @NotNull
+    @DecimalMin("-90")
+    @DecimalMax("90")
+    private Double latitude;
+
+    @NotNull
+    @DecimalMin("-180")
+    @DecimalMax("180")
+    private Double longitude;
+
+    // 중심 좌표에서의 검색 반경 (km)
+    @Builder.Default
+    @DecimalMin("0.1")
+    @DecimalMax("100")
+    private double distanceKm = 5;
+
+    @Builder.Default
+    @Min(0)
+    private int page = 0;
+
+    @Builder.Default
+    @Min(1)
+    @Max(100)
+    private int size = 20;
+
+    @Builder.Default
+    private SearchView view = SearchView.LIST;
+}
@@ -0,0 +1,15 @@
+package com.memory.dto.search;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class HashtagFacet {
+
+    private String name;                    // 해시태그
+    private long count;                     // 조건에 맞는 메모리 중 해시태그가 달린 개수
+    private Double score;                   // 급상승 집계(significant_terms) 점수, 일반 집계면 null
+}
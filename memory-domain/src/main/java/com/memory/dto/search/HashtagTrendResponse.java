@@ -0,0 +1,16 @@
+package com.memory.dto.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class HashtagTrendResponse {
+
+    private HashtagTrendWindow window;
+    // true 이면 급상승(significant_terms) 순위, false 이면 기간 내 사용 수 순위
+    private boolean trending;
+    private List<HashtagFacet> hashtags;
+}
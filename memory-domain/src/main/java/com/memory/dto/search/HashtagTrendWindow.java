@@ -0,0 +1,19 @@
+package com.memory.dto.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 해시태그 집계 기간 (메모리 작성 시각 기준)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum HashtagTrendWindow {
+    DAY(Duration.ofHours(24)),
+    WEEK(Duration.ofDays(7)),
+    MONTH(Duration.ofDays(30));
+
+    private final Duration duration;
+}
@@ -0,0 +1,25 @@
+package com.memory.dto.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class IndexRebuildStatusResponse {
+
+    private final String status;
+    private final String liveIndex;
+    private final String shadowIndex;
+    private final String rollbackIndex;
+    private final boolean rollbackStale;            // 롤백 인덱스에 누락된 변경이 있어 롤백 불가 (재구축 필요)
+    private final long totalCount;
+    private final long processedCount;
+    private final long successCount;
+    private final long errorCount;
+    private final double progressRate;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final String message;
+}
@@ -31,6 +31,9 @@ public class MemorySearchRequest {
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
     private LocalDate toDate;
 
+    // DATE 검색 시 memorableDate 기준 기간별 개수(타임라인)를 함께 집계, null 이면 집계하지 않음
+    private TimelineInterval timelineInterval;
+
     @Builder.Default
     @Min(0)
     private int page = 0;
@@ -42,4 +45,34 @@ public class MemorySearchRequest {
 
     @Builder.Default
     private boolean highlight = true;
+
+    // 하이라이트 조각 하나의 최대 글자 수
+    @Min(20)
+    @Max(500)
+    private Integer highlightFragmentSize;
+
+    // 필드별 최대 하이라이트 조각 수
+    @Min(1)
+    @Max(10)
+    private Integer highlightFragmentCount;
+
+    // true 이면 content 원문 대신 하이라이트 조각(highlights.content)만 반환
+    @Builder.Default
+    private boolean fragmentsOnly = false;
+
+    // LIST 이면 결과 카드용 필드와 content 요약(snippet)만 반환, 전체 필드는 상세 조회 API 사용
+    @Builder.Default
+    private SearchView view = SearchView.FULL;
+
+    // true 이면 page 대신 point-in-time + search_after 커서로 조회 (무한 스크롤용), 첫 요청에만 지정
+    @Builder.Default
+    private boolean cursorPaging = false;
+
+    // 직전 응답의 pageInfo.nextCursor, 지정되면 page 는 무시
+    // 직전 응답이 metadata.partial 이면 nextCursor 는 같은 페이지를 다시 조회한다 (결과를 이어 붙이지 말고 교체)
+    private String cursor;
+
+    // true 이면 검색 결과 전체의 해시태그별 개수(hashtagFacets)를 함께 집계
+    @Builder.Default
+    private boolean hashtagFacets = false;
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.memory.dto.search;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,12 +9,20 @@ import java.util.List;
 
 @Getter
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class MemorySearchResponse {
 
     private Long memoryId;
     private String title;
     private String content;
+    // LIST 조회 시 content 대신 내려가는 요약 (검색어 주변 또는 앞부분)
+    private String snippet;
     private String locationName;
+    // 지도(Map)에 등록된 메모리의 좌표
+    private Double latitude;
+    private Double longitude;
+    // 위치 검색 시 중심 좌표까지의 거리 (m)
+    private Double distanceMeters;
     private LocalDate memorableDate;
     private String memorableDateText;
     private String memoryType;
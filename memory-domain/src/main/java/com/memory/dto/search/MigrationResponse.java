@@ -13,6 +13,7 @@ public class MigrationResponse {
     private final long successCount;
     private final long errorCount;
     private final long elapsedTimeMs;
+    private final double docsPerSecond;
     
     public static MigrationResponse success(String message, long processedCount, 
                                           long successCount, long errorCount, long elapsedTimeMs) {
@@ -23,6 +24,7 @@ public class MigrationResponse {
                 .successCount(successCount)
                 .errorCount(errorCount)
                 .elapsedTimeMs(elapsedTimeMs)
+                .docsPerSecond(calculateDocsPerSecond(successCount, elapsedTimeMs))
                 .build();
     }
     
@@ -35,6 +37,14 @@ public class MigrationResponse {
                 .successCount(successCount)
                 .errorCount(errorCount)
                 .elapsedTimeMs(elapsedTimeMs)
+                .docsPerSecond(calculateDocsPerSecond(successCount, elapsedTimeMs))
                 .build();
     }
-}
\ No newline at end of file
+
+    private static double calculateDocsPerSecond(long successCount, long elapsedTimeMs) {
+        if (elapsedTimeMs <= 0) {
+            return successCount;
+        }
+        return Math.round(successCount * 10000.0 / elapsedTimeMs) / 10.0;
+    }
+}
@@ -0,0 +1,23 @@
+package com.memory.dto.search;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiSearchRequest {
+
+    // 홈 화면 섹션별 검색 (커서 검색은 지원하지 않음)
+    @NotEmpty
+    @Size(max = 10)
+    private List<@Valid MemorySearchRequest> searches;
+}
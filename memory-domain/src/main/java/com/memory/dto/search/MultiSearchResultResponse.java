@@ -0,0 +1,15 @@
+package com.memory.dto.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class MultiSearchResultResponse {
+
+    // 요청한 searches 와 같은 순서
+    private List<SearchResultResponse> results;
+    private long searchTimeMs;
+}
@@ -1,5 +1,6 @@
 package com.memory.dto.search;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -7,13 +8,28 @@ import java.time.LocalDate;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class SearchResultResponse {
 
     private List<MemorySearchResponse> memories;
     private PageInfo pageInfo;
+    // DATE 검색에서 timelineInterval 을 지정한 경우에만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<TimelineBucket> timeline;
+    // hashtagFacets 를 요청한 경우에만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<HashtagFacet> hashtagFacets;
     private SearchMetadata metadata;
 
+    /**
+     * 캐시된 결과를 이번 요청의 메타데이터(검색어, 검색 시간)로 바꾼 사본
+     */
+    public SearchResultResponse withMetadata(SearchMetadata metadata) {
+        return toBuilder()
+                .metadata(metadata)
+                .build();
+    }
+
     @Getter
     @Builder
     public static class PageInfo {
@@ -23,6 +39,9 @@ public class SearchResultResponse {
         private long totalElements;
         private boolean hasNext;
         private boolean hasPrevious;
+        // 커서 검색의 다음 페이지 요청 값 (마지막 페이지거나 offset 검색이면 생략)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String nextCursor;
     }
 
     @Getter
@@ -34,5 +53,8 @@ public class SearchResultResponse {
         private LocalDate fromDate;
         private LocalDate toDate;
         private long searchTimeMs;
+        // 검색 마감 시간 초과(timed_out) 또는 샤드 실패로 일부 샤드의 결과만 포함된 응답 (게스트 검색 캐시에 저장하지 않음)
+        // 커서 검색에서는 nextCursor 가 같은 페이지를 다시 조회하므로, 클라이언트는 이 페이지를 이어 붙이지 말고 다음 응답으로 교체한다
+        private boolean partial;
     }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.memory.dto.search;
+
+public enum SearchView {
+    // 결과 카드에 필요한 필드 + content 요약
+    LIST,
+    // 전체 필드
+    FULL
+}
@@ -0,0 +1,22 @@
+package com.memory.dto.search;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SlowSearchQuery {
+
+    private LocalDateTime executedAt;       // 검색 시작 시각
+    private String searchType;              // SearchType 이름 또는 BATCH, NEARBY, AREA, DETAIL
+    private boolean authenticated;          // 인증된 사용자 검색 여부 (false 면 게스트 PUBLIC 검색)
+    private String condition;               // 요청 조건 요약 (검색어, 해시태그 또는 날짜 범위)
+    private long durationMs;                // 서비스 기준 전체 소요 시간
+    private Long tookMs;                    // Elasticsearch took (실행되지 않았으면 null)
+    private long totalHits;
+    private String queryDsl;                // 실행한 query 절
+}
@@ -0,0 +1,15 @@
+package com.memory.dto.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class TimelineBucket {
+
+    private String key;                     // 버킷 라벨 (MONTH: yyyy-MM, YEAR: yyyy)
+    private LocalDate startDate;            // 버킷 시작일
+    private long count;                     // 해당 기간의 메모리 개수
+}
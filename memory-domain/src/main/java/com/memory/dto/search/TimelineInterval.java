@@ -0,0 +1,8 @@
+package com.memory.dto.search;
+
+public enum TimelineInterval {
+    // 월별 버킷 (yyyy-MM)
+    MONTH,
+    // 연도별 버킷 (yyyy)
+    YEAR
+}